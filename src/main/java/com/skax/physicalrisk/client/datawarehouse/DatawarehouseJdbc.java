@@ -0,0 +1,96 @@
+package com.skax.physicalrisk.client.datawarehouse;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Datawarehouse(skala_datawarehouse) 읽기 전용 JDBC 클라이언트
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * ETL/ModelOps가 적재한 격자/행정구역 데이터(location_admin, hazard_results, probability_results 등)를
+ * FastAPI를 거치지 않고 직접 조회하기 위한 전용 커넥션 풀.
+ * DataSource 빈으로 등록하면 애플리케이션 DB 자동 설정이 비활성화되므로 내부에서만 보유하며,
+ * 첫 사용 시점에 풀을 생성한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Component
+public class DatawarehouseJdbc {
+
+	private final boolean enabled;
+	private final String url;
+	private final String username;
+	private final String password;
+	private final int maximumPoolSize;
+
+	private volatile HikariDataSource dataSource;
+	private volatile JdbcTemplate jdbcTemplate;
+
+	public DatawarehouseJdbc(
+		@Value("${app.datawarehouse.enabled:false}") boolean enabled,
+		@Value("${app.datawarehouse.url:}") String url,
+		@Value("${app.datawarehouse.username:}") String username,
+		@Value("${app.datawarehouse.password:}") String password,
+		@Value("${app.datawarehouse.maximum-pool-size:5}") int maximumPoolSize
+	) {
+		this.enabled = enabled;
+		this.url = url;
+		this.username = username;
+		this.password = password;
+		this.maximumPoolSize = maximumPoolSize;
+	}
+
+	/**
+	 * Datawarehouse 연동 활성화 여부
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Datawarehouse JdbcTemplate (첫 호출 시 커넥션 풀 생성)
+	 *
+	 * @return JdbcTemplate
+	 * @throws IllegalStateException 비활성화 상태인 경우
+	 */
+	public JdbcTemplate jdbcTemplate() {
+		if (!enabled) {
+			throw new IllegalStateException("Datawarehouse access is disabled (app.datawarehouse.enabled=false)");
+		}
+		JdbcTemplate current = jdbcTemplate;
+		if (current == null) {
+			synchronized (this) {
+				current = jdbcTemplate;
+				if (current == null) {
+					HikariConfig config = new HikariConfig();
+					config.setPoolName("datawarehouse");
+					config.setJdbcUrl(url);
+					config.setUsername(username);
+					config.setPassword(password);
+					config.setMaximumPoolSize(maximumPoolSize);
+					config.setReadOnly(true);
+					dataSource = new HikariDataSource(config);
+					current = new JdbcTemplate(dataSource);
+					jdbcTemplate = current;
+					log.info("Datawarehouse connection pool created: {}", url);
+				}
+			}
+		}
+		return current;
+	}
+
+	@PreDestroy
+	public void close() {
+		if (dataSource != null) {
+			dataSource.close();
+		}
+	}
+}
@@ -1,7 +1,9 @@
 package com.skax.physicalrisk.client.fastapi;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skax.physicalrisk.client.fastapi.dto.SiteInfoDto;
 import com.skax.physicalrisk.client.fastapi.dto.StartAnalysisRequestDto;
+import com.skax.physicalrisk.config.WireFormatConfig;
 import com.skax.physicalrisk.util.HazardTypeMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +13,9 @@ import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
@@ -18,6 +23,7 @@ import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
 
 import java.util.List;
 import java.util.Map;
@@ -28,8 +34,8 @@ import java.util.UUID;
  *
  * AI Agent 분석 요청을 위한 FastAPI 서버 호출
  *
- * 최종 수정일: 2025-11-25
- * 파일 버전: v03 (FastAPI 문서 기준 URL 수정)
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v06 (리포트 데이터 스트리밍 업로드)
  *
  * @author SKAX Team
  */
@@ -39,17 +45,44 @@ public class FastApiClient {
 
     private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE_REF =
         new ParameterizedTypeReference<Map<String, Object>>() {};
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
 
     private final WebClient webClient;
 
     @Value("${fastapi.api-key}")
     private String apiKey;
 
-    public FastApiClient(@Value("${fastapi.base-url}") String baseUrl) {
-        this.webClient = WebClient.builder()
+    /**
+     * @param baseUrl     FastAPI 주소
+     * @param wireFormat  선호 응답 포맷 (json, smile, cbor). FastAPI가 지원하지 않으면 JSON으로 응답받는다.
+     * @param compression 응답 gzip 압축 요청 여부 (Accept-Encoding)
+     */
+    public FastApiClient(
+        @Value("${fastapi.base-url}") String baseUrl,
+        @Value("${fastapi.wire-format:json}") String wireFormat,
+        @Value("${fastapi.compression:true}") boolean compression
+    ) {
+        WebClient.Builder builder = WebClient.builder()
             .baseUrl(baseUrl)
+            .clientConnector(new ReactorClientHttpConnector(HttpClient.create().compress(compression)))
             .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-            .build();
+            .codecs(configurer -> {
+                configurer.customCodecs().register(new Jackson2SmileDecoder(new ObjectMapper(WireFormatConfig.smileFactory())));
+                configurer.customCodecs().register(new Jackson2CborDecoder(new ObjectMapper(WireFormatConfig.cborFactory())));
+            });
+
+        MediaType responseType = switch (wireFormat.toLowerCase()) {
+            case "smile" -> APPLICATION_SMILE;
+            case "cbor" -> MediaType.APPLICATION_CBOR;
+            default -> MediaType.APPLICATION_JSON;
+        };
+        if (!MediaType.APPLICATION_JSON.equals(responseType)) {
+            // 응답 Content-Type에 맞는 디코더가 선택되므로 JSON 응답도 그대로 처리된다
+            builder.defaultHeader(HttpHeaders.ACCEPT, responseType + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9");
+        }
+        log.info("FastAPI client: baseUrl={}, responseFormat={}, compression={}", baseUrl, responseType, compression);
+
+        this.webClient = builder.build();
     }
 
     /**
@@ -329,6 +362,31 @@ public class FastApiClient {
             });
     }
 
+    /**
+     * 기후 시뮬레이션 (응답 본문 스트림)
+     *
+     * POST /api/simulation/climate
+     *
+     * 응답을 Map으로 파싱하지 않고 수신한 DataBuffer를 그대로 흘려보낸다.
+     * 구독자가 읽은 만큼만 요청하므로(back-pressure) 응답 전체를 메모리에 올리지 않는다.
+     *
+     * @param request 시뮬레이션 요청
+     * @return 응답 JSON 바이트 스트림
+     */
+    public Flux<DataBuffer> streamClimateSimulation(Map<String, Object> request) {
+        log.info("FastAPI 기후 시뮬레이션 스트림 요청: scenario={}, hazardType={}",
+            request.get("scenario"), request.get("hazardType"));
+
+        return webClient.post()
+            .uri("/api/simulation/climate")
+            .header("X-API-Key", apiKey)
+            .accept(MediaType.APPLICATION_JSON) // 스트리밍 변환기는 JSON 토큰을 읽는다
+            .bodyValue(request)
+            .retrieve()
+            .bodyToFlux(DataBuffer.class)
+            .doOnError(error -> log.error("FastAPI 기후 시뮬레이션 스트림 실패: {}", error.getMessage()));
+    }
+
     /**
      * 리포트 생성
      *
@@ -557,6 +615,50 @@ public class FastApiClient {
         }
     }
 
+    /**
+     * 리포트 추가 데이터 스트리밍 등록
+     *
+     * POST /api/reports/data (multipart/form-data)
+     *
+     * 파일 내용을 DataBuffer 스트림 그대로 요청 본문에 쓴다 (WebClient 전송 속도에 맞춰 읽음).
+     * 체크섬은 파일 파트를 모두 보낸 뒤에야 확정되므로 파일 뒤의 sha256 파트로 보낸다.
+     *
+     * @param userId      사용자 ID
+     * @param siteId      사업장 ID
+     * @param filename    파일명
+     * @param contentType 파일 Content-Type
+     * @param content     파일 내용
+     * @param checksum    파일 SHA-256 (hex, 파일 전송 완료 후 구독됨)
+     * @return 등록 결과
+     */
+    public Mono<Map<String, Object>> registerReportDataStream(UUID userId, UUID siteId, String filename,
+                                                             MediaType contentType, Flux<DataBuffer> content,
+                                                             Mono<String> checksum) {
+        log.info("FastAPI 리포트 데이터 스트리밍 등록: userId={}, siteId={}, fileName={}", userId, siteId, filename);
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("userId", userId.toString());
+        builder.part("siteId", siteId.toString());
+        builder.asyncPart("file", content, DataBuffer.class)
+            .filename(filename)
+            .contentType(contentType != null ? contentType : MediaType.APPLICATION_OCTET_STREAM);
+        builder.asyncPart("sha256", checksum, String.class);
+
+        return webClient.post()
+            .uri("/api/reports/data")
+            .header("X-API-Key", apiKey)
+            .body(BodyInserters.fromMultipartData(builder.build()))
+            .retrieve()
+            .bodyToMono(MAP_TYPE_REF)
+            .doOnSuccess(response -> log.info("리포트 데이터 스트리밍 등록 성공: {}", response))
+            .doOnError(error -> {
+                log.error("리포트 데이터 스트리밍 등록 실패: {}", error.getMessage());
+                if (error instanceof WebClientResponseException ex) {
+                    log.error("응답 코드: {}, 응답 본문: {}", ex.getStatusCode(), ex.getResponseBodyAsString());
+                }
+            });
+    }
+
     /**
      * 과거 재해 이력 조회
      *
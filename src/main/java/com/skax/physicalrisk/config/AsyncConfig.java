@@ -4,14 +4,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.concurrent.Executor;
 
 /**
  * 비동기 설정
  *
- * 최종 수정일: 2025-11-13
- * 파일 버전: v01
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 스트리밍 응답(StreamingResponseBody) 전송용 Executor 추가
  *
  * 분석 작업 비동기 처리용 설정
  *
@@ -19,7 +21,7 @@ import java.util.concurrent.Executor;
  */
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+public class AsyncConfig implements WebMvcConfigurer {
 
 	/**
 	 * 비동기 작업용 Executor
@@ -36,4 +38,28 @@ public class AsyncConfig {
 		executor.initialize();
 		return executor;
 	}
+
+	/**
+	 * 스트리밍 응답 본문 전송용 Executor
+	 *
+	 * taskExecutor가 등록되어 있으면 Spring MVC 기본 Executor가 생성되지 않아
+	 * 요청마다 스레드를 새로 만드는 SimpleAsyncTaskExecutor가 쓰이므로 별도로 지정한다.
+	 *
+	 * @return Executor
+	 */
+	@Bean(name = "mvcStreamingExecutor")
+	public ThreadPoolTaskExecutor mvcStreamingExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(10);
+		executor.setMaxPoolSize(50);
+		executor.setQueueCapacity(200);
+		executor.setThreadNamePrefix("Stream-");
+		executor.initialize();
+		return executor;
+	}
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setTaskExecutor(mvcStreamingExecutor());
+	}
 }
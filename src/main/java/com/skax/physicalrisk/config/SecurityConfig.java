@@ -3,6 +3,8 @@ package com.skax.physicalrisk.config;
 import com.skax.physicalrisk.security.CustomAccessDeniedHandler;
 import com.skax.physicalrisk.security.CustomAuthenticationEntryPoint;
 import com.skax.physicalrisk.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,12 +25,13 @@ import org.springframework.beans.factory.annotation.Value;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Spring Security 설정
  *
- * 최종 수정일: 2025-12-11
- * 파일 버전: v03
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v05 - ASYNC 디스패치 허용을 스트리밍 엔드포인트로 제한
  *
  * JWT 기반 인증 및 권한 설정
  * - 인증 실패 시 401 Unauthorized 반환 (CustomAuthenticationEntryPoint)
@@ -42,6 +45,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+	/** StreamingResponseBody로 응답하는 엔드포인트 (전송 완료 후 ASYNC 디스패치가 발생) */
+	private static final Set<String> STREAMING_ENDPOINTS = Set.of(
+		"/api/report/stream",
+		"/api/simulation/climate/stream"
+	);
+
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 	private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 	private final CustomAccessDeniedHandler customAccessDeniedHandler;
@@ -63,6 +72,7 @@ public class SecurityConfig {
 			.cors(cors -> cors.configurationSource(corsConfigurationSource())) // CORS 설정
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 사용 안 함
 			.authorizeHttpRequests(auth -> auth
+				.requestMatchers(SecurityConfig::isStreamingAsyncDispatch).permitAll() // 스트리밍 응답 완료 디스패치 (최초 요청에서 인증됨)
 				.requestMatchers("/api/health/**").permitAll() // 헬스 체크는 모두 허용
 				.requestMatchers("/api/auth/**").permitAll() // 인증 API는 모두 허용
 				.requestMatchers("/api/meta/**").permitAll() // 메타 API는 모두 허용
@@ -116,6 +126,16 @@ public class SecurityConfig {
 		return source;
 	}
 
+	/**
+	 * 스트리밍 엔드포인트의 ASYNC 디스패치 여부
+	 *
+	 * JWT 필터는 ASYNC 디스패치에서 다시 실행되지 않으므로 최초 요청에서 인증된 스트리밍 응답만 허용한다.
+	 */
+	private static boolean isStreamingAsyncDispatch(HttpServletRequest request) {
+		return request.getDispatcherType() == DispatcherType.ASYNC
+			&& STREAMING_ENDPOINTS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+	}
+
 	/**
 	 * 비밀번호 암호화
 	 *
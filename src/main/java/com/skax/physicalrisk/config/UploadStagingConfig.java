@@ -0,0 +1,78 @@
+package com.skax.physicalrisk.config;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.skax.physicalrisk.service.report.FileSystemUploadStagingStore;
+import com.skax.physicalrisk.service.report.S3UploadStagingStore;
+import com.skax.physicalrisk.service.report.UploadStagingStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.Path;
+
+/**
+ * 분할 업로드 스테이징 영역 설정
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * app.report-upload.staging.type
+ * - filesystem (기본): 로컬 디렉터리
+ * - s3: S3 호환 스토리지 (endpoint 지정 시 MinIO 등, path-style 접근)
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Configuration
+public class UploadStagingConfig {
+
+	/**
+	 * 로컬 파일시스템 스테이징
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "app.report-upload.staging.type", havingValue = "filesystem", matchIfMissing = true)
+	public UploadStagingStore fileSystemUploadStagingStore(
+		@Value("${app.report-upload.staging.directory:${java.io.tmpdir}/polaris-report-uploads}") String directory
+	) {
+		log.info("Report upload staging: filesystem ({})", directory);
+		return new FileSystemUploadStagingStore(Path.of(directory));
+	}
+
+	/**
+	 * S3 호환 스토리지 스테이징
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "app.report-upload.staging.type", havingValue = "s3")
+	public UploadStagingStore s3UploadStagingStore(
+		@Value("${app.report-upload.staging.s3.bucket}") String bucket,
+		@Value("${app.report-upload.staging.s3.prefix:report-uploads/}") String prefix,
+		@Value("${app.report-upload.staging.s3.region:ap-northeast-2}") String region,
+		@Value("${app.report-upload.staging.s3.endpoint:}") String endpoint,
+		@Value("${app.report-upload.staging.s3.access-key:}") String accessKey,
+		@Value("${app.report-upload.staging.s3.secret-key:}") String secretKey
+	) {
+		AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard();
+		if (StringUtils.hasText(endpoint)) {
+			builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+				.withPathStyleAccessEnabled(true);
+		} else {
+			builder.withRegion(region);
+		}
+		builder.withCredentials(StringUtils.hasText(accessKey)
+			? new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey))
+			: DefaultAWSCredentialsProviderChain.getInstance());
+
+		AmazonS3 s3 = builder.build();
+		log.info("Report upload staging: s3://{}/{} (endpoint: {})", bucket, prefix,
+			StringUtils.hasText(endpoint) ? endpoint : "AWS " + region);
+		return new S3UploadStagingStore(s3, bucket, prefix);
+	}
+}
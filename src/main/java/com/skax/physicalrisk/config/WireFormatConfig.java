@@ -0,0 +1,69 @@
+package com.skax.physicalrisk.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 응답 바이너리 포맷(CBOR/Smile) 설정
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * Accept 헤더가 application/cbor 또는 application/x-jackson-smile인 요청에 바이너리 포맷으로 응답한다.
+ * JSON 변환기 뒤에 등록하므로 Accept가 없거나 모든 타입을 허용하면 기존과 같이 JSON으로 응답한다.
+ * Smile은 필드명과 짧은 문자열 값("2025"~"2100", 위험 유형명 등)을 back-reference로 재사용한다.
+ * 두 포맷 모두 애플리케이션 Jackson 설정(Boot Jackson2ObjectMapperBuilder)을 그대로 따른다.
+ *
+ * @author SKAX Team
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WireFormatConfig implements WebMvcConfigurer {
+
+	private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+	/**
+	 * 필드명/문자열 값 back-reference를 사용하는 Smile 팩토리
+	 */
+	public static SmileFactory smileFactory() {
+		return SmileFactory.builder()
+			.enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+			.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+			.build();
+	}
+
+	public static CBORFactory cborFactory() {
+		return new CBORFactory();
+	}
+
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		// 클래스패스 감지로 기본 등록된 변환기는 애플리케이션 Jackson 설정을 따르지 않으므로 교체
+		converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+			|| converter instanceof MappingJackson2CborHttpMessageConverter);
+
+		int jsonIndex = converters.size();
+		for (int i = 0; i < converters.size(); i++) {
+			if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+				jsonIndex = i + 1;
+				break;
+			}
+		}
+		converters.add(jsonIndex, new MappingJackson2CborHttpMessageConverter(
+			objectMapperBuilder.getObject().factory(cborFactory()).build()));
+		converters.add(jsonIndex, new MappingJackson2SmileHttpMessageConverter(
+			objectMapperBuilder.getObject().factory(smileFactory()).build()));
+	}
+}
@@ -0,0 +1,118 @@
+package com.skax.physicalrisk.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primary/Replica 읽기·쓰기 분리 DataSource 설정
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * app.datasource.replica.enabled=true 일 때만 활성화된다.
+ * - Primary 풀: spring.datasource / spring.datasource.hikari
+ * - Replica 풀: app.datasource.replica / app.datasource.replica.hikari (별도 크기)
+ * 비활성화 시에는 Spring Boot 기본 단일 DataSource 설정을 그대로 사용한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+	/**
+	 * Primary(쓰기) 커넥션 풀
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		dataSource.setPoolName("primary-pool");
+		return dataSource;
+	}
+
+	/**
+	 * Replica(읽기) 커넥션 풀
+	 */
+	@Bean
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(
+		DataSourceProperties properties,
+		@Value("${app.datasource.replica.url}") String url,
+		@Value("${app.datasource.replica.username}") String username,
+		@Value("${app.datasource.replica.password}") String password
+	) {
+		HikariDataSource dataSource = DataSourceBuilder.create()
+			.type(HikariDataSource.class)
+			.driverClassName(properties.determineDriverClassName())
+			.url(url)
+			.username(username)
+			.password(password)
+			.build();
+		dataSource.setPoolName("replica-pool");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagGuard replicaLagGuard(
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		@Value("${app.datasource.replica.lag-query}") String lagQuery,
+		@Value("${app.datasource.replica.max-lag-seconds:5}") double maxLagSeconds
+	) {
+		return new ReplicaLagGuard(replicaDataSource, lagQuery, maxLagSeconds);
+	}
+
+	@Bean
+	public ReadYourWritesTracker readYourWritesTracker(
+		@Value("${app.datasource.replica.sticky-window-seconds:5}") long stickyWindowSeconds
+	) {
+		return new ReadYourWritesTracker(Duration.ofSeconds(stickyWindowSeconds));
+	}
+
+	@Bean
+	public ReplicationRoutingDataSource routingDataSource(
+		@Qualifier("primaryDataSource") DataSource primaryDataSource,
+		@Qualifier("replicaDataSource") DataSource replicaDataSource,
+		ReplicaLagGuard replicaLagGuard,
+		ReadYourWritesTracker readYourWritesTracker
+	) {
+		ReplicationRoutingDataSource routingDataSource =
+			new ReplicationRoutingDataSource(replicaLagGuard, readYourWritesTracker);
+		routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+			DataSourceType.PRIMARY, primaryDataSource,
+			DataSourceType.REPLICA, replicaDataSource
+		));
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		return routingDataSource;
+	}
+
+	/**
+	 * JPA/트랜잭션 매니저가 사용하는 DataSource
+	 *
+	 * 실제 커넥션 획득을 첫 쿼리 시점까지 미뤄 readOnly 플래그가 라우팅에 반영되도록 한다.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
+		log.info("Read/write routing DataSource enabled (primary-pool / replica-pool)");
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
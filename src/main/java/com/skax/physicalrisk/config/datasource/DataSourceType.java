@@ -0,0 +1,14 @@
+package com.skax.physicalrisk.config.datasource;
+
+/**
+ * 라우팅 대상 데이터소스 구분
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+public enum DataSourceType {
+	PRIMARY, // 쓰기 및 일관성이 필요한 조회
+	REPLICA  // readOnly 트랜잭션 조회
+}
@@ -0,0 +1,76 @@
+package com.skax.physicalrisk.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Read-your-writes 보장용 쓰기 이력 추적기
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * 사용자(세션)가 쓰기 트랜잭션을 커밋하면 sticky-window 동안
+ * 해당 사용자의 readOnly 트랜잭션도 Primary로 보내 복제 지연으로 인한
+ * "방금 저장한 사업장이 목록에 없음" 현상을 방지한다.
+ * 인증 정보가 없는 호출(스케줄러, 콜백 등)은 추적하지 않는다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+	private final Cache<String, Boolean> recentWriters;
+
+	public ReadYourWritesTracker(Duration stickyWindow) {
+		this.recentWriters = Caffeine.newBuilder()
+			.expireAfterWrite(stickyWindow)
+			.maximumSize(10_000)
+			.build();
+	}
+
+	/**
+	 * 현재 쓰기 트랜잭션이 커밋되면 사용자를 sticky 상태로 등록
+	 */
+	public void registerWrite() {
+		String sessionKey = currentSessionKey();
+		if (sessionKey == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				recentWriters.put(sessionKey, Boolean.TRUE);
+				log.debug("Read-your-writes window opened for session: {}", sessionKey);
+			}
+		});
+	}
+
+	/**
+	 * 현재 사용자가 최근 쓰기를 수행했는지 여부
+	 *
+	 * @return sticky-window 이내에 쓰기가 있었으면 true
+	 */
+	public boolean isSticky() {
+		String sessionKey = currentSessionKey();
+		return sessionKey != null && recentWriters.getIfPresent(sessionKey) != null;
+	}
+
+	private String currentSessionKey() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null
+			|| !authentication.isAuthenticated()
+			|| authentication instanceof AnonymousAuthenticationToken) {
+			return null;
+		}
+		return authentication.getName();
+	}
+}
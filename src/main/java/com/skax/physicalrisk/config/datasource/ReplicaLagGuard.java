@@ -0,0 +1,86 @@
+package com.skax.physicalrisk.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replica 복제 지연 감시기
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * 주기적으로 Replica의 복제 지연(초)을 조회하여 허용치를 넘거나
+ * 연결에 실패하면 Replica를 비활성화하고 모든 조회를 Primary로 보낸다.
+ * 첫 점검 전까지는 Replica를 사용하지 않는다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+public class ReplicaLagGuard {
+
+	private final DataSource replicaDataSource;
+	private final String lagQuery;
+	private final double maxLagSeconds;
+
+	private volatile boolean replicaAvailable = false;
+	private volatile double lastLagSeconds = -1;
+
+	public ReplicaLagGuard(DataSource replicaDataSource, String lagQuery, double maxLagSeconds) {
+		this.replicaDataSource = replicaDataSource;
+		this.lagQuery = lagQuery;
+		this.maxLagSeconds = maxLagSeconds;
+	}
+
+	/**
+	 * Replica 복제 지연 점검 (기본 5초 주기)
+	 */
+	@Scheduled(initialDelay = 0, fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+	public void checkReplicaLag() {
+		try (Connection connection = replicaDataSource.getConnection();
+			 Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+
+			double lag = 0;
+			if (resultSet.next()) {
+				lag = resultSet.getDouble(1);
+				if (resultSet.wasNull()) {
+					lag = 0;
+				}
+			}
+
+			boolean available = lag <= maxLagSeconds;
+			if (available != replicaAvailable) {
+				log.warn("Replica availability changed: {} (lag={}s, max={}s)", available, lag, maxLagSeconds);
+			}
+			lastLagSeconds = lag;
+			replicaAvailable = available;
+		} catch (SQLException e) {
+			if (replicaAvailable) {
+				log.error("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+			}
+			replicaAvailable = false;
+		}
+	}
+
+	/**
+	 * Replica 사용 가능 여부
+	 *
+	 * @return 최근 점검에서 지연이 허용치 이내였으면 true
+	 */
+	public boolean isReplicaAvailable() {
+		return replicaAvailable;
+	}
+
+	/**
+	 * 최근 측정된 복제 지연 (초, 미측정 시 -1)
+	 */
+	public double getLastLagSeconds() {
+		return lastLagSeconds;
+	}
+}
@@ -0,0 +1,45 @@
+package com.skax.physicalrisk.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Primary/Replica 라우팅 DataSource
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * - readOnly 트랜잭션 → Replica (복제 지연 초과 또는 read-your-writes 구간이면 Primary)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖 호출) → Primary
+ *
+ * 트랜잭션 시작 시점에는 readOnly 플래그가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용해야 한다.
+ *
+ * @author SKAX Team
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+	private final ReplicaLagGuard replicaLagGuard;
+	private final ReadYourWritesTracker readYourWritesTracker;
+
+	public ReplicationRoutingDataSource(ReplicaLagGuard replicaLagGuard, ReadYourWritesTracker readYourWritesTracker) {
+		this.replicaLagGuard = replicaLagGuard;
+		this.readYourWritesTracker = readYourWritesTracker;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (TransactionSynchronizationManager.isActualTransactionActive()) {
+				readYourWritesTracker.registerWrite();
+			}
+			return DataSourceType.PRIMARY;
+		}
+
+		if (!replicaLagGuard.isReplicaAvailable() || readYourWritesTracker.isSticky()) {
+			return DataSourceType.PRIMARY;
+		}
+
+		return DataSourceType.REPLICA;
+	}
+}
@@ -1,11 +1,17 @@
 package com.skax.physicalrisk.controller;
 
 import com.skax.physicalrisk.client.fastapi.dto.StartAnalysisRequestDto;
+import com.skax.physicalrisk.dto.request.analysis.AalWhatIfRequest;
+import com.skax.physicalrisk.dto.request.analysis.PortfolioLossRequest;
 import com.skax.physicalrisk.dto.response.ErrorResponse;
 import com.skax.physicalrisk.dto.response.analysis.*;
 import com.skax.physicalrisk.exception.ResourceNotFoundException;
 import com.skax.physicalrisk.exception.UnauthorizedException;
+import com.skax.physicalrisk.service.analysis.AnalysisResultMaterializer;
 import com.skax.physicalrisk.service.analysis.AnalysisService;
+import com.skax.physicalrisk.service.hazard.AalWhatIfService;
+import com.skax.physicalrisk.service.hazard.PortfolioLossService;
+import com.skax.physicalrisk.service.hazard.SiteHazardService;
 import com.skax.physicalrisk.service.user.EmailService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,6 +19,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -28,8 +35,8 @@ import java.util.Map;
  *
  * FastAPI AI Agent를 통한 물리적 리스크 분석
  *
- * 최종 수정일: 2025-11-18
- * 파일 버전: v01
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v05
  *
  * @author SKAX Team
  */
@@ -41,6 +48,10 @@ public class AnalysisController {
 
     private final AnalysisService analysisService;
     private final EmailService emailService;
+    private final SiteHazardService siteHazardService;
+    private final AalWhatIfService aalWhatIfService;
+    private final PortfolioLossService portfolioLossService;
+    private final AnalysisResultMaterializer analysisResultMaterializer;
 
     /**
      * 분석 시작 (v0.2 - jobId 제거, 단순 성공 응답)
@@ -457,6 +468,201 @@ public class AnalysisController {
         return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success(analysisService.getFinancialImpact(siteId, hazardType, term)));
     }
 
+    /**
+     * 사업장 격자 위험도 (H / 기준 AAL + 사업장 E / V / 최종 AAL)
+     *
+     * GET /api/analysis/hazard?siteId={siteId}&scenario={scenario}&year={year}
+     *
+     * @param siteId   사업장 ID
+     * @param scenario SSP 시나리오
+     * @param year     목표 연도
+     * @return 위험 유형별 Hazard 점수, 기준 AAL 및 사업장 E / V / 최종 AAL
+     */
+    @Operation(
+        summary = "사업장 격자 위험도",
+        description = "사업장 좌표가 속한 기후 격자(소수점 2자리 반올림)의 위험 유형별 Hazard 점수와 기준 AAL을 반환한다.\n격자 단위 값은 사업장과 무관하므로 사용자 간 공유 캐시에서 제공되며, 그 위에 사업장별 노출도/취약성/최종 AAL(분석 전이면 null)을 덧붙인다."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "위험 유형별 Hazard / 기준 AAL / 사업장 E · V · 최종 AAL",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                value = "{\"result\": \"success\", \"data\": {\"siteId\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\", \"siteName\": \"sk u 타워\", \"gridLatitude\": 37.37, \"gridLongitude\": 127.11, \"scenario\": \"SSP2-4.5\", \"year\": 2025, \"hazards\": [{\"riskType\": \"extreme_heat\", \"hazardType\": \"극심한 고온\", \"hazardScore\": 63.2, \"baseAal\": 0.0081, \"exposureScore\": 55.0, \"vulnerabilityScore\": 42.0, \"finalAal\": 0.0074}, {\"riskType\": \"typhoon\", \"hazardType\": \"태풍\", \"hazardScore\": 41.5, \"baseAal\": 0.0002, \"exposureScore\": 55.0, \"vulnerabilityScore\": 30.0, \"finalAal\": 0.0001}]}}"
+            )
+        )
+    )
+    @ApiResponse(
+        responseCode = "404",
+        description = "사업장을 찾을 수 없음",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ErrorResponse.class),
+            examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"사업장을 찾을 수 없습니다.\", \"errorCode\": \"SITE_NOT_FOUND\", \"timestamp\": \"2025-12-11T15:30:00\"}")
+        )
+    )
+    @ApiResponse(
+        responseCode = "503",
+        description = "격자 위험도 데이터 조회 불가 (Datawarehouse 비활성화/오류)",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ErrorResponse.class),
+            examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"격자 위험도 데이터를 조회할 수 없습니다\", \"errorCode\": \"HAZARD_DATA_UNAVAILABLE\", \"timestamp\": \"2025-12-11T15:30:00\"}")
+        )
+    )
+    @GetMapping("/hazard")
+    public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<SiteHazardResponse>> getSiteHazard(
+        @Parameter(description = "사업장 ID", required = true, example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        @RequestParam UUID siteId,
+        @Parameter(description = "SSP 시나리오", required = true, example = "SSP2-4.5")
+        @RequestParam String scenario,
+        @Parameter(description = "목표 연도 (2021~2100, 기본 2025)", example = "2025")
+        @RequestParam(required = false) Integer year
+    ) {
+        log.info("GET /api/analysis/hazard?siteId={}&scenario={}&year={}", siteId, scenario, year);
+        return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success(siteHazardService.getSiteHazard(siteId, scenario, year)));
+    }
+
+    /**
+     * AAL what-if
+     *
+     * POST /api/analysis/aal/what-if
+     *
+     * @param request 취약성 계수/보험 보전율/자산 가치
+     * @return 시나리오 · 위험 유형별 연도별 최종 AAL
+     */
+    @Operation(
+        summary = "AAL what-if",
+        description = "사업장 격자의 기준 AAL에 취약성 계수와 보험 보전율을 적용한 최종 AAL을 즉시 계산한다 (FastAPI 재분석 없음).\n"
+            + "final_aal = base_aal × F_vuln × (1 - insurance_rate). 연도별 값은 startYear~endYear 순서의 배열이며, 데이터가 없는 연도는 null이다."
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "사업장 ID와 조정할 계수",
+        required = true,
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = AalWhatIfRequest.class),
+            examples = @ExampleObject(
+                value = "{\"siteId\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\", \"scenarios\": [\"SSP2-4.5\"], \"startYear\": 2025, \"endYear\": 2027, \"vulnerabilityScale\": 1.1, \"vulnerabilityScales\": {\"river_flood\": 1.3}, \"insurance\": {\"coverageRate\": 0.8}, \"asset\": {\"totalAssetValue\": 50000000000}}"
+            )
+        )
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "시나리오 · 위험 유형별 최종 AAL",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                value = "{\"result\": \"success\", \"data\": {\"siteId\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\", \"gridLatitude\": 37.37, \"gridLongitude\": 127.11, \"startYear\": 2025, \"endYear\": 2027, \"insuranceRate\": 0.8, \"scenarios\": [{\"scenario\": \"SSP2-4.5\", \"totalAal\": [0.0021, 0.0022, 0.0023], \"expectedLoss\": [105000000, 110000000, 115000000], \"risks\": [{\"riskType\": \"river_flood\", \"hazardType\": \"하천 홍수\", \"vulnerabilityScale\": 1.3, \"finalAal\": [0.0012, 0.0013, null]}]}]}}"
+            )
+        )
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "입력값 유효성 검사 실패 (연도/계수/보전율 범위, 알 수 없는 시나리오/위험 유형)",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ErrorResponse.class),
+            examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"지원하지 않는 시나리오입니다: SSP9\", \"errorCode\": \"INVALID_REQUEST\", \"timestamp\": \"2025-12-11T15:30:00\"}")
+        )
+    )
+    @ApiResponse(
+        responseCode = "404",
+        description = "사업장을 찾을 수 없음",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ErrorResponse.class),
+            examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"사업장을 찾을 수 없습니다.\", \"errorCode\": \"SITE_NOT_FOUND\", \"timestamp\": \"2025-12-11T15:30:00\"}")
+        )
+    )
+    @ApiResponse(
+        responseCode = "503",
+        description = "격자 위험도 데이터 조회 불가 (Datawarehouse 비활성화/오류)",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ErrorResponse.class),
+            examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"격자 위험도 데이터를 조회할 수 없습니다\", \"errorCode\": \"HAZARD_DATA_UNAVAILABLE\", \"timestamp\": \"2025-12-11T15:30:00\"}")
+        )
+    )
+    @PostMapping("/aal/what-if")
+    public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<AalWhatIfResponse>> simulateAal(
+        @Valid @RequestBody AalWhatIfRequest request
+    ) {
+        log.debug("POST /api/analysis/aal/what-if - siteId={}", request.getSiteId());
+        return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success(aalWhatIfService.simulate(request)));
+    }
+
+    /**
+     * 포트폴리오 손실 시뮬레이션
+     *
+     * POST /api/analysis/portfolio-loss
+     *
+     * @param request 시나리오/연도/표본 수/사업장별 자산 가치
+     * @return 시나리오 · 연도별 기대 손실, VaR/TVaR, 초과 확률 곡선
+     */
+    @Operation(
+        summary = "포트폴리오 손실 시뮬레이션",
+        description = "사용자의 전체 사업장에 대해 격자별 손실률 구간 분포(bin_probs)로 몬테카를로 표본을 생성하여 "
+            + "시나리오 · 연도별 포트폴리오 VaR/TVaR와 초과 확률 곡선을 계산한다.\n"
+            + "같은 위험 유형은 사업장 간 상관을 두고(1-요인 코퓰러), 서로 다른 위험 유형은 독립으로 본다. "
+            + "같은 사업장 구성 · 요청 조건의 결과는 캐싱된다."
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "시뮬레이션 조건",
+        required = true,
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = PortfolioLossRequest.class),
+            examples = @ExampleObject(
+                value = "{\"scenarios\": [\"SSP2-4.5\"], \"years\": [2030, 2050], \"samples\": 20000, \"assetValues\": {\"3fa85f64-5717-4562-b3fc-2c963f66afa6\": 50000000000}}"
+            )
+        )
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "시나리오 · 연도별 포트폴리오 손실 분포",
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                value = "{\"result\": \"success\", \"data\": {\"siteCount\": 1, \"excludedSiteIds\": [], \"samples\": 20000, \"correlation\": 0.3, \"lossUnit\": \"KRW\", \"scenarios\": [{\"scenario\": \"SSP2-4.5\", \"years\": [{\"year\": 2030, \"expectedLoss\": 612000000, \"riskMeasures\": [{\"confidenceLevel\": 0.99, \"valueAtRisk\": 4100000000, \"tailValueAtRisk\": 5350000000}], \"exceedanceCurve\": [{\"returnPeriod\": 100, \"exceedanceProbability\": 0.01, \"loss\": 4100000000}]}]}]}}"
+            )
+        )
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "입력값 유효성 검사 실패 (연도/표본 수 범위, 알 수 없는 시나리오)",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ErrorResponse.class),
+            examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"지원하지 않는 시나리오입니다: SSP9\", \"errorCode\": \"INVALID_REQUEST\", \"timestamp\": \"2025-12-11T15:30:00\"}")
+        )
+    )
+    @ApiResponse(
+        responseCode = "422",
+        description = "시뮬레이션할 수 있는 사업장 없음 (좌표 또는 자산 가치 누락)",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ErrorResponse.class),
+            examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"시뮬레이션할 수 있는 사업장이 없습니다 (좌표 또는 자산 가치 누락)\", \"errorCode\": \"INVALID_SITE_DATA\", \"timestamp\": \"2025-12-11T15:30:00\"}")
+        )
+    )
+    @ApiResponse(
+        responseCode = "503",
+        description = "격자 위험도 데이터 조회 불가 (Datawarehouse 비활성화/오류)",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ErrorResponse.class),
+            examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"격자 위험도 데이터를 조회할 수 없습니다\", \"errorCode\": \"HAZARD_DATA_UNAVAILABLE\", \"timestamp\": \"2025-12-11T15:30:00\"}")
+        )
+    )
+    @PostMapping("/portfolio-loss")
+    public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<PortfolioLossResponse>> simulatePortfolioLoss(
+        @Valid @RequestBody PortfolioLossRequest request
+    ) {
+        log.debug("POST /api/analysis/portfolio-loss - years={}, samples={}", request.getYears(), request.getSamples());
+        return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success(portfolioLossService.simulate(request)));
+    }
+
     /**
      * 취약성 분석
      *
@@ -516,7 +722,7 @@ public class AnalysisController {
      */
     @Operation(
         summary = "분석 완료 콜백",
-        description = "FastAPI에서 분석 완료 시 호출하는 콜백 엔드포인트. 사용자에게 완료 이메일을 발송합니다."
+        description = "FastAPI에서 분석 완료 시 호출하는 콜백 엔드포인트. 사용자에게 완료 이메일을 발송합니다.\n분석 완료(report=false)인 경우 사업장별 분석 결과를 Application DB에 적재하여 이후 분석 탭 조회에 사용합니다."
     )
     @ApiResponse(
         responseCode = "200",
@@ -584,6 +790,8 @@ public class AnalysisController {
             emailService.sendReportCompletionEmail(request.getUserId());
             return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success("리포트 생성이 완료되었습니다."));
         } else {
+            // 분석 결과를 analysis_results에 적재 (비동기, 이후 분석 탭은 DB에서 조회)
+            analysisResultMaterializer.materializeForUser(request.getUserId());
             emailService.sendAnalysisCompletionEmail(request.getUserId());
             return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success("분석이 완료되었습니다."));
         }
@@ -2,8 +2,10 @@ package com.skax.physicalrisk.controller;
 
 import com.skax.physicalrisk.dto.response.ErrorResponse;
 import com.skax.physicalrisk.dto.response.past.PastDisasterResponse;
+import com.skax.physicalrisk.dto.response.past.SitePastDisasterResponse;
 import com.skax.physicalrisk.exception.UnauthorizedException;
 import com.skax.physicalrisk.service.past.PastDisasterService;
+import com.skax.physicalrisk.service.past.SitePastDisasterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,11 +20,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+import java.util.UUID;
+
 /**
  * 과거 재해 이력 컨트롤러 (v0.2 신규)
  *
- * 최종 수정일: 2025-12-10
- * 파일 버전: v01
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v03 - 사업장별 과거 재해 이력 조회 추가
  *
  * @author SKAX Team
  */
@@ -33,22 +38,25 @@ import org.springframework.web.bind.annotation.RestController;
 public class PastController {
 
 	private final PastDisasterService pastDisasterService;
+	private final SitePastDisasterService sitePastDisasterService;
 
 	/**
 	 * 과거 재해 이력 조회
 	 *
-	 * GET /api/past?year={year}&disaster_type={disaster_type}&severity={severity}
+	 * GET /api/past?year={year}&disaster_type={disaster_type}&severity={severity}&cursor={cursor}&size={size}
 	 *
 	 * @param year         연도 (optional)
 	 * @param disasterType 재해 유형 (optional)
 	 * @param severity     심각도 (optional)
+	 * @param cursor       이전 응답의 nextCursor (optional)
+	 * @param size         페이지 크기 (optional, 최대 500, 생략 시 전체 이력)
 	 * @return 과거 재해 이력 목록
 	 * @throws UnauthorizedException 인증되지 않은 사용자인 경우 (401)
 	 * @throws ValidationException   파라미터가 유효하지 않은 경우 (422)
 	 */
 	@Operation(
 		summary = "과거 재해 이력 조회",
-		description = "연도, 재해 유형, 심각도에 따른 과거 재해 이력을 조회한다. 모든 파라미터는 선택적이며, 빈 값으로 호출 시 전체 이력을 조회한다."
+		description = "연도, 재해 유형, 심각도에 따른 과거 재해 이력을 조회한다. 모든 파라미터는 선택적이며, 빈 값으로 호출 시 전체 이력을 조회한다. size를 지정하면 재해 ID 순으로 페이지 조회하며, 응답의 nextCursor를 다음 요청의 cursor로 전달한다."
 	)
 	@ApiResponse(
 		responseCode = "200",
@@ -95,10 +103,78 @@ public class PastController {
 		@Parameter(description = "재해 유형", required = false, example = "호우")
 		@RequestParam(value = "disaster_type", required = false) String disasterType,
 		@Parameter(description = "심각도", required = false, example = "경보")
-		@RequestParam(required = false) String severity
+		@RequestParam(required = false) String severity,
+		@Parameter(description = "이전 응답의 nextCursor", required = false, example = "1024")
+		@RequestParam(required = false) Integer cursor,
+		@Parameter(description = "페이지 크기 (최대 500, 생략 시 전체 이력)", required = false, example = "50")
+		@RequestParam(required = false) Integer size
+	) {
+		log.info("GET /api/past?year={}&disaster_type={}&severity={}&cursor={}&size={}",
+			year, disasterType, severity, cursor, size);
+		PastDisasterResponse response = pastDisasterService.getPastDisasters(year, disasterType, severity, cursor, size);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 사업장별 과거 재해 이력 조회
+	 *
+	 * GET /api/past/sites?siteIds={siteId},{siteId}&limit={limit}
+	 *
+	 * @param siteIds 사업장 ID 목록 (optional, 생략 시 전체 사업장)
+	 * @param limit   사업장당 최근 재해 수 (optional, 기본 20, 최대 500)
+	 * @return 사업장별 재해 유형 · 연도별 건수와 최근 재해 목록
+	 */
+	@Operation(
+		summary = "사업장별 과거 재해 이력 조회",
+		description = "사업장의 시군구에 영향을 준 과거 재해(시도 전역 · 읍면동 재해 포함)의 유형 · 연도별 건수와 최근 재해 목록을 조회한다. siteIds를 생략하면 사용자의 전체 사업장을 한 번에 조회한다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "사업장별 과거 재해 이력",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = SitePastDisasterResponse.class),
+			examples = @ExampleObject(
+				value = "{\"sites\":[{\"siteId\":\"3fa85f64-5717-4562-b3fc-2c963f66afa6\",\"siteName\":\"sk u 타워\",\"regionCode\":\"41135\",\"sidoName\":\"경기도\",\"sigunguName\":\"성남시 분당구\",\"totalCount\":3,\"sidoWideCount\":2,\"sigunguCount\":1,\"emdCount\":0,\"countsByType\":{\"태풍\":{\"2023\":1},\"호우\":{\"2022\":1,\"2023\":1}},\"events\":[{\"id\":2,\"alertDate\":\"2023-08-10\",\"disasterType\":\"태풍\",\"severity\":\"주의보\",\"region\":\"경기도 전역\"}]}],\"unresolvedSiteIds\":[]}"
+			)
+		)
+	)
+	@ApiResponse(
+		responseCode = "401",
+		description = "인증되지 않은 사용자",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"인증되지 않은 사용자입니다.\", \"errorCode\": \"UNAUTHORIZED\", \"timestamp\": \"2025-12-11T15:30:00\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "404",
+		description = "사업장을 찾을 수 없음",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"사업장을 찾을 수 없습니다\", \"errorCode\": \"SITE_NOT_FOUND\", \"timestamp\": \"2026-10-19T10:00:00\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "503",
+		description = "행정구역 데이터를 조회할 수 없음",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"행정구역 데이터를 조회할 수 없습니다\", \"errorCode\": \"HAZARD_DATA_UNAVAILABLE\", \"timestamp\": \"2026-10-19T10:00:00\"}")
+		)
+	)
+	@GetMapping("/sites")
+	public ResponseEntity<SitePastDisasterResponse> getSitePastDisasters(
+		@Parameter(description = "사업장 ID 목록 (생략 시 전체 사업장)", required = false)
+		@RequestParam(required = false) List<UUID> siteIds,
+		@Parameter(description = "사업장당 최근 재해 수 (기본 20, 최대 500)", required = false, example = "20")
+		@RequestParam(required = false) Integer limit
 	) {
-		log.info("GET /api/past?year={}&disaster_type={}&severity={}", year, disasterType, severity);
-		PastDisasterResponse response = pastDisasterService.getPastDisasters(year, disasterType, severity);
+		log.info("GET /api/past/sites?siteIds={}&limit={}", siteIds, limit);
+		SitePastDisasterResponse response = sitePastDisasterService.getSitePastDisasters(siteIds, limit);
 		return ResponseEntity.ok(response);
 	}
 }
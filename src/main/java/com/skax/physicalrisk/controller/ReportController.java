@@ -2,6 +2,7 @@ package com.skax.physicalrisk.controller;
 
 import com.skax.physicalrisk.dto.response.ErrorResponse;
 import com.skax.physicalrisk.dto.request.report.ReportDataRequest;
+import com.skax.physicalrisk.dto.response.report.ReportDataUploadResponse;
 import com.skax.physicalrisk.dto.response.report.new_structure.ReportResponse;
 import io.swagger.v3.oas.annotations.Parameter;
 import com.skax.physicalrisk.exception.ResourceNotFoundException;
@@ -14,18 +15,22 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.UUID;
 
 /**
  * 리포트 컨트롤러 (v0.2)
  *
- * 최종 수정일: 2025-12-16
- * 파일 버전: v03
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v08 - 스트리밍 리포트 전용 ETag 사용
  *
  * @author SKAX Team
  */
@@ -42,12 +47,16 @@ public class ReportController {
 	 *
 	 * GET /api/report
 	 *
+	 * 응답 ETag를 If-None-Match로 보내면 리포트가 바뀌지 않은 경우 리포트 내용을 읽지 않고 304를 반환한다.
+	 * 기본적으로 저장된 report_content 원문을 ApiResponse.data에 그대로 넣어 응답한다 (app.report.passthrough).
+	 *
+	 * @param webRequest If-None-Match 확인용 요청
 	 * @return 통합 리포트 내용 (TCFD Report Structure)
 	 * @throws UnauthorizedException 인증되지 않은 사용자인 경우 (401)
 	 */
 	@Operation(
 		summary = "통합 리포트 조회",
-		description = "보고서 내용을 받아오는 엔드포인트.\nTCFD 기반의 구조화된 리포트 데이터를 반환한다."
+		description = "보고서 내용을 받아오는 엔드포인트.\nTCFD 기반의 구조화된 리포트 데이터를 반환한다.\n응답 ETag를 If-None-Match 헤더로 보내면 리포트가 재생성되지 않은 경우 304를 반환한다."
 	)
 	@ApiResponse(
 		responseCode = "200",
@@ -57,6 +66,10 @@ public class ReportController {
 			schema = @Schema(implementation = ReportResponse.class)
 		)
 	)
+	@ApiResponse(
+		responseCode = "304",
+		description = "리포트 변경 없음 (If-None-Match 일치)"
+	)
 	@ApiResponse(
 		responseCode = "401",
 		description = "인증이 필요합니다",
@@ -87,10 +100,70 @@ public class ReportController {
 		)
 	)
 	@GetMapping
-	public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<ReportResponse>> getReport() {
+	public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<Object>> getReport(WebRequest webRequest) {
 		log.info("GET /api/report");
-		ReportResponse response = reportService.getReport();
-		return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success(response));
+		String etag = reportService.getReportEtag();
+		if (etag != null && webRequest.checkNotModified(etag)) {
+			return null;
+		}
+		Object response = reportService.getReportData();
+		return ResponseEntity.ok()
+			.headers(headers -> setETag(headers, etag))
+			.body(com.skax.physicalrisk.dto.common.ApiResponse.success(response));
+	}
+
+	/**
+	 * 통합 리포트 조회 (스트리밍 응답)
+	 *
+	 * GET /api/report/stream
+	 *
+	 * 본문 형태가 /api/report와 다르므로 ETag도 따로 발급한다.
+	 * 전송하는 동안 DB 커넥션을 점유하므로 느린 클라이언트는 stream-idle-timeout-ms 후 끊긴다.
+	 *
+	 * @param webRequest If-None-Match 확인용 요청
+	 * @return 통합 리포트 내용 (섹션 단위로 전송)
+	 * @throws UnauthorizedException 인증되지 않은 사용자인 경우 (401)
+	 */
+	@Operation(
+		summary = "통합 리포트 조회 (스트리밍)",
+		description = "GET /api/report와 같은 구조의 응답을 저장된 리포트 JSON에서 바로 섹션 단위로 전송한다.\n리포트 DTO 변환을 거치지 않으므로 저장된 필드가 그대로 반환된다.\n"
+			+ "DB 커서로 읽으므로 전송이 끝날 때까지 DB 커넥션 1개를 점유한다. 느린 클라이언트가 "
+			+ "app.report.stream-idle-timeout-ms 동안 받지 않으면 세션이 종료되어 응답이 중간에 끊긴다 "
+			+ "(느린 네트워크의 클라이언트는 GET /api/report 사용)."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "통합 리포트 내용",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ReportResponse.class)
+		)
+	)
+	@ApiResponse(
+		responseCode = "304",
+		description = "리포트 변경 없음 (If-None-Match 일치)"
+	)
+	@ApiResponse(
+		responseCode = "404",
+		description = "리포트를 찾을 수 없음",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"리포트를 찾을 수 없습니다\", \"errorCode\": \"REPORT_NOT_FOUND\", \"code\": \"REPORT_NOT_FOUND\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@GetMapping("/stream")
+	public ResponseEntity<StreamingResponseBody> streamReport(WebRequest webRequest) {
+		log.info("GET /api/report/stream");
+		String etag = reportService.getStreamReportEtag();
+		if (etag != null && webRequest.checkNotModified(etag)) {
+			return null;
+		}
+		StreamingResponseBody body = reportService.streamReport();
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.headers(headers -> setETag(headers, etag))
+			.body(body);
 	}
 
 	/**
@@ -165,4 +238,68 @@ public class ReportController {
 		reportService.registerReportData(request, file);
 		return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success("리포트 데이터가 등록되었습니다."));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 리포트 추가 데이터 스트리밍 등록
+	 *
+	 * POST /api/report/data/stream
+	 *
+	 * /api/report/data와 같은 multipart 요청(data, file 순서)을 받지만 파일을 임시 파일로 받지 않고
+	 * 읽는 대로 FastAPI로 전송한다. 크기 제한은 전송 중 누적 검사하며 SHA-256을 함께 계산해 반환한다.
+	 *
+	 * @param headers 요청 헤더 (boundary를 포함한 Content-Type)
+	 * @param body    요청 본문
+	 * @return 전송한 파일 정보
+	 * @throws UnauthorizedException 인증되지 않은 사용자인 경우 (401)
+	 */
+	@Operation(
+		summary = "보고서 추가 데이터 스트리밍 등록",
+		description = "대용량 데이터 파일을 임시 저장 없이 FastAPI로 바로 전송하는 엔드포인트.\n"
+			+ "multipart/form-data로 data(JSON, siteId) 파트를 file 파트보다 먼저 전송해야 한다.\n"
+			+ "전송한 파일 크기와 SHA-256을 반환한다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "데이터 파일 등록 결과 반환",
+		content = @Content(
+			mediaType = "application/json",
+			examples = @ExampleObject(value = "{\"result\": \"success\", \"message\": \"리포트 데이터가 등록되었습니다.\", \"data\": {\"siteId\": \"550e8400-e29b-41d4-a716-446655440000\", \"fileName\": \"energy_usage.xlsx\", \"fileSize\": 1048576, \"sha256\": \"9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08\"}}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "400",
+		description = "파트 순서/형식 오류 또는 크기 제한 초과",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"data 파트는 file 파트보다 먼저 전송해야 합니다\", \"errorCode\": \"INVALID_REQUEST\", \"code\": \"INVALID_REQUEST\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "401",
+		description = "인증이 필요합니다",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"인증이 필요합니다\", \"errorCode\": \"UNAUTHORIZED\", \"code\": \"UNAUTHORIZED\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@PostMapping(value = "/data/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<ReportDataUploadResponse>> registerReportDataStream(
+		@Parameter(hidden = true) @RequestHeader HttpHeaders headers,
+		@Parameter(hidden = true) InputStream body
+	) {
+		log.info("POST /api/report/data/stream - contentLength: {}", headers.getContentLength());
+		ReportDataUploadResponse response = reportService.registerReportDataStream(headers, body);
+		return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success("리포트 데이터가 등록되었습니다.", response));
+	}
+
+	/**
+	 * ETag 헤더 설정 (리포트 해시가 아직 없으면 생략)
+	 */
+	private static void setETag(HttpHeaders headers, String etag) {
+		if (etag != null) {
+			headers.setETag(etag);
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package com.skax.physicalrisk.controller;
+
+import com.skax.physicalrisk.dto.request.report.ReportUploadCreateRequest;
+import com.skax.physicalrisk.dto.response.ErrorResponse;
+import com.skax.physicalrisk.dto.response.report.ReportDataUploadResponse;
+import com.skax.physicalrisk.dto.response.report.ReportUploadChunkResponse;
+import com.skax.physicalrisk.dto.response.report.ReportUploadResponse;
+import com.skax.physicalrisk.service.report.ReportUploadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * 리포트 추가 데이터 분할 업로드 컨트롤러
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 청크 재전송/완료 처리 중 응답 설명 보완
+ *
+ * 대용량 파일을 청크 단위로 나눠 올리고(병렬 가능), 끊긴 경우 빠진 청크만 다시 보낸 뒤
+ * 완료 요청으로 FastAPI에 등록한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/report/uploads")
+@RequiredArgsConstructor
+public class ReportUploadController {
+
+	private final ReportUploadService reportUploadService;
+
+	/**
+	 * 업로드 세션 생성
+	 *
+	 * POST /api/report/uploads
+	 *
+	 * @param request 사업장 ID, 파일명, 전체 크기, 청크 크기(선택), 전체 SHA-256(선택)
+	 * @return 세션 상태 (uploadId, chunkSize, chunkCount)
+	 */
+	@Operation(
+		summary = "보고서 추가 데이터 분할 업로드 시작",
+		description = "분할 업로드 세션을 만든다.\n응답의 chunkSize/chunkCount에 따라 청크 i를 offset = i × chunkSize 위치부터 잘라 전송한다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "세션 생성",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ReportUploadResponse.class)
+		)
+	)
+	@ApiResponse(
+		responseCode = "400",
+		description = "크기 제한 초과 또는 잘못된 청크 크기",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"청크 수가 제한(10000)을 초과합니다. 청크 크기를 늘려 주세요\", \"errorCode\": \"INVALID_REQUEST\", \"code\": \"INVALID_REQUEST\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "404",
+		description = "사업장을 찾을 수 없음",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"사업장을 찾을 수 없습니다\", \"errorCode\": \"SITE_NOT_FOUND\", \"code\": \"SITE_NOT_FOUND\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@PostMapping
+	public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<ReportUploadResponse>> createUpload(
+		@Valid @RequestBody ReportUploadCreateRequest request
+	) {
+		log.info("POST /api/report/uploads - siteId: {}, fileName: {}, totalSize: {}",
+			request.getSiteId(), request.getFileName(), request.getTotalSize());
+		ReportUploadResponse response = reportUploadService.createUpload(request);
+		return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success(response));
+	}
+
+	/**
+	 * 청크 전송
+	 *
+	 * PUT /api/report/uploads/{uploadId}/chunks/{index}?offset={offset}
+	 *
+	 * @param uploadId 업로드 ID
+	 * @param index    청크 번호
+	 * @param offset   청크 시작 위치
+	 * @param checksum 청크 SHA-256 (X-Chunk-SHA256 헤더)
+	 * @param body     청크 내용 (application/octet-stream)
+	 * @return 수신 결과
+	 */
+	@Operation(
+		summary = "보고서 추가 데이터 청크 전송",
+		description = "청크 하나를 전송한다. 청크끼리 독립적이므로 여러 청크를 동시에 전송할 수 있다.\n"
+			+ "X-Chunk-SHA256 헤더의 값과 받은 내용이 다르면 400을 반환하고 이미 받은 청크는 그대로 둔다.\n"
+			+ "같은 번호로 다시 보내 검증을 통과하면 덮어쓰며, 완료 처리 중인 세션에는 409를 반환한다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "청크 저장",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ReportUploadChunkResponse.class)
+		)
+	)
+	@ApiResponse(
+		responseCode = "400",
+		description = "청크 번호/시작 위치/크기/체크섬 불일치",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"청크 3의 SHA-256이 일치하지 않습니다\", \"errorCode\": \"INVALID_REQUEST\", \"code\": \"INVALID_REQUEST\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "404",
+		description = "업로드 세션을 찾을 수 없음 (만료 포함)",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"업로드 세션을 찾을 수 없습니다\", \"errorCode\": \"REPORT_UPLOAD_NOT_FOUND\", \"code\": \"REPORT_UPLOAD_NOT_FOUND\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "409",
+		description = "이미 완료되었거나 완료 처리 중인 세션",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"업로드 세션이 이미 완료되었거나 완료 처리 중입니다\", \"errorCode\": \"REPORT_UPLOAD_CONFLICT\", \"code\": \"REPORT_UPLOAD_CONFLICT\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@PutMapping(value = "/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<ReportUploadChunkResponse>> putChunk(
+		@PathVariable UUID uploadId,
+		@PathVariable int index,
+		@Parameter(description = "청크 시작 위치 (index × chunkSize)", required = true) @RequestParam long offset,
+		@Parameter(description = "청크 SHA-256 (hex)", required = true) @RequestHeader("X-Chunk-SHA256") String checksum,
+		@Parameter(hidden = true) InputStream body
+	) {
+		log.debug("PUT /api/report/uploads/{}/chunks/{} - offset: {}", uploadId, index, offset);
+		ReportUploadChunkResponse response = reportUploadService.putChunk(uploadId, index, offset, checksum, body);
+		return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success(response));
+	}
+
+	/**
+	 * 업로드 상태 조회
+	 *
+	 * GET /api/report/uploads/{uploadId}
+	 *
+	 * @param uploadId 업로드 ID
+	 * @return 받은 바이트 범위, 빠진 청크 번호
+	 */
+	@Operation(
+		summary = "보고서 추가 데이터 분할 업로드 상태 조회",
+		description = "받은 바이트 범위와 아직 받지 못한 청크 번호를 반환한다.\n연결이 끊긴 뒤 missingChunks만 다시 전송하면 된다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "세션 상태",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ReportUploadResponse.class)
+		)
+	)
+	@ApiResponse(
+		responseCode = "404",
+		description = "업로드 세션을 찾을 수 없음 (만료 포함)",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"업로드 세션을 찾을 수 없습니다\", \"errorCode\": \"REPORT_UPLOAD_NOT_FOUND\", \"code\": \"REPORT_UPLOAD_NOT_FOUND\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@GetMapping("/{uploadId}")
+	public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<ReportUploadResponse>> getUpload(@PathVariable UUID uploadId) {
+		log.info("GET /api/report/uploads/{}", uploadId);
+		ReportUploadResponse response = reportUploadService.getUpload(uploadId);
+		return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success(response));
+	}
+
+	/**
+	 * 업로드 완료 (FastAPI 등록)
+	 *
+	 * POST /api/report/uploads/{uploadId}/complete
+	 *
+	 * @param uploadId 업로드 ID
+	 * @return 전송한 파일 정보
+	 */
+	@Operation(
+		summary = "보고서 추가 데이터 분할 업로드 완료",
+		description = "모든 청크를 순서대로 이어 FastAPI에 스트리밍으로 등록한다.\n"
+			+ "빠진 청크가 있으면 400을 반환하며, 전송에 실패하면 청크가 유지되므로 다시 요청할 수 있다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "데이터 파일 등록 결과 반환",
+		content = @Content(
+			mediaType = "application/json",
+			examples = @ExampleObject(value = "{\"result\": \"success\", \"message\": \"리포트 데이터가 등록되었습니다.\", \"data\": {\"siteId\": \"550e8400-e29b-41d4-a716-446655440000\", \"fileName\": \"energy_usage.csv\", \"fileSize\": 5368709120, \"sha256\": \"9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08\"}}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "400",
+		description = "받지 못한 청크가 있거나 전체 SHA-256 불일치",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"받지 못한 청크가 2개 있습니다: [3, 7]\", \"errorCode\": \"INVALID_REQUEST\", \"code\": \"INVALID_REQUEST\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "409",
+		description = "이미 완료되었거나 완료 처리 중인 세션",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"업로드 세션이 이미 완료되었거나 완료 처리 중입니다\", \"errorCode\": \"REPORT_UPLOAD_CONFLICT\", \"code\": \"REPORT_UPLOAD_CONFLICT\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@PostMapping("/{uploadId}/complete")
+	public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<ReportDataUploadResponse>> completeUpload(@PathVariable UUID uploadId) {
+		log.info("POST /api/report/uploads/{}/complete", uploadId);
+		ReportDataUploadResponse response = reportUploadService.completeUpload(uploadId);
+		return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success("리포트 데이터가 등록되었습니다.", response));
+	}
+
+	/**
+	 * 업로드 취소
+	 *
+	 * DELETE /api/report/uploads/{uploadId}
+	 *
+	 * @param uploadId 업로드 ID
+	 * @return 빈 응답 (성공)
+	 */
+	@Operation(
+		summary = "보고서 추가 데이터 분할 업로드 취소",
+		description = "받은 청크와 업로드 세션을 삭제한다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "취소 완료",
+		content = @Content(
+			mediaType = "application/json",
+			examples = @ExampleObject(value = "{\"result\": \"success\", \"message\": \"업로드가 취소되었습니다.\"}")
+		)
+	)
+	@DeleteMapping("/{uploadId}")
+	public ResponseEntity<com.skax.physicalrisk.dto.common.ApiResponse<Void>> abortUpload(@PathVariable UUID uploadId) {
+		log.info("DELETE /api/report/uploads/{}", uploadId);
+		reportUploadService.abortUpload(uploadId);
+		return ResponseEntity.ok(com.skax.physicalrisk.dto.common.ApiResponse.success("업로드가 취소되었습니다."));
+	}
+}
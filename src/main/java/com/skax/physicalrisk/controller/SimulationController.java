@@ -1,9 +1,11 @@
 package com.skax.physicalrisk.controller;
 
 import com.skax.physicalrisk.dto.request.simulation.ClimateSimulationRequest;
+import com.skax.physicalrisk.dto.request.simulation.RelocationBatchCompareRequest;
 import com.skax.physicalrisk.dto.request.simulation.RelocationSimulationRequest;
 import com.skax.physicalrisk.dto.response.ErrorResponse;
 import com.skax.physicalrisk.dto.response.simulation.ClimateSimulationResponse;
+import com.skax.physicalrisk.dto.response.simulation.RelocationBatchCompareResponse;
 import com.skax.physicalrisk.dto.response.simulation.RelocationSimulationResponse;
 import com.skax.physicalrisk.service.simulation.SimulationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,16 +18,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * 시뮬레이션 컨트롤러
  *
  * FastAPI를 통한 기후 시뮬레이션 및 사업장 이전 분석
  *
- * 최종 수정일: 2025-11-20
- * 파일 버전: v02
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v05
  *
  * @author SKAX Team
  */
@@ -203,17 +207,101 @@ public class SimulationController {
 		return ResponseEntity.ok(response);
 	}
 
+	/**
+	 * 위치 시뮬레이션 일괄 비교
+	 *
+	 * POST /api/simulation/location/compare/batch
+	 *
+	 * @param request 일괄 비교 요청
+	 * @return 순위순 비교 결과
+	 */
+	@Operation(
+		summary = "위치 시뮬레이션 일괄 비교",
+		description = "최대 10개 후보지를 특정 사업장과 동시에 비교하고 통합 리스크 점수, AAL 오름차순으로 순위를 매긴다.\n"
+			+ "일부 후보지 비교가 실패하면 해당 후보지는 error와 함께 목록 마지막에 포함된다."
+	)
+	@io.swagger.v3.oas.annotations.parameters.RequestBody(
+		description = "현재 사업장 ID와 비교할 후보지 목록",
+		required = true,
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = RelocationBatchCompareRequest.class),
+			examples = @ExampleObject(
+				value = "{\"siteId\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\", \"candidates\": [{\"latitude\": 36.5040736, \"longitude\": 127.2494855, \"jibunAddress\": \"세종특별자치시 보람동 660\", \"roadAddress\": \"세종특별자치시 한누리대로 2130 (보람동)\"}, {\"latitude\": 37.5665, \"longitude\": 126.9780, \"jibunAddress\": \"서울특별시 중구 태평로1가 31\", \"roadAddress\": \"서울특별시 중구 세종대로 110\"}]}"
+			)
+		)
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "순위순 후보지 비교 결과",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = RelocationBatchCompareResponse.class),
+			examples = @ExampleObject(
+				value = "{\"siteId\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\", \"currentLocation\": {\"risks\": [{\"riskType\": \"extreme_heat\", \"physicalRiskScore\": 45.0, \"aal\": 0.12}]}, \"candidates\": [{\"rank\": 1, \"requestIndex\": 0, \"candidate\": {\"latitude\": 36.5040736, \"longitude\": 127.2494855, \"jibunAddress\": \"세종특별자치시 보람동 660\", \"roadAddress\": \"세종특별자치시 한누리대로 2130 (보람동)\", \"riskscore\": 40, \"aalscore\": 12.5}, \"newLocation\": {\"risks\": [{\"riskType\": \"extreme_heat\", \"physicalRiskScore\": 30.0, \"aal\": 0.08}]}}, {\"requestIndex\": 1, \"candidate\": {\"latitude\": 37.5665, \"longitude\": 126.9780, \"jibunAddress\": \"서울특별시 중구 태평로1가 31\", \"roadAddress\": \"서울특별시 중구 세종대로 110\"}, \"error\": \"FastAPI 서버 연결에 실패했습니다\"}]}"
+			)
+		)
+	)
+	@ApiResponse(
+		responseCode = "400",
+		description = "입력값 유효성 검사 실패 (후보지 0개 또는 10개 초과 포함)",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"잘못된 요청입니다\", \"errorCode\": \"INVALID_REQUEST\", \"code\": \"INVALID_REQUEST\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "401",
+		description = "인증이 필요합니다",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"인증이 필요합니다\", \"errorCode\": \"UNAUTHORIZED\", \"code\": \"UNAUTHORIZED\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "404",
+		description = "사업장을 찾을 수 없음",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"사업장을 찾을 수 없습니다\", \"errorCode\": \"SITE_NOT_FOUND\", \"code\": \"SITE_NOT_FOUND\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "503",
+		description = "모든 후보지 비교 실패",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(
+				value = "{\"result\": \"error\", \"message\": \"FastAPI 서버 연결에 실패했습니다\", \"errorCode\": \"FASTAPI_CONNECTION_ERROR\", \"timestamp\": \"2025-12-12T16:30:00\"}"
+			)
+		)
+	)
+	@PostMapping("/location/compare/batch")
+	public ResponseEntity<RelocationBatchCompareResponse> compareLocations(
+		@Valid @RequestBody RelocationBatchCompareRequest request
+	) {
+		log.info("POST /api/simulation/location/compare/batch - {} candidates", request.getCandidates().size());
+		RelocationBatchCompareResponse response = simulationService.compareLocations(request);
+		return ResponseEntity.ok(response);
+	}
+
 	/**
      * 기후 시뮬레이션
      *
      * POST /api/simulation/climate
      *
      * @param request 기후 시뮬레이션 요청
+     * @param format  regionScores 형태 (compact: {regions, years, values})
      * @return 시뮬레이션 결과
      */
     @Operation(
         summary = "기후 시뮬레이션",
-        description = "SSP 시나리오와 기후 변수에 따라 행정구역별 점수 및 사업장별 AAL 값을 반환한다."
+        description = "SSP 시나리오와 기후 변수에 따라 행정구역별 점수 및 사업장별 AAL 값을 반환한다. "
+            + "format=compact 이면 regionScores를 {\"regions\": [...], \"years\": [...], \"values\": [[...]]} 형태로 반환한다."
     )
     @io.swagger.v3.oas.annotations.parameters.RequestBody(
         description = "시뮬레이션 시나리오와 위험 유형",
@@ -326,10 +414,66 @@ public class SimulationController {
     )
     @PostMapping("/climate")
     public ResponseEntity<ClimateSimulationResponse> runClimateSimulation(
-        @Valid @RequestBody ClimateSimulationRequest request
+        @Valid @RequestBody ClimateSimulationRequest request,
+        @Parameter(description = "regionScores 형태 (compact 지정 시 배열 형태)", example = "compact")
+        @RequestParam(required = false) String format
     ) {
-        log.info("POST /api/simulation/climate");
-        ClimateSimulationResponse response = simulationService.runClimateSimulation(request);
+        log.info("POST /api/simulation/climate - format: {}", format);
+        ClimateSimulationResponse response = simulationService.runClimateSimulation(request, "compact".equalsIgnoreCase(format));
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 기후 시뮬레이션 (스트리밍 응답)
+     *
+     * POST /api/simulation/climate/stream
+     *
+     * @param request 기후 시뮬레이션 요청
+     * @return 시뮬레이션 결과 (본문을 생성하는 대로 전송)
+     */
+    @Operation(
+        summary = "기후 시뮬레이션 (스트리밍)",
+        description = "POST /api/simulation/climate와 같은 JSON을 FastAPI 응답을 읽는 대로 전송한다. "
+            + "행정구역 수와 무관하게 서버 메모리 사용량이 일정하다. "
+            + "FastAPI 응답의 시작을 확인한 뒤 본문 전송을 시작하므로 FastAPI 연결 실패는 오류 상태 코드로 응답한다. "
+            + "regionScores는 항상 기본 형태이며, 본문 전송 도중 오류가 발생하면 JSON이 중간에 끊긴다."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "시나리오별 행정구역 기후 점수 및 사업장 AAL 데이터",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ClimateSimulationResponse.class)
+        )
+    )
+    @ApiResponse(
+        responseCode = "404",
+        description = "사업장을 찾을 수 없음",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ErrorResponse.class),
+            examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"사업장을 찾을 수 없습니다\", \"errorCode\": \"SITE_NOT_FOUND\", \"code\": \"SITE_NOT_FOUND\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+        )
+    )
+    @ApiResponse(
+        responseCode = "503",
+        description = "외부 서비스 연결 실패",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = ErrorResponse.class),
+            examples = @ExampleObject(
+                value = "{\"result\": \"error\", \"message\": \"FastAPI 서버 연결에 실패했습니다.\", \"errorCode\": \"FASTAPI_CONNECTION_ERROR\", \"timestamp\": \"2025-12-12T16:30:00\"}"
+            )
+        )
+    )
+    @PostMapping("/climate/stream")
+    public ResponseEntity<StreamingResponseBody> streamClimateSimulation(
+        @Valid @RequestBody ClimateSimulationRequest request
+    ) {
+        log.info("POST /api/simulation/climate/stream");
+        StreamingResponseBody body = simulationService.streamClimateSimulation(request);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+}
@@ -1,25 +1,35 @@
 package com.skax.physicalrisk.controller;
 
 import com.skax.physicalrisk.dto.response.ErrorResponse;
+import com.skax.physicalrisk.dto.response.site.SiteImportResponse;
+import com.skax.physicalrisk.dto.response.site.SitePageResponse;
 import com.skax.physicalrisk.dto.response.site.SiteResponse;
+import com.skax.physicalrisk.service.site.SiteImportService;
+import com.skax.physicalrisk.service.site.SiteSearchService;
 import com.skax.physicalrisk.service.site.SiteService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 /**
  * 전체 사업장 조회 컨트롤러 (v0.2)
  *
- * 최종 수정일: 2025-12-10
- * 파일 버전: v02
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v03
  *
  * @author SKAX Team
  */
@@ -30,6 +40,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class SitesController {
 
 	private final SiteService siteService;
+	private final SiteSearchService siteSearchService;
+	private final SiteImportService siteImportService;
 
 	/**
 	 * 전체 사업장 조회
@@ -80,4 +92,156 @@ public class SitesController {
 		SiteResponse response = siteService.getSites();
 		return ResponseEntity.ok(response);
 	}
+
+	/**
+	 * 사업장 목록 페이지 조회 (커서 기반)
+	 *
+	 * GET /api/sites/page?cursor=&size=&includeTotal=
+	 *
+	 * @param cursor       이전 응답의 nextCursor (첫 페이지면 생략)
+	 * @param size         페이지 크기 (기본 50, 최대 200)
+	 * @param includeTotal 전체 건수 포함 여부
+	 * @return 사업장 목록 페이지
+	 */
+	@Operation(
+		summary = "사업장 목록 페이지 조회",
+		description = "현재 로그인한 사용자의 사업장을 이름순으로 커서 기반 페이지 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "사업장 목록 페이지 반환",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = SitePageResponse.class),
+			examples = @ExampleObject(
+				value = "{\"sites\": [{\"siteId\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\", \"siteName\": \"sk u 타워\", \"latitude\": 37.36633726, \"longitude\": 127.10661717, \"jibunAddress\": \"경기도 성남시 분당구 정자동 25-1\", \"roadAddress\": \"경기도 성남시 분당구 성남대로343번길 9\", \"siteType\": \"data_center\"}], \"nextCursor\": \"c2sgdSDtg4Dsm4wAM2ZhODVmNjQtNTcxNy00NTYyLWIzZmMtMmM5NjNmNjZhZmE2\", \"hasNext\": true, \"totalCount\": 120}"
+			)
+		)
+	)
+	@ApiResponse(
+		responseCode = "400",
+		description = "잘못된 커서 또는 페이지 크기",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"유효하지 않은 커서입니다\", \"errorCode\": \"INVALID_REQUEST\", \"timestamp\": \"2026-10-18T10:00:00\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "401",
+		description = "인증이 필요합니다",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"인증이 필요합니다\", \"errorCode\": \"UNAUTHORIZED\", \"code\": \"UNAUTHORIZED\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@GetMapping("/page")
+	public ResponseEntity<SitePageResponse> getSitePage(
+		@Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기 (기본 50, 최대 200)") @RequestParam(required = false) Integer size,
+		@Parameter(description = "전체 건수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal
+	) {
+		log.info("GET /api/sites/page - cursor: {}, size: {}, includeTotal: {}", cursor, size, includeTotal);
+		SitePageResponse response = siteService.getSitePage(cursor, size, includeTotal);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 사업장 검색 (사업장명/주소, 자동완성용)
+	 *
+	 * GET /api/sites/search?keyword=&limit=
+	 *
+	 * @param keyword 검색어
+	 * @param limit   최대 결과 수 (기본 10, 최대 50)
+	 * @return 일치도 순 사업장 목록
+	 */
+	@Operation(
+		summary = "사업장 검색",
+		description = "현재 로그인한 사용자의 사업장을 사업장명/도로명주소/지번주소로 검색합니다. 입력 중인 한글 음절(예: '성ㄴ')과 일부 오타도 매칭되며 일치도 순으로 정렬됩니다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "검색 결과 반환",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = SiteResponse.class),
+			examples = @ExampleObject(
+				value = "{\"sites\": [{\"siteId\": \"3fa85f64-5717-4562-b3fc-2c963f66afa6\", \"siteName\": \"sk u 타워\", \"latitude\": 37.36633726, \"longitude\": 127.10661717, \"jibunAddress\": \"경기도 성남시 분당구 정자동 25-1\", \"roadAddress\": \"경기도 성남시 분당구 성남대로343번길 9\", \"siteType\": \"data_center\"}]}"
+			)
+		)
+	)
+	@ApiResponse(
+		responseCode = "401",
+		description = "인증이 필요합니다",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"인증이 필요합니다\", \"errorCode\": \"UNAUTHORIZED\", \"code\": \"UNAUTHORIZED\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@GetMapping("/search")
+	public ResponseEntity<SiteResponse> searchSites(
+		@Parameter(description = "검색어 (사업장명 또는 주소)", required = true) @RequestParam String keyword,
+		@Parameter(description = "최대 결과 수 (기본 10, 최대 50)") @RequestParam(required = false) Integer limit
+	) {
+		log.info("GET /api/sites/search - keyword: {}, limit: {}", keyword, limit);
+		SiteResponse response = siteSearchService.search(keyword, limit);
+		return ResponseEntity.ok(response);
+	}
+
+	/**
+	 * 사업장 일괄 등록 (CSV/XLSX)
+	 *
+	 * POST /api/sites/import?analyze=
+	 *
+	 * @param file    사업장 목록 파일 (헤더: name, roadAddress, jibunAddress, latitude, longitude, type,
+	 *                buildingAge, buildingType, seismicDesign, grossFloorArea 또는 한글 컬럼명)
+	 * @param analyze 등록 후 전체 사업장 분석 시작 여부
+	 * @return 행별 처리 결과
+	 */
+	@Operation(
+		summary = "사업장 일괄 등록",
+		description = "CSV(UTF-8) 또는 XLSX 파일로 사업장을 일괄 등록합니다. 첫 행은 헤더이며 name, type, latitude, longitude는 필수입니다. "
+			+ "기존 사업장 또는 파일 내 다른 행과 위경도가 같은 행은 건너뛰고, 행별 처리 결과를 반환합니다. "
+			+ "analyze=true이면 등록된 사업장 전체에 대해 분석을 한 번 요청합니다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "일괄 등록 결과 반환",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = SiteImportResponse.class),
+			examples = @ExampleObject(
+				value = "{\"totalRows\": 3, \"importedCount\": 1, \"duplicateCount\": 1, \"invalidCount\": 1, \"analysisRequested\": true, \"rows\": [{\"rowNumber\": 2, \"status\": \"IMPORTED\", \"siteId\": \"0192f0a1-7c3e-7a41-9b2d-3f6c1e8a4d52\", \"siteName\": \"서울 본사\"}, {\"rowNumber\": 3, \"status\": \"DUPLICATE\", \"siteName\": \"서울 본사 2\", \"message\": \"동일한 위경도를 가진 사업장이 이미 존재합니다\"}, {\"rowNumber\": 4, \"status\": \"INVALID\", \"siteName\": \"부산 공장\", \"message\": \"위도는 -90 ~ 90 사이여야 합니다\"}]}"
+			)
+		)
+	)
+	@ApiResponse(
+		responseCode = "400",
+		description = "지원하지 않는 파일 형식 또는 최대 건수 초과",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"CSV 또는 XLSX 파일만 업로드할 수 있습니다\", \"errorCode\": \"INVALID_REQUEST\", \"timestamp\": \"2026-10-18T10:00:00\"}")
+		)
+	)
+	@ApiResponse(
+		responseCode = "401",
+		description = "인증이 필요합니다",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ErrorResponse.class),
+			examples = @ExampleObject(value = "{\"result\": \"error\", \"message\": \"인증이 필요합니다\", \"errorCode\": \"UNAUTHORIZED\", \"code\": \"UNAUTHORIZED\", \"timestamp\": \"2025-12-17T15:30:00.123456789\"}")
+		)
+	)
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<SiteImportResponse> importSites(
+		@Parameter(description = "사업장 목록 파일 (.csv, .xlsx)", required = true) @RequestPart("file") MultipartFile file,
+		@Parameter(description = "등록 후 분석 시작 여부") @RequestParam(defaultValue = "false") boolean analyze
+	) {
+		log.info("POST /api/sites/import - file: {}, analyze: {}", file.getOriginalFilename(), analyze);
+		SiteImportResponse response = siteImportService.importSites(file, analyze);
+		return ResponseEntity.ok(response);
+	}
 }
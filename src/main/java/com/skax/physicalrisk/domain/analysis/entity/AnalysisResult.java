@@ -14,15 +14,20 @@ import java.util.UUID;
 /**
  * AI 분석 결과 엔티티
  *
- * 최종 수정일: 2025-11-13
- * 파일 버전: v01
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v04 - 사업장당 1행 unique 인덱스(uk_analysis_results_site) 추가
  *
  * FastAPI로부터 받은 분석 결과를 JSON 형태로 저장
+ * (기존 json 컬럼의 jsonb 변환과 analysis_data GIN 인덱스는 db/schema/analysis_results.sql에서 수행)
+ * 사업장당 1행만 두며, 기존 테이블의 중복 행 정리와 site_id unique 인덱스도 같은 스크립트에서 만든다.
  *
  * @author SKAX Team
  */
 @Entity
-@Table(name = "analysis_results")
+@Table(name = "analysis_results", indexes = {
+	@Index(name = "idx_analysis_results_site_analyzed", columnList = "site_id, analyzed_at"),
+	@Index(name = "uk_analysis_results_site", columnList = "site_id", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -43,7 +48,7 @@ public class AnalysisResult {
 	private String hazardType; // 위험 요인 유형
 
 	@JdbcTypeCode(SqlTypes.JSON)
-	@Column(name = "analysis_data", columnDefinition = "JSON")
+	@Column(name = "analysis_data", columnDefinition = "jsonb")
 	private Map<String, Object> analysisData; // 분석 결과 데이터 (JSON)
 
 	@CreationTimestamp
@@ -2,9 +2,15 @@ package com.skax.physicalrisk.domain.analysis.repository;
 
 import com.skax.physicalrisk.domain.analysis.entity.AnalysisResult;
 import com.skax.physicalrisk.domain.site.entity.Site;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,8 +18,8 @@ import java.util.UUID;
 /**
  * 분석 결과 레포지토리
  *
- * 최종 수정일: 2025-11-13
- * 파일 버전: v01
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v04 - 사업장 단위 ON CONFLICT upsert 추가
  *
  * @author SKAX Team
  */
@@ -44,4 +50,52 @@ public interface AnalysisResultRepository extends JpaRepository<AnalysisResult,
 	 * @return 분석 결과 Optional
 	 */
 	Optional<AnalysisResult> findFirstBySiteOrderByAnalyzedAtDesc(Site site);
+
+	/**
+	 * 사업장의 최근 분석 결과 조회 (사업장 엔티티 로딩 없이)
+	 *
+	 * @param siteId 사업장 ID
+	 * @return 분석 결과 Optional
+	 */
+	Optional<AnalysisResult> findFirstBySite_IdOrderByAnalyzedAtDesc(UUID siteId);
+
+	/**
+	 * 사업장의 최근 분석 결과 조회 (행 잠금, 저장된 값을 읽어 고쳐 쓰는 갱신용)
+	 *
+	 * @param siteId 사업장 ID
+	 * @return 분석 결과 Optional
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<AnalysisResult> findFirstForUpdateBySite_IdOrderByAnalyzedAtDesc(UUID siteId);
+
+	/**
+	 * 사업장 분석 결과 upsert (사업장당 1행, 이미 있으면 받은 종류만 최상위 키 단위로 덮어씀)
+	 *
+	 * 동시에 처음 적재하는 경우에도 uk_analysis_results_site(site_id)로 한 행에 합쳐지며,
+	 * 기존 행은 ON CONFLICT 갱신 동안 잠긴다.
+	 *
+	 * @param id           새 행 ID (기존 행이 있으면 사용하지 않음)
+	 * @param siteId       사업장 ID
+	 * @param analysisData 결과 종류 → FastAPI 원본 응답 (JSON 문자열)
+	 * @param analyzedAt   새 행의 분석 일시
+	 * @return 반영된 행 수
+	 */
+	@Modifying
+	@Query(value = "INSERT INTO analysis_results (id, site_id, analysis_data, analyzed_at) "
+		+ "VALUES (:id, :siteId, CAST(:analysisData AS jsonb), :analyzedAt) "
+		+ "ON CONFLICT (site_id) DO UPDATE SET analysis_data = "
+		+ "COALESCE(analysis_results.analysis_data, CAST('{}' AS jsonb)) || EXCLUDED.analysis_data",
+		nativeQuery = true)
+	int upsertAnalysisData(@Param("id") UUID id, @Param("siteId") UUID siteId,
+						   @Param("analysisData") String analysisData, @Param("analyzedAt") LocalDateTime analyzedAt);
+
+	/**
+	 * 사업장의 분석 결과 일괄 삭제
+	 *
+	 * @param siteId 사업장 ID
+	 * @return 삭제된 행 수
+	 */
+	@Modifying
+	@Query("DELETE FROM AnalysisResult r WHERE r.site.id = :siteId")
+	int deleteBySiteId(@Param("siteId") UUID siteId);
 }
@@ -0,0 +1,58 @@
+package com.skax.physicalrisk.domain.disaster.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 과거 재해 이력 엔티티
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - FastAPI 응답 순서(source_order) 추가, 테이블 DDL(db/schema/past_disasters.sql) 추가
+ *
+ * FastAPI /api/past(api_emergency_messages, api_disaster_yearbook)의 재해 이력을 로컬에 미러링
+ * id는 FastAPI 재해 ID를 그대로 사용하며, 동기화 시 전체 목록을 id 기준으로 upsert한다.
+ * 페이지 없는 전체 조회는 FastAPI 응답과 같은 순서로 돌려주기 위해 응답 내 순서를 source_order로 보관한다.
+ * 연도는 alertDate 문자열이 아니라 동기화 시점에 정수로 변환해 둔 event_year로 필터링한다.
+ * 테이블은 db/schema/past_disasters.sql로 생성 (컬럼 변경 시 함께 수정)
+ *
+ * @author SKAX Team
+ */
+@Entity
+@Table(name = "past_disasters", indexes = {
+	@Index(name = "idx_past_disasters_year_type_severity", columnList = "event_year, disaster_type, severity, id"),
+	@Index(name = "idx_past_disasters_type_severity", columnList = "disaster_type, severity, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PastDisaster {
+
+	@Id
+	@Column(name = "id", updatable = false, nullable = false)
+	private Integer id; // FastAPI 재해 ID
+
+	@Column(name = "event_year")
+	private Integer eventYear; // 발생 연도 (alertDate에서 추출, 형식이 다르면 null)
+
+	@Column(name = "alert_date", length = 32)
+	private String alertDate; // 발생 날짜 (FastAPI 원본 문자열)
+
+	@Column(name = "disaster_type", length = 50)
+	private String disasterType; // 재해 유형
+
+	@Column(name = "severity", length = 50)
+	private String severity; // 심각도
+
+	@Column(name = "region", columnDefinition = "TEXT")
+	private String region; // 영향 지역 (FastAPI 원본 문자열)
+
+	@Column(name = "source_order")
+	private Integer sourceOrder; // FastAPI 응답 내 순서 (마지막 동기화 기준)
+
+	@Column(name = "synced_at", nullable = false)
+	private LocalDateTime syncedAt; // 동기화 일시
+}
@@ -0,0 +1,73 @@
+package com.skax.physicalrisk.domain.disaster.repository;
+
+import com.skax.physicalrisk.domain.disaster.entity.PastDisaster;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 과거 재해 이력 레포지토리
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - high-water mark 조회 제거, FastAPI 응답 순서 전체 조회 추가
+ *
+ * @author SKAX Team
+ */
+@Repository
+public interface PastDisasterRepository extends JpaRepository<PastDisaster, Integer> {
+
+	/**
+	 * 재해 이력 전체 조회 (키셋: id 이후, 메모리 인덱스 적재용)
+	 *
+	 * @param afterId 직전 배치 마지막 재해 ID
+	 * @param limit 조회 건수
+	 * @return 재해 이력 목록
+	 */
+	List<PastDisaster> findByIdGreaterThanOrderByIdAsc(Integer afterId, Limit limit);
+
+	/**
+	 * 조건별 재해 이력 페이지 조회 (키셋: id 이후, 조건이 null이면 필터링하지 않음)
+	 *
+	 * @param year 발생 연도
+	 * @param disasterType 재해 유형
+	 * @param severity 심각도
+	 * @param afterId 직전 페이지 마지막 재해 ID
+	 * @param limit 조회 건수
+	 * @return 재해 이력 목록
+	 */
+	@Query("SELECT p FROM PastDisaster p "
+		+ "WHERE (:year IS NULL OR p.eventYear = :year) "
+		+ "AND (:disasterType IS NULL OR p.disasterType = :disasterType) "
+		+ "AND (:severity IS NULL OR p.severity = :severity) "
+		+ "AND p.id > :afterId ORDER BY p.id")
+	List<PastDisaster> findPageAfter(
+		@Param("year") Integer year,
+		@Param("disasterType") String disasterType,
+		@Param("severity") String severity,
+		@Param("afterId") Integer afterId,
+		Limit limit
+	);
+
+	/**
+	 * 조건별 재해 이력 전체 조회 (FastAPI 응답 순서, 조건이 null이면 필터링하지 않음)
+	 *
+	 * @param year 발생 연도
+	 * @param disasterType 재해 유형
+	 * @param severity 심각도
+	 * @return 재해 이력 목록
+	 */
+	@Query("SELECT p FROM PastDisaster p "
+		+ "WHERE (:year IS NULL OR p.eventYear = :year) "
+		+ "AND (:disasterType IS NULL OR p.disasterType = :disasterType) "
+		+ "AND (:severity IS NULL OR p.severity = :severity) "
+		+ "ORDER BY p.sourceOrder, p.id")
+	List<PastDisaster> findAllInSourceOrder(
+		@Param("year") Integer year,
+		@Param("disasterType") String disasterType,
+		@Param("severity") String severity
+	);
+}
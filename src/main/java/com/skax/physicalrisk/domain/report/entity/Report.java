@@ -12,8 +12,8 @@ import java.util.UUID;
 /**
  * 리포트 엔티티
  *
- * 최종 수정일: 2025-12-14
- * 파일 버전: v04 - Application (4).dbml 기준 수정
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v07 - content_hash 컬럼/트리거를 스키마 스크립트로 생성 (db/schema/reports_content_hash.sql)
  *
  * 사용자별 AI 분석 리포트 저장
  * DBML 문서 기준 스키마를 따름
@@ -41,4 +41,7 @@ public class Report {
 	@Type(JsonBinaryType.class)
 	@Column(name = "report_content", columnDefinition = "jsonb")
 	private Map<String, Object> reportContent; // 리포트 내용 메타데이터 (JSONB)
+
+	@Column(name = "content_hash", length = 32, insertable = false, updatable = false)
+	private String contentHash; // report_content MD5 (DB 트리거가 갱신, FastAPI 재생성 포함)
 }
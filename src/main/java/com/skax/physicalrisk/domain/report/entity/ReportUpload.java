@@ -0,0 +1,94 @@
+package com.skax.physicalrisk.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리포트 추가 데이터 분할 업로드 세션 엔티티
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 테이블을 스키마 스크립트로 생성 (db/schema/report_uploads.sql)
+ *
+ * 청크를 스테이징 영역에 모은 뒤 완료 시 FastAPI로 전송하는 업로드 세션.
+ * 만료되거나 완료된 세션은 정리 대상이므로 사용자/사업장은 FK 없이 ID만 보관한다.
+ *
+ * @author SKAX Team
+ */
+@Entity
+@Table(name = "report_uploads", indexes = {
+	@Index(name = "idx_report_upload_user_id", columnList = "user_id"),
+	@Index(name = "idx_report_upload_expires_at", columnList = "expires_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportUpload {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.AUTO)
+	@Column(name = "id", updatable = false, nullable = false)
+	private UUID id; // 업로드 ID
+
+	@Column(name = "user_id", nullable = false, updatable = false)
+	private UUID userId; // 사용자 ID
+
+	@Column(name = "site_id", nullable = false, updatable = false)
+	private UUID siteId; // 사업장 ID
+
+	@Column(name = "file_name", nullable = false, length = 255)
+	private String fileName; // 파일명
+
+	@Column(name = "content_type", length = 100)
+	private String contentType; // 파일 Content-Type
+
+	@Column(name = "total_size", nullable = false)
+	private Long totalSize; // 전체 크기 (bytes)
+
+	@Column(name = "chunk_size", nullable = false)
+	private Integer chunkSize; // 청크 크기 (bytes)
+
+	@Column(name = "chunk_count", nullable = false)
+	private Integer chunkCount; // 청크 수
+
+	@Column(name = "sha256", length = 64)
+	private String sha256; // 클라이언트가 선언한 전체 SHA-256 (선택)
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	@Builder.Default
+	private UploadStatus status = UploadStatus.UPLOADING; // 세션 상태
+
+	@CreatedDate
+	@Column(name = "created_at", nullable = false, updatable = false)
+	private LocalDateTime createdAt; // 생성 일시
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt; // 만료 일시
+
+	@Column(name = "completed_at")
+	private LocalDateTime completedAt; // 완료 일시
+
+	/**
+	 * 업로드 세션 상태
+	 */
+	public enum UploadStatus {
+		UPLOADING,  // 청크 수신 중
+		FINALIZING, // FastAPI 전송 중
+		COMPLETED   // 전송 완료
+	}
+
+	/**
+	 * 만료 여부
+	 */
+	public boolean isExpired(LocalDateTime now) {
+		return expiresAt.isBefore(now);
+	}
+}
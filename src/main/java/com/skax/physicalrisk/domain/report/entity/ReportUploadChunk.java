@@ -0,0 +1,52 @@
+package com.skax.physicalrisk.domain.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 분할 업로드 수신 청크 엔티티
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 테이블을 스키마 스크립트로 생성 (db/schema/report_uploads.sql)
+ *
+ * 체크섬 검증까지 끝난 청크만 기록한다 (행이 있으면 스테이징 영역에 온전한 청크가 있음).
+ * 청크마다 별도 행이므로 병렬 업로드 시 세션 행을 갱신하지 않는다.
+ *
+ * @author SKAX Team
+ */
+@Entity
+@Table(name = "report_upload_chunks",
+	uniqueConstraints = @UniqueConstraint(name = "uk_report_upload_chunk", columnNames = {"upload_id", "chunk_index"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportUploadChunk {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.AUTO)
+	@Column(name = "id", updatable = false, nullable = false)
+	private UUID id; // 청크 고유 ID
+
+	@Column(name = "upload_id", nullable = false, updatable = false)
+	private UUID uploadId; // 업로드 ID
+
+	@Column(name = "chunk_index", nullable = false, updatable = false)
+	private Integer chunkIndex; // 청크 번호 (0부터)
+
+	@Column(name = "chunk_offset", nullable = false)
+	private Long chunkOffset; // 시작 위치 (bytes)
+
+	@Column(name = "size", nullable = false)
+	private Long size; // 청크 크기 (bytes)
+
+	@Column(name = "sha256", nullable = false, length = 64)
+	private String sha256; // 청크 SHA-256
+
+	@Column(name = "received_at", nullable = false)
+	private LocalDateTime receivedAt; // 수신 일시
+}
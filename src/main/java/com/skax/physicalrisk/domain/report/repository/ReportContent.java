@@ -0,0 +1,16 @@
+package com.skax.physicalrisk.domain.report.repository;
+
+/**
+ * 리포트 내용 해시/JSON 원문 프로젝션
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+public interface ReportContent {
+
+	String getContentHash();
+
+	String getContent();
+}
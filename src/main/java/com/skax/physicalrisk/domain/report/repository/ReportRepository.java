@@ -3,6 +3,8 @@ package com.skax.physicalrisk.domain.report.repository;
 import com.skax.physicalrisk.domain.report.entity.Report;
 import com.skax.physicalrisk.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,8 +13,8 @@ import java.util.UUID;
 /**
  * 리포트 레포지토리
  *
- * 최종 수정일: 2025-12-14
- * 파일 버전: v02 - Application (4).dbml 기준 수정
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v05 - 리포트 내용 존재 여부 조회 추가
  *
  * @author SKAX Team
  */
@@ -26,4 +28,40 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
 	 * @return 리포트 (Optional)
 	 */
 	Optional<Report> findByUser(User user);
+
+	/**
+	 * 사용자의 리포트 내용 JSON 원문 조회 (Map 변환 없이 스트리밍 응답에 사용)
+	 *
+	 * @param userId 사용자 ID
+	 * @return report_content JSON 문자열 (Optional)
+	 */
+	@Query(value = "SELECT CAST(r.report_content AS text) FROM reports r WHERE r.user_id = :userId", nativeQuery = true)
+	Optional<String> findReportContentJsonByUserId(@Param("userId") UUID userId);
+
+	/**
+	 * 사용자의 리포트 내용 존재 여부 (스트리밍 응답 전 404 판단)
+	 *
+	 * @param userId 사용자 ID
+	 * @return report_content가 있는 리포트 존재 여부
+	 */
+	boolean existsByUser_IdAndReportContentIsNotNull(UUID userId);
+
+	/**
+	 * 사용자의 리포트 버전 조회 (report_content를 읽지 않음, ETag 비교용)
+	 *
+	 * @param userId 사용자 ID
+	 * @return 리포트 ID/내용 해시 (Optional)
+	 */
+	@Query("SELECT r.id AS reportId, r.contentHash AS contentHash FROM Report r WHERE r.user.id = :userId")
+	Optional<ReportVersion> findVersionByUserId(@Param("userId") UUID userId);
+
+	/**
+	 * 사용자의 리포트 내용 JSON 원문과 해시 조회 (같은 행에서 함께 읽어 버전 불일치 방지)
+	 *
+	 * @param userId 사용자 ID
+	 * @return 내용 해시/JSON 문자열 (Optional)
+	 */
+	@Query(value = "SELECT r.content_hash AS contentHash, CAST(r.report_content AS text) AS content "
+		+ "FROM reports r WHERE r.user_id = :userId", nativeQuery = true)
+	Optional<ReportContent> findContentByUserId(@Param("userId") UUID userId);
 }
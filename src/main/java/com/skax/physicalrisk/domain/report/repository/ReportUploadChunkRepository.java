@@ -0,0 +1,54 @@
+package com.skax.physicalrisk.domain.report.repository;
+
+import com.skax.physicalrisk.domain.report.entity.ReportUploadChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 분할 업로드 수신 청크 레포지토리
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Repository
+public interface ReportUploadChunkRepository extends JpaRepository<ReportUploadChunk, UUID> {
+
+	/**
+	 * 청크 조회 (재전송 시 갱신용)
+	 *
+	 * @param uploadId   업로드 ID
+	 * @param chunkIndex 청크 번호
+	 * @return 청크 (Optional)
+	 */
+	Optional<ReportUploadChunk> findByUploadIdAndChunkIndex(UUID uploadId, Integer chunkIndex);
+
+	/**
+	 * 받은 청크 번호 목록
+	 *
+	 * @param uploadId 업로드 ID
+	 * @return 청크 번호 (오름차순)
+	 */
+	@Query("SELECT c.chunkIndex FROM ReportUploadChunk c WHERE c.uploadId = :uploadId ORDER BY c.chunkIndex")
+	List<Integer> findChunkIndexesByUploadId(@Param("uploadId") UUID uploadId);
+
+	/**
+	 * 업로드의 청크 기록 삭제
+	 *
+	 * @param uploadId 업로드 ID
+	 * @return 삭제된 행 수
+	 */
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM ReportUploadChunk c WHERE c.uploadId = :uploadId")
+	int deleteByUploadId(@Param("uploadId") UUID uploadId);
+}
@@ -0,0 +1,67 @@
+package com.skax.physicalrisk.domain.report.repository;
+
+import com.skax.physicalrisk.domain.report.entity.ReportUpload;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리포트 추가 데이터 분할 업로드 세션 레포지토리
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 청크 확정용 세션 행 잠금 조회 추가
+ *
+ * @author SKAX Team
+ */
+@Repository
+public interface ReportUploadRepository extends JpaRepository<ReportUpload, UUID> {
+
+	/**
+	 * 사용자의 업로드 세션 조회
+	 *
+	 * @param id     업로드 ID
+	 * @param userId 사용자 ID
+	 * @return 업로드 세션 (Optional)
+	 */
+	Optional<ReportUpload> findByIdAndUserId(UUID id, UUID userId);
+
+	/**
+	 * 업로드 세션 조회 (행 잠금, 청크 확정 중 완료 요청의 상태 전이를 막음)
+	 *
+	 * @param id 업로드 ID
+	 * @return 업로드 세션 (Optional)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<ReportUpload> findForUpdateById(UUID id);
+
+	/**
+	 * 만료된 업로드 세션 조회 (정리용)
+	 *
+	 * @param now 기준 시각
+	 * @return 만료된 세션 목록
+	 */
+	List<ReportUpload> findByExpiresAtBefore(LocalDateTime now);
+
+	/**
+	 * 상태 전이 (현재 상태가 from일 때만, 동시 완료 요청 방지)
+	 *
+	 * @param id   업로드 ID
+	 * @param from 현재 상태
+	 * @param to   변경할 상태
+	 * @return 변경된 행 수 (0이면 이미 다른 상태)
+	 */
+	@Modifying
+	@Transactional
+	@Query("UPDATE ReportUpload u SET u.status = :to WHERE u.id = :id AND u.status = :from")
+	int transition(@Param("id") UUID id, @Param("from") ReportUpload.UploadStatus from, @Param("to") ReportUpload.UploadStatus to);
+}
@@ -0,0 +1,20 @@
+package com.skax.physicalrisk.domain.report.repository;
+
+import java.util.UUID;
+
+/**
+ * 리포트 ID/내용 해시 프로젝션
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * ETag 비교 시 jsonb 컬럼(report_content)을 읽지 않도록 ID와 해시만 SELECT 한다.
+ *
+ * @author SKAX Team
+ */
+public interface ReportVersion {
+
+	UUID getReportId();
+
+	String getContentHash();
+}
@@ -0,0 +1,96 @@
+package com.skax.physicalrisk.domain.simulation.entity;
+
+import com.skax.physicalrisk.domain.site.entity.Site;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 이전 후보지 엔티티
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 테이블 DDL(db/schema/candidate_sites.sql) 추가
+ *
+ * 사업장별 FastAPI 추천 후보지(최대 3개)를 미리 계산해 보관
+ * ERD candidate_sites 스키마에 사업장/순위/갱신 상태 컬럼을 추가함
+ * 테이블은 db/schema/candidate_sites.sql로 생성 (컬럼 변경 시 함께 수정)
+ *
+ * @author SKAX Team
+ */
+@Entity
+@Table(name = "candidate_sites", indexes = {
+	@Index(name = "idx_candidate_sites_site_rank", columnList = "site_id, candidate_rank"),
+	@Index(name = "idx_candidate_sites_location", columnList = "latitude, longitude")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CandidateSite {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	@Column(name = "id", updatable = false, nullable = false)
+	private UUID id; // 후보지 ID
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "site_id", nullable = false)
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	private Site site; // 추천 대상 사업장 (사업장/사용자 삭제 시 함께 삭제)
+
+	@Column(name = "candidate_rank", nullable = false)
+	private Integer candidateRank; // 추천 순서 (1~3)
+
+	@Column(name = "candidate_id")
+	private UUID candidateId; // FastAPI 후보지 ID
+
+	@Column(name = "name", length = 255)
+	private String name; // 후보지 이름
+
+	@Column(name = "road_address", length = 500)
+	private String roadAddress; // 도로명 주소
+
+	@Column(name = "jibun_address", length = 500)
+	private String jibunAddress; // 지번 주소
+
+	@Column(name = "latitude", precision = 10, scale = 8)
+	private BigDecimal latitude; // 위도 (decimal(10,8))
+
+	@Column(name = "longitude", precision = 11, scale = 8)
+	private BigDecimal longitude; // 경도 (decimal(11,8))
+
+	@Column(name = "risk_score")
+	private Integer riskScore; // 종합 리스크 점수 (0-100)
+
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(name = "risks", columnDefinition = "jsonb")
+	private Map<String, Integer> risks; // 재해 유형별 물리적 리스크 점수
+
+	@Column(name = "aal")
+	private Float aal; // AAL 점수
+
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(name = "aal_scores", columnDefinition = "jsonb")
+	private Map<String, Float> aalScores; // 재해 유형별 AAL 점수
+
+	@Column(name = "pros", columnDefinition = "TEXT")
+	private String pros; // 장점
+
+	@Column(name = "cons", columnDefinition = "TEXT")
+	private String cons; // 단점
+
+	@Column(name = "stale", nullable = false)
+	private boolean stale; // 재계산 필요 여부 (분석 완료/사업장 수정 시 true)
+
+	@Column(name = "generated_at", nullable = false)
+	private LocalDateTime generatedAt; // FastAPI 추천 생성 일시
+}
@@ -0,0 +1,52 @@
+package com.skax.physicalrisk.domain.simulation.repository;
+
+import com.skax.physicalrisk.domain.simulation.entity.CandidateSite;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 이전 후보지 레포지토리
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Repository
+public interface CandidateSiteRepository extends JpaRepository<CandidateSite, UUID> {
+
+	/**
+	 * 사업장의 추천 후보지 조회 (추천 순서대로)
+	 *
+	 * @param siteId 사업장 ID
+	 * @return 후보지 리스트
+	 */
+	List<CandidateSite> findBySite_IdOrderByCandidateRankAsc(UUID siteId);
+
+	/**
+	 * 사업장의 추천 후보지를 재계산 대상으로 표시
+	 *
+	 * @param siteIds 사업장 ID 목록
+	 * @return 변경된 행 수
+	 */
+	@Modifying
+	@Query("UPDATE CandidateSite c SET c.stale = true WHERE c.site.id IN :siteIds")
+	int markStaleBySiteIds(@Param("siteIds") Collection<UUID> siteIds);
+
+	/**
+	 * 사업장의 추천 후보지 일괄 삭제
+	 *
+	 * @param siteId 사업장 ID
+	 * @return 삭제된 행 수
+	 */
+	@Modifying
+	@Query("DELETE FROM CandidateSite c WHERE c.site.id = :siteId")
+	int deleteBySiteId(@Param("siteId") UUID siteId);
+}
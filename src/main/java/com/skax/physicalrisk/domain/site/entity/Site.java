@@ -21,6 +21,7 @@ import java.util.UUID;
 @Entity
 @Table(name = "sites", indexes = {
 	@Index(name = "idx_site_user_id", columnList = "user_id"),
+	@Index(name = "idx_site_user_name_id", columnList = "user_id, name, id"), // 목록 키셋 페이지네이션
 	@Index(name = "idx_site_coordinates", columnList = "latitude, longitude")
 })
 @Getter
@@ -0,0 +1,20 @@
+package com.skax.physicalrisk.domain.site.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 사업장 좌표 프로젝션
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * 일괄 등록 시 기존 좌표 중복 검사용으로 위경도만 SELECT 한다.
+ *
+ * @author SKAX Team
+ */
+public interface SiteCoordinate {
+
+	BigDecimal getLatitude();
+
+	BigDecimal getLongitude();
+}
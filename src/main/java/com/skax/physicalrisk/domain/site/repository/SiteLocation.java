@@ -0,0 +1,23 @@
+package com.skax.physicalrisk.domain.site.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 사업장 ID/좌표 프로젝션
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * 행정구역 코드 일괄 보정 시 ID와 위경도만 SELECT 한다.
+ *
+ * @author SKAX Team
+ */
+public interface SiteLocation {
+
+	UUID getSiteId();
+
+	BigDecimal getLatitude();
+
+	BigDecimal getLongitude();
+}
@@ -2,6 +2,7 @@ package com.skax.physicalrisk.domain.site.repository;
 
 import com.skax.physicalrisk.domain.site.entity.Site;
 import com.skax.physicalrisk.domain.user.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,8 +17,8 @@ import java.util.UUID;
 /**
  * 사업장 레포지토리
  *
- * 최종 수정일: 2025-11-13
- * 파일 버전: v01
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v04 - 행정구역 코드 보정 대상 조회 추가
  *
  * @author SKAX Team
  */
@@ -97,4 +98,67 @@ public interface SiteRepository extends JpaRepository<Site, UUID> {
 	 * @return 사업장 Optional
 	 */
 	Optional<Site> findByLatitudeAndLongitudeAndUser(java.math.BigDecimal latitude, java.math.BigDecimal longitude, User user);
+
+	/**
+	 * 사용자의 사업장 목록 첫 페이지 조회 (프로젝션, 키셋 정렬: name, id)
+	 *
+	 * @param userId 사용자 ID
+	 * @param limit 조회 건수
+	 * @return 사업장 요약 목록
+	 */
+	@Query("SELECT s.id AS siteId, s.name AS siteName, s.latitude AS latitude, s.longitude AS longitude, "
+		+ "s.jibunAddress AS jibunAddress, s.roadAddress AS roadAddress, s.type AS siteType "
+		+ "FROM Site s WHERE s.user.id = :userId ORDER BY s.name, s.id")
+	List<SiteSummary> findSummariesByUserId(@Param("userId") UUID userId, Limit limit);
+
+	/**
+	 * 사용자의 사업장 목록 다음 페이지 조회 (키셋: (name, id) 이후)
+	 *
+	 * @param userId 사용자 ID
+	 * @param name 직전 페이지 마지막 사업장명
+	 * @param id 직전 페이지 마지막 사업장 ID
+	 * @param limit 조회 건수
+	 * @return 사업장 요약 목록
+	 */
+	@Query("SELECT s.id AS siteId, s.name AS siteName, s.latitude AS latitude, s.longitude AS longitude, "
+		+ "s.jibunAddress AS jibunAddress, s.roadAddress AS roadAddress, s.type AS siteType "
+		+ "FROM Site s WHERE s.user.id = :userId "
+		+ "AND (s.name > :name OR (s.name = :name AND s.id > :id)) "
+		+ "ORDER BY s.name, s.id")
+	List<SiteSummary> findSummariesByUserIdAfter(
+		@Param("userId") UUID userId,
+		@Param("name") String name,
+		@Param("id") UUID id,
+		Limit limit
+	);
+
+	/**
+	 * 사용자의 전체 사업장 수 (사용자 엔티티 조회 없이)
+	 *
+	 * @param userId 사용자 ID
+	 * @return 사업장 수
+	 */
+	long countByUser_Id(UUID userId);
+
+	/**
+	 * 사용자의 사업장 좌표 전체 조회 (일괄 등록 중복 검사용)
+	 *
+	 * @param userId 사용자 ID
+	 * @return 좌표 목록
+	 */
+	@Query("SELECT s.latitude AS latitude, s.longitude AS longitude FROM Site s "
+		+ "WHERE s.user.id = :userId AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL")
+	List<SiteCoordinate> findCoordinatesByUserId(@Param("userId") UUID userId);
+
+	/**
+	 * 행정구역 코드가 없는 사업장 조회 (키셋: id 이후)
+	 *
+	 * @param afterId 직전 배치 마지막 사업장 ID
+	 * @param limit 조회 건수
+	 * @return 사업장 ID/좌표 목록
+	 */
+	@Query("SELECT s.id AS siteId, s.latitude AS latitude, s.longitude AS longitude FROM Site s "
+		+ "WHERE s.regionCode IS NULL AND s.latitude IS NOT NULL AND s.longitude IS NOT NULL "
+		+ "AND s.id > :afterId ORDER BY s.id")
+	List<SiteLocation> findWithoutRegionCodeAfter(@Param("afterId") UUID afterId, Limit limit);
 }
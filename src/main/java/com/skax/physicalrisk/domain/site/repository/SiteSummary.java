@@ -0,0 +1,31 @@
+package com.skax.physicalrisk.domain.site.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 사업장 목록 조회용 프로젝션
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * 목록 화면에 필요한 컬럼만 SELECT 하며 Site 엔티티를 생성하지 않는다.
+ *
+ * @author SKAX Team
+ */
+public interface SiteSummary {
+
+	UUID getSiteId();
+
+	String getSiteName();
+
+	BigDecimal getLatitude();
+
+	BigDecimal getLongitude();
+
+	String getJibunAddress();
+
+	String getRoadAddress();
+
+	String getSiteType();
+}
@@ -0,0 +1,44 @@
+package com.skax.physicalrisk.dto.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+
+/**
+ * 이미 직렬화된 JSON 원문
+ *
+ * ApiResponse.data에 넣으면 JSON 응답에는 파싱/객체 변환 없이 원문 그대로 기록된다.
+ * CBOR/Smile 등 JSON이 아닌 포맷은 원문을 그대로 쓸 수 없으므로 토큰 단위로 읽어 옮겨 쓴다.
+ * DB에 JSON으로 저장된 값을 그대로 내보낼 때만 사용한다 (원문이 올바른 JSON이어야 함).
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - JSON이 아닌 생성기에는 토큰 복사로 기록
+ *
+ * @author SKAX Team
+ */
+@JsonSerialize(using = RawJson.Serializer.class)
+public record RawJson(String json) {
+
+	static final class Serializer extends JsonSerializer<RawJson> {
+
+		private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+		@Override
+		public void serialize(RawJson value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+			if (gen instanceof JsonGeneratorImpl) {
+				gen.writeRawValue(value.json());
+				return;
+			}
+			try (JsonParser parser = JSON_FACTORY.createParser(value.json())) {
+				parser.nextToken();
+				gen.copyCurrentStructure(parser);
+			}
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.skax.physicalrisk.dto.request.analysis;
+
+import com.skax.physicalrisk.dto.request.site.AssetInfo;
+import com.skax.physicalrisk.dto.request.site.InsuranceInfo;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * AAL what-if 요청 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "AAL what-if 요청 (취약성 계수/보험 보전율 변경)")
+public class AalWhatIfRequest {
+
+	@Schema(description = "사업장 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6", required = true)
+	@NotNull(message = "사업장 ID는 필수입니다")
+	private UUID siteId;
+
+	@Schema(description = "SSP 시나리오 목록 (생략 시 전체)", example = "[\"SSP2-4.5\", \"SSP5-8.5\"]")
+	private List<String> scenarios;
+
+	@Schema(description = "시작 연도 (2021~2100, 기본 2025)", example = "2025")
+	@Min(value = 2021, message = "시작 연도는 2021 이상이어야 합니다")
+	@Max(value = 2100, message = "시작 연도는 2100 이하여야 합니다")
+	private Integer startYear;
+
+	@Schema(description = "종료 연도 (2021~2100, 기본 2100)", example = "2100")
+	@Min(value = 2021, message = "종료 연도는 2021 이상이어야 합니다")
+	@Max(value = 2100, message = "종료 연도는 2100 이하여야 합니다")
+	private Integer endYear;
+
+	@Schema(description = "전체 위험 유형 공통 취약성 계수 F_vuln (기본 1.0)", example = "1.1")
+	@DecimalMin(value = "0.0", message = "취약성 계수는 0 이상이어야 합니다")
+	@DecimalMax(value = "10.0", message = "취약성 계수는 10 이하여야 합니다")
+	private Double vulnerabilityScale;
+
+	@Schema(description = "위험 유형별 취약성 계수 F_vuln (공통 계수보다 우선)", example = "{\"river_flood\": 1.3, \"typhoon\": 0.9}")
+	private Map<String, Double> vulnerabilityScales;
+
+	@Schema(description = "보험 정보 (coverageRate를 insurance_rate로 사용)")
+	@Valid
+	private InsuranceInfo insurance;
+
+	@Schema(description = "자산 정보 (totalAssetValue가 있으면 예상 손실액 계산)")
+	private AssetInfo asset;
+}
@@ -0,0 +1,52 @@
+package com.skax.physicalrisk.dto.request.analysis;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 포트폴리오 손실 시뮬레이션 요청 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "포트폴리오 손실 시뮬레이션 요청 (사용자 전체 사업장)")
+public class PortfolioLossRequest {
+
+	/** 요청당 최대 연도 수 */
+	public static final int MAX_YEARS = 10;
+
+	@Schema(description = "SSP 시나리오 목록 (생략 시 전체)", example = "[\"SSP2-4.5\", \"SSP5-8.5\"]")
+	private List<String> scenarios;
+
+	@Schema(description = "대상 연도 목록 (2021~2100, 최대 10개, 생략 시 2030/2050)", example = "[2030, 2050]")
+	@Size(max = MAX_YEARS, message = "연도는 최대 10개까지 요청할 수 있습니다")
+	private List<@NotNull @Min(value = 2021, message = "연도는 2021 이상이어야 합니다")
+		@Max(value = 2100, message = "연도는 2100 이하여야 합니다") Integer> years;
+
+	@Schema(description = "표본 수 (생략 시 서버 기본값, 서버 최댓값으로 제한)", example = "20000")
+	@Min(value = 1000, message = "표본 수는 1000 이상이어야 합니다")
+	private Integer samples;
+
+	@Schema(description = "사업장별 자산 가치 (원). 입력하면 목록에 있는 사업장만 포함하고 손실을 원 단위로 계산하며, "
+		+ "생략하면 모든 사업장을 자산 가치 1로 보아 손실률 합계로 계산한다",
+		example = "{\"3fa85f64-5717-4562-b3fc-2c963f66afa6\": 50000000000}")
+	private Map<UUID, @NotNull @PositiveOrZero(message = "자산 가치는 0 이상이어야 합니다") Long> assetValues;
+}
@@ -0,0 +1,53 @@
+package com.skax.physicalrisk.dto.request.report;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 리포트 추가 데이터 분할 업로드 세션 생성 요청 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "분할 업로드 세션 생성 요청")
+public class ReportUploadCreateRequest {
+
+	@Schema(description = "사업장 ID", example = "550e8400-e29b-41d4-a716-446655440000", requiredMode = Schema.RequiredMode.REQUIRED)
+	@NotNull(message = "사업장 ID는 필수입니다.")
+	private UUID siteId;
+
+	@Schema(description = "파일명", example = "energy_usage.csv", requiredMode = Schema.RequiredMode.REQUIRED)
+	@NotBlank(message = "파일명은 필수입니다.")
+	private String fileName;
+
+	@Schema(description = "파일 Content-Type", example = "text/csv")
+	private String contentType;
+
+	@Schema(description = "전체 파일 크기 (bytes)", example = "5368709120", requiredMode = Schema.RequiredMode.REQUIRED)
+	@NotNull(message = "파일 크기는 필수입니다.")
+	@Positive(message = "파일 크기는 0보다 커야 합니다.")
+	private Long totalSize;
+
+	@Schema(description = "청크 크기 (bytes, 미지정 시 서버 기본값)", example = "16777216")
+	@Positive(message = "청크 크기는 0보다 커야 합니다.")
+	private Integer chunkSize;
+
+	@Schema(description = "전체 파일 SHA-256 (hex, 지정 시 완료 전송 중 검증)", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+	@Pattern(regexp = "^[0-9a-fA-F]{64}$", message = "SHA-256은 64자리 16진수여야 합니다.")
+	private String sha256;
+}
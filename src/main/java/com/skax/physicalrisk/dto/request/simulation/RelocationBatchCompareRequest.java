@@ -0,0 +1,43 @@
+package com.skax.physicalrisk.dto.request.simulation;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사업장 이전 후보지 일괄 비교 요청 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사업장 이전 후보지 일괄 비교 요청")
+public class RelocationBatchCompareRequest {
+
+    /** 요청당 최대 후보지 수 */
+    public static final int MAX_CANDIDATES = 10;
+
+    @Schema(description = "현재 사업장 ID", required = true, example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    @NotNull(message = "사업장 ID는 필수입니다.")
+    private UUID siteId;
+
+    @Schema(description = "비교할 후보지 목록 (최대 10개)")
+    @NotEmpty(message = "후보지는 1개 이상이어야 합니다.")
+    @Size(max = MAX_CANDIDATES, message = "후보지는 최대 10개까지 비교할 수 있습니다.")
+    @Valid
+    private List<RelocationSimulationRequest.Candidate> candidates;
+}
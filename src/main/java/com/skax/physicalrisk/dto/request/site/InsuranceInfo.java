@@ -1,6 +1,8 @@
 package com.skax.physicalrisk.dto.request.site;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -16,7 +18,9 @@ import lombok.NoArgsConstructor;
 @Schema(description = "보험 정보")
 public class InsuranceInfo {
 
-	@Schema(description = "보험 보전율", example = "0.8")
+	@Schema(description = "보험 보전율 (0~1)", example = "0.8")
+	@DecimalMin(value = "0.0", message = "보험 보전율은 0 이상이어야 합니다")
+	@DecimalMax(value = "1.0", message = "보험 보전율은 1 이하여야 합니다")
 	private Double coverageRate;
 
 	@Schema(description = "보험 상품", example = "화재보험")
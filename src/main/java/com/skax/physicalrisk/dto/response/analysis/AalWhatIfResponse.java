@@ -0,0 +1,96 @@
+package com.skax.physicalrisk.dto.response.analysis;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * AAL what-if 응답 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 연도별 값은 startYear부터 endYear까지 순서대로 담은 배열이며, 데이터가 없는 연도는 null이다.
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "AAL what-if 결과")
+public class AalWhatIfResponse {
+
+    @Schema(description = "사업장 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    private UUID siteId;
+
+    @Schema(description = "격자 위도 (소수점 2자리)", example = "37.37")
+    private BigDecimal gridLatitude;
+
+    @Schema(description = "격자 경도 (소수점 2자리)", example = "127.11")
+    private BigDecimal gridLongitude;
+
+    @Schema(description = "시작 연도 (배열 첫 번째 값의 연도)", example = "2025")
+    private Integer startYear;
+
+    @Schema(description = "종료 연도 (배열 마지막 값의 연도)", example = "2100")
+    private Integer endYear;
+
+    @Schema(description = "적용한 보험 보전율", example = "0.8")
+    private Float insuranceRate;
+
+    @Schema(description = "시나리오별 결과")
+    private List<ScenarioAal> scenarios;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "시나리오별 AAL")
+    public static class ScenarioAal {
+
+        @Schema(description = "SSP 시나리오", example = "SSP2-4.5")
+        private String scenario;
+
+        @JsonSerialize(using = NanAsNullFloatArraySerializer.class)
+        @ArraySchema(schema = @Schema(description = "연도별 전체 위험 유형 합계 최종 AAL (0~1)", example = "0.0123", nullable = true))
+        private float[] totalAal;
+
+        @ArraySchema(schema = @Schema(description = "연도별 예상 손실액 (원, 자산 가치 입력 시)", example = "615000000", nullable = true))
+        private Long[] expectedLoss;
+
+        @Schema(description = "위험 유형별 최종 AAL")
+        private List<RiskAal> risks;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "위험 유형별 최종 AAL")
+    public static class RiskAal {
+
+        @Schema(description = "위험 유형 코드", example = "river_flood")
+        private String riskType;
+
+        @Schema(description = "위험 유형 한글명", example = "하천 홍수")
+        private String hazardType;
+
+        @Schema(description = "적용한 취약성 계수 F_vuln", example = "1.3")
+        private Float vulnerabilityScale;
+
+        @JsonSerialize(using = NanAsNullFloatArraySerializer.class)
+        @ArraySchema(schema = @Schema(description = "연도별 최종 AAL (0~1)", example = "0.0042", nullable = true))
+        private float[] finalAal;
+    }
+}
@@ -0,0 +1,37 @@
+package com.skax.physicalrisk.dto.response.analysis;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * float[] JSON 직렬화 (NaN은 null)
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 계산 결과 배열에서 값이 없는 칸을 NaN으로 표현하므로 JSON에는 null로 기록한다.
+ *
+ * @author SKAX Team
+ */
+public class NanAsNullFloatArraySerializer extends StdSerializer<float[]> {
+
+    public NanAsNullFloatArraySerializer() {
+        super(float[].class);
+    }
+
+    @Override
+    public void serialize(float[] values, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (float value : values) {
+            if (Float.isNaN(value)) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value);
+            }
+        }
+        gen.writeEndArray();
+    }
+}
@@ -0,0 +1,114 @@
+package com.skax.physicalrisk.dto.response.analysis;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 포트폴리오 손실 시뮬레이션 응답 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 손실 단위는 lossUnit에 따라 원(KRW) 또는 사업장 손실률 합계(RATIO)이다.
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "포트폴리오 손실 시뮬레이션 결과")
+public class PortfolioLossResponse {
+
+    @Schema(description = "시뮬레이션에 포함된 사업장 수", example = "12")
+    private Integer siteCount;
+
+    @Schema(description = "제외된 사업장 ID (좌표 없음 또는 자산 가치 미입력)")
+    private List<UUID> excludedSiteIds;
+
+    @Schema(description = "표본 수", example = "20000")
+    private Integer samples;
+
+    @Schema(description = "같은 위험 유형 내 사업장 간 상관계수", example = "0.3")
+    private Double correlation;
+
+    @Schema(description = "손실 단위 (KRW: 자산 가치 입력, RATIO: 손실률 합계)", example = "KRW")
+    private String lossUnit;
+
+    @Schema(description = "시나리오별 결과")
+    private List<ScenarioLoss> scenarios;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "시나리오별 포트폴리오 손실")
+    public static class ScenarioLoss {
+
+        @Schema(description = "SSP 시나리오", example = "SSP2-4.5")
+        private String scenario;
+
+        @Schema(description = "연도별 결과")
+        private List<YearLoss> years;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "연도별 포트폴리오 손실 분포")
+    public static class YearLoss {
+
+        @Schema(description = "연도", example = "2030")
+        private Integer year;
+
+        @Schema(description = "기대 손실 (표본 평균)", example = "612000000")
+        private Double expectedLoss;
+
+        @Schema(description = "신뢰수준별 VaR/TVaR")
+        private List<RiskMeasure> riskMeasures;
+
+        @Schema(description = "초과 확률 곡선 (재현 기간별 손실)")
+        private List<ExceedancePoint> exceedanceCurve;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "신뢰수준별 위험 지표")
+    public static class RiskMeasure {
+
+        @Schema(description = "신뢰수준", example = "0.99")
+        private Double confidenceLevel;
+
+        @Schema(description = "VaR (신뢰수준 분위수 손실)", example = "4100000000")
+        private Double valueAtRisk;
+
+        @Schema(description = "TVaR (VaR 이상 손실의 평균)", example = "5350000000")
+        private Double tailValueAtRisk;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "초과 확률 곡선 점")
+    public static class ExceedancePoint {
+
+        @Schema(description = "재현 기간 (년)", example = "100")
+        private Integer returnPeriod;
+
+        @Schema(description = "연간 초과 확률", example = "0.01")
+        private Double exceedanceProbability;
+
+        @Schema(description = "손실 (표본 수가 부족하면 null)", example = "4100000000", nullable = true)
+        private Double loss;
+    }
+}
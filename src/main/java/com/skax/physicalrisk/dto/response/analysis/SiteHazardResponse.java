@@ -0,0 +1,76 @@
+package com.skax.physicalrisk.dto.response.analysis;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사업장 격자 Hazard / 기준 AAL 응답 DTO
+ *
+ * 격자 셀 단위 값(사업장 무관, 사용자 간 공유)에 사업장별 노출도/취약성/최종 AAL을 붙여 반환한다.
+ * 사업장 값은 분석이 끝난 사업장에만 있으며 없으면 null이다.
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사업장 격자 위험도")
+public class SiteHazardResponse {
+
+    @Schema(description = "사업장 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    private UUID siteId;
+
+    @Schema(description = "사업장 이름", example = "sk u 타워")
+    private String siteName;
+
+    @Schema(description = "격자 위도 (소수점 2자리)", example = "37.37")
+    private BigDecimal gridLatitude;
+
+    @Schema(description = "격자 경도 (소수점 2자리)", example = "127.11")
+    private BigDecimal gridLongitude;
+
+    @Schema(description = "SSP 시나리오", example = "SSP2-4.5")
+    private String scenario;
+
+    @Schema(description = "목표 연도", example = "2025")
+    private Integer year;
+
+    @Schema(description = "위험 유형별 Hazard / 기준 AAL / 사업장 E · V · 최종 AAL")
+    private List<HazardLayer> hazards;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HazardLayer {
+
+        @Schema(description = "위험 유형 코드", example = "extreme_heat")
+        private String riskType;
+
+        @Schema(description = "위험 유형", example = "극심한 고온")
+        private String hazardType;
+
+        @Schema(description = "Hazard 점수 (0~100, 데이터 없으면 null)", example = "63.2")
+        private Float hazardScore;
+
+        @Schema(description = "기준 AAL (취약성/보험 반영 전, 데이터 없으면 null)", example = "0.0081")
+        private Float baseAal;
+
+        @Schema(description = "노출도 점수 (0~100, 사업장 값, 분석 전이면 null)", example = "55.0")
+        private Float exposureScore;
+
+        @Schema(description = "취약성 점수 (0~100, 사업장 값, 분석 전이면 null)", example = "42.0")
+        private Float vulnerabilityScore;
+
+        @Schema(description = "최종 AAL (사업장 취약성/보험 반영, 분석 전이면 null)", example = "0.0074")
+        private Float finalAal;
+    }
+}
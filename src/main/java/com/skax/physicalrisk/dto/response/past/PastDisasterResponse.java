@@ -1,5 +1,6 @@
 package com.skax.physicalrisk.dto.response.past;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,8 +11,8 @@ import java.util.List;
 /**
  * 과거 재해 이력 응답 DTO
  *
- * 최종 수정일: 2025-12-18
- * 파일 버전: v03 - FastAPI 응답 필드명에 맞게 수정 (alertDate, disasterType)
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v04 - 키셋 페이지네이션 필드 추가 (size 요청 시에만 포함)
  *
  * @author SKAX Team
  */
@@ -19,6 +20,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PastDisasterResponse {
 
 	/**
@@ -26,6 +28,21 @@ public class PastDisasterResponse {
 	 */
 	private List<DisasterItem> data;
 
+	/**
+	 * 다음 페이지 커서 (마지막 재해 ID, 마지막 페이지면 없음)
+	 */
+	private Integer nextCursor;
+
+	/**
+	 * 다음 페이지 존재 여부 (size 요청 시에만 포함)
+	 */
+	private Boolean hasNext;
+
+	/**
+	 * 조건에 맞는 전체 건수 (size 요청 시에만 포함, 메모리 인덱스 비활성화 시 없음)
+	 */
+	private Integer totalCount;
+
 	/**
 	 * 재해 이력 항목
 	 */
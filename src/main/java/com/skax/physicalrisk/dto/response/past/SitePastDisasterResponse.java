@@ -0,0 +1,99 @@
+package com.skax.physicalrisk.dto.response.past;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사업장별 과거 재해 이력 응답 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SitePastDisasterResponse {
+
+	/**
+	 * 사업장별 재해 이력 (요청 순서, 행정구역을 확인할 수 없는 사업장 제외)
+	 */
+	private List<SiteHistory> sites;
+
+	/**
+	 * 행정구역을 확인할 수 없는 사업장 ID (좌표 없음, 경계 밖 등)
+	 */
+	private List<UUID> unresolvedSiteIds;
+
+	/**
+	 * 사업장 재해 이력
+	 */
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class SiteHistory {
+		/**
+		 * 사업장 ID
+		 */
+		private UUID siteId;
+
+		/**
+		 * 사업장명
+		 */
+		private String siteName;
+
+		/**
+		 * 시군구 코드 (5자리)
+		 */
+		private String regionCode;
+
+		/**
+		 * 시도명
+		 */
+		private String sidoName;
+
+		/**
+		 * 시군구명
+		 */
+		private String sigunguName;
+
+		/**
+		 * 사업장 시군구에 영향을 준 전체 재해 건수
+		 */
+		private Integer totalCount;
+
+		/**
+		 * 시도 전역 재해 건수
+		 */
+		private Integer sidoWideCount;
+
+		/**
+		 * 시군구 단위 재해 건수
+		 */
+		private Integer sigunguCount;
+
+		/**
+		 * 읍면동 단위 재해 건수 (시군구로 롤업)
+		 */
+		private Integer emdCount;
+
+		/**
+		 * 재해 유형 → {연도: 건수}
+		 */
+		private Map<String, Map<Integer, Integer>> countsByType;
+
+		/**
+		 * 최근 재해 목록 (발생일 내림차순, limit개)
+		 */
+		private List<PastDisasterResponse.DisasterItem> events;
+	}
+}
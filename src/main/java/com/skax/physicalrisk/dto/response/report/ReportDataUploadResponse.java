@@ -0,0 +1,37 @@
+package com.skax.physicalrisk.dto.response.report;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 리포트 추가 데이터 스트리밍 등록 응답 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "리포트 추가 데이터 등록 결과")
+public class ReportDataUploadResponse {
+
+	@Schema(description = "사업장 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+	private UUID siteId;
+
+	@Schema(description = "파일명", example = "energy_usage.xlsx")
+	private String fileName;
+
+	@Schema(description = "전송한 파일 크기 (bytes)", example = "1048576")
+	private Long fileSize;
+
+	@Schema(description = "전송한 파일 SHA-256 (hex)", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+	private String sha256;
+}
@@ -0,0 +1,40 @@
+package com.skax.physicalrisk.dto.response.report;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 분할 업로드 청크 수신 응답 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "청크 수신 결과")
+public class ReportUploadChunkResponse {
+
+	@Schema(description = "업로드 ID", example = "7d1f0c2e-3b7a-4c55-9a51-2f0e8c4b6a10")
+	private UUID uploadId;
+
+	@Schema(description = "청크 번호", example = "3")
+	private Integer chunkIndex;
+
+	@Schema(description = "청크 시작 위치 (bytes)", example = "50331648")
+	private Long offset;
+
+	@Schema(description = "청크 크기 (bytes)", example = "16777216")
+	private Long size;
+
+	@Schema(description = "검증된 청크 SHA-256 (hex)", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+	private String sha256;
+}
@@ -0,0 +1,77 @@
+package com.skax.physicalrisk.dto.response.report;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 리포트 추가 데이터 분할 업로드 세션 응답 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "분할 업로드 세션 상태")
+public class ReportUploadResponse {
+
+	@Schema(description = "업로드 ID", example = "7d1f0c2e-3b7a-4c55-9a51-2f0e8c4b6a10")
+	private UUID uploadId;
+
+	@Schema(description = "사업장 ID", example = "550e8400-e29b-41d4-a716-446655440000")
+	private UUID siteId;
+
+	@Schema(description = "파일명", example = "energy_usage.csv")
+	private String fileName;
+
+	@Schema(description = "세션 상태", example = "UPLOADING", allowableValues = {"UPLOADING", "FINALIZING", "COMPLETED"})
+	private String status;
+
+	@Schema(description = "전체 파일 크기 (bytes)", example = "5368709120")
+	private Long totalSize;
+
+	@Schema(description = "청크 크기 (bytes, 마지막 청크만 짧을 수 있음)", example = "16777216")
+	private Integer chunkSize;
+
+	@Schema(description = "청크 수 (번호 0 ~ chunkCount-1)", example = "320")
+	private Integer chunkCount;
+
+	@Schema(description = "받은 바이트 수", example = "33554432")
+	private Long receivedBytes;
+
+	@Schema(description = "받은 바이트 범위 목록 ([start, end))")
+	private List<ByteRange> receivedRanges;
+
+	@Schema(description = "아직 받지 못한 청크 번호", example = "[2, 3, 4]")
+	private List<Integer> missingChunks;
+
+	@Schema(description = "세션 만료 시간")
+	private LocalDateTime expiresAt;
+
+	/**
+	 * 바이트 범위
+	 */
+	@Data
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(description = "바이트 범위 [start, end)")
+	public static class ByteRange {
+
+		@Schema(description = "시작 위치 (포함)", example = "0")
+		private Long start;
+
+		@Schema(description = "끝 위치 (제외)", example = "33554432")
+		private Long end;
+	}
+}
@@ -14,6 +14,9 @@ import java.util.UUID;
  * 기후 시뮬레이션 응답 DTO
  * 행정구역별 기후 점수 및 사업장별 AAL 데이터 제공
  *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - regionScores 열 지향 행렬(RegionScoreMatrix)로 변경
+ *
  * @author SKAX Team
  */
 @Data
@@ -29,9 +32,10 @@ public class ClimateSimulationResponse {
     @Schema(description = "리스크 유형 (Hazard Type)", example = "극심한 고온")
     private String hazardType;
 
-    @Schema(description = "행정구역별 기후 점수 (Key: 행정구역코드, Value: {연도: 점수})", 
+    @Schema(description = "행정구역별 기후 점수 (Key: 행정구역코드, Value: {연도: 점수}). format=compact 요청 시 {regions, years, values} 형태",
+            type = "object",
             example = "{\"11010\": {\"2025\": 45.2, \"2100\": 89.3}}")
-    private Map<String, Map<String, Double>> regionScores;
+    private RegionScoreMatrix regionScores;
 
     @Schema(description = "사업장별 시뮬레이션 데이터 목록")
     private List<SiteSimulationData> sites;
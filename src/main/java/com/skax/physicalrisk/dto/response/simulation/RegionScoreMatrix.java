@@ -0,0 +1,138 @@
+package com.skax.physicalrisk.dto.response.simulation;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 행정구역 × 연도 기후 점수 행렬 (열 지향 표현)
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 직렬화 형태만 다른 뷰(withCompact) 추가
+ *
+ * 행정구역 코드 배열, 연도 범위, float[] 행렬(행정구역 우선)로 보관하여
+ * 값마다 Double/연도 String을 만들지 않는다. 값이 없는 칸은 NaN.
+ * JSON은 RegionScoreMatrixSerializer가 직접 기록한다.
+ * - 기본: {"11010": {"2025": 45.2, ...}, ...} (기존 Map 형태와 동일)
+ * - compact: {"regions": [...], "years": [...], "values": [[...], ...]}
+ *
+ * @author SKAX Team
+ */
+@JsonSerialize(using = RegionScoreMatrixSerializer.class)
+public final class RegionScoreMatrix {
+
+    private final String[] regionCodes;
+    private final int startYear;
+    private final int yearCount;
+    private final float[] values;
+    private final boolean compact;
+
+    /**
+     * @param regionCodes 행정구역 코드 (행 순서)
+     * @param startYear   시작 연도
+     * @param endYear     종료 연도 (포함)
+     * @param compact     compact JSON 형태로 직렬화할지 여부
+     */
+    public RegionScoreMatrix(String[] regionCodes, int startYear, int endYear, boolean compact) {
+        this.regionCodes = regionCodes;
+        this.startYear = startYear;
+        this.yearCount = endYear - startYear + 1;
+        this.values = new float[regionCodes.length * yearCount];
+        this.compact = compact;
+        Arrays.fill(values, Float.NaN);
+    }
+
+    private RegionScoreMatrix(RegionScoreMatrix source, boolean compact) {
+        this.regionCodes = source.regionCodes;
+        this.startYear = source.startYear;
+        this.yearCount = source.yearCount;
+        this.values = source.values;
+        this.compact = compact;
+    }
+
+    /**
+     * 빈 행렬
+     */
+    public static RegionScoreMatrix empty(int startYear, int endYear, boolean compact) {
+        return new RegionScoreMatrix(new String[0], startYear, endYear, compact);
+    }
+
+    /**
+     * 같은 값을 공유하고 직렬화 형태만 다른 행렬 (캐시된 행렬을 요청별 형태로 응답할 때 사용)
+     *
+     * @param compact compact JSON 형태로 직렬화할지 여부
+     * @return 값 배열을 공유하는 행렬 (형태가 같으면 자기 자신)
+     */
+    public RegionScoreMatrix withCompact(boolean compact) {
+        return compact == this.compact ? this : new RegionScoreMatrix(this, compact);
+    }
+
+    /**
+     * 값 설정 (범위 밖 연도는 무시)
+     *
+     * @param region 행정구역 행 번호
+     * @param year   연도
+     * @param value  점수
+     */
+    public void set(int region, int year, float value) {
+        int column = year - startYear;
+        if (column >= 0 && column < yearCount) {
+            values[region * yearCount + column] = value;
+        }
+    }
+
+    /**
+     * 값 조회
+     *
+     * @return 점수 (없으면 NaN)
+     */
+    public float get(int region, int year) {
+        int column = year - startYear;
+        if (column < 0 || column >= yearCount) {
+            return Float.NaN;
+        }
+        return values[region * yearCount + column];
+    }
+
+    public int regionCount() {
+        return regionCodes.length;
+    }
+
+    public String regionCode(int region) {
+        return regionCodes[region];
+    }
+
+    public int startYear() {
+        return startYear;
+    }
+
+    public int endYear() {
+        return startYear + yearCount - 1;
+    }
+
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * 기존 Map 형태로 변환 (호환/테스트용, 값마다 객체를 생성하므로 응답 경로에서는 사용하지 않음)
+     *
+     * @return 행정구역 코드 → {연도: 점수}
+     */
+    public Map<String, Map<String, Double>> toMap() {
+        Map<String, Map<String, Double>> result = new LinkedHashMap<>();
+        for (int region = 0; region < regionCodes.length; region++) {
+            Map<String, Double> byYear = new LinkedHashMap<>();
+            for (int year = startYear; year <= endYear(); year++) {
+                float value = get(region, year);
+                if (!Float.isNaN(value)) {
+                    byYear.put(String.valueOf(year), (double) value);
+                }
+            }
+            result.put(regionCodes[region], byYear);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+package com.skax.physicalrisk.dto.response.simulation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * RegionScoreMatrix JSON 직렬화
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 행렬을 순회하며 JsonGenerator에 바로 기록한다 (중간 Map/Double 생성 없음).
+ * 연도 필드명은 미리 만들어 둔 문자열을 재사용한다.
+ *
+ * @author SKAX Team
+ */
+public class RegionScoreMatrixSerializer extends StdSerializer<RegionScoreMatrix> {
+
+    private static final int CACHED_FIRST_YEAR = 1900;
+    private static final int CACHED_LAST_YEAR = 2200;
+    private static final String[] YEAR_KEYS = new String[CACHED_LAST_YEAR - CACHED_FIRST_YEAR + 1];
+
+    static {
+        for (int i = 0; i < YEAR_KEYS.length; i++) {
+            YEAR_KEYS[i] = String.valueOf(CACHED_FIRST_YEAR + i);
+        }
+    }
+
+    public RegionScoreMatrixSerializer() {
+        super(RegionScoreMatrix.class);
+    }
+
+    @Override
+    public void serialize(RegionScoreMatrix matrix, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (matrix.isCompact()) {
+            writeCompact(matrix, gen);
+        } else {
+            writeByRegion(matrix, gen);
+        }
+    }
+
+    /**
+     * {"11010": {"2025": 45.2, ...}, ...} - 값이 없는 연도는 생략
+     */
+    private static void writeByRegion(RegionScoreMatrix matrix, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        for (int region = 0; region < matrix.regionCount(); region++) {
+            gen.writeFieldName(matrix.regionCode(region));
+            gen.writeStartObject();
+            for (int year = matrix.startYear(); year <= matrix.endYear(); year++) {
+                float value = matrix.get(region, year);
+                if (!Float.isNaN(value)) {
+                    gen.writeFieldName(yearKey(year));
+                    gen.writeNumber(value);
+                }
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+
+    /**
+     * {"regions": [...], "years": [...], "values": [[...], ...]} - 값이 없는 칸은 null
+     */
+    private static void writeCompact(RegionScoreMatrix matrix, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+
+        gen.writeArrayFieldStart("regions");
+        for (int region = 0; region < matrix.regionCount(); region++) {
+            gen.writeString(matrix.regionCode(region));
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("years");
+        for (int year = matrix.startYear(); year <= matrix.endYear(); year++) {
+            gen.writeNumber(year);
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("values");
+        for (int region = 0; region < matrix.regionCount(); region++) {
+            gen.writeStartArray();
+            for (int year = matrix.startYear(); year <= matrix.endYear(); year++) {
+                float value = matrix.get(region, year);
+                if (Float.isNaN(value)) {
+                    gen.writeNull();
+                } else {
+                    gen.writeNumber(value);
+                }
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndArray();
+
+        gen.writeEndObject();
+    }
+
+    private static String yearKey(int year) {
+        if (year >= CACHED_FIRST_YEAR && year <= CACHED_LAST_YEAR) {
+            return YEAR_KEYS[year - CACHED_FIRST_YEAR];
+        }
+        return String.valueOf(year);
+    }
+}
@@ -0,0 +1,60 @@
+package com.skax.physicalrisk.dto.response.simulation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사업장 이전 후보지 일괄 비교 응답 DTO
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사업장 이전 후보지 일괄 비교 결과 (통합 리스크 점수, AAL 오름차순)")
+public class RelocationBatchCompareResponse {
+
+    @Schema(description = "비교의 기준이 된 현재 사업장 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    private UUID siteId;
+
+    @Schema(description = "현재 사업장 위치 정보 (모든 후보지에 공통)")
+    private RelocationSimulationResponse.LocationData currentLocation;
+
+    @Schema(description = "순위순 후보지 비교 결과 (실패한 후보지는 마지막)")
+    private List<RankedCandidate> candidates;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "후보지별 비교 결과")
+    public static class RankedCandidate {
+
+        @Schema(description = "순위 (1부터, 실패 시 없음)", example = "1")
+        private Integer rank;
+
+        @Schema(description = "요청 목록에서의 후보지 순서 (0부터)", example = "2")
+        private Integer requestIndex;
+
+        @Schema(description = "후보지 상세 정보 (실패 시 요청한 위치/주소만 포함)")
+        private RelocationSimulationResponse.Candidate candidate;
+
+        @Schema(description = "후보지 위치 정보")
+        private RelocationSimulationResponse.LocationData newLocation;
+
+        @Schema(description = "비교 실패 사유", example = "FastAPI 서버 연결에 실패했습니다")
+        private String error;
+    }
+}
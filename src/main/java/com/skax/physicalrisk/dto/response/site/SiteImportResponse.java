@@ -0,0 +1,77 @@
+package com.skax.physicalrisk.dto.response.site;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사업장 일괄 등록 응답 DTO
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "사업장 일괄 등록 결과")
+public class SiteImportResponse {
+
+	@Schema(description = "처리한 데이터 행 수", example = "120")
+	private int totalRows;
+
+	@Schema(description = "등록된 사업장 수", example = "115")
+	private int importedCount;
+
+	@Schema(description = "좌표 중복으로 건너뛴 행 수", example = "3")
+	private int duplicateCount;
+
+	@Schema(description = "검증 실패 행 수", example = "2")
+	private int invalidCount;
+
+	@Schema(description = "등록된 사업장 분석 요청 여부", example = "true")
+	private boolean analysisRequested;
+
+	@Schema(description = "행별 처리 결과")
+	private List<RowResult> rows;
+
+	/**
+	 * 행 처리 상태
+	 */
+	public enum RowStatus {
+		IMPORTED,
+		DUPLICATE,
+		INVALID
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "행별 처리 결과")
+	public static class RowResult {
+		@Schema(description = "파일 기준 행 번호 (헤더 = 1)", example = "2")
+		private int rowNumber;
+
+		@Schema(description = "처리 상태", example = "IMPORTED")
+		private RowStatus status;
+
+		@Schema(description = "등록된 사업장 ID (IMPORTED인 경우)")
+		private UUID siteId;
+
+		@Schema(description = "사업장 이름", example = "서울 본사")
+		private String siteName;
+
+		@Schema(description = "실패/건너뜀 사유", example = "위도는 -90 ~ 90 사이여야 합니다")
+		private String message;
+	}
+}
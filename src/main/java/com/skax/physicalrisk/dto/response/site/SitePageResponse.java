@@ -0,0 +1,39 @@
+package com.skax.physicalrisk.dto.response.site;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사업장 목록 페이지 응답 DTO (키셋 페이지네이션)
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * @author SKAX Team
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "사업장 목록 페이지")
+public class SitePageResponse {
+
+	@Schema(description = "사업장 목록 (사업장명, ID 순)")
+	private List<SiteResponse.SiteInfo> sites;
+
+	@Schema(description = "다음 페이지 커서 (마지막 페이지면 없음)", example = "7YyQ6rWQIOuNsOydtO2EsCDshLzthLAAM2ZhOTZmNjQtNTc4OS02ODU5LWIzZmMtMmM5NjNmMjNkaGk2")
+	private String nextCursor;
+
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	private boolean hasNext;
+
+	@Schema(description = "전체 사업장 수 (includeTotal=true 일 때만 포함)", example = "1520")
+	private Long totalCount;
+}
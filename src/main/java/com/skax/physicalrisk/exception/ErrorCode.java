@@ -6,8 +6,8 @@ import lombok.RequiredArgsConstructor;
 /**
  * 에러 코드 열거형
  *
- * 최종 수정일: 2025-11-13
- * 파일 버전: v01
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v03 - 분할 업로드 에러 코드 추가
  *
  * @author SKAX Team
  */
@@ -66,6 +66,7 @@ public enum ErrorCode {
 	FASTAPI_CONNECTION_ERROR("FASTAPI_CONNECTION_ERROR", "FastAPI 서버 연결에 실패했습니다"),
 	FASTAPI_TIMEOUT("FASTAPI_TIMEOUT", "FastAPI 요청 시간이 초과되었습니다"),
 	FASTAPI_INVALID_RESPONSE("FASTAPI_INVALID_RESPONSE", "FastAPI 응답이 유효하지 않습니다"),
+	HAZARD_DATA_UNAVAILABLE("HAZARD_DATA_UNAVAILABLE", "격자 위험도 데이터를 조회할 수 없습니다"),
 
 	// GCP 이메일 서비스 관련
 	EMAIL_SEND_FAILED("EMAIL_SEND_FAILED", "이메일 발송에 실패했습니다"),
@@ -80,6 +81,8 @@ public enum ErrorCode {
 	// 리포트 관련 에러
 	REPORT_GENERATION_FAILED("REPORT_GENERATION_FAILED", "리포트 생성에 실패했습니다"),
 	REPORT_EXPIRED("REPORT_EXPIRED", "리포트 다운로드 기간이 만료되었습니다"),
+	REPORT_UPLOAD_NOT_FOUND("REPORT_UPLOAD_NOT_FOUND", "업로드 세션을 찾을 수 없습니다"),
+	REPORT_UPLOAD_CONFLICT("REPORT_UPLOAD_CONFLICT", "업로드 세션이 이미 완료되었거나 완료 처리 중입니다"),
 
 	// 파일 관련 에러
 	FILE_UPLOAD_FAILED("FILE_UPLOAD_FAILED", "파일 업로드에 실패했습니다"),
@@ -15,8 +15,8 @@ import java.util.stream.Collectors;
 /**
  * 전역 예외 처리기
  *
- * 최종 수정일: 2025-11-13
- * 파일 버전: v01
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v03 - 분할 업로드 에러 코드 상태 매핑
  *
  * @author SKAX Team
  */
@@ -215,11 +215,11 @@ public class GlobalExceptionHandler {
 			// 404 Not Found: 리소스를 찾을 수 없음
 			case RESOURCE_NOT_FOUND, USER_NOT_FOUND, SITE_NOT_FOUND, SITE_NAME_NOT_FOUND,
 				 REPORT_NOT_FOUND, ANALYSIS_JOB_NOT_FOUND, ANALYSIS_RESULT_NOT_FOUND,
-				 VERIFICATION_CODE_NOT_FOUND -> HttpStatus.NOT_FOUND;
+				 VERIFICATION_CODE_NOT_FOUND, REPORT_UPLOAD_NOT_FOUND -> HttpStatus.NOT_FOUND;
 
 			// 409 Conflict: 리소스 중복
 			case DUPLICATE_EMAIL, EMAIL_ALREADY_EXISTS, DUPLICATE_RESOURCE, DUPLICATE_SITE_COORDINATES,
-				 ANALYSIS_ALREADY_RUNNING, EMAIL_ALREADY_VERIFIED -> HttpStatus.CONFLICT;
+				 ANALYSIS_ALREADY_RUNNING, EMAIL_ALREADY_VERIFIED, REPORT_UPLOAD_CONFLICT -> HttpStatus.CONFLICT;
 
 			// 422 Unprocessable Entity: 검증 실패
 			case VERIFICATION_CODE_REQUIRED, VERIFICATION_CODE_MISMATCH, VERIFICATION_CODE_EXPIRED,
@@ -232,7 +232,7 @@ public class GlobalExceptionHandler {
 			// 503 Service Unavailable: 외부 서비스 오류
 			case EMAIL_SEND_FAILED, EMAIL_SERVICE_UNAVAILABLE,
 				 FASTAPI_CONNECTION_ERROR, FASTAPI_TIMEOUT, FASTAPI_INVALID_RESPONSE,
-				 SIMULATION_FAILED -> HttpStatus.SERVICE_UNAVAILABLE;
+				 SIMULATION_FAILED, HAZARD_DATA_UNAVAILABLE -> HttpStatus.SERVICE_UNAVAILABLE;
 
 			// 500 Internal Server Error: 서버 내부 오류
 			case INTERNAL_SERVER_ERROR, ANALYSIS_FAILED, REPORT_GENERATION_FAILED,
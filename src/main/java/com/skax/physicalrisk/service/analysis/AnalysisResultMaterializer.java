@@ -0,0 +1,138 @@
+package com.skax.physicalrisk.service.analysis;
+
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.service.site.SiteAccessService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 분석 결과 적재 (FastAPI → analysis_results)
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v03 - 받은 종류만 upsert (실패한 종류는 기존 결과 유지)
+ *
+ * 분석 완료 콜백(/api/analysis/complete) 시 사용자의 모든 사업장에 대해
+ * 물리적 리스크/AAL/취약성 응답을 한 번씩만 받아 저장한다.
+ * 이후 분석 탭 조회는 DB에서 처리되므로 FastAPI 재시작과 무관하게 응답한다.
+ * FastAPI 호출은 concurrency 개 사업장씩 병렬로 수행하고, DB 저장은 호출이 끝난 뒤 사업장 단위 트랜잭션으로 처리한다.
+ * 적재가 끝나면 AnalysisResultsMaterializedEvent를 발행하여 사업장 단위 캐시가 무효화/재계산되도록 한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class AnalysisResultMaterializer {
+
+	private final FastApiClient fastApiClient;
+	private final SiteAccessService siteAccessService;
+	private final AnalysisResultStore analysisResultStore;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int concurrency;
+
+	public AnalysisResultMaterializer(
+		FastApiClient fastApiClient,
+		SiteAccessService siteAccessService,
+		AnalysisResultStore analysisResultStore,
+		ApplicationEventPublisher eventPublisher,
+		@Value("${app.analysis-results.materialize-concurrency:4}") int concurrency
+	) {
+		this.fastApiClient = fastApiClient;
+		this.siteAccessService = siteAccessService;
+		this.analysisResultStore = analysisResultStore;
+		this.eventPublisher = eventPublisher;
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * 사용자의 전체 사업장 분석 결과 적재 (비동기)
+	 *
+	 * @param userId 사용자 ID
+	 */
+	@Async
+	public void materializeForUser(UUID userId) {
+		long start = System.currentTimeMillis();
+		List<UUID> siteIds = siteAccessService.getSites(userId).stream()
+			.map(Site::getId)
+			.toList();
+		if (siteIds.isEmpty()) {
+			return;
+		}
+
+		List<SitePayloads> fetched = Flux.fromIterable(siteIds)
+			.flatMap(this::fetch, concurrency)
+			.collectList()
+			.block();
+
+		int stored = 0;
+		for (SitePayloads site : fetched) {
+			if (site.payloads().isEmpty()) {
+				continue;
+			}
+			try {
+				analysisResultStore.upsert(site.siteId(), site.payloads());
+				stored++;
+			} catch (Exception e) {
+				// 사업장이 그 사이 삭제된 경우 등
+				log.warn("Failed to store analysis result for site {}: {}", site.siteId(), e.getMessage());
+			}
+		}
+		log.info("Analysis results materialized for user {}: {}/{} sites in {} ms",
+			userId, stored, siteIds.size(), System.currentTimeMillis() - start);
+		eventPublisher.publishEvent(new AnalysisResultsMaterializedEvent(userId, siteIds));
+	}
+
+	private Mono<SitePayloads> fetch(UUID siteId) {
+		return Mono.zip(
+				payload(siteId, AnalysisResultStore.PHYSICAL_RISK, fastApiClient.getPhysicalRiskScores(siteId, null, null)),
+				payload(siteId, AnalysisResultStore.AAL, fastApiClient.getFinancialImpact(siteId, null, null)),
+				payload(siteId, AnalysisResultStore.VULNERABILITY, fastApiClient.getVulnerability(siteId)))
+			.map(results -> {
+				Map<String, Object> payloads = new HashMap<>();
+				putIfPresent(payloads, AnalysisResultStore.PHYSICAL_RISK, results.getT1());
+				putIfPresent(payloads, AnalysisResultStore.AAL, results.getT2());
+				putIfPresent(payloads, AnalysisResultStore.VULNERABILITY, results.getT3());
+				return new SitePayloads(siteId, payloads);
+			});
+	}
+
+	/**
+	 * 실패한 항목은 빈 Map으로 대체하여 나머지 결과만 저장되도록 함 (해당 항목은 기존 저장 결과 유지, 없으면 조회 시 FastAPI 폴백)
+	 */
+	private Mono<Map<String, Object>> payload(UUID siteId, String kind, Mono<Map<String, Object>> request) {
+		return request
+			.onErrorResume(e -> {
+				log.warn("Failed to fetch {} for site {}: {}", kind, siteId, e.getMessage());
+				return Mono.empty();
+			})
+			.defaultIfEmpty(Map.of());
+	}
+
+	private static void putIfPresent(Map<String, Object> payloads, String kind, Map<String, Object> payload) {
+		if (!payload.isEmpty()) {
+			payloads.put(kind, payload);
+		}
+	}
+
+	private record SitePayloads(UUID siteId, Map<String, Object> payloads) {
+	}
+
+	/**
+	 * 분석 결과 적재 완료 이벤트
+	 *
+	 * @param userId  사용자 ID
+	 * @param siteIds 분석이 완료된 사업장 ID 목록
+	 */
+	public record AnalysisResultsMaterializedEvent(UUID userId, List<UUID> siteIds) {
+	}
+}
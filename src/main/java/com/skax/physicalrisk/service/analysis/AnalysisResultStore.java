@@ -0,0 +1,171 @@
+package com.skax.physicalrisk.service.analysis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.domain.analysis.entity.AnalysisResult;
+import com.skax.physicalrisk.domain.analysis.repository.AnalysisResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 분석 결과 로컬 저장소 (analysis_results)
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v07 - 건물 정보 보정(buildingAdjustment) 분리 저장 및 조회 시 적용
+ *
+ * 사업장당 1건(site_id unique 인덱스)을 유지하며, analysis_data에 FastAPI 원본 응답을 종류별 키로 보관한다.
+ * 적재 시 받은 종류만 교체하므로 일부 호출이 실패해도 이전에 저장된 다른 종류는 남는다.
+ * - physicalRisk: /api/analysis/physical-risk-scores (전체 위험 유형/기간)
+ * - aal: /api/analysis/financial-impacts (전체 위험 유형/기간)
+ * - vulnerability: /api/analysis/vulnerability
+ * - buildingAdjustment: 건물 정보 변경에 따른 로컬 취약성 보정 (BuildingVulnerabilityRecomputer, FastAPI 원본과 분리)
+ * 위험 유형/기간 필터링과 DTO 변환은 기존처럼 AnalysisService에서 수행한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisResultStore {
+
+	public static final String PHYSICAL_RISK = "physicalRisk";
+	public static final String AAL = "aal";
+	public static final String VULNERABILITY = "vulnerability";
+	public static final String BUILDING_ADJUSTMENT = "buildingAdjustment";
+
+	private final AnalysisResultRepository analysisResultRepository;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 저장된 분석 결과(없으면 FastAPI 응답)에 건물 정보 보정을 적용해 조회
+	 *
+	 * 저장된 원본은 그대로 두고 반환 값에만 보정을 덧씌운다.
+	 * 트랜잭션 밖에서 FastAPI를 호출하도록 이 메서드는 트랜잭션을 열지 않는다.
+	 *
+	 * @param siteId   사업장 ID
+	 * @param kind     결과 종류 (PHYSICAL_RISK, AAL, VULNERABILITY)
+	 * @param fallback 저장된 결과가 없을 때 FastAPI 조회
+	 * @return 보정된 응답 (FastAPI 응답도 없으면 null)
+	 */
+	@SuppressWarnings("unchecked")
+	public Map<String, Object> findAdjustedPayload(UUID siteId, String kind, Supplier<Map<String, Object>> fallback) {
+		Optional<AnalysisResult> stored = analysisResultRepository.findFirstBySite_IdOrderByAnalyzedAtDesc(siteId);
+		Map<String, Object> payload = stored
+			.map(result -> result.getData(kind))
+			.filter(Map.class::isInstance)
+			.map(data -> (Map<String, Object>) data)
+			.orElseGet(fallback);
+		if (payload == null) {
+			return null;
+		}
+		return BuildingVulnerabilityModel.apply(kind, payload,
+			stored.map(result -> result.getData(BUILDING_ADJUSTMENT)).orElse(null));
+	}
+
+	/**
+	 * 사업장 분석 결과 종류별 upsert (저장된 결과가 있으면 받은 종류만 교체, 없으면 새로 저장)
+	 *
+	 * 저장된 행이 없으면 INSERT ... ON CONFLICT (site_id)로 넣으므로, 동시에 처음 적재해도 행이 하나만 생기고
+	 * 먼저 들어간 쪽의 종류 위에 이번 종류가 합쳐진다.
+	 *
+	 * @param siteId   사업장 ID
+	 * @param payloads 결과 종류 → FastAPI 원본 응답
+	 */
+	@Transactional
+	public void upsert(UUID siteId, Map<String, Object> payloads) {
+		if (merge(siteId, payloads)) {
+			return;
+		}
+		analysisResultRepository.upsertAnalysisData(UUID.randomUUID(), siteId, serialize(siteId, payloads),
+			LocalDateTime.now());
+		log.debug("Analysis result stored for site {}: {}", siteId, payloads.keySet());
+	}
+
+	/**
+	 * 사업장 분석 결과 부분 갱신 (지정한 종류만 교체, 나머지 종류는 유지)
+	 *
+	 * 일부 결과만 다시 받은 경우에 사용하며, analyzed_at은 최초 적재 시각을 유지한다.
+	 * 행을 잠그고 읽으므로 동시 적재/건물 정보 보정이 서로의 종류를 덮어쓰지 않는다.
+	 *
+	 * @param siteId   사업장 ID
+	 * @param payloads 교체할 결과 종류 → FastAPI 원본 응답
+	 * @return 갱신 여부 (저장된 결과가 없으면 false)
+	 */
+	@Transactional
+	public boolean merge(UUID siteId, Map<String, Object> payloads) {
+		return analysisResultRepository.findFirstForUpdateBySite_IdOrderByAnalyzedAtDesc(siteId)
+			.map(result -> {
+				Map<String, Object> merged = result.getAnalysisData() != null
+					? new HashMap<>(result.getAnalysisData())
+					: new HashMap<>();
+				merged.putAll(payloads);
+				result.setAnalysisData(merged);
+				log.debug("Analysis result merged for site {}: {}", siteId, payloads.keySet());
+				return true;
+			})
+			.orElse(false);
+	}
+
+	/**
+	 * 건물 정보 보정 갱신 (행 잠금으로 동시 적재/보정과 직렬화)
+	 *
+	 * FastAPI 결과 종류는 건드리지 않는다. 저장된 행이 없으면 보정만 담은 행을 ON CONFLICT upsert로 넣는다.
+	 *
+	 * @param siteId  사업장 ID
+	 * @param updater 저장된 보정 (없으면 null) → 새 보정 (null이면 보정 제거)
+	 */
+	@Transactional
+	public void updateBuildingAdjustment(UUID siteId, UnaryOperator<Object> updater) {
+		Optional<AnalysisResult> stored = analysisResultRepository.findFirstForUpdateBySite_IdOrderByAnalyzedAtDesc(siteId);
+		if (stored.isPresent()) {
+			AnalysisResult result = stored.get();
+			Map<String, Object> data = result.getAnalysisData() != null
+				? new HashMap<>(result.getAnalysisData())
+				: new HashMap<>();
+			Object adjustment = updater.apply(data.get(BUILDING_ADJUSTMENT));
+			if (adjustment == null) {
+				data.remove(BUILDING_ADJUSTMENT);
+			} else {
+				data.put(BUILDING_ADJUSTMENT, adjustment);
+			}
+			result.setAnalysisData(data);
+			log.debug("Building adjustment {} for site {}", adjustment == null ? "removed" : "updated", siteId);
+			return;
+		}
+
+		Object adjustment = updater.apply(null);
+		if (adjustment != null) {
+			analysisResultRepository.upsertAnalysisData(UUID.randomUUID(), siteId,
+				serialize(siteId, Map.of(BUILDING_ADJUSTMENT, adjustment)), LocalDateTime.now());
+			log.debug("Building adjustment stored for site {}", siteId);
+		}
+	}
+
+	/**
+	 * 사업장 분석 결과 삭제 (사업장 삭제 시)
+	 *
+	 * @param siteId 사업장 ID
+	 */
+	@Transactional
+	public void deleteBySite(UUID siteId) {
+		analysisResultRepository.deleteBySiteId(siteId);
+	}
+
+	private String serialize(UUID siteId, Map<String, Object> analysisData) {
+		try {
+			return objectMapper.writeValueAsString(analysisData);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Failed to serialize analysis result for site " + siteId, e);
+		}
+	}
+}
@@ -5,19 +5,17 @@ import com.skax.physicalrisk.client.fastapi.FastApiClient;
 import com.skax.physicalrisk.client.fastapi.dto.SiteInfoDto;
 import com.skax.physicalrisk.client.fastapi.dto.StartAnalysisRequestDto;
 import com.skax.physicalrisk.domain.site.entity.Site;
-import com.skax.physicalrisk.domain.site.repository.SiteRepository;
 import com.skax.physicalrisk.domain.user.entity.User;
-import com.skax.physicalrisk.domain.user.repository.UserRepository;
 import com.skax.physicalrisk.dto.response.analysis.*;
-import com.skax.physicalrisk.exception.ErrorCode;
-import com.skax.physicalrisk.exception.ResourceNotFoundException;
 import com.skax.physicalrisk.security.SecurityUtil;
+import com.skax.physicalrisk.service.site.SiteAccessService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -29,20 +27,24 @@ import java.util.stream.Collectors;
  *
  * FastAPI 서버를 통한 AI 분석 기능 제공
  *
- * 최종 수정일: 2025-11-20
- * 파일 버전: v02
+ * DB 조회는 SiteAccessService의 짧은 트랜잭션에서 끝내고,
+ * FastAPI 호출(block) 동안에는 DB 커넥션을 점유하지 않는다.
+ * 물리적 리스크/AAL/취약성은 analysis_results에 적재된 결과를 우선 사용하고, 없을 때만 FastAPI를 호출한다.
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v06 - 물리적 리스크/AAL 기간 무관 1회 조회 후 로컬 분할
  *
  * @author SKAX Team
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AnalysisService {
 
     private final FastApiClient fastApiClient;
-    private final SiteRepository siteRepository;
-    private final UserRepository userRepository;
+    private final SiteAccessService siteAccessService;
+    private final AnalysisResultStore analysisResultStore;
+    private final AnalysisTermSliceCache analysisTermSliceCache;
     private final ObjectMapper objectMapper;
     private final com.skax.physicalrisk.service.user.EmailService emailService;
 
@@ -66,7 +68,7 @@ public class AnalysisService {
             siteId, userId, latitude, longitude, industryType);
 
         // 사업장 조회 및 권한 확인
-        Site site = getSiteWithAuth(siteId, userId);
+        Site site = siteAccessService.getSiteWithAuth(siteId, userId);
 
         // FastAPI 요청 DTO 생성 - SiteInfoDto.from()을 사용하여 모든 필드와 매핑 로직 적용
         SiteInfoDto siteInfo = SiteInfoDto.from(site);
@@ -95,8 +97,7 @@ public class AnalysisService {
         log.info("Fetching analysis status for userId: {}", userId);
 
         // 사용자 인증 확인
-        userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+        siteAccessService.getUser(userId);
 
         // userId를 FastAPI로 전달
         Map<String, Object> response = fastApiClient.getAnalysisStatus(userId, jobid).block();
@@ -142,7 +143,7 @@ public class AnalysisService {
         log.info("Fetching analysis summary for site: {}, user: {}", siteId, userId);
 
         // 권한 확인 및 Site 정보 조회
-        Site site = getSiteWithAuth(siteId, userId);
+        Site site = siteAccessService.getSiteWithAuth(siteId, userId);
 
         // Site에서 위경도 추출
         Double latitude = site.getLatitude() != null ? site.getLatitude().doubleValue() : null;
@@ -165,11 +166,8 @@ public class AnalysisService {
         UUID userId = SecurityUtil.getCurrentUserId();
         log.info("Fetching dashboard summary for user: {}", userId);
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
         // Find all sites for the user
-        List<Site> userSites = siteRepository.findByUser(user);
+        List<Site> userSites = siteAccessService.getSites(userId);
         List<UUID> siteIds = userSites.stream().map(Site::getId).collect(Collectors.toList());
 
         if (siteIds.isEmpty()) {
@@ -183,8 +181,8 @@ public class AnalysisService {
         Map<String, Object> response = fastApiClient.getDashboardSummary(siteIds).block();
         DashboardSummaryResponse dashboardResponse = convertToDto(response, DashboardSummaryResponse.class);
 
-        // Enrich with coordinates from database
-        enrichWithCoordinates(dashboardResponse, user);
+        // Enrich with coordinates from database (원격 호출 전에 조회한 목록 재사용)
+        enrichWithCoordinates(dashboardResponse, userSites);
 
         return dashboardResponse;
     }
@@ -194,15 +192,13 @@ public class AnalysisService {
      * (SiteService처럼 DB에서 직접 가져오는 방식)
      *
      * @param response 대시보드 응답
-     * @param user 사용자
+     * @param sites 사용자의 사업장 목록
      */
-    private void enrichWithCoordinates(DashboardSummaryResponse response, User user) {
+    private void enrichWithCoordinates(DashboardSummaryResponse response, List<Site> sites) {
         if (response.getSites() == null) {
             return;
         }
 
-        // Get all user's sites from database
-        List<Site> sites = siteRepository.findByUser(user);
         Map<UUID, Site> siteMap = sites.stream()
             .collect(Collectors.toMap(Site::getId, Function.identity()));
 
@@ -232,6 +228,8 @@ public class AnalysisService {
     /**
      * 물리적 리스크 점수 조회 (v0.2: /api/analysis/physical-risk)
      *
+     * 기간 · 위험 유형과 무관하게 사업장당 한 번 받은 응답(AnalysisTermSliceCache)에서 요청 기간만 꺼낸다.
+     *
      * @param siteId    사업장 ID
      * @param hazardType 위험 유형 (옵션)
      * @return 물리적 리스크 점수
@@ -240,16 +238,10 @@ public class AnalysisService {
         UUID userId = SecurityUtil.getCurrentUserId();
         log.info("Fetching physical risk scores for site: {}, hazardType: {}, term: {}", siteId, hazardType, term);
 
-        getSiteWithAuth(siteId, userId);
-        Map<String, Object> response = fastApiClient.getPhysicalRiskScores(siteId, hazardType, term).block();
-
-        log.debug("FastAPI physical-risk-scores response: {}", response);
+        siteAccessService.getSiteWithAuth(siteId, userId);
+        TermSlices<PhysicalRiskScoreResponse.RiskScoreDetail> termSlices = analysisTermSliceCache.physicalRisk(siteId);
 
-        // FastAPI 응답을 DTO로 자동 매핑 (camelCase 지원)
-        PhysicalRiskScoreResponse.FastApiResponse fastApiResponse =
-            objectMapper.convertValue(response, PhysicalRiskScoreResponse.FastApiResponse.class);
-
-        if (fastApiResponse.getScenarios() == null || fastApiResponse.getScenarios().isEmpty()) {
+        if (termSlices == null || termSlices.slices().isEmpty()) {
             log.warn("No scenarios found in FastAPI response for siteId: {}", siteId);
             return PhysicalRiskScoreResponse.builder()
                 .siteId(siteId)
@@ -258,98 +250,17 @@ public class AnalysisService {
                 .build();
         }
 
-        // 시나리오를 SSP1-2.6, SSP2-4.5, SSP3-7.0, SSP5-8.5로 분류
-        Map<String, PhysicalRiskScoreResponse.RiskScoreDetail> scenarios1 = null;
-        Map<String, PhysicalRiskScoreResponse.RiskScoreDetail> scenarios2 = null;
-        Map<String, PhysicalRiskScoreResponse.RiskScoreDetail> scenarios3 = null;
-        Map<String, PhysicalRiskScoreResponse.RiskScoreDetail> scenarios4 = null;
-
-        for (PhysicalRiskScoreResponse.ScenarioData scenario : fastApiResponse.getScenarios()) {
-            String scenarioName = scenario.getScenario();
-            String riskType = scenario.getRiskType();
-
-            log.debug("Processing scenario: {}, riskType: {}, requested hazardType: {}", scenarioName, riskType, hazardType);
-
-            // hazardType 필터링: HazardTypeMapper를 사용한 스마트 매칭
-            // 예: riskType="폭염"과 hazardType="극심한 고온"을 같은 것으로 인식
-            if (hazardType != null && !hazardType.isEmpty()) {
-                if (!com.skax.physicalrisk.util.HazardTypeMapper.matches(hazardType, riskType)) {
-                    log.debug("Skipping scenario due to riskType mismatch: requested='{}', received='{}'", hazardType, riskType);
-                    continue;
-                }
-            }
-
-            // term에 따라 해당 데이터 추출
-            Map<String, PhysicalRiskScoreResponse.RiskScoreDetail> termData = null;
-            switch (term) {
-                case "short":
-                    termData = scenario.getShortTerm();
-                    break;
-                case "mid":
-                    termData = scenario.getMidTerm();
-                    break;
-                case "long":
-                    termData = scenario.getLongTerm();
-                    break;
-                default:
-                    log.warn("Unknown term: {}", term);
-                    continue;
-            }
-
-            if (termData == null || termData.isEmpty()) {
-                log.debug("No data found for term: {} in scenario: {}", term, scenarioName);
-                continue;
-            }
-
-            // Check if termData has any non-zero values
-            boolean hasNonZeroData = termData.values().stream()
-                .anyMatch(detail -> detail != null &&
-                    (detail.getTotal() != null && detail.getTotal() != 0.0 ||
-                     detail.getH() != null && detail.getH() != 0.0 ||
-                     detail.getE() != null && detail.getE() != 0.0 ||
-                     detail.getV() != null && detail.getV() != 0.0));
-
-            if (!hasNonZeroData) {
-                log.debug("All zero data for term: {} in scenario: {}, skipping", term, scenarioName);
-                continue;
-            }
-
-            log.debug("Found valid termData for {}: {} points", term, termData.size());
-
-            // 시나리오별로 분류
-            switch (scenarioName) {
-                case "SSP1-2.6":
-                    scenarios1 = termData;
-                    break;
-                case "SSP2-4.5":
-                    scenarios2 = termData;
-                    break;
-                case "SSP3-7.0":
-                    scenarios3 = termData;
-                    break;
-                case "SSP5-8.5":
-                    scenarios4 = termData;
-                    break;
-                default:
-                    log.warn("Unknown scenario: {}", scenarioName);
-            }
-        }
-
-        // point를 연도로 변환
-        Map<String, PhysicalRiskScoreResponse.RiskScoreDetail> yearScenarios1 = convertPointMapToYearMap(scenarios1, term);
-        Map<String, PhysicalRiskScoreResponse.RiskScoreDetail> yearScenarios2 = convertPointMapToYearMap(scenarios2, term);
-        Map<String, PhysicalRiskScoreResponse.RiskScoreDetail> yearScenarios3 = convertPointMapToYearMap(scenarios3, term);
-        Map<String, PhysicalRiskScoreResponse.RiskScoreDetail> yearScenarios4 = convertPointMapToYearMap(scenarios4, term);
+        List<Map<String, PhysicalRiskScoreResponse.RiskScoreDetail>> byScenario = sliceByScenario(termSlices, hazardType, term);
 
         PhysicalRiskScoreResponse result = PhysicalRiskScoreResponse.builder()
             .siteId(siteId)
             .term(term)
             .hazardType(hazardType)
-            .scenarios1(yearScenarios1)
-            .scenarios2(yearScenarios2)
-            .scenarios3(yearScenarios3)
-            .scenarios4(yearScenarios4)
-            .Strategy(fastApiResponse.getStrategy())
+            .scenarios1(byScenario.get(0))
+            .scenarios2(byScenario.get(1))
+            .scenarios3(byScenario.get(2))
+            .scenarios4(byScenario.get(3))
+            .Strategy(termSlices.note())
             .build();
 
         log.debug("Converted PhysicalRiskScoreResponse: {}", result);
@@ -359,6 +270,8 @@ public class AnalysisService {
     /**
      * 재무 영향 분석 (v0.2: /api/analysis/aal)
      *
+     * 기간 · 위험 유형과 무관하게 사업장당 한 번 받은 응답(AnalysisTermSliceCache)에서 요청 기간만 꺼낸다.
+     *
      * @param siteId 사업장 ID
      * @return 재무 영향
      */
@@ -366,16 +279,10 @@ public class AnalysisService {
         UUID userId = SecurityUtil.getCurrentUserId();
         log.info("Fetching financial impact for site: {}, hazardType: {}, term: {}", siteId, hazardType, term);
 
-        getSiteWithAuth(siteId, userId);
-        Map<String, Object> response = fastApiClient.getFinancialImpact(siteId, hazardType, term).block();
+        siteAccessService.getSiteWithAuth(siteId, userId);
+        TermSlices<Double> termSlices = analysisTermSliceCache.financialImpact(siteId);
 
-        log.debug("FastAPI AAL response: {}", response);
-
-        // FastAPI 응답을 DTO로 자동 매핑 (camelCase 지원)
-        FinancialImpactResponse.FastApiResponse fastApiResponse =
-            objectMapper.convertValue(response, FinancialImpactResponse.FastApiResponse.class);
-
-        if (fastApiResponse.getScenarios() == null || fastApiResponse.getScenarios().isEmpty()) {
+        if (termSlices == null || termSlices.slices().isEmpty()) {
             log.warn("No scenarios found in FastAPI response for siteId: {}", siteId);
             return FinancialImpactResponse.builder()
                 .siteId(siteId)
@@ -384,98 +291,70 @@ public class AnalysisService {
                 .build();
         }
 
-        // 시나리오를 SSP1-2.6, SSP2-4.5, SSP3-7.0, SSP5-8.5로 분류
-        Map<String, Double> scenarios1 = null;
-        Map<String, Double> scenarios2 = null;
-        Map<String, Double> scenarios3 = null;
-        Map<String, Double> scenarios4 = null;
+        List<Map<String, Double>> byScenario = sliceByScenario(termSlices, hazardType, term);
+
+        FinancialImpactResponse result = FinancialImpactResponse.builder()
+            .siteId(siteId)
+            .term(term)
+            .hazardType(hazardType)
+            .scenarios1(byScenario.get(0))
+            .scenarios2(byScenario.get(1))
+            .scenarios3(byScenario.get(2))
+            .scenarios4(byScenario.get(3))
+            .reason(termSlices.note())
+            .build();
 
-        for (FinancialImpactResponse.ScenarioData scenario : fastApiResponse.getScenarios()) {
-            String scenarioName = scenario.getScenario();
-            String riskType = scenario.getRiskType();
+        log.debug("Converted FinancialImpactResponse: {}", result);
+        return result;
+    }
 
-            log.debug("Processing financial scenario: {}, riskType: {}, requested hazardType: {}", scenarioName, riskType, hazardType);
+    /**
+     * 위험 유형/기간으로 거른 연도별 데이터를 SSP1-2.6, SSP2-4.5, SSP3-7.0, SSP5-8.5 순으로 분류
+     *
+     * 같은 시나리오가 여러 번 나오면(위험 유형 미지정) 기존과 같이 마지막 항목을 사용한다.
+     *
+     * @return 길이 4 (해당 시나리오 데이터가 없으면 null)
+     */
+    private <T> List<Map<String, T>> sliceByScenario(TermSlices<T> termSlices, String hazardType, String term) {
+        List<Map<String, T>> byScenario = new ArrayList<>(Collections.nCopies(4, null));
+        if (!TermSlices.isKnownTerm(term)) {
+            log.warn("Unknown term: {}", term);
+            return byScenario;
+        }
 
+        for (TermSlices.Slice<T> slice : termSlices.slices()) {
             // hazardType 필터링: HazardTypeMapper를 사용한 스마트 매칭
             // 예: riskType="폭염"과 hazardType="극심한 고온"을 같은 것으로 인식
-            if (hazardType != null && !hazardType.isEmpty()) {
-                if (!com.skax.physicalrisk.util.HazardTypeMapper.matches(hazardType, riskType)) {
-                    log.debug("Skipping financial scenario due to riskType mismatch: requested='{}', received='{}'", hazardType, riskType);
-                    continue;
-                }
-            }
-
-            // term에 따라 해당 데이터 추출
-            Map<String, Double> termData = null;
-            switch (term) {
-                case "short":
-                    termData = scenario.getShortTerm();
-                    break;
-                case "mid":
-                    termData = scenario.getMidTerm();
-                    break;
-                case "long":
-                    termData = scenario.getLongTerm();
-                    break;
-                default:
-                    log.warn("Unknown term: {}", term);
-                    continue;
-            }
-
-            if (termData == null || termData.isEmpty()) {
-                log.debug("No financial data found for term: {} in scenario: {}", term, scenarioName);
+            if (hazardType != null && !hazardType.isEmpty()
+                && !com.skax.physicalrisk.util.HazardTypeMapper.matches(hazardType, slice.riskType())) {
                 continue;
             }
 
-            // Check if termData has any non-zero values
-            boolean hasNonZeroData = termData.values().stream()
-                .anyMatch(value -> value != null && value != 0.0);
-
-            if (!hasNonZeroData) {
-                log.debug("All zero AAL data for term: {} in scenario: {}, skipping", term, scenarioName);
+            // 비었거나 모두 0인 기간은 적재 시 제외됨
+            Map<String, T> yearData = slice.yearData(term);
+            if (yearData == null) {
+                log.debug("No data found for term: {} in scenario: {}", term, slice.scenario());
                 continue;
             }
 
-            log.debug("Found valid financial termData for {}: {} points", term, termData.size());
-
-            // 시나리오별로 분류
-            switch (scenarioName) {
+            switch (slice.scenario()) {
                 case "SSP1-2.6":
-                    scenarios1 = termData;
+                    byScenario.set(0, yearData);
                     break;
                 case "SSP2-4.5":
-                    scenarios2 = termData;
+                    byScenario.set(1, yearData);
                     break;
                 case "SSP3-7.0":
-                    scenarios3 = termData;
+                    byScenario.set(2, yearData);
                     break;
                 case "SSP5-8.5":
-                    scenarios4 = termData;
+                    byScenario.set(3, yearData);
                     break;
                 default:
-                    log.warn("Unknown scenario: {}", scenarioName);
+                    log.warn("Unknown scenario: {}", slice.scenario());
             }
         }
-
-        // point를 연도로 변환
-        Map<String, Double> yearScenarios1 = convertPointMapToYearMap(scenarios1, term);
-        Map<String, Double> yearScenarios2 = convertPointMapToYearMap(scenarios2, term);
-        Map<String, Double> yearScenarios3 = convertPointMapToYearMap(scenarios3, term);
-        Map<String, Double> yearScenarios4 = convertPointMapToYearMap(scenarios4, term);
-
-        FinancialImpactResponse result = FinancialImpactResponse.builder()
-            .siteId(siteId)
-            .term(term)
-            .hazardType(hazardType)
-            .scenarios1(yearScenarios1)
-            .scenarios2(yearScenarios2)
-            .scenarios3(yearScenarios3)
-            .scenarios4(yearScenarios4)
-            .reason(fastApiResponse.getReason())
-            .build();
-
-        log.debug("Converted FinancialImpactResponse: {}", result);
-        return result;
+        return byScenario;
     }
 
     /**
@@ -489,8 +368,9 @@ public class AnalysisService {
         UUID userId = SecurityUtil.getCurrentUserId();
         log.info("Fetching vulnerability for site: {}", siteId);
 
-        Site site = getSiteWithAuth(siteId, userId);
-        Map<String, Object> response = fastApiClient.getVulnerability(siteId).block();
+        Site site = siteAccessService.getSiteWithAuth(siteId, userId);
+        Map<String, Object> response = analysisResultStore.findAdjustedPayload(siteId, AnalysisResultStore.VULNERABILITY,
+            () -> fastApiClient.getVulnerability(siteId).block());
 
         log.debug("FastAPI vulnerability response: {}", response);
 
@@ -543,7 +423,7 @@ public class AnalysisService {
                 UUID siteId = siteWrapper.getSiteId();
                 try {
                     // 사업장 조회 및 권한 확인
-                    Site site = getSiteWithAuth(siteId, userId);
+                    Site site = siteAccessService.getSiteWithAuth(siteId, userId);
                     return SiteInfoDto.from(site);
                 } catch (Exception e) {
                     log.error("Error loading site {}: {}", siteId, e.getMessage());
@@ -553,6 +433,27 @@ public class AnalysisService {
             .filter(siteInfo -> siteInfo != null)  // 실패한 사업장 제외
             .collect(Collectors.toList());
 
+        sendStartAnalysis(userId, siteInfoList);
+    }
+
+    /**
+     * 이미 조회/생성된 사업장 목록으로 분석 시작 (사업장 일괄 등록 후 1회 호출)
+     *
+     * @param userId 사용자 ID
+     * @param sites  분석 대상 사업장 (id, 이름, 주소, 좌표, 유형 필요)
+     */
+    public void startAnalysisForSites(UUID userId, List<Site> sites) {
+        log.info("Starting analysis for {} imported sites by user: {}", sites.size(), userId);
+
+        sendStartAnalysis(userId, sites.stream()
+            .map(SiteInfoDto::from)
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * 다중 사업장 분석 시작 요청 전송 (비동기)
+     */
+    private void sendStartAnalysis(UUID userId, List<SiteInfoDto> siteInfoList) {
         if (siteInfoList.isEmpty()) {
             log.warn("No valid sites to analyze");
             return;
@@ -575,33 +476,16 @@ public class AnalysisService {
         log.info("Analysis start request sent for all sites");
     }
 
-    /**
-     * 사업장 조회 및 권한 확인
-     *
-     * @param siteId 사업장 ID
-     * @param userId 사용자 ID
-     * @return 사업장 엔티티
-     */
-    private Site getSiteWithAuth(UUID siteId, UUID userId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
-        return siteRepository.findByIdAndUser(siteId, user)
-            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SITE_NOT_FOUND));
-    }
-
     /**
      * 분석 완료 알림 (FastAPI 콜백용)
      *
      * @param userId 사용자 ID
      */
-    @Transactional
     public void notifyAnalysisCompletion(UUID userId) {
         log.info("Notifying analysis completion for user: {}", userId);
 
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+        // 사용자 조회 (이메일 발송 중에는 커넥션을 점유하지 않음)
+        User user = siteAccessService.getUser(userId);
 
         // 완료 이메일 발송
         emailService.sendAnalysisCompletionEmail(user.getEmail(), userId);
@@ -624,65 +508,4 @@ public class AnalysisService {
             throw new RuntimeException("응답 변환 실패: " + e.getMessage(), e);
         }
     }
-
-    /**
-     * point를 연도로 매핑
-     * - 단기: point1 -> "2026"
-     * - 중기: point1~5 -> "2026", "2027", "2028", "2029", "2030"
-     * - 장기: point1~4 -> "2020s", "2030s", "2040s", "2050s"
-     *
-     * @param pointKey point 키 (예: "point1", "point2")
-     * @param term 기간 (short, mid, long)
-     * @return 연도 문자열
-     */
-    private String mapPointToYear(String pointKey, String term) {
-        if (pointKey == null || term == null) {
-            return pointKey;
-        }
-
-        // point 숫자 추출
-        int pointNum;
-        try {
-            pointNum = Integer.parseInt(pointKey.replace("point", ""));
-        } catch (NumberFormatException e) {
-            log.warn("Invalid point key: {}", pointKey);
-            return pointKey;
-        }
-
-        switch (term) {
-            case "short":
-                // 단기: point1 -> "2026"
-                return "2026";
-            case "mid":
-                // 중기: point1~5 -> 2026~2030
-                return String.valueOf(2025 + pointNum);
-            case "long":
-                // 장기: point1~4 -> 2020s, 2030s, 2040s, 2050s
-                return String.valueOf(2020 + (pointNum - 1) * 10) + "s";
-            default:
-                log.warn("Unknown term: {}", term);
-                return pointKey;
-        }
-    }
-
-    /**
-     * point 키를 연도 키로 변환한 새로운 Map 생성
-     *
-     * @param pointMap point 기반 Map
-     * @param term 기간 (short, mid, long)
-     * @param <T> Map의 값 타입
-     * @return 연도 기반 Map
-     */
-    private <T> Map<String, T> convertPointMapToYearMap(Map<String, T> pointMap, String term) {
-        if (pointMap == null) {
-            return null;
-        }
-
-        return pointMap.entrySet().stream()
-            .collect(Collectors.toMap(
-                entry -> mapPointToYear(entry.getKey(), term),
-                Map.Entry::getValue,
-                (v1, v2) -> v1  // 중복 시 첫 번째 값 사용
-            ));
-    }
-}
\ No newline at end of file
+}
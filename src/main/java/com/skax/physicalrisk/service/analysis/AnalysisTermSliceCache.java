@@ -0,0 +1,153 @@
+package com.skax.physicalrisk.service.analysis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.dto.response.analysis.FinancialImpactResponse;
+import com.skax.physicalrisk.dto.response.analysis.PhysicalRiskScoreResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사업장별 물리적 리스크/AAL 기간 분할 캐시
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 건물 정보 보정 적용 및 사업장 단위 무효화(evict) 추가
+ *
+ * 분석 탭에서 단기/중기/장기를 전환할 때마다 FastAPI를 기간별로 호출하지 않도록,
+ * 사업장당 기간 · 위험 유형 필터 없는 응답을 한 번만 받아(적재된 analysis_results 우선, 건물 정보 보정 적용)
+ * TermSlices로 변환해 둔다.
+ * point → 연도 변환도 적재 시점에 끝내므로 조회는 Map 조회만 남는다.
+ * 분석 결과가 다시 적재되거나(AnalysisResultsMaterializedEvent) 건물 정보 보정이 바뀌면
+ * 해당 사업장 항목을 무효화한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class AnalysisTermSliceCache {
+
+	private final FastApiClient fastApiClient;
+	private final AnalysisResultStore analysisResultStore;
+	private final ObjectMapper objectMapper;
+	private final Cache<UUID, TermSlices<PhysicalRiskScoreResponse.RiskScoreDetail>> physicalRisks;
+	private final Cache<UUID, TermSlices<Double>> financialImpacts;
+
+	public AnalysisTermSliceCache(
+		FastApiClient fastApiClient,
+		AnalysisResultStore analysisResultStore,
+		ObjectMapper objectMapper,
+		@Value("${app.analysis-results.term-slice-cache.maximum-size:5000}") long maximumSize,
+		@Value("${app.analysis-results.term-slice-cache.expire-after-write-minutes:60}") long expireAfterWriteMinutes
+	) {
+		this.fastApiClient = fastApiClient;
+		this.analysisResultStore = analysisResultStore;
+		this.objectMapper = objectMapper;
+		this.physicalRisks = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+			.build();
+		this.financialImpacts = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+			.build();
+	}
+
+	/**
+	 * 사업장 물리적 리스크 기간 분할 데이터
+	 *
+	 * @param siteId 사업장 ID (권한 확인은 호출자 책임)
+	 * @return 기간 분할 데이터 (FastAPI 응답이 없으면 null, 캐싱하지 않음)
+	 */
+	TermSlices<PhysicalRiskScoreResponse.RiskScoreDetail> physicalRisk(UUID siteId) {
+		return physicalRisks.get(siteId, this::loadPhysicalRisk);
+	}
+
+	/**
+	 * 사업장 AAL 기간 분할 데이터
+	 *
+	 * @param siteId 사업장 ID (권한 확인은 호출자 책임)
+	 * @return 기간 분할 데이터 (FastAPI 응답이 없으면 null, 캐싱하지 않음)
+	 */
+	TermSlices<Double> financialImpact(UUID siteId) {
+		return financialImpacts.get(siteId, this::loadFinancialImpact);
+	}
+
+	/**
+	 * 분석 결과 적재 완료 시 해당 사업장 무효화
+	 */
+	@EventListener
+	public void onAnalysisResultsMaterialized(AnalysisResultMaterializer.AnalysisResultsMaterializedEvent event) {
+		physicalRisks.invalidateAll(event.siteIds());
+		financialImpacts.invalidateAll(event.siteIds());
+	}
+
+	/**
+	 * 건물 정보 보정이 바뀐 사업장 항목 제거
+	 *
+	 * @param siteId 사업장 ID
+	 */
+	void evict(UUID siteId) {
+		physicalRisks.invalidate(siteId);
+		financialImpacts.invalidate(siteId);
+	}
+
+	private TermSlices<PhysicalRiskScoreResponse.RiskScoreDetail> loadPhysicalRisk(UUID siteId) {
+		Map<String, Object> response = analysisResultStore.findAdjustedPayload(siteId, AnalysisResultStore.PHYSICAL_RISK,
+			() -> fastApiClient.getPhysicalRiskScores(siteId, null, null).block());
+		if (response == null) {
+			return null;
+		}
+
+		PhysicalRiskScoreResponse.FastApiResponse fastApiResponse =
+			objectMapper.convertValue(response, PhysicalRiskScoreResponse.FastApiResponse.class);
+		List<TermSlices.Slice<PhysicalRiskScoreResponse.RiskScoreDetail>> slices = new ArrayList<>();
+		if (fastApiResponse.getScenarios() != null) {
+			for (PhysicalRiskScoreResponse.ScenarioData scenario : fastApiResponse.getScenarios()) {
+				slices.add(TermSlices.slice(scenario.getScenario(), scenario.getRiskType(),
+					scenario.getShortTerm(), scenario.getMidTerm(), scenario.getLongTerm(),
+					AnalysisTermSliceCache::hasNonZeroScore));
+			}
+		}
+		log.debug("Physical risk term slices built for site {}: {} scenarios", siteId, slices.size());
+		return new TermSlices<>(slices, fastApiResponse.getStrategy());
+	}
+
+	private TermSlices<Double> loadFinancialImpact(UUID siteId) {
+		Map<String, Object> response = analysisResultStore.findAdjustedPayload(siteId, AnalysisResultStore.AAL,
+			() -> fastApiClient.getFinancialImpact(siteId, null, null).block());
+		if (response == null) {
+			return null;
+		}
+
+		FinancialImpactResponse.FastApiResponse fastApiResponse =
+			objectMapper.convertValue(response, FinancialImpactResponse.FastApiResponse.class);
+		List<TermSlices.Slice<Double>> slices = new ArrayList<>();
+		if (fastApiResponse.getScenarios() != null) {
+			for (FinancialImpactResponse.ScenarioData scenario : fastApiResponse.getScenarios()) {
+				slices.add(TermSlices.slice(scenario.getScenario(), scenario.getRiskType(),
+					scenario.getShortTerm(), scenario.getMidTerm(), scenario.getLongTerm(),
+					value -> value != null && value != 0.0));
+			}
+		}
+		log.debug("AAL term slices built for site {}: {} scenarios", siteId, slices.size());
+		return new TermSlices<>(slices, fastApiResponse.getReason());
+	}
+
+	private static boolean hasNonZeroScore(PhysicalRiskScoreResponse.RiskScoreDetail detail) {
+		return detail != null &&
+			(detail.getTotal() != null && detail.getTotal() != 0.0 ||
+			 detail.getH() != null && detail.getH() != 0.0 ||
+			 detail.getE() != null && detail.getE() != 0.0 ||
+			 detail.getV() != null && detail.getV() != 0.0);
+	}
+}
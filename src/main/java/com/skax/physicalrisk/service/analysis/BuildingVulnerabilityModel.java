@@ -0,0 +1,239 @@
+package com.skax.physicalrisk.service.analysis;
+
+import com.skax.physicalrisk.service.analysis.BuildingVulnerabilityRecomputer.BuildingAttribute;
+import com.skax.physicalrisk.service.analysis.BuildingVulnerabilityRecomputer.BuildingProfile;
+import com.skax.physicalrisk.util.HazardTypeMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 건물 정보 기반 취약성 계수(F_vuln) 근사 및 보정 적용
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * final_aal = base_aal × F_vuln × (1 - insurance_rate), 리스크 점수 = H × E × V에서 건물 정보가 바뀌면
+ * F_vuln(V)만 달라지므로, FastAPI 값에 F_vuln(변경 후) / F_vuln(기준)을 곱해 재분석 없이 보정한다.
+ * 위험 유형별 비율은 기준 대비 바뀐 속성 중 그 위험 유형에 영향을 주는 속성(BuildingAttribute.hazards)의
+ * 계수 비율만 곱하므로, 영향이 없는 위험 유형은 1.0이고 값도 그대로 남는다. 값이 없는 속성은 1.0으로 본다.
+ * - 연식: 1 + 0.01 × 연식 (50년 이상 1.5)
+ * - 구조: 철근콘크리트 1.0, 철골 1.1, 조적 1.3, 목조 1.4
+ * - 내진설계: 적용 0.9
+ * - 연면적: 1 + 0.1 × log10(연면적 / 1,000m²) (0.9~1.2)
+ *
+ * 보정은 analysis_results의 buildingAdjustment(기준/변경 후 건물 정보)로만 저장되고,
+ * FastAPI 원본 응답은 고쳐 쓰지 않은 채 조회 시 apply로 덧씌운다.
+ *
+ * @author SKAX Team
+ */
+final class BuildingVulnerabilityModel {
+
+	static final String BASELINE = "baseline";
+	static final String CURRENT = "current";
+
+	private static final int MAX_AGE = 50;
+	private static final List<String> TERM_KEYS = List.of("shortTerm", "midTerm", "longTerm");
+
+	private BuildingVulnerabilityModel() {
+	}
+
+	/**
+	 * 건물 정보 보정 (buildingAdjustment 저장 형식)
+	 *
+	 * @param baseline FastAPI 값이 전제한 건물 정보 (최초 변경 전 값)
+	 * @param current  변경 후 건물 정보
+	 */
+	static Map<String, Object> adjustment(BuildingProfile baseline, BuildingProfile current) {
+		return Map.of(BASELINE, toMap(baseline), CURRENT, toMap(current));
+	}
+
+	/**
+	 * 저장된 보정의 기준 건물 정보 (보정이 없거나 형식이 맞지 않으면 null)
+	 */
+	static BuildingProfile baseline(Object adjustment) {
+		return adjustment instanceof Map<?, ?> map ? fromMap(map.get(BASELINE)) : null;
+	}
+
+	/**
+	 * FastAPI 응답에 저장된 건물 정보 보정 적용 (보정이 없으면 원본 그대로)
+	 *
+	 * @param kind       결과 종류 (AnalysisResultStore.PHYSICAL_RISK, AAL, VULNERABILITY)
+	 * @param payload    FastAPI 원본 응답
+	 * @param adjustment 저장된 buildingAdjustment
+	 * @return 보정된 응답 (원본은 변경하지 않음)
+	 */
+	static Map<String, Object> apply(String kind, Map<String, Object> payload, Object adjustment) {
+		if (!(adjustment instanceof Map<?, ?> map)) {
+			return payload;
+		}
+		BuildingProfile baseline = fromMap(map.get(BASELINE));
+		BuildingProfile current = fromMap(map.get(CURRENT));
+		if (baseline == null || current == null) {
+			return payload;
+		}
+		return switch (kind) {
+			case AnalysisResultStore.AAL -> rescaleScenarios(payload, baseline, current, false);
+			case AnalysisResultStore.PHYSICAL_RISK -> rescaleScenarios(payload, baseline, current, true);
+			case AnalysisResultStore.VULNERABILITY -> applyBuildingInfo(payload, current);
+			default -> payload;
+		};
+	}
+
+	/**
+	 * 위험 유형의 취약성 계수 비율 F_vuln(변경 후) / F_vuln(기준)
+	 *
+	 * @param baseline 기준 건물 정보
+	 * @param current  변경 후 건물 정보
+	 * @param riskType FastAPI riskType
+	 * @return 비율 (바뀐 속성이 영향을 주지 않는 위험 유형은 1.0)
+	 */
+	static double ratio(BuildingProfile baseline, BuildingProfile current, String riskType) {
+		Set<BuildingAttribute> changed = current.changedFrom(baseline);
+		double ratio = 1.0;
+		for (BuildingAttribute attribute : changed) {
+			if (affects(attribute, riskType)) {
+				ratio *= factor(current, attribute) / factor(baseline, attribute);
+			}
+		}
+		return ratio;
+	}
+
+	static boolean affects(BuildingAttribute attribute, String riskType) {
+		for (String hazard : attribute.hazards()) {
+			if (HazardTypeMapper.matches(hazard, riskType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 시나리오별 기간 값에 위험 유형 비율 적용
+	 *
+	 * AAL은 point 값 자체를, 물리적 리스크는 point별 점수의 v와 total(H × E × V)을 곱한다.
+	 * 비율이 1.0인 시나리오와 scenarios 외 필드는 그대로 유지한다.
+	 */
+	private static Map<String, Object> rescaleScenarios(Map<String, Object> payload, BuildingProfile baseline,
+														BuildingProfile current, boolean riskScores) {
+		if (!(payload.get("scenarios") instanceof List<?> stored)) {
+			return payload;
+		}
+		List<Object> scenarios = new ArrayList<>(stored.size());
+		for (Object scenario : stored) {
+			scenarios.add(rescaleScenario(scenario, baseline, current, riskScores));
+		}
+		Map<String, Object> rescaled = new HashMap<>(payload);
+		rescaled.put("scenarios", scenarios);
+		return rescaled;
+	}
+
+	private static Object rescaleScenario(Object scenario, BuildingProfile baseline, BuildingProfile current,
+										  boolean riskScores) {
+		if (!(scenario instanceof Map<?, ?> entry) || !(entry.get("riskType") instanceof String riskType)) {
+			return scenario;
+		}
+		double ratio = ratio(baseline, current, riskType);
+		if (ratio == 1.0) {
+			return scenario;
+		}
+
+		Map<Object, Object> rescaled = new LinkedHashMap<>(entry);
+		for (String termKey : TERM_KEYS) {
+			if (entry.get(termKey) instanceof Map<?, ?> points) {
+				Map<Object, Object> scaledPoints = new LinkedHashMap<>(points);
+				scaledPoints.replaceAll((point, value) -> riskScores ? scaleScore(value, ratio) : scale(value, ratio));
+				rescaled.put(termKey, scaledPoints);
+			}
+		}
+		return rescaled;
+	}
+
+	private static Object scaleScore(Object score, double ratio) {
+		if (!(score instanceof Map<?, ?> detail)) {
+			return score;
+		}
+		Map<Object, Object> scaled = new LinkedHashMap<>(detail);
+		scaled.computeIfPresent("v", (key, value) -> scale(value, ratio));
+		scaled.computeIfPresent("total", (key, value) -> scale(value, ratio));
+		return scaled;
+	}
+
+	private static Object scale(Object value, double ratio) {
+		return value instanceof Number number ? number.doubleValue() * ratio : value;
+	}
+
+	/**
+	 * 취약성 응답의 건물 정보를 변경 후 값으로 교체 (data 객체가 있으면 그 안에서 교체)
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> applyBuildingInfo(Map<String, Object> payload, BuildingProfile current) {
+		Map<String, Object> updated = new HashMap<>(payload);
+		Map<String, Object> data = payload.get("data") instanceof Map<?, ?> storedData
+			? new HashMap<>((Map<String, Object>) storedData)
+			: updated;
+		if (current.grossFloorArea() != null) {
+			data.put("area", current.grossFloorArea().doubleValue());
+		}
+		if (current.seismicDesign() != null) {
+			data.put("rserthqkDsgnApplyYn", current.seismicDesign() ? "Y" : "N");
+		}
+		if (data != updated) {
+			updated.put("data", data);
+		}
+		return updated;
+	}
+
+	private static double factor(BuildingProfile building, BuildingAttribute attribute) {
+		return switch (attribute) {
+			case BUILDING_AGE -> building.buildingAge() == null
+				? 1.0 : 1.0 + 0.01 * Math.min(Math.max(building.buildingAge(), 0), MAX_AGE);
+			case BUILDING_TYPE -> structureFactor(building.buildingType());
+			case SEISMIC_DESIGN -> Boolean.TRUE.equals(building.seismicDesign()) ? 0.9 : 1.0;
+			case GROSS_FLOOR_AREA -> building.grossFloorArea() == null || building.grossFloorArea().signum() <= 0
+				? 1.0
+				: Math.min(1.2, Math.max(0.9, 1.0 + 0.1 * Math.log10(building.grossFloorArea().doubleValue() / 1_000)));
+		};
+	}
+
+	private static double structureFactor(String buildingType) {
+		if (buildingType == null) {
+			return 1.0;
+		}
+		if (buildingType.contains("목조")) {
+			return 1.4;
+		}
+		if (buildingType.contains("조적") || buildingType.contains("벽돌")) {
+			return 1.3;
+		}
+		if (buildingType.contains("철골") && !buildingType.contains("철근")) {
+			return 1.1;
+		}
+		return 1.0;
+	}
+
+	private static Map<String, Object> toMap(BuildingProfile building) {
+		Map<String, Object> map = new HashMap<>();
+		map.put("buildingAge", building.buildingAge());
+		map.put("buildingType", building.buildingType());
+		map.put("seismicDesign", building.seismicDesign());
+		map.put("grossFloorArea", building.grossFloorArea());
+		return map;
+	}
+
+	private static BuildingProfile fromMap(Object value) {
+		if (!(value instanceof Map<?, ?> map)) {
+			return null;
+		}
+		return new BuildingProfile(
+			map.get("buildingAge") instanceof Number age ? age.intValue() : null,
+			map.get("buildingType") instanceof String type ? type : null,
+			map.get("seismicDesign") instanceof Boolean seismic ? seismic : null,
+			map.get("grossFloorArea") instanceof Number area ? new BigDecimal(area.toString()) : null);
+	}
+}
@@ -0,0 +1,158 @@
+package com.skax.physicalrisk.service.analysis;
+
+import com.skax.physicalrisk.domain.site.entity.Site;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * 건물 정보 변경 시 취약성(V)/AAL 로컬 보정
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v04 - FastAPI 재분석 대신 영향 위험 유형만 로컬 보정 (FastAPI 원본과 분리 저장)
+ *
+ * 리스크 = 위해성(H) × 노출(E) × 취약성(V) 중 건물 정보(연식/구조/내진설계/연면적)는 V에만 영향을 준다.
+ * FastAPI 분석 요청(SiteInfoDto)에는 건물 정보가 없어 재분석해도 변경이 반영되지 않으므로,
+ * 저장된 FastAPI 값은 그대로 두고 보정만 analysis_results의 buildingAdjustment 키에 따로 저장한다.
+ * - 보정은 기준 건물 정보(첫 변경 직전 값)와 변경 후 건물 정보만 담고,
+ *   조회 시 BuildingVulnerabilityModel이 바뀐 속성이 영향을 주는 위험 유형의 V/AAL에만 계수 비율을 곱한다
+ * - 매번 FastAPI 원본과 기준 건물 정보에서 다시 계산하므로 여러 번 수정해도 비율이 누적되지 않고,
+ *   기준 값으로 되돌리면 보정을 지운다
+ * - physicalRisk의 H/E, 다른 사업장, 추천 결과는 건드리지 않으며 FastAPI 분석 요청/완료 메일도 보내지 않는다
+ * 처리는 사업장 수정 트랜잭션 커밋 후 taskExecutor에서 수행하며, 저장된 행을 잠근 채 보정을 고쳐 쓰고
+ * 해당 사업장의 기간 분할 캐시만 비운다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class BuildingVulnerabilityRecomputer {
+
+	private final AnalysisResultStore analysisResultStore;
+	private final AnalysisTermSliceCache analysisTermSliceCache;
+	private final Executor taskExecutor;
+
+	public BuildingVulnerabilityRecomputer(
+		AnalysisResultStore analysisResultStore,
+		AnalysisTermSliceCache analysisTermSliceCache,
+		@Qualifier("taskExecutor") Executor taskExecutor
+	) {
+		this.analysisResultStore = analysisResultStore;
+		this.analysisTermSliceCache = analysisTermSliceCache;
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * 건물 속성별 영향 위험 유형 (FastAPI riskType 기준)
+	 *
+	 * 가뭄/물부족은 용수 의존도(업종)에 따라 결정되므로 건물 속성과 무관한 것으로 본다.
+	 * 내진설계는 9개 위험 유형 중 횡하중을 받는 태풍에만 반영된다.
+	 */
+	public enum BuildingAttribute {
+		BUILDING_AGE("태풍", "내륙침수", "해안침수", "도시침수", "폭염", "한파", "산불"),
+		BUILDING_TYPE("태풍", "내륙침수", "해안침수", "도시침수", "폭염", "한파", "산불"),
+		SEISMIC_DESIGN("태풍"),
+		GROSS_FLOOR_AREA("태풍", "내륙침수", "해안침수", "도시침수", "폭염");
+
+		private final Set<String> hazards;
+
+		BuildingAttribute(String... hazards) {
+			this.hazards = Set.of(hazards);
+		}
+
+		public Set<String> hazards() {
+			return hazards;
+		}
+	}
+
+	/**
+	 * 취약성에 영향을 주는 사업장 건물 정보
+	 *
+	 * @param buildingAge    건물 연식 (년)
+	 * @param buildingType   건물 구조
+	 * @param seismicDesign  내진 설계 여부
+	 * @param grossFloorArea 연면적 (m²)
+	 */
+	public record BuildingProfile(Integer buildingAge, String buildingType, Boolean seismicDesign, BigDecimal grossFloorArea) {
+
+		public static BuildingProfile of(Site site) {
+			return new BuildingProfile(site.getBuildingAge(), site.getBuildingType(), site.getSeismicDesign(),
+				site.getGrossFloorArea());
+		}
+
+		/**
+		 * 이전 건물 정보와 값이 다른 속성
+		 */
+		Set<BuildingAttribute> changedFrom(BuildingProfile previous) {
+			Set<BuildingAttribute> changed = EnumSet.noneOf(BuildingAttribute.class);
+			if (!Objects.equals(buildingAge, previous.buildingAge)) {
+				changed.add(BuildingAttribute.BUILDING_AGE);
+			}
+			if (!Objects.equals(buildingType, previous.buildingType)) {
+				changed.add(BuildingAttribute.BUILDING_TYPE);
+			}
+			if (!Objects.equals(seismicDesign, previous.seismicDesign)) {
+				changed.add(BuildingAttribute.SEISMIC_DESIGN);
+			}
+			if (grossFloorArea == null ? previous.grossFloorArea != null
+				: previous.grossFloorArea == null || grossFloorArea.compareTo(previous.grossFloorArea) != 0) {
+				changed.add(BuildingAttribute.GROSS_FLOOR_AREA);
+			}
+			return changed;
+		}
+	}
+
+	/**
+	 * 건물 정보 변경 후 보정 예약 (트랜잭션 커밋 후 비동기 실행)
+	 *
+	 * @param siteId   사업장 ID
+	 * @param previous 변경 전 건물 정보
+	 * @param current  변경 후 건물 정보 (바뀐 속성이 없으면 무시)
+	 */
+	public void onBuildingInfoChanged(UUID siteId, BuildingProfile previous, BuildingProfile current) {
+		if (current.changedFrom(previous).isEmpty()) {
+			return;
+		}
+		Runnable task = () -> recompute(siteId, previous, current);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					taskExecutor.execute(task);
+				}
+			});
+		} else {
+			taskExecutor.execute(task);
+		}
+	}
+
+	/**
+	 * 저장된 보정을 변경 후 건물 정보로 갱신 (기준 건물 정보는 첫 보정 때 한 번만 정함)
+	 */
+	void recompute(UUID siteId, BuildingProfile previous, BuildingProfile current) {
+		try {
+			analysisResultStore.updateBuildingAdjustment(siteId, stored -> {
+				BuildingProfile baseline = BuildingVulnerabilityModel.baseline(stored);
+				if (baseline == null) {
+					baseline = previous;
+				}
+				return current.changedFrom(baseline).isEmpty()
+					? null
+					: BuildingVulnerabilityModel.adjustment(baseline, current);
+			});
+			analysisTermSliceCache.evict(siteId);
+			log.info("Building adjustment updated for site {}: attributes={}", siteId, current.changedFrom(previous));
+		} catch (Exception e) {
+			log.warn("Failed to update building adjustment for site {}: {}", siteId, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package com.skax.physicalrisk.service.analysis;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 기간(short/mid/long)별로 미리 나눈 FastAPI 시나리오 응답
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * FastAPI 물리적 리스크/AAL 응답의 시나리오 항목은 shortTerm/midTerm/longTerm을 모두 담고 있으므로
+ * 기간 필터 없이 한 번 받아 적재 시점에 point 키를 연도 키로 변환해 둔다.
+ * 조회 시에는 요청 기간의 연도 Map만 꺼내 쓰며, 값이 비었거나 모두 0인 기간은 미리 제외한다.
+ *
+ * @param slices 시나리오 · 위험 유형별 기간 데이터
+ * @param note   응답 부가 정보 (물리적 리스크: Strategy, AAL: reason)
+ * @param <T>    기간 데이터 값 타입
+ * @author SKAX Team
+ */
+@Slf4j
+record TermSlices<T>(List<Slice<T>> slices, String note) {
+
+	static final String SHORT = "short";
+	static final String MID = "mid";
+	static final String LONG = "long";
+
+	/**
+	 * 지원하는 기간인지 확인
+	 */
+	static boolean isKnownTerm(String term) {
+		return SHORT.equals(term) || MID.equals(term) || LONG.equals(term);
+	}
+
+	/**
+	 * 시나리오 항목 1개의 기간별 데이터를 연도 키로 변환
+	 *
+	 * @param nonZero 값이 의미 있는지 판단 (모두 false인 기간은 제외)
+	 */
+	static <T> Slice<T> slice(String scenario, String riskType, Map<String, T> shortTerm, Map<String, T> midTerm,
+							  Map<String, T> longTerm, Predicate<T> nonZero) {
+		Map<String, Map<String, T>> yearMapsByTerm = new HashMap<>(4);
+		putIfPresent(yearMapsByTerm, SHORT, shortTerm, nonZero);
+		putIfPresent(yearMapsByTerm, MID, midTerm, nonZero);
+		putIfPresent(yearMapsByTerm, LONG, longTerm, nonZero);
+		return new Slice<>(scenario, riskType, yearMapsByTerm);
+	}
+
+	private static <T> void putIfPresent(Map<String, Map<String, T>> yearMapsByTerm, String term,
+										 Map<String, T> pointMap, Predicate<T> nonZero) {
+		if (pointMap == null || pointMap.isEmpty() || pointMap.values().stream().noneMatch(nonZero)) {
+			return;
+		}
+		yearMapsByTerm.put(term, convertPointMapToYearMap(pointMap, term));
+	}
+
+	/**
+	 * point 키를 연도 키로 변환한 새로운 Map 생성
+	 *
+	 * @param pointMap point 기반 Map
+	 * @param term 기간 (short, mid, long)
+	 * @param <T> Map의 값 타입
+	 * @return 연도 기반 Map
+	 */
+	static <T> Map<String, T> convertPointMapToYearMap(Map<String, T> pointMap, String term) {
+		return pointMap.entrySet().stream()
+			.collect(Collectors.toMap(
+				entry -> mapPointToYear(entry.getKey(), term),
+				Map.Entry::getValue,
+				(v1, v2) -> v1  // 중복 시 첫 번째 값 사용
+			));
+	}
+
+	/**
+	 * point를 연도로 매핑
+	 * - 단기: point1 -> "2026"
+	 * - 중기: point1~5 -> "2026", "2027", "2028", "2029", "2030"
+	 * - 장기: point1~4 -> "2020s", "2030s", "2040s", "2050s"
+	 *
+	 * @param pointKey point 키 (예: "point1", "point2")
+	 * @param term 기간 (short, mid, long)
+	 * @return 연도 문자열
+	 */
+	static String mapPointToYear(String pointKey, String term) {
+		if (pointKey == null || term == null) {
+			return pointKey;
+		}
+
+		// point 숫자 추출
+		int pointNum;
+		try {
+			pointNum = Integer.parseInt(pointKey.replace("point", ""));
+		} catch (NumberFormatException e) {
+			log.warn("Invalid point key: {}", pointKey);
+			return pointKey;
+		}
+
+		switch (term) {
+			case SHORT:
+				// 단기: point1 -> "2026"
+				return "2026";
+			case MID:
+				// 중기: point1~5 -> 2026~2030
+				return String.valueOf(2025 + pointNum);
+			case LONG:
+				// 장기: point1~4 -> 2020s, 2030s, 2040s, 2050s
+				return String.valueOf(2020 + (pointNum - 1) * 10) + "s";
+			default:
+				log.warn("Unknown term: {}", term);
+				return pointKey;
+		}
+	}
+
+	/**
+	 * @param scenario       SSP 시나리오 (SSP1-2.6 등)
+	 * @param riskType       FastAPI 위험 유형
+	 * @param yearMapsByTerm 기간 → {연도: 값} (비었거나 모두 0인 기간은 없음)
+	 */
+	record Slice<T>(String scenario, String riskType, Map<String, Map<String, T>> yearMapsByTerm) {
+
+		/**
+		 * 요청 기간의 연도 Map
+		 *
+		 * @return {연도: 값} (데이터가 없으면 null)
+		 */
+		Map<String, T> yearData(String term) {
+			return yearMapsByTerm.get(term);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.skax.physicalrisk.service.hazard;
+
+import java.util.Arrays;
+
+/**
+ * AAL what-if 계산기
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * aal_scaled_results와 같은 공식으로 최종 AAL을 계산한다.
+ *   final_aal = base_aal × F_vuln × (1 - insurance_rate)
+ * 모든 값은 [위험 유형][시나리오][연도] 순 float 배열로 다루며(GridHazardSeries/GridStore와 같은 시나리오·연도 축),
+ * 위험 유형마다 계수가 하나이므로 안쪽 루프는 연속 구간에 대한 곱셈뿐이라 JIT가 SIMD로 벡터화한다.
+ * 값이 없는 칸(NaN)은 결과에서도 NaN으로 남는다.
+ *
+ * @author SKAX Team
+ */
+final class AalWhatIfEngine {
+
+	static final int RISK_COUNT = GridStoreFormat.RISK_TYPES.size();
+	static final int SCENARIO_COUNT = GridStoreFormat.SCENARIO_COUNT;
+	static final int YEAR_COUNT = GridHazardSeries.YEAR_COUNT;
+	/** 위험 유형 1개의 값 수 (시나리오 × 연도) */
+	static final int SERIES_LENGTH = SCENARIO_COUNT * YEAR_COUNT;
+	static final int LENGTH = RISK_COUNT * SERIES_LENGTH;
+
+	private AalWhatIfEngine() {
+	}
+
+	/**
+	 * 최종 AAL 계산
+	 *
+	 * @param baseAals            기준 AAL [위험 유형][시나리오][연도]
+	 * @param vulnerabilityScales 위험 유형별 취약성 계수 F_vuln
+	 * @param insuranceRate       보험 보전율 (0~1)
+	 * @param finalAals           결과 [위험 유형][시나리오][연도] (baseAals와 같은 배열이어도 됨)
+	 */
+	static void scale(float[] baseAals, float[] vulnerabilityScales, float insuranceRate, float[] finalAals) {
+		float retention = 1f - insuranceRate;
+		for (int risk = 0; risk < RISK_COUNT; risk++) {
+			float factor = vulnerabilityScales[risk] * retention;
+			int from = risk * SERIES_LENGTH;
+			int to = from + SERIES_LENGTH;
+			for (int i = from; i < to; i++) {
+				finalAals[i] = baseAals[i] * factor;
+			}
+		}
+	}
+
+	/**
+	 * 위험 유형 합계 [시나리오][연도] (값이 있는 위험 유형만 합산, 모두 없으면 NaN)
+	 *
+	 * @param finalAals 최종 AAL [위험 유형][시나리오][연도]
+	 * @param totals    결과 [시나리오][연도]
+	 */
+	static void sumOverRisks(float[] finalAals, float[] totals) {
+		Arrays.fill(totals, 0, SERIES_LENGTH, 0f);
+		int[] counts = new int[SERIES_LENGTH];
+		for (int risk = 0; risk < RISK_COUNT; risk++) {
+			int from = risk * SERIES_LENGTH;
+			for (int i = 0; i < SERIES_LENGTH; i++) {
+				float value = finalAals[from + i];
+				if (!Float.isNaN(value)) {
+					totals[i] += value;
+					counts[i]++;
+				}
+			}
+		}
+		for (int i = 0; i < SERIES_LENGTH; i++) {
+			if (counts[i] == 0) {
+				totals[i] = Float.NaN;
+			}
+		}
+	}
+
+	/**
+	 * 배열 내 위치 (위험 유형 순번, 시나리오, 연도)
+	 */
+	static int offset(int risk, SspScenario scenario, int year) {
+		return risk * SERIES_LENGTH + scenario.ordinal() * YEAR_COUNT + (year - GridHazardSeries.START_YEAR);
+	}
+}
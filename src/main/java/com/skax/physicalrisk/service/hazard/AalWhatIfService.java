@@ -0,0 +1,186 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.dto.request.analysis.AalWhatIfRequest;
+import com.skax.physicalrisk.dto.response.analysis.AalWhatIfResponse;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.security.SecurityUtil;
+import com.skax.physicalrisk.service.site.SiteAccessService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * AAL what-if 서비스
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 보험 보전율/취약성 계수 슬라이더 변경 시 FastAPI 재분석 없이 최종 AAL을 다시 계산한다.
+ * 기준 AAL(probability_results)은 격자 단위 값이므로 SiteHazardService와 같이
+ * 격자 저장소(GridStore) → 공유 캐시(GridHazardCache) 순으로 가져오고,
+ * 9개 위험 유형 × 4개 시나리오 × 80개 연도를 AalWhatIfEngine으로 한 번에 계산한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AalWhatIfService {
+
+	private static final int DEFAULT_START_YEAR = 2025;
+	private static final float DEFAULT_VULNERABILITY_SCALE = 1f;
+
+	private final SiteAccessService siteAccessService;
+	private final GridHazardCache gridHazardCache;
+	private final GridStoreManager gridStoreManager;
+
+	/**
+	 * 최종 AAL what-if 계산
+	 *
+	 * @param request 취약성 계수/보험 보전율/자산 가치
+	 * @return 시나리오 · 위험 유형별 연도별 최종 AAL
+	 */
+	public AalWhatIfResponse simulate(AalWhatIfRequest request) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		int startYear = request.getStartYear() == null ? DEFAULT_START_YEAR : request.getStartYear();
+		int endYear = request.getEndYear() == null ? GridHazardSeries.END_YEAR : request.getEndYear();
+		if (startYear > endYear) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "시작 연도는 종료 연도보다 클 수 없습니다");
+		}
+		List<SspScenario> scenarios = request.getScenarios() == null || request.getScenarios().isEmpty()
+			? List.of(SspScenario.values())
+			: request.getScenarios().stream().map(SspScenario::fromLabel).distinct().toList();
+		float[] vulnerabilityScales = vulnerabilityScales(request);
+		float insuranceRate = request.getInsurance() == null || request.getInsurance().getCoverageRate() == null
+			? 0f : request.getInsurance().getCoverageRate().floatValue();
+
+		Site site = siteAccessService.getSiteWithAuth(request.getSiteId(), userId);
+		if (site.getLatitude() == null || site.getLongitude() == null) {
+			throw new BusinessException(ErrorCode.INVALID_SITE_DATA, "사업장 좌표가 등록되지 않았습니다");
+		}
+		GridCell cell = GridCell.of(site.getLatitude(), site.getLongitude());
+
+		long start = System.nanoTime();
+		float[] finalAals = loadBaseAals(cell);
+		AalWhatIfEngine.scale(finalAals, vulnerabilityScales, insuranceRate, finalAals);
+		float[] totals = new float[AalWhatIfEngine.SERIES_LENGTH];
+		AalWhatIfEngine.sumOverRisks(finalAals, totals);
+
+		Long assetValue = request.getAsset() == null ? null : request.getAsset().getTotalAssetValue();
+		List<AalWhatIfResponse.ScenarioAal> results = new ArrayList<>(scenarios.size());
+		for (SspScenario scenario : scenarios) {
+			results.add(toScenarioAal(scenario, finalAals, totals, vulnerabilityScales, startYear, endYear, assetValue));
+		}
+		log.debug("AAL what-if computed for site {} in {} µs", site.getId(), (System.nanoTime() - start) / 1_000);
+
+		return AalWhatIfResponse.builder()
+			.siteId(site.getId())
+			.gridLatitude(cell.latitude())
+			.gridLongitude(cell.longitude())
+			.startYear(startYear)
+			.endYear(endYear)
+			.insuranceRate(insuranceRate)
+			.scenarios(results)
+			.build();
+	}
+
+	/**
+	 * 위험 유형 순번별 F_vuln (위험 유형별 값 → 공통 값 → 1.0)
+	 */
+	private static float[] vulnerabilityScales(AalWhatIfRequest request) {
+		float common = request.getVulnerabilityScale() == null
+			? DEFAULT_VULNERABILITY_SCALE : request.getVulnerabilityScale().floatValue();
+		float[] scales = new float[AalWhatIfEngine.RISK_COUNT];
+		Arrays.fill(scales, common);
+
+		Map<String, Double> overrides = request.getVulnerabilityScales();
+		if (overrides != null) {
+			overrides.forEach((riskType, scale) -> {
+				int risk = GridStoreFormat.riskOrdinal(riskType);
+				if (risk < 0) {
+					throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 위험 유형입니다: " + riskType);
+				}
+				if (scale == null || scale < 0 || scale > 10) {
+					throw new BusinessException(ErrorCode.INVALID_REQUEST, "취약성 계수는 0~10 사이여야 합니다: " + riskType);
+				}
+				scales[risk] = scale.floatValue();
+			});
+		}
+		return scales;
+	}
+
+	/**
+	 * 격자의 기준 AAL [위험 유형][시나리오][연도]
+	 */
+	private float[] loadBaseAals(GridCell cell) {
+		float[] baseAals = new float[AalWhatIfEngine.LENGTH];
+		GridStore store = gridStoreManager.current();
+		if (store != null) {
+			store.copyBaseAals(store.gridIndex(cell), baseAals);
+			return baseAals;
+		}
+
+		if (!gridHazardCache.isAvailable()) {
+			throw new BusinessException(ErrorCode.HAZARD_DATA_UNAVAILABLE);
+		}
+		Map<String, GridHazardSeries> seriesByRiskType;
+		try {
+			seriesByRiskType = gridHazardCache.getCell(cell);
+		} catch (DataAccessException e) {
+			log.error("Failed to load grid hazard cell {}: {}", cell, e.getMessage());
+			throw new BusinessException(ErrorCode.HAZARD_DATA_UNAVAILABLE, e);
+		}
+		for (int risk = 0; risk < AalWhatIfEngine.RISK_COUNT; risk++) {
+			GridHazardSeries series = seriesByRiskType.getOrDefault(GridStoreFormat.RISK_TYPES.get(risk), GridHazardSeries.EMPTY);
+			for (SspScenario scenario : SspScenario.values()) {
+				series.copyBaseAals(scenario, baseAals,
+					AalWhatIfEngine.offset(risk, scenario, GridHazardSeries.START_YEAR));
+			}
+		}
+		return baseAals;
+	}
+
+	private static AalWhatIfResponse.ScenarioAal toScenarioAal(SspScenario scenario, float[] finalAals, float[] totals,
+															   float[] vulnerabilityScales, int startYear, int endYear,
+															   Long assetValue) {
+		int from = AalWhatIfEngine.offset(0, scenario, startYear);
+		int to = AalWhatIfEngine.offset(0, scenario, endYear) + 1;
+
+		List<AalWhatIfResponse.RiskAal> risks = new ArrayList<>(AalWhatIfEngine.RISK_COUNT);
+		for (int risk = 0; risk < AalWhatIfEngine.RISK_COUNT; risk++) {
+			String riskType = GridStoreFormat.RISK_TYPES.get(risk);
+			int offset = risk * AalWhatIfEngine.SERIES_LENGTH;
+			risks.add(AalWhatIfResponse.RiskAal.builder()
+				.riskType(riskType)
+				.hazardType(SiteHazardService.RISK_TYPES.get(riskType))
+				.vulnerabilityScale(vulnerabilityScales[risk])
+				.finalAal(Arrays.copyOfRange(finalAals, offset + from, offset + to))
+				.build());
+		}
+
+		float[] totalAal = Arrays.copyOfRange(totals, from, to);
+		Long[] expectedLoss = null;
+		if (assetValue != null) {
+			expectedLoss = new Long[totalAal.length];
+			for (int i = 0; i < totalAal.length; i++) {
+				expectedLoss[i] = Float.isNaN(totalAal[i]) ? null : Math.round(totalAal[i] * (double) assetValue);
+			}
+		}
+
+		return AalWhatIfResponse.ScenarioAal.builder()
+			.scenario(scenario.getLabel())
+			.totalAal(totalAal)
+			.expectedLoss(expectedLoss)
+			.risks(risks)
+			.build();
+	}
+}
@@ -0,0 +1,35 @@
+package com.skax.physicalrisk.service.hazard;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 기후 격자 셀 (0.01° 격자)
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * docs/erd.md §3.2 좌표 → 격자 매핑 규칙에 따라 위경도를 소수점 2자리로 반올림(HALF_UP)한 값.
+ * 같은 산업단지 내 사업장들은 동일한 격자 셀로 모이므로 사용자 간 공유 캐시 키로 사용한다.
+ *
+ * @param latitude  격자 위도 (scale 2)
+ * @param longitude 격자 경도 (scale 2)
+ * @author SKAX Team
+ */
+public record GridCell(BigDecimal latitude, BigDecimal longitude) {
+
+	private static final int GRID_SCALE = 2;
+
+	/**
+	 * 사업장 좌표를 격자 셀로 변환
+	 *
+	 * @param latitude  위도
+	 * @param longitude 경도
+	 * @return 격자 셀
+	 */
+	public static GridCell of(BigDecimal latitude, BigDecimal longitude) {
+		return new GridCell(
+			latitude.setScale(GRID_SCALE, RoundingMode.HALF_UP),
+			longitude.setScale(GRID_SCALE, RoundingMode.HALF_UP));
+	}
+}
@@ -0,0 +1,120 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.skax.physicalrisk.client.datawarehouse.DatawarehouseJdbc;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 격자 셀 단위 Hazard / 기준 AAL 공유 캐시
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * H(hazard_results)와 기준 AAL(probability_results)은 격자 셀에만 의존하고 사업장과 무관하므로
+ * 사업장 ID가 아닌 격자 셀을 키로 캐싱하여 모든 사용자가 공유한다.
+ * 같은 격자의 동시 요청은 Caffeine 로딩으로 한 번만 조회되며(single-flight),
+ * 한 번의 조회로 9개 위험 유형 × 4개 시나리오 × 80개 연도를 모두 적재한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class GridHazardCache {
+
+	private static final String CELL_QUERY = """
+		SELECT h.risk_type, h.target_year,
+		       h.ssp126_score_100, h.ssp245_score_100, h.ssp370_score_100, h.ssp585_score_100,
+		       p.ssp126_aal, p.ssp245_aal, p.ssp370_aal, p.ssp585_aal
+		FROM hazard_results h
+		LEFT JOIN probability_results p
+		  ON p.latitude = h.latitude
+		 AND p.longitude = h.longitude
+		 AND p.risk_type = h.risk_type
+		 AND p.target_year = h.target_year
+		WHERE h.latitude = ? AND h.longitude = ?
+		""";
+
+	private final DatawarehouseJdbc datawarehouseJdbc;
+	private final LoadingCache<GridCell, Map<String, GridHazardSeries>> cache;
+
+	public GridHazardCache(
+		DatawarehouseJdbc datawarehouseJdbc,
+		@Value("${app.grid-hazard-cache.maximum-size:2000}") long maximumSize,
+		@Value("${app.grid-hazard-cache.expire-after-write-hours:12}") long expireAfterWriteHours
+	) {
+		this.datawarehouseJdbc = datawarehouseJdbc;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofHours(expireAfterWriteHours))
+			.build(this::loadCell);
+	}
+
+	/**
+	 * 격자 캐시 사용 가능 여부 (Datawarehouse 연동 활성화)
+	 */
+	public boolean isAvailable() {
+		return datawarehouseJdbc.isEnabled();
+	}
+
+	/**
+	 * 격자 셀의 위험 유형별 시계열 조회
+	 *
+	 * @param cell 격자 셀
+	 * @return 위험 유형 코드 → 시계열 (격자에 데이터가 없으면 빈 Map, 이 결과도 캐싱됨)
+	 */
+	public Map<String, GridHazardSeries> getCell(GridCell cell) {
+		return cache.get(cell);
+	}
+
+	/**
+	 * 격자 셀의 특정 위험 유형 시계열 조회
+	 *
+	 * @param cell     격자 셀
+	 * @param riskType 위험 유형 코드 (extreme_heat 등)
+	 * @return 시계열 (데이터 없으면 EMPTY)
+	 */
+	public GridHazardSeries get(GridCell cell, String riskType) {
+		return getCell(cell).getOrDefault(riskType, GridHazardSeries.EMPTY);
+	}
+
+	/**
+	 * 전체 캐시 무효화 (ETL/ModelOps 재적재 후)
+	 */
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	private Map<String, GridHazardSeries> loadCell(GridCell cell) {
+		long start = System.currentTimeMillis();
+		Map<String, GridHazardSeries> series = new HashMap<>();
+
+		datawarehouseJdbc.jdbcTemplate().query(CELL_QUERY, rs -> {
+			GridHazardSeries target = series.computeIfAbsent(rs.getString("risk_type"), k -> new GridHazardSeries());
+			int year = rs.getInt("target_year");
+			for (SspScenario scenario : SspScenario.values()) {
+				target.put(scenario, year,
+					getFloat(rs, scenario.getColumnPrefix() + "_score_100"),
+					getFloat(rs, scenario.getColumnPrefix() + "_aal"));
+			}
+		}, cell.latitude(), cell.longitude());
+
+		log.debug("Grid hazard cell loaded: {} ({} risk types) in {} ms",
+			cell, series.size(), System.currentTimeMillis() - start);
+		return Collections.unmodifiableMap(series);
+	}
+
+	private static Float getFloat(ResultSet rs, String column) throws SQLException {
+		float value = rs.getFloat(column);
+		return rs.wasNull() ? null : value;
+	}
+}
@@ -0,0 +1,93 @@
+package com.skax.physicalrisk.service.hazard;
+
+import java.util.Arrays;
+
+/**
+ * 격자 셀 1개 · 위험 유형 1개의 연도별 H / 기준 AAL 시계열
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 시나리오 단위 기준 AAL 일괄 복사
+ *
+ * hazard_results.sspXXX_score_100, probability_results.sspXXX_aal 값을
+ * (시나리오, 연도) 순 float 배열로 보관한다. 값이 없는 칸은 NaN.
+ * 사업장과 무관한 값이므로 여러 사용자가 같은 인스턴스를 공유하며, 생성 후에는 읽기 전용이다.
+ *
+ * @author SKAX Team
+ */
+public final class GridHazardSeries {
+
+	public static final int START_YEAR = 2021;
+	public static final int END_YEAR = 2100;
+	public static final int YEAR_COUNT = END_YEAR - START_YEAR + 1;
+
+	/** 해당 격자에 데이터가 없는 위험 유형 (음성 캐시용) */
+	static final GridHazardSeries EMPTY = new GridHazardSeries();
+
+	private final float[] hazardScores = new float[SspScenario.values().length * YEAR_COUNT];
+	private final float[] baseAals = new float[SspScenario.values().length * YEAR_COUNT];
+	private boolean empty = true;
+
+	GridHazardSeries() {
+		Arrays.fill(hazardScores, Float.NaN);
+		Arrays.fill(baseAals, Float.NaN);
+	}
+
+	/**
+	 * 적재 단계에서만 호출 (캐시에 등록되기 전)
+	 */
+	void put(SspScenario scenario, int year, Float hazardScore, Float baseAal) {
+		if (year < START_YEAR || year > END_YEAR) {
+			return;
+		}
+		int offset = offset(scenario, year);
+		if (hazardScore != null) {
+			hazardScores[offset] = hazardScore;
+			empty = false;
+		}
+		if (baseAal != null) {
+			baseAals[offset] = baseAal;
+			empty = false;
+		}
+	}
+
+	/**
+	 * Hazard 점수 (0~100)
+	 *
+	 * @return 점수 (데이터 없으면 null)
+	 */
+	public Float hazardScore(SspScenario scenario, int year) {
+		return valueAt(hazardScores, scenario, year);
+	}
+
+	/**
+	 * 기준 AAL (취약성/보험 반영 전, 0.0~1.0)
+	 *
+	 * @return AAL (데이터 없으면 null)
+	 */
+	public Float baseAal(SspScenario scenario, int year) {
+		return valueAt(baseAals, scenario, year);
+	}
+
+	/**
+	 * 시나리오의 연도별 기준 AAL을 dst[offset..offset+YEAR_COUNT)에 복사 (값 없는 연도는 NaN)
+	 */
+	void copyBaseAals(SspScenario scenario, float[] dst, int offset) {
+		System.arraycopy(baseAals, scenario.ordinal() * YEAR_COUNT, dst, offset, YEAR_COUNT);
+	}
+
+	public boolean isEmpty() {
+		return empty;
+	}
+
+	private static Float valueAt(float[] values, SspScenario scenario, int year) {
+		if (year < START_YEAR || year > END_YEAR) {
+			return null;
+		}
+		float value = values[offset(scenario, year)];
+		return Float.isNaN(value) ? null : value;
+	}
+
+	private static int offset(SspScenario scenario, int year) {
+		return scenario.ordinal() * YEAR_COUNT + (year - START_YEAR);
+	}
+}
@@ -0,0 +1,125 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.skax.physicalrisk.client.datawarehouse.DatawarehouseJdbc;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * 격자 셀 단위 손실률 구간 분포 공유 캐시
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * probability_results의 시나리오별 bin_probs/aal을 격자 셀 단위로 한 번에 읽어
+ * [위험 유형][시나리오][연도] 순 배열(AalWhatIfEngine.offset과 같은 배치)로 보관한다.
+ * GridHazardCache와 같이 격자 셀을 키로 하므로 같은 격자의 사업장은 사용자와 무관하게 공유한다.
+ * 데이터가 없는 칸은 null.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class GridLossDistributionCache {
+
+	private static final String CELL_QUERY = """
+		SELECT risk_type, target_year,
+		       ssp126_aal, ssp245_aal, ssp370_aal, ssp585_aal,
+		       ssp126_bin_probs::text AS ssp126_bin_probs, ssp245_bin_probs::text AS ssp245_bin_probs,
+		       ssp370_bin_probs::text AS ssp370_bin_probs, ssp585_bin_probs::text AS ssp585_bin_probs
+		FROM probability_results
+		WHERE latitude = ? AND longitude = ?
+		""";
+
+	private final DatawarehouseJdbc datawarehouseJdbc;
+	private final ObjectMapper objectMapper;
+	private final LoadingCache<GridCell, LossDistribution[]> cache;
+
+	public GridLossDistributionCache(
+		DatawarehouseJdbc datawarehouseJdbc,
+		ObjectMapper objectMapper,
+		@Value("${app.portfolio-loss.distribution-cache.maximum-size:500}") long maximumSize,
+		@Value("${app.portfolio-loss.distribution-cache.expire-after-write-hours:12}") long expireAfterWriteHours
+	) {
+		this.datawarehouseJdbc = datawarehouseJdbc;
+		this.objectMapper = objectMapper;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofHours(expireAfterWriteHours))
+			.build(this::loadCell);
+	}
+
+	/**
+	 * 분포 캐시 사용 가능 여부 (Datawarehouse 연동 활성화)
+	 */
+	public boolean isAvailable() {
+		return datawarehouseJdbc.isEnabled();
+	}
+
+	/**
+	 * 격자 셀의 손실률 분포 조회
+	 *
+	 * @param cell 격자 셀
+	 * @return [위험 유형][시나리오][연도] 분포 (읽기 전용, 데이터 없는 칸은 null)
+	 */
+	LossDistribution[] getCell(GridCell cell) {
+		return cache.get(cell);
+	}
+
+	/**
+	 * 전체 캐시 무효화 (ETL/ModelOps 재적재 후)
+	 */
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	private LossDistribution[] loadCell(GridCell cell) {
+		long start = System.currentTimeMillis();
+		LossDistribution[] distributions = new LossDistribution[AalWhatIfEngine.LENGTH];
+		int[] loaded = new int[1];
+
+		datawarehouseJdbc.jdbcTemplate().query(CELL_QUERY, rs -> {
+			int risk = GridStoreFormat.riskOrdinal(rs.getString("risk_type"));
+			int year = rs.getInt("target_year");
+			if (risk < 0 || year < GridHazardSeries.START_YEAR || year > GridHazardSeries.END_YEAR) {
+				return;
+			}
+			for (SspScenario scenario : SspScenario.values()) {
+				LossDistribution distribution = parse(rs, scenario);
+				if (distribution != null) {
+					distributions[AalWhatIfEngine.offset(risk, scenario, year)] = distribution;
+					loaded[0]++;
+				}
+			}
+		}, cell.latitude(), cell.longitude());
+
+		log.debug("Grid loss distributions loaded: {} ({} distributions) in {} ms",
+			cell, loaded[0], System.currentTimeMillis() - start);
+		return distributions;
+	}
+
+	private LossDistribution parse(ResultSet rs, SspScenario scenario) throws SQLException {
+		String binProbs = rs.getString(scenario.getColumnPrefix() + "_bin_probs");
+		if (binProbs == null) {
+			return null;
+		}
+		float baseAal = rs.getFloat(scenario.getColumnPrefix() + "_aal");
+		if (rs.wasNull()) {
+			baseAal = Float.NaN;
+		}
+		try {
+			return LossDistribution.parse(objectMapper.readTree(binProbs), baseAal);
+		} catch (JsonProcessingException e) {
+			log.debug("Ignoring malformed bin_probs ({}): {}", scenario.getColumnPrefix(), e.getMessage());
+			return null;
+		}
+	}
+}
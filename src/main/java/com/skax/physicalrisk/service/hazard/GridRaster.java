@@ -0,0 +1,95 @@
+package com.skax.physicalrisk.service.hazard;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.IntBuffer;
+
+/**
+ * 좌표 → grid index 변환 테이블 (0.01° 래스터)
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * location_grid는 위도 601 × 경도 751의 직사각형 격자이므로
+ * 좌표를 0.01° 단위 정수로 바꾼 (행, 열) 위치에 grid index를 두면 O(1)로 조회된다.
+ * grid index는 위도 → 경도 오름차순(row-major)으로 존재하는 격자에만 부여한다.
+ *
+ * @author SKAX Team
+ */
+final class GridRaster {
+
+	static final int ABSENT = -1;
+
+	private final int minLat100;
+	private final int minLon100;
+	private final int rows;
+	private final int cols;
+	private final IntBuffer cells;
+	private final int gridCount;
+
+	GridRaster(int minLat100, int minLon100, int rows, int cols, IntBuffer cells, int gridCount) {
+		this.minLat100 = minLat100;
+		this.minLon100 = minLon100;
+		this.rows = rows;
+		this.cols = cols;
+		this.cells = cells;
+		this.gridCount = gridCount;
+	}
+
+	/**
+	 * 격자 존재 여부 배열로부터 row-major grid index 부여
+	 *
+	 * @param present 격자가 있으면 0 이상, 없으면 ABSENT인 rows × cols 배열 (덮어씀)
+	 */
+	static GridRaster assign(int minLat100, int minLon100, int rows, int cols, int[] present) {
+		int next = 0;
+		for (int i = 0; i < present.length; i++) {
+			present[i] = present[i] == ABSENT ? ABSENT : next++;
+		}
+		return new GridRaster(minLat100, minLon100, rows, cols, IntBuffer.wrap(present), next);
+	}
+
+	/**
+	 * 좌표를 0.01° 단위 정수로 변환 (docs/erd.md §3.2 반올림 규칙)
+	 */
+	static int toKey(BigDecimal coordinate) {
+		return coordinate.setScale(2, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+	}
+
+	int indexOf(int lat100, int lon100) {
+		int row = lat100 - minLat100;
+		int col = lon100 - minLon100;
+		if (row < 0 || row >= rows || col < 0 || col >= cols) {
+			return ABSENT;
+		}
+		return cells.get(row * cols + col);
+	}
+
+	int indexOf(GridCell cell) {
+		return indexOf(toKey(cell.latitude()), toKey(cell.longitude()));
+	}
+
+	int minLat100() {
+		return minLat100;
+	}
+
+	int minLon100() {
+		return minLon100;
+	}
+
+	int rows() {
+		return rows;
+	}
+
+	int cols() {
+		return cols;
+	}
+
+	int cellAt(int position) {
+		return cells.get(position);
+	}
+
+	int gridCount() {
+		return gridCount;
+	}
+}
@@ -0,0 +1,184 @@
+package com.skax.physicalrisk.service.hazard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 메모리 매핑 격자 Hazard / 기준 AAL 저장소 (읽기 전용)
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 격자 단위 기준 AAL 일괄 복사
+ *
+ * GridStoreExporter가 만든 파일을 FileChannel.map으로 힙 밖에 매핑하여
+ * 좌표 → grid index → 값을 오프셋 계산만으로 조회한다 (DB/FastAPI 호출, 객체 할당 없음).
+ * 페이지 캐시에 올라온 이후에는 조회당 수십 나노초 수준이며, 여러 스레드에서 동시에 읽어도 안전하다.
+ *
+ * @author SKAX Team
+ */
+public final class GridStore {
+
+	private final GridRaster raster;
+	private final MappedByteBuffer[] segments;
+	private final int gridCount;
+	private final long exportedAt;
+
+	private GridStore(GridRaster raster, MappedByteBuffer[] segments, int gridCount, long exportedAt) {
+		this.raster = raster;
+		this.segments = segments;
+		this.gridCount = gridCount;
+		this.exportedAt = exportedAt;
+	}
+
+	/**
+	 * 데이터/인덱스 파일 열기 (헤더와 파일 크기 검증)
+	 *
+	 * @param dataFile  hazard-grid.bin
+	 * @param indexFile hazard-grid.idx
+	 * @return 저장소
+	 * @throws IOException 파일이 없거나 포맷이 맞지 않는 경우
+	 */
+	public static GridStore open(Path dataFile, Path indexFile) throws IOException {
+		GridRaster raster;
+		long indexExportedAt;
+		try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+			MappedByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			index.order(GridStoreFormat.BYTE_ORDER);
+			require(index.getInt() == GridStoreFormat.INDEX_MAGIC, "invalid index magic");
+			require(index.getInt() == GridStoreFormat.VERSION, "unsupported index version");
+			indexExportedAt = index.getLong();
+			int minLat100 = index.getInt();
+			int minLon100 = index.getInt();
+			int rows = index.getInt();
+			int cols = index.getInt();
+			require(channel.size() == GridStoreFormat.INDEX_HEADER_BYTES + (long) rows * cols * Integer.BYTES,
+				"index size mismatch");
+			index.position(GridStoreFormat.INDEX_HEADER_BYTES);
+			raster = new GridRaster(minLat100, minLon100, rows, cols, index.slice().order(GridStoreFormat.BYTE_ORDER).asIntBuffer(), -1);
+		}
+
+		try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(GridStoreFormat.DATA_HEADER_BYTES).order(GridStoreFormat.BYTE_ORDER);
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					break;
+				}
+			}
+			header.flip();
+			require(header.remaining() == GridStoreFormat.DATA_HEADER_BYTES, "truncated data header");
+			require(header.getInt() == GridStoreFormat.DATA_MAGIC, "invalid data magic");
+			require(header.getInt() == GridStoreFormat.VERSION, "unsupported data version");
+			long exportedAt = header.getLong();
+			require(exportedAt == indexExportedAt, "data/index files are from different exports");
+			int gridCount = header.getInt();
+			require(header.getInt() == GridStoreFormat.RISK_TYPES.size()
+				&& header.getInt() == GridHazardSeries.START_YEAR
+				&& header.getInt() == GridHazardSeries.YEAR_COUNT
+				&& header.getInt() == GridStoreFormat.SCENARIO_COUNT
+				&& header.getInt() == GridStoreFormat.MEASURE_COUNT, "layout mismatch");
+			require(channel.size() == GridStoreFormat.dataFileSize(gridCount), "data size mismatch");
+
+			MappedByteBuffer[] segments = new MappedByteBuffer[GridStoreFormat.segmentCount(gridCount)];
+			for (int s = 0; s < segments.length; s++) {
+				segments[s] = channel.map(FileChannel.MapMode.READ_ONLY,
+					GridStoreFormat.segmentPosition(s), GridStoreFormat.segmentLength(s, gridCount));
+				segments[s].order(GridStoreFormat.BYTE_ORDER);
+			}
+			// 매핑은 채널을 닫아도 유지됨
+			return new GridStore(raster, segments, gridCount, exportedAt);
+		}
+	}
+
+	/**
+	 * 격자 셀의 grid index
+	 *
+	 * @return grid index (저장소에 없는 격자면 -1)
+	 */
+	public int gridIndex(GridCell cell) {
+		return raster.indexOf(cell);
+	}
+
+	/**
+	 * Hazard 점수 (0~100)
+	 *
+	 * @param grid     grid index
+	 * @param riskType 위험 유형 코드
+	 * @return 점수 (데이터 없으면 NaN)
+	 */
+	public float hazardScore(int grid, String riskType, SspScenario scenario, int year) {
+		return read(grid, riskType, scenario, year, GridStoreFormat.MEASURE_HAZARD);
+	}
+
+	/**
+	 * 기준 AAL (0.0~1.0)
+	 *
+	 * @param grid     grid index
+	 * @param riskType 위험 유형 코드
+	 * @return AAL (데이터 없으면 NaN)
+	 */
+	public float baseAal(int grid, String riskType, SspScenario scenario, int year) {
+		return read(grid, riskType, scenario, year, GridStoreFormat.MEASURE_BASE_AAL);
+	}
+
+	/**
+	 * 격자의 전체 기준 AAL을 [위험 유형][시나리오][연도] 순으로 dst에 복사
+	 *
+	 * 위험 유형 순서는 파일과 같으며, 한 격자 레코드 안에서만 읽으므로 페이지 폴트는 최대 수 회다.
+	 *
+	 * @param grid grid index
+	 * @param dst  길이 위험 유형 수 × 시나리오 수 × 연도 수 (저장소에 없는 격자면 NaN으로 채움)
+	 */
+	public void copyBaseAals(int grid, float[] dst) {
+		if (grid < 0 || grid >= gridCount) {
+			Arrays.fill(dst, Float.NaN);
+			return;
+		}
+		MappedByteBuffer segment = segments[grid / GridStoreFormat.GRIDS_PER_SEGMENT];
+		int base = (int) ((grid % GridStoreFormat.GRIDS_PER_SEGMENT) * GridStoreFormat.BYTES_PER_GRID);
+		SspScenario[] scenarios = SspScenario.values();
+		int i = 0;
+		for (int risk = 0; risk < GridStoreFormat.RISK_TYPES.size(); risk++) {
+			for (SspScenario scenario : scenarios) {
+				for (int year = GridHazardSeries.START_YEAR; year <= GridHazardSeries.END_YEAR; year++) {
+					dst[i++] = segment.getFloat(base
+						+ GridStoreFormat.offsetInGrid(risk, year, scenario, GridStoreFormat.MEASURE_BASE_AAL));
+				}
+			}
+		}
+	}
+
+	/**
+	 * 저장된 격자 수
+	 */
+	public int getGridCount() {
+		return gridCount;
+	}
+
+	/**
+	 * export 시각 (epoch millis)
+	 */
+	public long getExportedAt() {
+		return exportedAt;
+	}
+
+	private float read(int grid, String riskType, SspScenario scenario, int year, int measure) {
+		int risk = GridStoreFormat.riskOrdinal(riskType);
+		if (grid < 0 || grid >= gridCount || risk < 0 || year < GridHazardSeries.START_YEAR || year > GridHazardSeries.END_YEAR) {
+			return Float.NaN;
+		}
+		int segment = grid / GridStoreFormat.GRIDS_PER_SEGMENT;
+		long local = (grid % GridStoreFormat.GRIDS_PER_SEGMENT) * GridStoreFormat.BYTES_PER_GRID
+			+ GridStoreFormat.offsetInGrid(risk, year, scenario, measure);
+		return segments[segment].getFloat((int) local);
+	}
+
+	private static void require(boolean condition, String message) throws IOException {
+		if (!condition) {
+			throw new IOException("Invalid grid store: " + message);
+		}
+	}
+}
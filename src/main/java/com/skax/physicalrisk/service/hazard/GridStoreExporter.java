@@ -0,0 +1,185 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.skax.physicalrisk.client.datawarehouse.DatawarehouseJdbc;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Datawarehouse → 격자 바이너리 저장소 export
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * location_grid로 좌표 래스터를 만든 뒤 hazard_results / probability_results를
+ * 각각 한 번씩 순차 스캔하며 서버 측 커서(fetch-size 단위)로 스트리밍 기록한다.
+ * 약 3,250만 행 × 2개 테이블이지만 JVM 힙에는 fetch-size 만큼의 행만 올라온다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GridStoreExporter {
+
+	private static final String BOUNDS_QUERY =
+		"SELECT MIN(latitude), MAX(latitude), MIN(longitude), MAX(longitude) FROM location_grid";
+
+	private static final String GRID_QUERY = "SELECT latitude, longitude FROM location_grid";
+
+	private static final String HAZARD_QUERY = """
+		SELECT latitude, longitude, risk_type, target_year,
+		       ssp126_score_100, ssp245_score_100, ssp370_score_100, ssp585_score_100
+		FROM hazard_results
+		""";
+
+	private static final String PROBABILITY_QUERY = """
+		SELECT latitude, longitude, risk_type, target_year,
+		       ssp126_aal, ssp245_aal, ssp370_aal, ssp585_aal
+		FROM probability_results
+		""";
+
+	private final DatawarehouseJdbc datawarehouseJdbc;
+
+	@Value("${app.grid-store.fetch-size:10000}")
+	private int fetchSize;
+
+	/**
+	 * export 가능 여부 (Datawarehouse 연동 활성화)
+	 */
+	public boolean isAvailable() {
+		return datawarehouseJdbc.isEnabled();
+	}
+
+	/**
+	 * 저장소 파일 생성 (기존 파일은 완료 시점에 원자적으로 교체)
+	 *
+	 * @param dataFile  데이터 파일 경로
+	 * @param indexFile 좌표 인덱스 파일 경로
+	 * @return export 결과
+	 */
+	public ExportResult export(Path dataFile, Path indexFile) throws IOException {
+		long start = System.currentTimeMillis();
+		DataSource dataSource = Objects.requireNonNull(datawarehouseJdbc.jdbcTemplate().getDataSource());
+		Files.createDirectories(dataFile.toAbsolutePath().getParent());
+
+		try (Connection connection = dataSource.getConnection()) {
+			// PostgreSQL은 autocommit이 꺼져 있어야 fetchSize 커서 스트리밍을 사용함
+			connection.setAutoCommit(false);
+			try {
+				GridRaster raster = buildRaster(connection);
+				log.info("Grid store export started: {} grids ({} x {})", raster.gridCount(), raster.rows(), raster.cols());
+
+				long[] skipped = new long[1];
+				long hazardRows;
+				long probabilityRows;
+				try (GridStoreWriter writer = new GridStoreWriter(dataFile, indexFile, raster)) {
+					hazardRows = copy(connection, "hazard_results", HAZARD_QUERY, raster, writer, GridStoreFormat.MEASURE_HAZARD, skipped);
+					probabilityRows = copy(connection, "probability_results", PROBABILITY_QUERY, raster, writer, GridStoreFormat.MEASURE_BASE_AAL, skipped);
+					writer.commit(System.currentTimeMillis());
+				}
+
+				ExportResult result = new ExportResult(raster.gridCount(), hazardRows, probabilityRows, skipped[0],
+					System.currentTimeMillis() - start);
+				log.info("Grid store export finished: {}", result);
+				return result;
+			} finally {
+				connection.rollback();
+			}
+		} catch (SQLException e) {
+			throw new IOException("Grid store export failed: " + e.getMessage(), e);
+		}
+	}
+
+	private GridRaster buildRaster(Connection connection) throws SQLException {
+		int minLat100;
+		int maxLat100;
+		int minLon100;
+		int maxLon100;
+		try (PreparedStatement ps = connection.prepareStatement(BOUNDS_QUERY);
+			 ResultSet rs = ps.executeQuery()) {
+			if (!rs.next() || rs.getBigDecimal(1) == null) {
+				throw new SQLException("location_grid is empty");
+			}
+			minLat100 = GridRaster.toKey(rs.getBigDecimal(1));
+			maxLat100 = GridRaster.toKey(rs.getBigDecimal(2));
+			minLon100 = GridRaster.toKey(rs.getBigDecimal(3));
+			maxLon100 = GridRaster.toKey(rs.getBigDecimal(4));
+		}
+
+		int rows = maxLat100 - minLat100 + 1;
+		int cols = maxLon100 - minLon100 + 1;
+		int[] cells = new int[rows * cols];
+		Arrays.fill(cells, GridRaster.ABSENT);
+
+		try (PreparedStatement ps = streamingStatement(connection, GRID_QUERY);
+			 ResultSet rs = ps.executeQuery()) {
+			while (rs.next()) {
+				int row = GridRaster.toKey(rs.getBigDecimal(1)) - minLat100;
+				int col = GridRaster.toKey(rs.getBigDecimal(2)) - minLon100;
+				cells[row * cols + col] = 0;
+			}
+		}
+		return GridRaster.assign(minLat100, minLon100, rows, cols, cells);
+	}
+
+	private long copy(Connection connection, String table, String sql, GridRaster raster, GridStoreWriter writer,
+					  int measure, long[] skipped) throws SQLException {
+		SspScenario[] scenarios = SspScenario.values();
+		long rows = 0;
+		try (PreparedStatement ps = streamingStatement(connection, sql);
+			 ResultSet rs = ps.executeQuery()) {
+			while (rs.next()) {
+				rows++;
+				int grid = raster.indexOf(GridRaster.toKey(rs.getBigDecimal(1)), GridRaster.toKey(rs.getBigDecimal(2)));
+				int risk = GridStoreFormat.riskOrdinal(rs.getString(3));
+				int year = rs.getInt(4);
+				if (grid == GridRaster.ABSENT || risk < 0
+					|| year < GridHazardSeries.START_YEAR || year > GridHazardSeries.END_YEAR) {
+					skipped[0]++;
+					continue;
+				}
+				for (int i = 0; i < scenarios.length; i++) {
+					float value = rs.getFloat(5 + i);
+					if (!rs.wasNull()) {
+						writer.put(grid, risk, year, scenarios[i], measure, value);
+					}
+				}
+				if (rows % 5_000_000 == 0) {
+					log.info("Grid store export progress: {} rows from {}", rows, table);
+				}
+			}
+		}
+		return rows;
+	}
+
+	private PreparedStatement streamingStatement(Connection connection, String sql) throws SQLException {
+		PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		ps.setFetchSize(fetchSize);
+		return ps;
+	}
+
+	/**
+	 * export 결과
+	 *
+	 * @param gridCount       격자 수
+	 * @param hazardRows      hazard_results 행 수
+	 * @param probabilityRows probability_results 행 수
+	 * @param skippedRows     격자/위험 유형/연도가 범위 밖이라 제외된 행 수
+	 * @param elapsedMs       소요 시간
+	 */
+	public record ExportResult(int gridCount, long hazardRows, long probabilityRows, long skippedRows, long elapsedMs) {
+	}
+}
@@ -0,0 +1,104 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.skax.physicalrisk.constants.HazardTypeConstants;
+
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 격자 Hazard / 기준 AAL 바이너리 저장소 포맷
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 데이터 파일 (hazard-grid.bin, little-endian):
+ * - 헤더 64바이트: magic, version, exportedAt, gridCount, riskCount, startYear, yearCount, scenarioCount, measureCount
+ * - 본문: float32 [grid index][risk][year][scenario][measure(H, 기준 AAL)], 값이 없으면 NaN
+ *
+ * 좌표 인덱스 파일 (hazard-grid.idx):
+ * - 헤더 32바이트: magic, version, exportedAt, minLat100, minLon100, rows, cols
+ * - 본문: int32 [위도 행][경도 열] → grid index (격자 없으면 -1)
+ *
+ * 격자 1개 레코드가 23,040바이트이므로 MappedByteBuffer 2GB 한도에 맞춰 격자 단위로 세그먼트를 나눈다.
+ *
+ * @author SKAX Team
+ */
+final class GridStoreFormat {
+
+	static final int DATA_MAGIC = 0x50524753;   // "PRGS"
+	static final int INDEX_MAGIC = 0x50524749;  // "PRGI"
+	static final int VERSION = 1;
+	static final int DATA_HEADER_BYTES = 64;
+	static final int INDEX_HEADER_BYTES = 32;
+	static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+	/** 파일 내 위험 유형 순서 (변경 시 VERSION 증가) */
+	static final List<String> RISK_TYPES = List.of(
+		HazardTypeConstants.EXTREME_HEAT,
+		HazardTypeConstants.EXTREME_COLD,
+		HazardTypeConstants.WILDFIRE,
+		HazardTypeConstants.DROUGHT,
+		HazardTypeConstants.WATER_STRESS,
+		HazardTypeConstants.SEA_LEVEL_RISE,
+		HazardTypeConstants.RIVER_FLOOD,
+		HazardTypeConstants.URBAN_FLOOD,
+		HazardTypeConstants.TYPHOON
+	);
+
+	static final int MEASURE_HAZARD = 0;
+	static final int MEASURE_BASE_AAL = 1;
+	static final int MEASURE_COUNT = 2;
+
+	static final int SCENARIO_COUNT = SspScenario.values().length;
+	static final int FLOATS_PER_GRID = RISK_TYPES.size() * GridHazardSeries.YEAR_COUNT * SCENARIO_COUNT * MEASURE_COUNT;
+	static final long BYTES_PER_GRID = (long) FLOATS_PER_GRID * Float.BYTES;
+	static final int GRIDS_PER_SEGMENT = (int) (Integer.MAX_VALUE / BYTES_PER_GRID);
+
+	private static final Map<String, Integer> RISK_ORDINALS = new HashMap<>();
+
+	static {
+		for (int i = 0; i < RISK_TYPES.size(); i++) {
+			RISK_ORDINALS.put(RISK_TYPES.get(i), i);
+		}
+	}
+
+	private GridStoreFormat() {
+	}
+
+	/**
+	 * 위험 유형 코드의 파일 내 순번
+	 *
+	 * @return 순번 (알 수 없는 유형이면 -1)
+	 */
+	static int riskOrdinal(String riskType) {
+		return RISK_ORDINALS.getOrDefault(riskType, -1);
+	}
+
+	/**
+	 * 격자 레코드 내 값의 바이트 오프셋
+	 */
+	static int offsetInGrid(int risk, int year, SspScenario scenario, int measure) {
+		int yearIndex = year - GridHazardSeries.START_YEAR;
+		return (((risk * GridHazardSeries.YEAR_COUNT + yearIndex) * SCENARIO_COUNT + scenario.ordinal()) * MEASURE_COUNT + measure)
+			* Float.BYTES;
+	}
+
+	static int segmentCount(int gridCount) {
+		return (gridCount + GRIDS_PER_SEGMENT - 1) / GRIDS_PER_SEGMENT;
+	}
+
+	static long segmentPosition(int segment) {
+		return DATA_HEADER_BYTES + (long) segment * GRIDS_PER_SEGMENT * BYTES_PER_GRID;
+	}
+
+	static long segmentLength(int segment, int gridCount) {
+		int grids = Math.min(GRIDS_PER_SEGMENT, gridCount - segment * GRIDS_PER_SEGMENT);
+		return grids * BYTES_PER_GRID;
+	}
+
+	static long dataFileSize(int gridCount) {
+		return DATA_HEADER_BYTES + gridCount * BYTES_PER_GRID;
+	}
+}
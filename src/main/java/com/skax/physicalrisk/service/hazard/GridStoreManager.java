@@ -0,0 +1,127 @@
+package com.skax.physicalrisk.service.hazard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 격자 바이너리 저장소 수명 관리
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 기동 시 app.grid-store.directory의 파일을 매핑하고, export-cron 주기로 Datawarehouse에서 재생성 후 교체한다.
+ * 교체 중에도 기존 매핑은 이전 파일(inode)을 계속 가리키므로 조회가 끊기지 않는다.
+ * 디렉터리가 비어 있거나 파일이 없으면 current()는 null이며 호출 측은 GridHazardCache로 대체한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class GridStoreManager {
+
+	static final String DATA_FILE = "hazard-grid.bin";
+	static final String INDEX_FILE = "hazard-grid.idx";
+
+	private final GridStoreExporter exporter;
+	private final String directory;
+
+	private volatile GridStore store;
+
+	public GridStoreManager(
+		GridStoreExporter exporter,
+		@Value("${app.grid-store.directory:}") String directory
+	) {
+		this.exporter = exporter;
+		this.directory = directory;
+	}
+
+	/**
+	 * 기동 완료 후 기존 저장소 파일 매핑
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void openOnStartup() {
+		if (!isConfigured()) {
+			log.info("Grid store disabled (app.grid-store.directory not set)");
+			return;
+		}
+		if (Files.exists(dataFile()) && Files.exists(indexFile())) {
+			reload();
+		} else {
+			log.info("Grid store files not found in {}, waiting for export", directory);
+		}
+	}
+
+	/**
+	 * 주기적 재생성 (기본 비활성화, app.grid-store.export-cron)
+	 */
+	@Scheduled(cron = "${app.grid-store.export-cron:-}")
+	public void scheduledExport() {
+		exportAndReload();
+	}
+
+	/**
+	 * Datawarehouse에서 저장소 재생성 후 교체
+	 *
+	 * @return 성공 여부
+	 */
+	public synchronized boolean exportAndReload() {
+		if (!isConfigured() || !exporter.isAvailable()) {
+			log.warn("Skipping grid store export: directory or datawarehouse not configured");
+			return false;
+		}
+		try {
+			exporter.export(dataFile(), indexFile());
+		} catch (IOException e) {
+			log.error("Grid store export failed: {}", e.getMessage(), e);
+			return false;
+		}
+		return reload();
+	}
+
+	/**
+	 * 저장소 파일 다시 매핑
+	 *
+	 * @return 성공 여부
+	 */
+	public boolean reload() {
+		long start = System.currentTimeMillis();
+		try {
+			store = GridStore.open(dataFile(), indexFile());
+			log.info("Grid store mapped: {} grids in {} ms", store.getGridCount(), System.currentTimeMillis() - start);
+			return true;
+		} catch (IOException e) {
+			// 기존 매핑은 유지
+			log.error("Failed to open grid store: {}", e.getMessage(), e);
+			return false;
+		}
+	}
+
+	/**
+	 * 현재 매핑된 저장소
+	 *
+	 * @return 저장소 (없으면 null)
+	 */
+	public GridStore current() {
+		return store;
+	}
+
+	private boolean isConfigured() {
+		return directory != null && !directory.isBlank();
+	}
+
+	private Path dataFile() {
+		return Path.of(directory, DATA_FILE);
+	}
+
+	private Path indexFile() {
+		return Path.of(directory, INDEX_FILE);
+	}
+}
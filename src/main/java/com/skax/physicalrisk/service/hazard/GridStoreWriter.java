@@ -0,0 +1,155 @@
+package com.skax.physicalrisk.service.hazard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 격자 바이너리 저장소 작성기
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 임시 파일을 세그먼트 단위로 READ_WRITE 매핑하여 NaN으로 초기화한 뒤,
+ * 순서와 무관하게 들어오는 행을 오프셋 계산으로 바로 기록한다 (DB 측 ORDER BY 불필요).
+ * commit() 시 헤더를 마지막에 기록하고 원자적으로 교체하므로, 중단된 export는 기존 파일에 영향이 없다.
+ *
+ * @author SKAX Team
+ */
+final class GridStoreWriter implements Closeable {
+
+	private static final int FILL_CHUNK_BYTES = 64 * 1024;
+
+	private final Path dataFile;
+	private final Path indexFile;
+	private final Path dataTemp;
+	private final Path indexTemp;
+	private final GridRaster raster;
+	private final FileChannel dataChannel;
+	private final MappedByteBuffer[] segments;
+	private boolean committed;
+
+	GridStoreWriter(Path dataFile, Path indexFile, GridRaster raster) throws IOException {
+		this.dataFile = dataFile;
+		this.indexFile = indexFile;
+		this.dataTemp = dataFile.resolveSibling(dataFile.getFileName() + ".tmp");
+		this.indexTemp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+		this.raster = raster;
+		this.dataChannel = FileChannel.open(dataTemp,
+			StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+		int gridCount = raster.gridCount();
+		this.segments = new MappedByteBuffer[GridStoreFormat.segmentCount(gridCount)];
+		for (int s = 0; s < segments.length; s++) {
+			MappedByteBuffer segment = dataChannel.map(FileChannel.MapMode.READ_WRITE,
+				GridStoreFormat.segmentPosition(s), GridStoreFormat.segmentLength(s, gridCount));
+			segment.order(GridStoreFormat.BYTE_ORDER);
+			fillNaN(segment);
+			segments[s] = segment;
+		}
+	}
+
+	/**
+	 * 값 기록
+	 *
+	 * @param grid     grid index
+	 * @param risk     위험 유형 순번 (GridStoreFormat.RISK_TYPES)
+	 * @param year     연도 (2021~2100)
+	 * @param scenario SSP 시나리오
+	 * @param measure  MEASURE_HAZARD 또는 MEASURE_BASE_AAL
+	 * @param value    값
+	 */
+	void put(int grid, int risk, int year, SspScenario scenario, int measure, float value) {
+		int segment = grid / GridStoreFormat.GRIDS_PER_SEGMENT;
+		long local = (grid % GridStoreFormat.GRIDS_PER_SEGMENT) * GridStoreFormat.BYTES_PER_GRID
+			+ GridStoreFormat.offsetInGrid(risk, year, scenario, measure);
+		segments[segment].putFloat((int) local, value);
+	}
+
+	/**
+	 * 헤더 기록, 디스크 동기화 후 대상 파일로 원자적 교체
+	 *
+	 * @param exportedAt 데이터/인덱스 파일 짝 검증용 타임스탬프
+	 */
+	void commit(long exportedAt) throws IOException {
+		for (MappedByteBuffer segment : segments) {
+			segment.force();
+		}
+		ByteBuffer header = ByteBuffer.allocate(GridStoreFormat.DATA_HEADER_BYTES).order(GridStoreFormat.BYTE_ORDER);
+		header.putInt(GridStoreFormat.DATA_MAGIC)
+			.putInt(GridStoreFormat.VERSION)
+			.putLong(exportedAt)
+			.putInt(raster.gridCount())
+			.putInt(GridStoreFormat.RISK_TYPES.size())
+			.putInt(GridHazardSeries.START_YEAR)
+			.putInt(GridHazardSeries.YEAR_COUNT)
+			.putInt(GridStoreFormat.SCENARIO_COUNT)
+			.putInt(GridStoreFormat.MEASURE_COUNT)
+			.rewind();
+		writeFully(dataChannel, header, 0);
+		dataChannel.force(true);
+
+		writeIndex(exportedAt);
+
+		Files.move(indexTemp, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		Files.move(dataTemp, dataFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		committed = true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		dataChannel.close();
+		if (!committed) {
+			Files.deleteIfExists(dataTemp);
+			Files.deleteIfExists(indexTemp);
+		}
+	}
+
+	private void writeIndex(long exportedAt) throws IOException {
+		int cellCount = raster.rows() * raster.cols();
+		ByteBuffer buffer = ByteBuffer.allocate(GridStoreFormat.INDEX_HEADER_BYTES + cellCount * Integer.BYTES)
+			.order(GridStoreFormat.BYTE_ORDER);
+		buffer.putInt(GridStoreFormat.INDEX_MAGIC)
+			.putInt(GridStoreFormat.VERSION)
+			.putLong(exportedAt)
+			.putInt(raster.minLat100())
+			.putInt(raster.minLon100())
+			.putInt(raster.rows())
+			.putInt(raster.cols());
+		for (int i = 0; i < cellCount; i++) {
+			buffer.putInt(raster.cellAt(i));
+		}
+		buffer.flip();
+
+		try (FileChannel channel = FileChannel.open(indexTemp,
+			StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			writeFully(channel, buffer, 0);
+			channel.force(true);
+		}
+	}
+
+	private static void fillNaN(MappedByteBuffer segment) {
+		ByteBuffer chunk = ByteBuffer.allocate(FILL_CHUNK_BYTES).order(GridStoreFormat.BYTE_ORDER);
+		while (chunk.hasRemaining()) {
+			chunk.putFloat(Float.NaN);
+		}
+		byte[] nan = chunk.array();
+		int capacity = segment.capacity();
+		for (int position = 0; position < capacity; position += FILL_CHUNK_BYTES) {
+			segment.put(position, nan, 0, Math.min(FILL_CHUNK_BYTES, capacity - position));
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+}
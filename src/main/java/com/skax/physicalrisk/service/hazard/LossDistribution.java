@@ -0,0 +1,71 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 격자 셀 1개 · 위험 유형 1개 · 시나리오 1개 · 연도 1개의 손실률 구간 분포
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * probability_results.sspXXX_bin_probs(구간별 발생 확률)와 sspXXX_aal(기준 AAL)을 보관한다.
+ * bin_probs는 ModelOPS 버전에 따라 두 형태로 저장되어 있다.
+ * - 배열: [0.65, 0.25, 0.08, 0.015, 0.005] (손실률 0~1을 구간 수로 등분)
+ * - 객체: {"bins": [0.0, 0.2, 0.4, 0.6, 0.8, 1.0], "probabilities": [0.65, 0.20, 0.10, 0.04, 0.01]}
+ *
+ * @param edges         구간 경계 손실률 (길이 = 구간 수 + 1)
+ * @param probabilities 구간별 확률 (합계 1로 정규화)
+ * @param baseAal       기준 AAL (없으면 NaN)
+ * @author SKAX Team
+ */
+record LossDistribution(double[] edges, double[] probabilities, float baseAal) {
+
+	/**
+	 * bin_probs JSON 파싱
+	 *
+	 * @param binProbs bin_probs 값
+	 * @param baseAal  기준 AAL (없으면 NaN)
+	 * @return 분포 (형식이 맞지 않거나 확률 합계가 0이면 null)
+	 */
+	static LossDistribution parse(JsonNode binProbs, float baseAal) {
+		if (binProbs == null) {
+			return null;
+		}
+		JsonNode probabilityNode = binProbs.isObject() ? binProbs.get("probabilities") : binProbs;
+		if (probabilityNode == null || !probabilityNode.isArray() || probabilityNode.isEmpty()) {
+			return null;
+		}
+
+		int binCount = probabilityNode.size();
+		double[] probabilities = new double[binCount];
+		double sum = 0;
+		for (int bin = 0; bin < binCount; bin++) {
+			double probability = probabilityNode.get(bin).asDouble(0);
+			probabilities[bin] = probability > 0 ? probability : 0;
+			sum += probabilities[bin];
+		}
+		if (sum <= 0) {
+			return null;
+		}
+		for (int bin = 0; bin < binCount; bin++) {
+			probabilities[bin] /= sum;
+		}
+
+		double[] edges = new double[binCount + 1];
+		JsonNode edgeNode = binProbs.isObject() ? binProbs.get("bins") : null;
+		if (edgeNode != null && edgeNode.isArray() && edgeNode.size() == binCount + 1) {
+			for (int i = 0; i <= binCount; i++) {
+				edges[i] = edgeNode.get(i).asDouble();
+			}
+		} else {
+			for (int i = 0; i <= binCount; i++) {
+				edges[i] = (double) i / binCount;
+			}
+		}
+		return new LossDistribution(edges, probabilities, baseAal);
+	}
+
+	int binCount() {
+		return probabilities.length;
+	}
+}
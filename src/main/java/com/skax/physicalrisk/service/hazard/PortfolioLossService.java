@@ -0,0 +1,226 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.dto.request.analysis.PortfolioLossRequest;
+import com.skax.physicalrisk.dto.response.analysis.PortfolioLossResponse;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.security.SecurityUtil;
+import com.skax.physicalrisk.service.site.SiteAccessService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 포트폴리오 손실 시뮬레이션 서비스
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 사용자의 전체 사업장을 격자 셀의 손실률 구간 분포(probability_results.bin_probs)로 묶어
+ * PortfolioLossEngine으로 시나리오 · 연도별 VaR/TVaR와 초과 확률 곡선을 계산한다.
+ * 표본 생성은 전용 ForkJoinPool에서 병렬로 수행하여 요청 스레드/공용 풀과 분리한다.
+ * 결과는 (시나리오, 연도, 표본 수, 사업장 격자 · 자산 가치) 조합으로 캐싱하고(같은 키 동시 요청은 한 번만 계산),
+ * 사업장 좌표나 자산 가치가 바뀌면 자연히 새로 계산된다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class PortfolioLossService {
+
+	static final double[] CONFIDENCE_LEVELS = {0.95, 0.99, 0.995};
+	static final int[] RETURN_PERIODS = {2, 5, 10, 25, 50, 100, 200, 250, 500, 1000};
+
+	private static final List<Integer> DEFAULT_YEARS = List.of(2030, 2050);
+	private static final String LOSS_UNIT_KRW = "KRW";
+	private static final String LOSS_UNIT_RATIO = "RATIO";
+
+	private final SiteAccessService siteAccessService;
+	private final GridLossDistributionCache distributionCache;
+	private final Cache<ResultKey, PortfolioLossResponse> results;
+	private final ForkJoinPool pool;
+	private final int defaultSamples;
+	private final int maxSamples;
+	private final double correlation;
+	private final long seed;
+
+	public PortfolioLossService(
+		SiteAccessService siteAccessService,
+		GridLossDistributionCache distributionCache,
+		@Value("${app.portfolio-loss.default-samples:20000}") int defaultSamples,
+		@Value("${app.portfolio-loss.max-samples:200000}") int maxSamples,
+		@Value("${app.portfolio-loss.correlation:0.3}") double correlation,
+		@Value("${app.portfolio-loss.seed:20261019}") long seed,
+		@Value("${app.portfolio-loss.parallelism:0}") int parallelism,
+		@Value("${app.portfolio-loss.result-cache.maximum-size:500}") long resultCacheMaximumSize,
+		@Value("${app.portfolio-loss.result-cache.expire-after-write-minutes:60}") long resultCacheExpireAfterWriteMinutes
+	) {
+		this.siteAccessService = siteAccessService;
+		this.distributionCache = distributionCache;
+		this.defaultSamples = defaultSamples;
+		this.maxSamples = maxSamples;
+		this.correlation = Math.max(0.0, Math.min(1.0, correlation));
+		this.seed = seed;
+		this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+		this.results = Caffeine.newBuilder()
+			.maximumSize(resultCacheMaximumSize)
+			.expireAfterWrite(Duration.ofMinutes(resultCacheExpireAfterWriteMinutes))
+			.build();
+	}
+
+	@PreDestroy
+	void shutdown() {
+		pool.shutdownNow();
+	}
+
+	/**
+	 * 사용자 전체 사업장 포트폴리오 손실 시뮬레이션
+	 *
+	 * @param request 시나리오/연도/표본 수/자산 가치
+	 * @return 시나리오 · 연도별 기대 손실, VaR/TVaR, 초과 확률 곡선
+	 */
+	public PortfolioLossResponse simulate(PortfolioLossRequest request) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		List<SspScenario> scenarios = request.getScenarios() == null || request.getScenarios().isEmpty()
+			? List.of(SspScenario.values())
+			: request.getScenarios().stream().map(SspScenario::fromLabel).distinct().toList();
+		List<Integer> years = request.getYears() == null || request.getYears().isEmpty()
+			? DEFAULT_YEARS
+			: request.getYears().stream().distinct().sorted().toList();
+		int samples = Math.min(request.getSamples() == null ? defaultSamples : request.getSamples(), maxSamples);
+		Map<UUID, Long> assetValues = request.getAssetValues() == null ? Map.of() : request.getAssetValues();
+
+		List<Site> sites = siteAccessService.getSites(userId);
+		if (sites.isEmpty()) {
+			throw new BusinessException(ErrorCode.SITE_NOT_FOUND);
+		}
+		if (!distributionCache.isAvailable()) {
+			throw new BusinessException(ErrorCode.HAZARD_DATA_UNAVAILABLE);
+		}
+
+		List<SiteExposure> exposures = new ArrayList<>();
+		List<UUID> excludedSiteIds = new ArrayList<>();
+		for (Site site : sites) {
+			Long assetValue = assetValues.isEmpty() ? Long.valueOf(1L) : assetValues.get(site.getId());
+			if (site.getLatitude() == null || site.getLongitude() == null || assetValue == null) {
+				excludedSiteIds.add(site.getId());
+				continue;
+			}
+			exposures.add(new SiteExposure(site.getId(), GridCell.of(site.getLatitude(), site.getLongitude()), assetValue));
+		}
+		if (exposures.isEmpty()) {
+			throw new BusinessException(ErrorCode.INVALID_SITE_DATA, "시뮬레이션할 수 있는 사업장이 없습니다 (좌표 또는 자산 가치 누락)");
+		}
+
+		ResultKey key = new ResultKey(scenarios, years, samples, !assetValues.isEmpty(),
+			List.copyOf(exposures), List.copyOf(excludedSiteIds));
+		return results.get(key, this::compute);
+	}
+
+	private PortfolioLossResponse compute(ResultKey key) {
+		long start = System.nanoTime();
+		Map<GridCell, LossDistribution[]> distributionsByCell = new HashMap<>();
+		try {
+			for (SiteExposure exposure : key.exposures()) {
+				distributionsByCell.computeIfAbsent(exposure.cell(), distributionCache::getCell);
+			}
+		} catch (DataAccessException e) {
+			log.error("Failed to load grid loss distributions: {}", e.getMessage());
+			throw new BusinessException(ErrorCode.HAZARD_DATA_UNAVAILABLE, e);
+		}
+
+		List<PortfolioLossResponse.ScenarioLoss> scenarioLosses = new ArrayList<>(key.scenarios().size());
+		for (SspScenario scenario : key.scenarios()) {
+			List<PortfolioLossResponse.YearLoss> yearLosses = new ArrayList<>(key.years().size());
+			for (int year : key.years()) {
+				PortfolioLossEngine.Portfolio.Builder builder = PortfolioLossEngine.Portfolio.builder();
+				for (SiteExposure exposure : key.exposures()) {
+					LossDistribution[] distributions = distributionsByCell.get(exposure.cell());
+					for (int risk = 0; risk < PortfolioLossEngine.FACTOR_COUNT; risk++) {
+						LossDistribution distribution = distributions[AalWhatIfEngine.offset(risk, scenario, year)];
+						if (distribution != null) {
+							builder.add(risk, exposure.assetValue(), distribution);
+						}
+					}
+				}
+				double[] losses = PortfolioLossEngine.simulate(builder.build(), correlation, key.samples(),
+					seed ^ (31L * scenario.ordinal() + year), pool);
+				yearLosses.add(toYearLoss(year, PortfolioLossEngine.summarize(losses, CONFIDENCE_LEVELS, RETURN_PERIODS)));
+			}
+			scenarioLosses.add(PortfolioLossResponse.ScenarioLoss.builder()
+				.scenario(scenario.getLabel())
+				.years(yearLosses)
+				.build());
+		}
+
+		long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+		log.info("Portfolio loss simulated: sites={}, cells={}, scenarios={}, years={}, samples={} in {} ms",
+			key.exposures().size(), distributionsByCell.size(), key.scenarios().size(), key.years().size(),
+			key.samples(), elapsedMs);
+
+		return PortfolioLossResponse.builder()
+			.siteCount(key.exposures().size())
+			.excludedSiteIds(key.excludedSiteIds())
+			.samples(key.samples())
+			.correlation(correlation)
+			.lossUnit(key.currency() ? LOSS_UNIT_KRW : LOSS_UNIT_RATIO)
+			.scenarios(scenarioLosses)
+			.build();
+	}
+
+	private static PortfolioLossResponse.YearLoss toYearLoss(int year, PortfolioLossEngine.Summary summary) {
+		List<PortfolioLossResponse.RiskMeasure> riskMeasures = new ArrayList<>(CONFIDENCE_LEVELS.length);
+		for (int i = 0; i < CONFIDENCE_LEVELS.length; i++) {
+			riskMeasures.add(PortfolioLossResponse.RiskMeasure.builder()
+				.confidenceLevel(CONFIDENCE_LEVELS[i])
+				.valueAtRisk(summary.valueAtRisk()[i])
+				.tailValueAtRisk(summary.tailValueAtRisk()[i])
+				.build());
+		}
+
+		List<PortfolioLossResponse.ExceedancePoint> exceedanceCurve = new ArrayList<>(RETURN_PERIODS.length);
+		for (int i = 0; i < RETURN_PERIODS.length; i++) {
+			double loss = summary.exceedanceLosses()[i];
+			exceedanceCurve.add(PortfolioLossResponse.ExceedancePoint.builder()
+				.returnPeriod(RETURN_PERIODS[i])
+				.exceedanceProbability(1.0 / RETURN_PERIODS[i])
+				.loss(Double.isNaN(loss) ? null : loss)
+				.build());
+		}
+
+		return PortfolioLossResponse.YearLoss.builder()
+			.year(year)
+			.expectedLoss(summary.expectedLoss())
+			.riskMeasures(riskMeasures)
+			.exceedanceCurve(exceedanceCurve)
+			.build();
+	}
+
+	/**
+	 * @param siteId     사업장 ID
+	 * @param cell       사업장 격자 셀
+	 * @param assetValue 자산 가치 (자산 가치 미입력 시 1)
+	 */
+	private record SiteExposure(UUID siteId, GridCell cell, long assetValue) {
+	}
+
+	/**
+	 * 결과 캐시 키 (노출 목록에 사업장 ID/격자/자산 가치가 모두 포함됨)
+	 */
+	private record ResultKey(List<SspScenario> scenarios, List<Integer> years, int samples, boolean currency,
+							 List<SiteExposure> exposures, List<UUID> excludedSiteIds) {
+	}
+}
@@ -0,0 +1,159 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.skax.physicalrisk.constants.HazardTypeConstants;
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.dto.response.analysis.SiteHazardResponse;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.security.SecurityUtil;
+import com.skax.physicalrisk.service.site.SiteAccessService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사업장 격자 위험도 조회 서비스
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v04 - 사업장별 E / V / 최종 AAL을 격자 값 위에 추가
+ *
+ * 사업장 권한 확인 후 좌표를 격자 셀로 변환하여 위험 유형별 H / 기준 AAL을 조회한다.
+ * - 격자 저장소(GridStore)가 매핑되어 있으면 오프셋 계산만으로 조회 (DB 호출 없음)
+ * - 없으면 공유 캐시(GridHazardCache)를 사용하며, 같은 격자의 Datawarehouse 조회는 격자당 1회로 제한된다.
+ * 그 위에 사업장 고유 값(E, V, 최종 AAL)을 SiteRiskLayerReader로 덧붙이므로
+ * 사업장 위험도 확인에 사업장 단위 FastAPI 호출이 필요 없다. 사업장 값이 아직 없으면 null로 응답한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SiteHazardService {
+
+	private static final int DEFAULT_YEAR = 2025;
+
+	/** 위험 유형 코드 → 표준 한글명 (응답 순서 유지) */
+	static final Map<String, String> RISK_TYPES = new LinkedHashMap<>();
+
+	static {
+		RISK_TYPES.put(HazardTypeConstants.EXTREME_HEAT, "극심한 고온");
+		RISK_TYPES.put(HazardTypeConstants.EXTREME_COLD, "극심한 저온");
+		RISK_TYPES.put(HazardTypeConstants.WILDFIRE, "산불");
+		RISK_TYPES.put(HazardTypeConstants.DROUGHT, "가뭄");
+		RISK_TYPES.put(HazardTypeConstants.WATER_STRESS, "물 부족");
+		RISK_TYPES.put(HazardTypeConstants.SEA_LEVEL_RISE, "해수면 상승");
+		RISK_TYPES.put(HazardTypeConstants.RIVER_FLOOD, "하천 홍수");
+		RISK_TYPES.put(HazardTypeConstants.URBAN_FLOOD, "도시 홍수");
+		RISK_TYPES.put(HazardTypeConstants.TYPHOON, "태풍");
+	}
+
+	private final SiteAccessService siteAccessService;
+	private final GridHazardCache gridHazardCache;
+	private final GridStoreManager gridStoreManager;
+	private final SiteRiskLayerReader siteRiskLayerReader;
+
+	/**
+	 * 사업장 격자의 위험 유형별 Hazard / 기준 AAL + 사업장 E / V / 최종 AAL 조회
+	 *
+	 * @param siteId   사업장 ID
+	 * @param scenario SSP 시나리오 (SSP2-4.5 등)
+	 * @param year     목표 연도 (기본 2025, 2021~2100)
+	 * @return 사업장 격자 위험도
+	 */
+	public SiteHazardResponse getSiteHazard(UUID siteId, String scenario, Integer year) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		SspScenario sspScenario = SspScenario.fromLabel(scenario);
+		int targetYear = year == null ? DEFAULT_YEAR : year;
+		if (targetYear < GridHazardSeries.START_YEAR || targetYear > GridHazardSeries.END_YEAR) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST,
+				"연도는 " + GridHazardSeries.START_YEAR + "~" + GridHazardSeries.END_YEAR + " 사이여야 합니다");
+		}
+
+		Site site = siteAccessService.getSiteWithAuth(siteId, userId);
+		if (site.getLatitude() == null || site.getLongitude() == null) {
+			throw new BusinessException(ErrorCode.INVALID_SITE_DATA, "사업장 좌표가 등록되지 않았습니다");
+		}
+
+		GridCell cell = GridCell.of(site.getLatitude(), site.getLongitude());
+		GridStore store = gridStoreManager.current();
+		List<SiteHazardResponse.HazardLayer> hazards = store != null
+			? layersFromStore(store, cell, sspScenario, targetYear)
+			: layersFromCache(cell, sspScenario, targetYear);
+		applySiteLayers(hazards, siteRiskLayerReader.read(site.getId(), sspScenario, targetYear));
+
+		return SiteHazardResponse.builder()
+			.siteId(site.getId())
+			.siteName(site.getName())
+			.gridLatitude(cell.latitude())
+			.gridLongitude(cell.longitude())
+			.scenario(sspScenario.getLabel())
+			.year(targetYear)
+			.hazards(hazards)
+			.build();
+	}
+
+	private List<SiteHazardResponse.HazardLayer> layersFromStore(GridStore store, GridCell cell,
+																 SspScenario scenario, int year) {
+		int grid = store.gridIndex(cell);
+		List<SiteHazardResponse.HazardLayer> hazards = new ArrayList<>(RISK_TYPES.size());
+		RISK_TYPES.forEach((riskType, hazardType) -> hazards.add(SiteHazardResponse.HazardLayer.builder()
+			.riskType(riskType)
+			.hazardType(hazardType)
+			.hazardScore(nullIfNaN(store.hazardScore(grid, riskType, scenario, year)))
+			.baseAal(nullIfNaN(store.baseAal(grid, riskType, scenario, year)))
+			.build()));
+		return hazards;
+	}
+
+	private List<SiteHazardResponse.HazardLayer> layersFromCache(GridCell cell, SspScenario sspScenario, int targetYear) {
+		if (!gridHazardCache.isAvailable()) {
+			throw new BusinessException(ErrorCode.HAZARD_DATA_UNAVAILABLE);
+		}
+
+		Map<String, GridHazardSeries> seriesByRiskType;
+		try {
+			seriesByRiskType = gridHazardCache.getCell(cell);
+		} catch (DataAccessException e) {
+			log.error("Failed to load grid hazard cell {}: {}", cell, e.getMessage());
+			throw new BusinessException(ErrorCode.HAZARD_DATA_UNAVAILABLE, e);
+		}
+
+		List<SiteHazardResponse.HazardLayer> hazards = new ArrayList<>(RISK_TYPES.size());
+		RISK_TYPES.forEach((riskType, hazardType) -> {
+			GridHazardSeries series = seriesByRiskType.getOrDefault(riskType, GridHazardSeries.EMPTY);
+			hazards.add(SiteHazardResponse.HazardLayer.builder()
+				.riskType(riskType)
+				.hazardType(hazardType)
+				.hazardScore(series.hazardScore(sspScenario, targetYear))
+				.baseAal(series.baseAal(sspScenario, targetYear))
+				.build());
+		});
+		return hazards;
+	}
+
+	/**
+	 * 격자 공유 값 위에 사업장 고유 값 적용
+	 */
+	private static void applySiteLayers(List<SiteHazardResponse.HazardLayer> hazards,
+										Map<String, SiteRiskLayerReader.SiteRiskLayer> siteLayers) {
+		for (SiteHazardResponse.HazardLayer hazard : hazards) {
+			SiteRiskLayerReader.SiteRiskLayer siteLayer = siteLayers.get(hazard.getRiskType());
+			if (siteLayer != null) {
+				hazard.setExposureScore(siteLayer.exposureScore());
+				hazard.setVulnerabilityScore(siteLayer.vulnerabilityScore());
+				hazard.setFinalAal(siteLayer.finalAal());
+			}
+		}
+	}
+
+	private static Float nullIfNaN(float value) {
+		return Float.isNaN(value) ? null : value;
+	}
+}
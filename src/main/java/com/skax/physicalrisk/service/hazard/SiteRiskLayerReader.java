@@ -0,0 +1,97 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.skax.physicalrisk.client.datawarehouse.DatawarehouseJdbc;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사업장별 E / V / 최종 AAL 조회
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 격자 공유 값(H, 기준 AAL) 위에 올릴 사업장 고유 값을 ModelOps가 적재한
+ * exposure_results, vulnerability_results, aal_scaled_results에서 한 번의 조회로 가져온다.
+ * 사업장마다 다른 값이므로 격자 캐시와 달리 캐싱하지 않으며, 행이 (site_id, risk_type, target_year) PK라
+ * 사업장 · 연도 조건으로 위험 유형 9건씩만 읽는다.
+ * 아직 분석되지 않은 사업장이거나 Datawarehouse를 사용할 수 없으면 빈 Map을 반환한다 (H / 기준 AAL은 그대로 응답).
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SiteRiskLayerReader {
+
+	private static final String LAYER_QUERY = """
+		SELECT 'E' AS layer, risk_type, exposure_score AS value
+		FROM exposure_results WHERE site_id = ? AND target_year = ?
+		UNION ALL
+		SELECT 'V' AS layer, risk_type, vulnerability_score AS value
+		FROM vulnerability_results WHERE site_id = ? AND target_year = ?
+		UNION ALL
+		SELECT 'A' AS layer, risk_type, %s_final_aal AS value
+		FROM aal_scaled_results WHERE site_id = ? AND target_year = ?
+		""";
+
+	private final DatawarehouseJdbc datawarehouseJdbc;
+
+	/**
+	 * 사업장 · 연도의 위험 유형별 E / V / 최종 AAL
+	 *
+	 * @param siteId   사업장 ID (Datawarehouse site_id)
+	 * @param scenario 최종 AAL 시나리오
+	 * @param year     목표 연도
+	 * @return 위험 유형 코드 → 사업장 값 (조회할 수 없으면 빈 Map)
+	 */
+	public Map<String, SiteRiskLayer> read(UUID siteId, SspScenario scenario, int year) {
+		if (!datawarehouseJdbc.isEnabled()) {
+			return Map.of();
+		}
+
+		Map<String, SiteRiskLayer> layers = new HashMap<>();
+		try {
+			// 시나리오 컬럼명은 enum 상수에서만 가져오므로 SQL에 직접 넣어도 안전
+			datawarehouseJdbc.jdbcTemplate().query(LAYER_QUERY.formatted(scenario.getColumnPrefix()), rs -> {
+				String riskType = rs.getString("risk_type");
+				Float value = getFloat(rs, "value");
+				SiteRiskLayer current = layers.getOrDefault(riskType, SiteRiskLayer.EMPTY);
+				layers.put(riskType, switch (rs.getString("layer")) {
+					case "E" -> new SiteRiskLayer(value, current.vulnerabilityScore(), current.finalAal());
+					case "V" -> new SiteRiskLayer(current.exposureScore(), value, current.finalAal());
+					default -> new SiteRiskLayer(current.exposureScore(), current.vulnerabilityScore(), value);
+				});
+			}, siteId, year, siteId, year, siteId, year);
+		} catch (DataAccessException e) {
+			log.warn("Failed to load site risk layers for site {}: {}", siteId, e.getMessage());
+			return Map.of();
+		}
+		return Collections.unmodifiableMap(layers);
+	}
+
+	private static Float getFloat(ResultSet rs, String column) throws SQLException {
+		float value = rs.getFloat(column);
+		return rs.wasNull() ? null : value;
+	}
+
+	/**
+	 * 위험 유형 1개의 사업장 고유 값 (없는 값은 null)
+	 *
+	 * @param exposureScore      노출도 E (0~100)
+	 * @param vulnerabilityScore 취약성 V (0~100)
+	 * @param finalAal           취약성/보험 반영 최종 AAL
+	 */
+	public record SiteRiskLayer(Float exposureScore, Float vulnerabilityScore, Float finalAal) {
+
+		static final SiteRiskLayer EMPTY = new SiteRiskLayer(null, null, null);
+	}
+}
@@ -0,0 +1,54 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+
+/**
+ * SSP 기후 시나리오
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * Datawarehouse 격자 테이블의 시나리오 컬럼 접두사(ssp126 등)와 API 표시명(SSP1-2.6 등)을 매핑한다.
+ *
+ * @author SKAX Team
+ */
+public enum SspScenario {
+
+	SSP126("SSP1-2.6", "ssp126"),
+	SSP245("SSP2-4.5", "ssp245"),
+	SSP370("SSP3-7.0", "ssp370"),
+	SSP585("SSP5-8.5", "ssp585");
+
+	private final String label;
+	private final String columnPrefix;
+
+	SspScenario(String label, String columnPrefix) {
+		this.label = label;
+		this.columnPrefix = columnPrefix;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	public String getColumnPrefix() {
+		return columnPrefix;
+	}
+
+	/**
+	 * 표시명(SSP2-4.5) 또는 컬럼 접두사(ssp245)로 시나리오 조회
+	 *
+	 * @param value 시나리오 문자열
+	 * @return 시나리오
+	 * @throws BusinessException 알 수 없는 시나리오인 경우
+	 */
+	public static SspScenario fromLabel(String value) {
+		for (SspScenario scenario : values()) {
+			if (scenario.label.equalsIgnoreCase(value) || scenario.columnPrefix.equalsIgnoreCase(value)) {
+				return scenario;
+			}
+		}
+		throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 시나리오입니다: " + value);
+	}
+}
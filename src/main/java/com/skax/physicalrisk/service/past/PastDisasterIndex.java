@@ -0,0 +1,225 @@
+package com.skax.physicalrisk.service.past;
+
+import com.skax.physicalrisk.dto.response.past.PastDisasterResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 과거 재해 이력 메모리 인덱스
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v03 - 전체 조회는 FastAPI 응답 순서 유지, 증분 추가(append) 제거
+ *
+ * 재해 항목을 id 오름차순 배열로 보관하고, (연도, 재해 유형, 심각도) 조합마다 해당 항목의 위치 목록을 미리 만들어 둔다.
+ * 각 조건은 생략(전체)할 수 있으므로 항목 하나를 8개 조합(2^3)에 모두 등록하며,
+ * 조회는 조합 키 → 위치 배열에서 커서 이후 위치를 이진 탐색한 뒤 limit개만 꺼낸다.
+ * 페이지 없는 전체 조회는 FastAPI 응답과 같은 순서여야 하므로 조합마다 원본 순서 위치 목록도 함께 둔다.
+ * 생성 후에는 읽기 전용이며 스레드 안전하다. 동기화 시에는 전체 목록으로 새 인덱스를 만든다.
+ *
+ * @author SKAX Team
+ */
+final class PastDisasterIndex {
+
+	private final PastDisasterResponse.DisasterItem[] items;
+	/** id 순 위치 → FastAPI 응답 내 순서 */
+	private final int[] sourceRanks;
+	private final Map<Key, int[]> positionsByKey;
+	private final Map<Key, int[]> sourceOrderPositionsByKey;
+
+	/**
+	 * @param items 재해 항목 (FastAPI 응답 순서, id가 없는 항목은 제외, id 중복 시 먼저 온 항목 사용)
+	 */
+	PastDisasterIndex(List<PastDisasterResponse.DisasterItem> items) {
+		List<PastDisasterResponse.DisasterItem> sourceOrder = new ArrayList<>(items.stream()
+			.filter(item -> item.getId() != null)
+			.collect(Collectors.toMap(PastDisasterResponse.DisasterItem::getId, item -> item,
+				(first, duplicate) -> first, LinkedHashMap::new))
+			.values());
+		Integer[] ranksById = new Integer[sourceOrder.size()];
+		for (int rank = 0; rank < ranksById.length; rank++) {
+			ranksById[rank] = rank;
+		}
+		Arrays.sort(ranksById, Comparator.comparing(rank -> sourceOrder.get(rank).getId()));
+
+		this.items = new PastDisasterResponse.DisasterItem[ranksById.length];
+		this.sourceRanks = new int[ranksById.length];
+		int[] positionsByRank = new int[ranksById.length];
+		for (int position = 0; position < ranksById.length; position++) {
+			this.items[position] = sourceOrder.get(ranksById[position]);
+			this.sourceRanks[position] = ranksById[position];
+			positionsByRank[ranksById[position]] = position;
+		}
+
+		this.positionsByKey = indexPositions(IntStream.range(0, this.items.length));
+		this.sourceOrderPositionsByKey = indexPositions(Arrays.stream(positionsByRank));
+	}
+
+	/**
+	 * 조합 키 → 위치 배열 (orderedPositions 순서 유지)
+	 */
+	private Map<Key, int[]> indexPositions(IntStream orderedPositions) {
+		Map<Key, List<Integer>> positions = new HashMap<>();
+		orderedPositions.forEach(position -> {
+			PastDisasterResponse.DisasterItem item = items[position];
+			Integer year = parseYear(item.getAlertDate());
+			for (int mask = 0; mask < 8; mask++) {
+				// 값이 없는 조건은 해당 조건을 생략한 조합에만 등록 (null 키는 "전체"를 뜻함)
+				if ((mask & 1) != 0 && year == null || (mask & 2) != 0 && item.getDisasterType() == null
+					|| (mask & 4) != 0 && item.getSeverity() == null) {
+					continue;
+				}
+				Key key = new Key(
+					(mask & 1) == 0 ? null : year,
+					(mask & 2) == 0 ? null : item.getDisasterType(),
+					(mask & 4) == 0 ? null : item.getSeverity());
+				positions.computeIfAbsent(key, k -> new ArrayList<>()).add(position);
+			}
+		});
+
+		Map<Key, int[]> indexed = new HashMap<>(positions.size() * 2);
+		positions.forEach((key, list) -> indexed.put(key, list.stream().mapToInt(Integer::intValue).toArray()));
+		return indexed;
+	}
+
+	/**
+	 * 조건별 재해 이력 페이지 조회
+	 *
+	 * @param year         발생 연도 (null이면 전체)
+	 * @param disasterType 재해 유형 (null이면 전체)
+	 * @param severity     심각도 (null이면 전체)
+	 * @param afterId      직전 페이지 마지막 재해 ID (첫 페이지면 null)
+	 * @param limit        페이지 크기 (0 이하면 제한 없음)
+	 * @return 페이지 (커서/크기 없이 조회하면 FastAPI 응답 순서, 그 외에는 id 순)
+	 */
+	Page page(Integer year, String disasterType, String severity, Integer afterId, int limit) {
+		Key key = new Key(year, disasterType, severity);
+		if (afterId == null && limit <= 0) {
+			int[] positions = sourceOrderPositionsByKey.getOrDefault(key, new int[0]);
+			List<PastDisasterResponse.DisasterItem> all = new ArrayList<>(positions.length);
+			for (int position : positions) {
+				all.add(items[position]);
+			}
+			return new Page(all, false, positions.length);
+		}
+
+		int[] positions = positionsByKey.get(key);
+		if (positions == null) {
+			return new Page(List.of(), false, 0);
+		}
+
+		int from = afterId == null ? 0 : firstAfter(positions, afterId);
+		int to = limit > 0 ? (int) Math.min((long) from + limit, positions.length) : positions.length;
+		List<PastDisasterResponse.DisasterItem> page = new ArrayList<>(Math.max(0, to - from));
+		for (int i = from; i < to; i++) {
+			page.add(items[positions[i]]);
+		}
+		return new Page(page, to < positions.length, positions.length);
+	}
+
+	/**
+	 * 전체 재해 항목 (id 오름차순, 읽기 전용)
+	 */
+	List<PastDisasterResponse.DisasterItem> items() {
+		return Collections.unmodifiableList(Arrays.asList(items));
+	}
+
+	int size() {
+		return items.length;
+	}
+
+	/**
+	 * id 순 위치의 항목
+	 */
+	PastDisasterResponse.DisasterItem item(int position) {
+		return items[position];
+	}
+
+	/**
+	 * id 순 위치 항목의 FastAPI 응답 내 순서
+	 */
+	int sourceRank(int position) {
+		return sourceRanks[position];
+	}
+
+	/**
+	 * 재해 ID의 id 순 위치
+	 *
+	 * @return 위치 (없으면 -1)
+	 */
+	int positionOf(int id) {
+		int low = 0;
+		int high = items.length - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int midId = items[mid].getId();
+			if (midId < id) {
+				low = mid + 1;
+			} else if (midId > id) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * id가 afterId보다 큰 첫 위치 (positions는 items 위치 오름차순 = id 오름차순)
+	 */
+	private int firstAfter(int[] positions, int afterId) {
+		int low = 0;
+		int high = positions.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (items[positions[mid]].getId() <= afterId) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * 발생 날짜 문자열에서 연도 추출 ("2023-07-15", "2023.07.15 14:00" 등 앞 4자리)
+	 *
+	 * @return 연도 (형식이 다르면 null)
+	 */
+	static Integer parseYear(String alertDate) {
+		if (alertDate == null || alertDate.length() < 4) {
+			return null;
+		}
+		int year = 0;
+		for (int i = 0; i < 4; i++) {
+			char c = alertDate.charAt(i);
+			if (c < '0' || c > '9') {
+				return null;
+			}
+			year = year * 10 + (c - '0');
+		}
+		return year;
+	}
+
+	/**
+	 * @param items      재해 항목
+	 * @param hasNext    다음 페이지 존재 여부
+	 * @param totalCount 조건에 맞는 전체 건수 (DB 조회 시 null)
+	 */
+	record Page(List<PastDisasterResponse.DisasterItem> items, boolean hasNext, Integer totalCount) {
+	}
+
+	/**
+	 * 조회 조합 키 (null은 해당 조건 생략)
+	 */
+	private record Key(Integer year, String disasterType, String severity) {
+	}
+}
@@ -0,0 +1,161 @@
+package com.skax.physicalrisk.service.past;
+
+import com.skax.physicalrisk.dto.response.past.PastDisasterResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 행정구역 → 과거 재해 역색인
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 5자리보다 짧은 읍면동 코드 무시
+ *
+ * 재해 항목의 region 문자열을 RegionNameMatcher로 시도/시군구/읍면동 코드로 변환한 뒤,
+ * 사업장 해상도인 시군구 단위로 롤업해 둔다.
+ * - 시도 전역 재해 → 해당 시도의 모든 시군구
+ * - 시군구 재해 → 해당 시군구
+ * - 읍면동 재해 → 상위 시군구
+ * 시군구마다 재해 위치 목록(발생일 내림차순)과 유형 · 연도별 건수, 매칭 수준별 건수를 미리 계산하므로
+ * 사업장 조회는 시군구 코드로 Map 조회 한 번이다. 생성 후에는 읽기 전용이며 스레드 안전하다.
+ *
+ * @author SKAX Team
+ */
+final class PastDisasterRegionIndex {
+
+	static final String UNKNOWN_TYPE = "기타";
+
+	private static final RegionHistory EMPTY = new RegionHistory(new int[0], Map.of(), 0, 0, 0);
+	private static final Comparator<PastDisasterResponse.DisasterItem> LATEST_FIRST = Comparator
+		.comparing(PastDisasterResponse.DisasterItem::getAlertDate, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+		.thenComparing(PastDisasterResponse.DisasterItem::getId, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+		.reversed();
+
+	private final PastDisasterResponse.DisasterItem[] items;
+	private final Map<String, RegionHistory> historiesBySigungu;
+	private final int unmatchedCount;
+
+	PastDisasterRegionIndex(RegionNameMatcher matcher, List<PastDisasterResponse.DisasterItem> items) {
+		this.items = items.stream().sorted(LATEST_FIRST).toArray(PastDisasterResponse.DisasterItem[]::new);
+
+		Map<String, Builder> builders = new HashMap<>();
+		int unmatched = 0;
+		for (int position = 0; position < this.items.length; position++) {
+			PastDisasterResponse.DisasterItem item = this.items[position];
+			Set<String> codes = matcher.match(item.getRegion());
+			if (codes.isEmpty()) {
+				unmatched++;
+				continue;
+			}
+
+			// 여러 수준으로 매칭된 경우 시군구별로 가장 구체적인 수준 하나로 집계
+			Map<String, Scope> affected = new HashMap<>();
+			for (String code : codes) {
+				if (code.length() == 2) {
+					for (String sigunguCode : matcher.sigunguCodes(code)) {
+						affected.merge(sigunguCode, Scope.SIDO, Scope::narrower);
+					}
+				} else if (code.length() == 5) {
+					affected.merge(code, Scope.SIGUNGU, Scope::narrower);
+				} else if (code.length() > 5) {
+					affected.merge(code.substring(0, 5), Scope.EMD, Scope::narrower);
+				}
+			}
+			for (Map.Entry<String, Scope> entry : affected.entrySet()) {
+				builders.computeIfAbsent(entry.getKey(), k -> new Builder()).add(position, item, entry.getValue());
+			}
+		}
+
+		this.historiesBySigungu = new HashMap<>(builders.size() * 2);
+		builders.forEach((sigunguCode, builder) -> historiesBySigungu.put(sigunguCode, builder.build()));
+		this.unmatchedCount = unmatched;
+	}
+
+	/**
+	 * 시군구에 영향을 준 재해 이력 (시도 전역 · 읍면동 재해 포함)
+	 *
+	 * @param sigunguCode 5자리 시군구 코드
+	 * @return 재해 이력 (없으면 빈 이력)
+	 */
+	RegionHistory history(String sigunguCode) {
+		RegionHistory history = sigunguCode == null ? null : historiesBySigungu.get(sigunguCode);
+		return history == null ? EMPTY : history;
+	}
+
+	/**
+	 * 최근 재해 limit개
+	 */
+	List<PastDisasterResponse.DisasterItem> latest(RegionHistory history, int limit) {
+		int count = Math.min(limit, history.positions().length);
+		List<PastDisasterResponse.DisasterItem> events = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			events.add(items[history.positions()[i]]);
+		}
+		return events;
+	}
+
+	int size() {
+		return items.length;
+	}
+
+	int unmatchedCount() {
+		return unmatchedCount;
+	}
+
+	/**
+	 * 매칭 수준 (구체적일수록 뒤)
+	 */
+	enum Scope {
+		SIDO, SIGUNGU, EMD;
+
+		static Scope narrower(Scope a, Scope b) {
+			return a.ordinal() >= b.ordinal() ? a : b;
+		}
+	}
+
+	/**
+	 * @param positions     재해 위치 (발생일 내림차순)
+	 * @param countsByType  재해 유형 → {연도: 건수} (연도를 알 수 없는 재해는 제외)
+	 * @param sidoWideCount 시도 전역 재해 건수
+	 * @param sigunguCount  시군구 단위 재해 건수
+	 * @param emdCount      읍면동 단위 재해 건수
+	 */
+	record RegionHistory(int[] positions, Map<String, Map<Integer, Integer>> countsByType,
+						 int sidoWideCount, int sigunguCount, int emdCount) {
+
+		int totalCount() {
+			return positions.length;
+		}
+	}
+
+	private static final class Builder {
+
+		private final List<Integer> positions = new ArrayList<>();
+		private final Map<String, Map<Integer, Integer>> countsByType = new TreeMap<>();
+		private final int[] scopeCounts = new int[Scope.values().length];
+
+		void add(int position, PastDisasterResponse.DisasterItem item, Scope scope) {
+			positions.add(position);
+			scopeCounts[scope.ordinal()]++;
+			Integer year = PastDisasterIndex.parseYear(item.getAlertDate());
+			if (year != null) {
+				String type = item.getDisasterType() == null ? UNKNOWN_TYPE : item.getDisasterType();
+				countsByType.computeIfAbsent(type, k -> new TreeMap<>()).merge(year, 1, Integer::sum);
+			}
+		}
+
+		RegionHistory build() {
+			Map<String, Map<Integer, Integer>> counts = new TreeMap<>();
+			countsByType.forEach((type, byYear) -> counts.put(type, Collections.unmodifiableMap(byYear)));
+			return new RegionHistory(positions.stream().mapToInt(Integer::intValue).toArray(),
+				Collections.unmodifiableMap(counts),
+				scopeCounts[Scope.SIDO.ordinal()], scopeCounts[Scope.SIGUNGU.ordinal()], scopeCounts[Scope.EMD.ordinal()]);
+		}
+	}
+}
@@ -1,7 +1,5 @@
 package com.skax.physicalrisk.service.past;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.skax.physicalrisk.client.fastapi.FastApiClient;
 import com.skax.physicalrisk.dto.response.past.PastDisasterResponse;
 import com.skax.physicalrisk.exception.BusinessException;
 import com.skax.physicalrisk.exception.ErrorCode;
@@ -9,133 +7,79 @@ import com.skax.physicalrisk.security.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
 import java.util.UUID;
 
 /**
  * 과거 재해 이력 서비스
  *
- * FastAPI 서버를 통한 과거 재해 데이터 조회
+ * 로컬 과거 재해 저장소(PastDisasterStore)를 통한 과거 재해 데이터 조회
+ * FastAPI 전체 이력은 주기적 동기화에서만 받고, 요청은 메모리 인덱스에서 처리한다.
+ * size 없이 조회하면 FastAPI 응답과 같은 순서, size를 주면 id 순 키셋 페이지로 응답한다.
  *
- * 최종 수정일: 2025-12-10
- * 파일 버전: v01
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v04
  *
  * @author SKAX Team
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PastDisasterService {
 
-	private final FastApiClient fastApiClient;
-	private final ObjectMapper objectMapper;
+	private static final int MAX_PAGE_SIZE = 500;
+
+	private final PastDisasterStore pastDisasterStore;
 
 	/**
-	 * 과거 재해 이력 조회
+	 * 과거 재해 이력 조회 (size 요청 시 id 순 키셋 페이지네이션)
 	 *
 	 * @param year         연도 (optional)
 	 * @param disasterType 재해 유형 (optional)
 	 * @param severity     심각도 (optional)
+	 * @param cursor       이전 응답의 nextCursor (optional, 첫 페이지면 null)
+	 * @param size         페이지 크기 (optional, 없으면 조건에 맞는 전체 이력)
 	 * @return 과거 재해 이력
 	 */
-	public PastDisasterResponse getPastDisasters(Integer year, String disasterType, String severity) {
+	public PastDisasterResponse getPastDisasters(Integer year, String disasterType, String severity,
+												 Integer cursor, Integer size) {
 		UUID userId = SecurityUtil.getCurrentUserId();
-		log.info("Fetching past disasters for year={}, disasterType={}, severity={}, userId={}",
-			year, disasterType, severity, userId);
+		log.info("Fetching past disasters for year={}, disasterType={}, severity={}, cursor={}, size={}, userId={}",
+			year, disasterType, severity, cursor, size, userId);
 
 		// 파라미터 검증 (year가 제공된 경우에만)
 		if (year != null && (year < 1900 || year > 2100)) {
 			throw new BusinessException(ErrorCode.INVALID_REQUEST, "유효하지 않은 연도입니다");
 		}
+		if (size != null && (size < 1 || size > MAX_PAGE_SIZE)) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST,
+				"페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다");
+		}
 
+		PastDisasterIndex.Page page;
 		try {
-			// FastAPI로 과거 재해 데이터 요청
-			Map<String, Object> response = fastApiClient.getPastDisasters(year, disasterType, severity).block();
-
-			// 응답을 DTO로 변환
-			PastDisasterResponse pastDisasterResponse = convertToDto(response, PastDisasterResponse.class);
-
-			// FastAPI가 필터링을 제대로 하지 못하는 경우를 대비해 Java에서 추가 필터링
-			return filterDisasters(pastDisasterResponse, year, disasterType, severity);
+			page = pastDisasterStore.page(year, blankToNull(disasterType), blankToNull(severity),
+				cursor, size == null ? 0 : size);
 		} catch (Exception e) {
 			log.error("Failed to fetch past disasters: {}", e.getMessage());
 			throw new BusinessException(ErrorCode.FASTAPI_CONNECTION_ERROR,
 				"과거 재해 데이터 조회에 실패했습니다: " + e.getMessage());
 		}
-	}
 
-	/**
-	 * 재해 이력 필터링
-	 *
-	 * @param response     FastAPI 응답
-	 * @param year         연도 필터
-	 * @param disasterType 재해 유형 필터
-	 * @param severity     심각도 필터
-	 * @return 필터링된 재해 이력
-	 */
-	private PastDisasterResponse filterDisasters(PastDisasterResponse response,
-												  Integer year,
-												  String disasterType,
-												  String severity) {
-		if (response == null || response.getData() == null) {
-			return response;
+		if (size == null) {
+			return PastDisasterResponse.builder()
+				.data(page.items())
+				.build();
 		}
-
-		// 필터링 조건이 없으면 그대로 반환
-		if (year == null && disasterType == null && severity == null) {
-			log.info("No filter criteria provided, returning all disasters");
-			return response;
-		}
-
-		// 필터링 수행
-		var filteredItems = response.getData().stream()
-			.filter(item -> {
-				// year 필터링 (alertDate에서 연도 추출)
-				if (year != null && item.getAlertDate() != null) {
-					String itemYear = item.getAlertDate().substring(0, 4); // "2023-07-15" -> "2023"
-					if (!String.valueOf(year).equals(itemYear)) {
-						return false;
-					}
-				}
-
-				// disasterType 필터링
-				if (disasterType != null && !disasterType.isEmpty()) {
-					if (item.getDisasterType() == null || !item.getDisasterType().equals(disasterType)) {
-						return false;
-					}
-				}
-
-				// severity 필터링
-				if (severity != null && !severity.isEmpty()) {
-					if (item.getSeverity() == null || !item.getSeverity().equals(severity)) {
-						return false;
-					}
-				}
-
-				return true;
-			})
-			.toList();
-
-		log.info("Filtered disasters: original={}, filtered={}, year={}, disasterType={}, severity={}",
-			response.getData().size(), filteredItems.size(), year, disasterType, severity);
-
 		return PastDisasterResponse.builder()
-			.data(filteredItems)
+			.data(page.items())
+			.nextCursor(page.hasNext() ? page.items().get(page.items().size() - 1).getId() : null)
+			.hasNext(page.hasNext())
+			.totalCount(page.totalCount())
 			.build();
 	}
 
-	/**
-	 * Map을 DTO로 변환
-	 */
-	private <T> T convertToDto(Map<String, Object> map, Class<T> clazz) {
-		try {
-			return objectMapper.convertValue(map, clazz);
-		} catch (Exception e) {
-			log.error("Failed to convert response to {}: {}", clazz.getSimpleName(), e.getMessage());
-			throw new RuntimeException("응답 변환 실패: " + e.getMessage(), e);
-		}
+	private static String blankToNull(String value) {
+		return value == null || value.isEmpty() ? null : value;
 	}
 }
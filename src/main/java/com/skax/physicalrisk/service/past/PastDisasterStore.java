@@ -0,0 +1,263 @@
+package com.skax.physicalrisk.service.past;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.domain.disaster.entity.PastDisaster;
+import com.skax.physicalrisk.domain.disaster.repository.PastDisasterRepository;
+import com.skax.physicalrisk.dto.response.past.PastDisasterResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 과거 재해 이력 로컬 저장소
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v04 - 동기화 upsert/삭제를 PastDisasterWriter 한 트랜잭션으로 반영
+ *
+ * FastAPI /api/past 전체 이력을 요청마다 받지 않도록 past_disasters 테이블에 미러링하고
+ * (연도, 재해 유형, 심각도) 메모리 인덱스로 조회한다.
+ * - 동기화: FastAPI는 since 커서를 지원하지 않으므로 주기당 한 번 전체 목록을 받아 저장된 이력과 비교하고,
+ *   새 항목/값이 바뀐 항목/순서가 바뀐 항목은 ON CONFLICT (id) DO UPDATE로 upsert, 목록에서 빠진 항목은 삭제한다.
+ *   upsert와 삭제는 PastDisasterWriter에서 한 트랜잭션으로 반영한다 (FastAPI 조회 중에는 커넥션을 잡지 않음).
+ *   (늦게 들어온 낮은 id 항목과 정정된 항목도 반영됨, 원본 api_emergency_messages/api_disaster_yearbook은 FastAPI를 통해서만 접근)
+ * - 메모리 인덱스: 기동 시 테이블에서 적재, 동기화로 바뀐 항목이 있으면 받은 전체 목록으로 다시 생성
+ * - 메모리 인덱스 비활성화 시 (event_year, disaster_type, severity, id) 인덱스를 타는 키셋 쿼리로 조회
+ * - 페이지 없는 전체 조회는 FastAPI 응답 순서(source_order)로 돌려준다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class PastDisasterStore {
+
+	private final FastApiClient fastApiClient;
+	private final PastDisasterRepository pastDisasterRepository;
+	private final PastDisasterWriter pastDisasterWriter;
+	private final ObjectMapper objectMapper;
+	private final boolean inMemoryIndex;
+	private final int batchSize;
+
+	private volatile PastDisasterIndex index;
+
+	/** 테이블에 동기화된 데이터가 있는지 (최초 동기화 전에는 요청 처리 중 동기화) */
+	private volatile boolean ready;
+
+	/** 저장된 이력이 바뀔 때마다 증가 (파생 인덱스 재생성 판단용) */
+	private volatile long version;
+
+	public PastDisasterStore(
+		FastApiClient fastApiClient,
+		PastDisasterRepository pastDisasterRepository,
+		PastDisasterWriter pastDisasterWriter,
+		ObjectMapper objectMapper,
+		@Value("${app.past-disasters.in-memory-index:true}") boolean inMemoryIndex,
+		@Value("${app.past-disasters.batch-size:1000}") int batchSize
+	) {
+		this.fastApiClient = fastApiClient;
+		this.pastDisasterRepository = pastDisasterRepository;
+		this.pastDisasterWriter = pastDisasterWriter;
+		this.objectMapper = objectMapper;
+		this.inMemoryIndex = inMemoryIndex;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 기동 완료 후 메모리 인덱스 적재 및 동기화 (요청 처리를 막지 않도록 비동기)
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		try {
+			synchronized (this) {
+				if (inMemoryIndex && index == null) {
+					index = loadIndex();
+				}
+				ready = ready || pastDisasterRepository.count() > 0;
+			}
+			sync();
+		} catch (Exception e) {
+			// 다음 스케줄 또는 첫 조회 시 다시 동기화
+			log.error("Failed to load past disasters on startup: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 주기적 동기화
+	 */
+	@Scheduled(initialDelayString = "${app.past-disasters.sync-interval-ms:600000}",
+		fixedDelayString = "${app.past-disasters.sync-interval-ms:600000}")
+	public void scheduledSync() {
+		try {
+			sync();
+		} catch (Exception e) {
+			log.warn("Past disaster sync failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * FastAPI 재해 이력 동기화 (전체 목록을 저장된 이력과 비교해 바뀐 항목만 upsert/삭제)
+	 *
+	 * @return 저장/삭제한 항목 수
+	 */
+	public synchronized int sync() {
+		long start = System.currentTimeMillis();
+		Map<String, Object> response = fastApiClient.getPastDisasters(null, null, null).block();
+		PastDisasterResponse fetched = objectMapper.convertValue(response, PastDisasterResponse.class);
+		if (fetched == null || fetched.getData() == null || fetched.getData().isEmpty()) {
+			// 일시적인 빈 응답으로 저장된 이력을 지우지 않음
+			log.warn("Past disaster sync skipped: FastAPI returned no items");
+			return 0;
+		}
+
+		PastDisasterIndex current = index != null ? index : loadIndex();
+		PastDisasterIndex next = new PastDisasterIndex(fetched.getData());
+
+		Timestamp syncedAt = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> upserts = new ArrayList<>();
+		for (int position = 0; position < next.size(); position++) {
+			PastDisasterResponse.DisasterItem item = next.item(position);
+			int stored = current.positionOf(item.getId());
+			if (stored < 0 || current.sourceRank(stored) != next.sourceRank(position)
+				|| !sameItem(current.item(stored), item)) {
+				upserts.add(new Object[] {item.getId(), PastDisasterIndex.parseYear(item.getAlertDate()), item.getAlertDate(),
+					item.getDisasterType(), item.getSeverity(), item.getRegion(), next.sourceRank(position), syncedAt});
+			}
+		}
+		List<Object[]> deletes = new ArrayList<>();
+		for (int position = 0; position < current.size(); position++) {
+			Integer id = current.item(position).getId();
+			if (next.positionOf(id) < 0) {
+				deletes.add(new Object[] {id});
+			}
+		}
+
+		boolean changed = !upserts.isEmpty() || !deletes.isEmpty();
+		if (changed) {
+			// upsert와 삭제를 한 트랜잭션으로 반영 (실패 시 테이블과 메모리 인덱스 모두 이전 상태 유지)
+			pastDisasterWriter.apply(upserts, deletes);
+		}
+		if (inMemoryIndex && (index == null || changed)) {
+			index = next;
+		}
+		if (changed || !ready) {
+			version++;
+		}
+		ready = true;
+		log.info("Past disasters synced: total={}, upserted={}, deleted={} in {} ms",
+			next.size(), upserts.size(), deletes.size(), System.currentTimeMillis() - start);
+		return upserts.size() + deletes.size();
+	}
+
+	/**
+	 * 조건별 재해 이력 페이지 조회 (최초 동기화 전이면 동기화 후 조회)
+	 *
+	 * @param year         발생 연도 (null이면 전체)
+	 * @param disasterType 재해 유형 (null이면 전체)
+	 * @param severity     심각도 (null이면 전체)
+	 * @param afterId      직전 페이지 마지막 재해 ID (첫 페이지면 null)
+	 * @param limit        페이지 크기 (0 이하면 제한 없음)
+	 * @return 페이지
+	 */
+	PastDisasterIndex.Page page(Integer year, String disasterType, String severity, Integer afterId, int limit) {
+		ensureReady();
+		PastDisasterIndex current = index;
+		if (current != null) {
+			return current.page(year, disasterType, severity, afterId, limit);
+		}
+		if (afterId == null && limit <= 0) {
+			List<PastDisasterResponse.DisasterItem> items = pastDisasterRepository
+				.findAllInSourceOrder(year, disasterType, severity).stream()
+				.map(PastDisasterStore::toItem)
+				.toList();
+			return new PastDisasterIndex.Page(items, false, null);
+		}
+
+		// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+		List<PastDisaster> rows = pastDisasterRepository.findPageAfter(year, disasterType, severity,
+			afterId == null ? Integer.MIN_VALUE : afterId, limit > 0 ? Limit.of(limit + 1) : Limit.unlimited());
+		boolean hasNext = limit > 0 && rows.size() > limit;
+		List<PastDisasterResponse.DisasterItem> items = (hasNext ? rows.subList(0, limit) : rows).stream()
+			.map(PastDisasterStore::toItem)
+			.toList();
+		return new PastDisasterIndex.Page(items, hasNext, null);
+	}
+
+	/**
+	 * 저장된 전체 재해 이력 (id 순, 최초 동기화 전이면 동기화 후 조회)
+	 *
+	 * 메모리 인덱스 비활성화 시 매번 테이블에서 읽으므로 version()과 함께 파생 인덱스 생성에만 사용한다.
+	 */
+	List<PastDisasterResponse.DisasterItem> items() {
+		ensureReady();
+		PastDisasterIndex current = index;
+		return (current != null ? current : loadIndex()).items();
+	}
+
+	/**
+	 * 저장된 이력 버전 (동기화로 항목이 추가/변경/삭제되면 증가)
+	 */
+	long version() {
+		return version;
+	}
+
+	private void ensureReady() {
+		if (!ready) {
+			synchronized (this) {
+				if (!ready) {
+					sync();
+				}
+			}
+		}
+	}
+
+	private PastDisasterIndex loadIndex() {
+		long start = System.currentTimeMillis();
+		List<PastDisaster> rows = new ArrayList<>();
+		int afterId = Integer.MIN_VALUE;
+		while (true) {
+			List<PastDisaster> batch = pastDisasterRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(batchSize));
+			if (batch.isEmpty()) {
+				break;
+			}
+			rows.addAll(batch);
+			afterId = batch.get(batch.size() - 1).getId();
+		}
+		// 인덱스는 FastAPI 응답 순서로 받음 (id 순 배치를 source_order로 다시 정렬, 순서 없는 행은 뒤로)
+		rows.sort(Comparator.comparing(PastDisaster::getSourceOrder, Comparator.nullsLast(Comparator.naturalOrder())));
+
+		PastDisasterIndex loaded = new PastDisasterIndex(rows.stream().map(PastDisasterStore::toItem).toList());
+		log.info("Past disaster index loaded: {} items in {} ms", loaded.size(), System.currentTimeMillis() - start);
+		return loaded;
+	}
+
+	private static boolean sameItem(PastDisasterResponse.DisasterItem a, PastDisasterResponse.DisasterItem b) {
+		return Objects.equals(a.getAlertDate(), b.getAlertDate())
+			&& Objects.equals(a.getDisasterType(), b.getDisasterType())
+			&& Objects.equals(a.getSeverity(), b.getSeverity())
+			&& Objects.equals(a.getRegion(), b.getRegion());
+	}
+
+	private static PastDisasterResponse.DisasterItem toItem(PastDisaster row) {
+		return PastDisasterResponse.DisasterItem.builder()
+			.id(row.getId())
+			.alertDate(row.getAlertDate())
+			.disasterType(row.getDisasterType())
+			.severity(row.getSeverity())
+			.region(row.getRegion())
+			.build();
+	}
+}
@@ -0,0 +1,63 @@
+package com.skax.physicalrisk.service.past;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 과거 재해 이력 동기화 JDBC 배치 upsert/삭제
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * FastAPI 전체 목록 조회와 비교가 끝난 뒤 쓰기 구간에서만 트랜잭션(DB 커넥션)을 잡는다.
+ * 한 번의 동기화에서 나온 upsert와 삭제를 한 트랜잭션으로 반영하므로 중간에 실패하면 전체 롤백되어
+ * past_disasters가 이전 동기화 상태로 남는다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Component
+class PastDisasterWriter {
+
+	static final String UPSERT_SQL = "INSERT INTO past_disasters "
+		+ "(id, event_year, alert_date, disaster_type, severity, region, source_order, synced_at) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO UPDATE SET "
+		+ "event_year = EXCLUDED.event_year, alert_date = EXCLUDED.alert_date, "
+		+ "disaster_type = EXCLUDED.disaster_type, severity = EXCLUDED.severity, region = EXCLUDED.region, "
+		+ "source_order = EXCLUDED.source_order, synced_at = EXCLUDED.synced_at";
+
+	static final String DELETE_SQL = "DELETE FROM past_disasters WHERE id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int batchSize;
+
+	PastDisasterWriter(
+		JdbcTemplate jdbcTemplate,
+		@Value("${app.past-disasters.batch-size:1000}") int batchSize
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * batch-size 단위 upsert 후 삭제 (한 트랜잭션)
+	 *
+	 * @param upserts UPSERT_SQL 파라미터 행
+	 * @param deletes DELETE_SQL 파라미터 행
+	 */
+	@Transactional
+	public void apply(List<Object[]> upserts, List<Object[]> deletes) {
+		for (int from = 0; from < upserts.size(); from += batchSize) {
+			jdbcTemplate.batchUpdate(UPSERT_SQL, upserts.subList(from, Math.min(from + batchSize, upserts.size())));
+		}
+		for (int from = 0; from < deletes.size(); from += batchSize) {
+			jdbcTemplate.batchUpdate(DELETE_SQL, deletes.subList(from, Math.min(from + batchSize, deletes.size())));
+		}
+		log.debug("Past disaster changes written: upserted={}, deleted={}", upserts.size(), deletes.size());
+	}
+}
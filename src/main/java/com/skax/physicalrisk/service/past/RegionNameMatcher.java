@@ -0,0 +1,253 @@
+package com.skax.physicalrisk.service.past;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 재해 지역 문자열 → 행정구역 코드 매칭
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 길이가 맞지 않는 행정구역 코드 건너뜀
+ *
+ * location_admin의 시도/시군구/읍면동 이름으로 사전을 만들어 재해 이력의 region 자유 텍스트
+ * ("경기도 수원시 권선구", "서울 전역", "부산, 경남" 등)를 가장 깊은 수준의 코드로 변환한다.
+ * - 시도: 정식 명칭, 접미사 제거 명칭(서울, 경기), 약칭(충북, 경남) 모두 인식
+ * - 시군구: 시도 이후 문자열의 접두어로 비교하며, 구가 있는 일반시 이름만 있으면 해당 시의 모든 구로 매칭
+ * - 읍면동: 시군구 이후 문자열의 접두어로 비교
+ * 시군구를 찾지 못하면 시도 코드로 매칭한다(시도 전역 재해로 취급).
+ * 생성 후에는 읽기 전용이며 스레드 안전하다.
+ *
+ * @author SKAX Team
+ */
+final class RegionNameMatcher {
+
+	private static final Pattern PART_SEPARATOR = Pattern.compile("[,/·ㆍ]");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final String[] SIDO_SUFFIXES = {"특별자치시", "특별자치도", "특별시", "광역시", "도"};
+	private static final String[] WHOLE_REGION_WORDS = {"전체", "전역", "일대", "일원"};
+
+	private final Map<String, String> sidoCodesByAlias = new HashMap<>();
+	private final Map<String, List<NamedRegion>> sigungusBySido = new HashMap<>();
+	private final Map<String, List<NamedRegion>> emdsBySigungu = new HashMap<>();
+	private final Map<String, String> namesByCode = new HashMap<>();
+	private int maxAliasLength;
+
+	/**
+	 * @param regions location_admin 행정구역 이름 (시도 → 시군구 → 읍면동 순서 무관)
+	 */
+	RegionNameMatcher(List<AdminRegionName> regions) {
+		Map<String, String> sidoNames = new HashMap<>();
+		for (AdminRegionName region : regions) {
+			// 코드 길이가 맞지 않는 행은 건너뜀 (짧은 코드가 시도/시군구 코드로 잘못 쓰이지 않도록)
+			if (region.level() == 1 && region.sidoCode() != null && region.sidoCode().length() == 2) {
+				String name = normalize(region.name());
+				sidoNames.put(region.sidoCode(), name);
+				namesByCode.put(region.sidoCode(), region.name().trim());
+				for (String alias : sidoAliases(name)) {
+					sidoCodesByAlias.putIfAbsent(alias, region.sidoCode());
+					maxAliasLength = Math.max(maxAliasLength, alias.length());
+				}
+			}
+		}
+
+		Map<String, String> sigunguLocalNames = new HashMap<>();
+		for (AdminRegionName region : regions) {
+			if (region.level() == 2 && region.sigunguCode() != null && region.sigunguCode().length() == 5) {
+				String sidoCode = sidoCodeOf(region.sigunguCode());
+				String local = stripPrefix(normalize(region.name()), sidoNames.get(sidoCode));
+				sigunguLocalNames.put(region.sigunguCode(), local);
+				namesByCode.put(region.sigunguCode(), region.name().trim());
+				sigungusBySido.computeIfAbsent(sidoCode, k -> new ArrayList<>())
+					.add(new NamedRegion(region.sigunguCode(), local));
+			}
+		}
+
+		for (AdminRegionName region : regions) {
+			if (region.level() == 3 && region.emdCode() != null && region.emdCode().length() > 5) {
+				String sigunguCode = region.emdCode().substring(0, 5);
+				String local = stripPrefix(stripPrefix(normalize(region.name()),
+					sidoNames.get(sidoCodeOf(sigunguCode))), sigunguLocalNames.get(sigunguCode));
+				namesByCode.put(region.emdCode(), region.name().trim());
+				emdsBySigungu.computeIfAbsent(sigunguCode, k -> new ArrayList<>())
+					.add(new NamedRegion(region.emdCode(), local));
+			}
+		}
+	}
+
+	/**
+	 * 재해 지역 문자열의 행정구역 코드
+	 *
+	 * @param regionText 재해 지역 (여러 지역은 쉼표 등으로 구분)
+	 * @return 시도(2자리)/시군구(5자리)/읍면동(10자리) 코드 (매칭 실패 시 빈 집합)
+	 */
+	Set<String> match(String regionText) {
+		Set<String> codes = new LinkedHashSet<>();
+		if (regionText == null) {
+			return codes;
+		}
+		for (String part : PART_SEPARATOR.split(regionText)) {
+			matchPart(normalize(part), codes);
+		}
+		return codes;
+	}
+
+	/**
+	 * 시도의 시군구 코드 목록
+	 */
+	List<String> sigunguCodes(String sidoCode) {
+		List<NamedRegion> sigungus = sigungusBySido.get(sidoCode);
+		return sigungus == null ? List.of() : sigungus.stream().map(NamedRegion::code).toList();
+	}
+
+	/**
+	 * 행정구역 이름 (location_admin.admin_name)
+	 */
+	String name(String code) {
+		return code == null ? null : namesByCode.get(code);
+	}
+
+	private void matchPart(String text, Set<String> codes) {
+		if (text.isEmpty()) {
+			return;
+		}
+
+		// 시도: 가장 긴 별칭 접두어
+		String sidoCode = null;
+		int consumed = 0;
+		for (int length = Math.min(maxAliasLength, text.length()); length > 0; length--) {
+			sidoCode = sidoCodesByAlias.get(text.substring(0, length));
+			if (sidoCode != null) {
+				consumed = length;
+				break;
+			}
+		}
+		if (sidoCode == null) {
+			return;
+		}
+
+		String rest = text.substring(consumed);
+		if (isWholeRegion(rest)) {
+			codes.add(sidoCode);
+			return;
+		}
+
+		// 시군구: 가장 긴 이름 접두어, 없으면 일반시 이름(…시)으로 하위 구 전체
+		List<NamedRegion> sigungus = sigungusBySido.getOrDefault(sidoCode, List.of());
+		NamedRegion sigungu = longestPrefix(sigungus, rest);
+		List<String> sigunguCodes;
+		if (sigungu != null) {
+			sigunguCodes = List.of(sigungu.code());
+			rest = rest.substring(sigungu.localName().length());
+		} else {
+			int cityEnd = rest.indexOf('시');
+			String city = cityEnd > 0 ? rest.substring(0, cityEnd + 1) : null;
+			sigunguCodes = city == null ? List.of() : sigungus.stream()
+				.filter(candidate -> candidate.localName().startsWith(city))
+				.map(NamedRegion::code)
+				.toList();
+			if (sigunguCodes.isEmpty()) {
+				codes.add(sidoCode);
+				return;
+			}
+			rest = rest.substring(city.length());
+		}
+
+		// 읍면동
+		if (!isWholeRegion(rest)) {
+			for (String sigunguCode : sigunguCodes) {
+				NamedRegion emd = longestPrefix(emdsBySigungu.getOrDefault(sigunguCode, List.of()), rest);
+				if (emd != null) {
+					codes.add(emd.code());
+					return;
+				}
+			}
+		}
+		codes.addAll(sigunguCodes);
+	}
+
+	private static NamedRegion longestPrefix(List<NamedRegion> candidates, String text) {
+		NamedRegion best = null;
+		for (NamedRegion candidate : candidates) {
+			if (!candidate.localName().isEmpty() && text.startsWith(candidate.localName())
+				&& (best == null || candidate.localName().length() > best.localName().length())) {
+				best = candidate;
+			}
+		}
+		return best;
+	}
+
+	private static boolean isWholeRegion(String rest) {
+		if (rest.isEmpty()) {
+			return true;
+		}
+		for (String word : WHOLE_REGION_WORDS) {
+			if (rest.startsWith(word)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 행정구역 코드의 시도 코드 (앞 2자리, 2자리보다 짧으면 null)
+	 */
+	static String sidoCodeOf(String code) {
+		return code != null && code.length() >= 2 ? code.substring(0, 2) : null;
+	}
+
+	/**
+	 * 시도 별칭: 서울특별시 → 서울특별시, 서울, 서울시 / 충청북도 → 충청북도, 충청북, 충북
+	 */
+	static Set<String> sidoAliases(String name) {
+		Set<String> aliases = new LinkedHashSet<>();
+		aliases.add(name);
+		for (String suffix : SIDO_SUFFIXES) {
+			if (name.endsWith(suffix) && name.length() > suffix.length()) {
+				String stem = name.substring(0, name.length() - suffix.length());
+				aliases.add(stem);
+				if (suffix.endsWith("시")) {
+					aliases.add(stem + "시");
+				}
+				if (stem.length() == 3) {
+					aliases.add("" + stem.charAt(0) + stem.charAt(2));
+				}
+				break;
+			}
+		}
+		return aliases;
+	}
+
+	private static String normalize(String text) {
+		return text == null ? "" : WHITESPACE.matcher(text).replaceAll("");
+	}
+
+	private static String stripPrefix(String text, String prefix) {
+		return prefix != null && !prefix.isEmpty() && text.startsWith(prefix) && text.length() > prefix.length()
+			? text.substring(prefix.length())
+			: text;
+	}
+
+	/**
+	 * location_admin 이름 행
+	 *
+	 * @param level       1: 시도, 2: 시군구, 3: 읍면동
+	 * @param sidoCode    시도 코드 (2자리)
+	 * @param sigunguCode 시군구 코드 (5자리)
+	 * @param emdCode     읍면동 코드 (10자리)
+	 * @param name        행정구역명
+	 */
+	record AdminRegionName(int level, String sidoCode, String sigunguCode, String emdCode, String name) {
+	}
+
+	/**
+	 * @param code      행정구역 코드
+	 * @param localName 상위 행정구역 이름을 제외한 이름 (공백 제거)
+	 */
+	private record NamedRegion(String code, String localName) {
+	}
+}
@@ -0,0 +1,206 @@
+package com.skax.physicalrisk.service.past;
+
+import com.skax.physicalrisk.client.datawarehouse.DatawarehouseJdbc;
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.dto.response.past.PastDisasterResponse;
+import com.skax.physicalrisk.dto.response.past.SitePastDisasterResponse;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.exception.ResourceNotFoundException;
+import com.skax.physicalrisk.security.SecurityUtil;
+import com.skax.physicalrisk.service.region.AdminRegionResolver;
+import com.skax.physicalrisk.service.site.SiteAccessService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사업장별 과거 재해 이력 서비스
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 2자리보다 짧은 사업장 행정구역 코드 허용
+ *
+ * 사업장 → 시군구 코드(sites.region_code, 없으면 좌표로 변환) → 행정구역 역색인 조회로
+ * 사업장에 영향을 준 재해의 유형 · 연도별 건수와 최근 재해 목록을 반환한다.
+ * 역색인은 location_admin 이름 사전과 로컬 과거 재해 저장소로 만들며,
+ * 동기화로 재해가 추가되면(PastDisasterStore.version) 다음 조회 시 한 번만 다시 만든다.
+ * 대시보드 지도의 전체 사업장을 한 번에 조회하는 경우에도 사업장당 Map 조회 한 번이다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SitePastDisasterService {
+
+	private static final String REGION_NAME_QUERY = """
+		SELECT level, sido_code, sigungu_code, emd_code, admin_name
+		FROM location_admin
+		WHERE level BETWEEN 1 AND 3
+		  AND admin_name IS NOT NULL
+		""";
+
+	private static final int DEFAULT_EVENT_LIMIT = 20;
+	private static final int MAX_EVENT_LIMIT = 500;
+
+	private final PastDisasterStore pastDisasterStore;
+	private final SiteAccessService siteAccessService;
+	private final AdminRegionResolver adminRegionResolver;
+	private final DatawarehouseJdbc datawarehouseJdbc;
+
+	private volatile RegionNameMatcher matcher;
+	private volatile Snapshot snapshot;
+
+	/**
+	 * 사업장별 과거 재해 이력 조회
+	 *
+	 * @param siteIds 사업장 ID 목록 (비어 있으면 사용자의 전체 사업장)
+	 * @param limit   사업장당 최근 재해 수 (기본 20, 최대 500)
+	 * @return 사업장별 재해 이력
+	 */
+	public SitePastDisasterResponse getSitePastDisasters(List<UUID> siteIds, Integer limit) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		int eventLimit = limit == null ? DEFAULT_EVENT_LIMIT : limit;
+		if (eventLimit < 0 || eventLimit > MAX_EVENT_LIMIT) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST,
+				"재해 목록 건수는 0~" + MAX_EVENT_LIMIT + " 사이여야 합니다");
+		}
+		log.info("Fetching site past disasters for user: {}, sites: {}, limit: {}",
+			userId, siteIds == null ? "all" : siteIds.size(), eventLimit);
+
+		List<Site> sites = resolveSites(userId, siteIds);
+		Snapshot current = regionIndex();
+		PastDisasterRegionIndex index = current.index();
+
+		List<SitePastDisasterResponse.SiteHistory> histories = new ArrayList<>(sites.size());
+		List<UUID> unresolvedSiteIds = new ArrayList<>();
+		for (Site site : sites) {
+			String regionCode = site.getRegionCode() != null
+				? site.getRegionCode()
+				: adminRegionResolver.resolveRegionCode(site.getLatitude(), site.getLongitude()).orElse(null);
+			if (regionCode == null) {
+				unresolvedSiteIds.add(site.getId());
+				continue;
+			}
+
+			PastDisasterRegionIndex.RegionHistory history = index.history(regionCode);
+			histories.add(SitePastDisasterResponse.SiteHistory.builder()
+				.siteId(site.getId())
+				.siteName(site.getName())
+				.regionCode(regionCode)
+				.sidoName(current.names().name(RegionNameMatcher.sidoCodeOf(regionCode)))
+				.sigunguName(current.names().name(regionCode))
+				.totalCount(history.totalCount())
+				.sidoWideCount(history.sidoWideCount())
+				.sigunguCount(history.sigunguCount())
+				.emdCount(history.emdCount())
+				.countsByType(history.countsByType())
+				.events(index.latest(history, eventLimit))
+				.build());
+		}
+
+		return SitePastDisasterResponse.builder()
+			.sites(histories)
+			.unresolvedSiteIds(unresolvedSiteIds)
+			.build();
+	}
+
+	/**
+	 * 요청 사업장 조회 (요청 순서 유지, 사용자 소유가 아니면 404)
+	 */
+	private List<Site> resolveSites(UUID userId, List<UUID> siteIds) {
+		List<Site> owned = siteAccessService.getSites(userId);
+		if (siteIds == null || siteIds.isEmpty()) {
+			return owned;
+		}
+
+		Map<UUID, Site> ownedById = owned.stream().collect(Collectors.toMap(Site::getId, Function.identity()));
+		Map<UUID, Site> requested = new LinkedHashMap<>();
+		for (UUID siteId : siteIds) {
+			Site site = ownedById.get(siteId);
+			if (site == null) {
+				throw new ResourceNotFoundException(ErrorCode.SITE_NOT_FOUND);
+			}
+			requested.putIfAbsent(siteId, site);
+		}
+		return new ArrayList<>(requested.values());
+	}
+
+	/**
+	 * 현재 저장소 버전의 행정구역 역색인 (버전이 바뀌었으면 다시 생성)
+	 */
+	private Snapshot regionIndex() {
+		Snapshot current = snapshot;
+		if (current != null && current.version() == pastDisasterStore.version()) {
+			return current;
+		}
+
+		synchronized (this) {
+			current = snapshot;
+			if (current != null && current.version() == pastDisasterStore.version()) {
+				return current;
+			}
+
+			RegionNameMatcher regionNames = regionNameMatcher();
+			// 이력보다 버전을 먼저 읽으므로 그 사이 동기화가 끝났다면 다음 조회 시 다시 생성됨
+			long version = pastDisasterStore.version();
+			List<PastDisasterResponse.DisasterItem> items;
+			try {
+				items = pastDisasterStore.items();
+			} catch (Exception e) {
+				log.error("Failed to load past disasters: {}", e.getMessage());
+				throw new BusinessException(ErrorCode.FASTAPI_CONNECTION_ERROR,
+					"과거 재해 데이터 조회에 실패했습니다: " + e.getMessage());
+			}
+
+			long start = System.currentTimeMillis();
+			PastDisasterRegionIndex index = new PastDisasterRegionIndex(regionNames, items);
+			log.info("Past disaster region index built: {} events ({} unmatched) in {} ms",
+				index.size(), index.unmatchedCount(), System.currentTimeMillis() - start);
+			snapshot = new Snapshot(version, regionNames, index);
+			return snapshot;
+		}
+	}
+
+	/**
+	 * location_admin 이름 사전 (최초 조회 시 한 번 적재)
+	 */
+	private RegionNameMatcher regionNameMatcher() {
+		RegionNameMatcher current = matcher;
+		if (current != null) {
+			return current;
+		}
+		if (!datawarehouseJdbc.isEnabled()) {
+			throw new BusinessException(ErrorCode.HAZARD_DATA_UNAVAILABLE, "행정구역 데이터를 조회할 수 없습니다");
+		}
+
+		try {
+			List<RegionNameMatcher.AdminRegionName> names = datawarehouseJdbc.jdbcTemplate().query(REGION_NAME_QUERY,
+				(rs, rowNum) -> new RegionNameMatcher.AdminRegionName(rs.getInt("level"), rs.getString("sido_code"),
+					rs.getString("sigungu_code"), rs.getString("emd_code"), rs.getString("admin_name")));
+			current = new RegionNameMatcher(names);
+			log.info("Admin region names loaded: {} regions", names.size());
+		} catch (Exception e) {
+			log.error("Failed to load admin region names: {}", e.getMessage());
+			throw new BusinessException(ErrorCode.HAZARD_DATA_UNAVAILABLE, e);
+		}
+		matcher = current;
+		return current;
+	}
+
+	/**
+	 * @param version 역색인을 만든 저장소 버전
+	 * @param names   행정구역 이름 사전
+	 * @param index   행정구역 역색인
+	 */
+	private record Snapshot(long version, RegionNameMatcher names, PastDisasterRegionIndex index) {
+	}
+}
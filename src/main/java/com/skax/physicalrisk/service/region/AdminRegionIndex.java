@@ -0,0 +1,76 @@
+package com.skax.physicalrisk.service.region;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 행정구역 경계 공간 인덱스 (STR-tree)
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * 경계 폴리곤의 외접 사각형으로 STR-tree 후보를 좁힌 뒤
+ * PreparedGeometry로 point-in-polygon 판정을 수행한다.
+ * 생성 시 build()까지 완료하므로 이후 조회는 읽기 전용이며 스레드 안전하다.
+ *
+ * @author SKAX Team
+ */
+final class AdminRegionIndex {
+
+	private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+	private final STRtree tree = new STRtree();
+	private final int size;
+
+	/**
+	 * @param regions 행정구역 경계 (EPSG:4326, x = 경도, y = 위도)
+	 */
+	AdminRegionIndex(List<AdminRegionBoundary> regions) {
+		for (AdminRegionBoundary region : regions) {
+			tree.insert(region.geometry().getEnvelopeInternal(),
+				new Entry(region.regionCode(), PreparedGeometryFactory.prepare(region.geometry())));
+		}
+		tree.build();
+		this.size = regions.size();
+	}
+
+	/**
+	 * 좌표가 포함된 행정구역 코드 조회
+	 *
+	 * @param longitude 경도
+	 * @param latitude  위도
+	 * @return 행정구역 코드 (경계 밖이면 empty)
+	 */
+	Optional<String> locate(double longitude, double latitude) {
+		Point point = GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude));
+		for (Object candidate : tree.query(point.getEnvelopeInternal())) {
+			Entry entry = (Entry) candidate;
+			if (entry.geometry().covers(point)) {
+				return Optional.of(entry.regionCode());
+			}
+		}
+		return Optional.empty();
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * 인덱스 적재용 경계 데이터
+	 */
+	record AdminRegionBoundary(String regionCode, Geometry geometry) {
+	}
+
+	private record Entry(String regionCode, PreparedGeometry geometry) {
+	}
+}
@@ -0,0 +1,128 @@
+package com.skax.physicalrisk.service.region;
+
+import com.skax.physicalrisk.client.datawarehouse.DatawarehouseJdbc;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 좌표 → 행정구역(시군구) 코드 변환 서비스
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v02 - Datawarehouse 커넥션 풀 공용화
+ *
+ * 기동 시 Datawarehouse의 location_admin 경계(ETL 01_load_admin_regions.py 적재 데이터)를
+ * 한 번 읽어 메모리 STR-tree 인덱스를 만들고, 이후 조회는 원격 호출 없이 수 마이크로초 내에 처리한다.
+ * 시군구(level 2) 경계가 없고 읍면동 경계만 있으면 읍면동 폴리곤의 sigungu_code로 매핑한다.
+ * 인덱스 적재 전이거나 비활성화 상태에서는 항상 empty를 반환한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class AdminRegionResolver {
+
+	private static final String BOUNDARY_QUERY = """
+		SELECT sigungu_code, ST_AsBinary(ST_Transform(geom, 4326)) AS wkb
+		FROM location_admin
+		WHERE sigungu_code IS NOT NULL
+		  AND geom IS NOT NULL
+		  AND level = (SELECT MIN(level) FROM location_admin WHERE level >= 2)
+		""";
+
+	private final ApplicationEventPublisher eventPublisher;
+	private final DatawarehouseJdbc datawarehouseJdbc;
+	private final boolean enabled;
+
+	private volatile AdminRegionIndex index;
+
+	public AdminRegionResolver(
+		ApplicationEventPublisher eventPublisher,
+		DatawarehouseJdbc datawarehouseJdbc,
+		@Value("${app.region-resolver.enabled:true}") boolean enabled
+	) {
+		this.eventPublisher = eventPublisher;
+		this.datawarehouseJdbc = datawarehouseJdbc;
+		this.enabled = enabled;
+	}
+
+	/**
+	 * 기동 완료 후 행정구역 경계 인덱스 적재 (요청 처리를 막지 않도록 비동기)
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		if (!enabled || !datawarehouseJdbc.isEnabled()) {
+			log.info("Admin region resolver disabled (app.region-resolver.enabled / app.datawarehouse.enabled)");
+			return;
+		}
+		reload();
+	}
+
+	/**
+	 * 행정구역 경계 인덱스 재적재
+	 */
+	public void reload() {
+		long start = System.currentTimeMillis();
+		try {
+			WKBReader wkbReader = new WKBReader();
+
+			List<AdminRegionIndex.AdminRegionBoundary> boundaries = datawarehouseJdbc.jdbcTemplate().query(BOUNDARY_QUERY, (rs, rowNum) -> {
+				try {
+					return new AdminRegionIndex.AdminRegionBoundary(
+						rs.getString("sigungu_code"), wkbReader.read(rs.getBytes("wkb")));
+				} catch (ParseException e) {
+					throw new IllegalStateException("Invalid boundary geometry: " + rs.getString("sigungu_code"), e);
+				}
+			});
+
+			index = new AdminRegionIndex(boundaries);
+			log.info("Admin region index loaded: {} boundaries in {} ms",
+				boundaries.size(), System.currentTimeMillis() - start);
+			eventPublisher.publishEvent(new AdminRegionIndexLoadedEvent(boundaries.size()));
+		} catch (Exception e) {
+			// 인덱스가 없어도 사업장 등록은 가능해야 하므로 기동을 막지 않음
+			log.error("Failed to load admin region index: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 좌표의 행정구역(시군구) 코드 조회
+	 *
+	 * @param latitude  위도
+	 * @param longitude 경도
+	 * @return 5자리 시군구 코드 (인덱스 미적재, 좌표 없음, 경계 밖이면 empty)
+	 */
+	public Optional<String> resolveRegionCode(BigDecimal latitude, BigDecimal longitude) {
+		AdminRegionIndex current = index;
+		if (current == null || latitude == null || longitude == null) {
+			return Optional.empty();
+		}
+		return current.locate(longitude.doubleValue(), latitude.doubleValue());
+	}
+
+	/**
+	 * 인덱스 적재 여부
+	 */
+	public boolean isLoaded() {
+		return index != null;
+	}
+
+	/**
+	 * 행정구역 인덱스 적재 완료 이벤트
+	 *
+	 * @param boundaryCount 적재된 경계 수
+	 */
+	public record AdminRegionIndexLoadedEvent(int boundaryCount) {
+	}
+}
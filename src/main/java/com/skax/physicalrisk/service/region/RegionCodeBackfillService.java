@@ -0,0 +1,99 @@
+package com.skax.physicalrisk.service.region;
+
+import com.skax.physicalrisk.domain.site.repository.SiteLocation;
+import com.skax.physicalrisk.domain.site.repository.SiteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 기존 사업장 행정구역 코드 일괄 보정 서비스
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * region_code가 비어 있는 사업장을 id 키셋으로 batch-size씩 읽어
+ * 메모리 인덱스로 변환한 뒤 JDBC 배치 UPDATE로 반영한다.
+ * 행정구역 인덱스 적재 완료 이벤트를 받아 자동 실행된다 (backfill-on-startup).
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionCodeBackfillService {
+
+	private static final String UPDATE_SQL = "UPDATE sites SET region_code = ? WHERE id = ? AND region_code IS NULL";
+
+	private final SiteRepository siteRepository;
+	private final AdminRegionResolver adminRegionResolver;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${app.region-resolver.backfill-on-startup:true}")
+	private boolean backfillOnStartup;
+
+	@Value("${app.region-resolver.backfill-batch-size:500}")
+	private int batchSize;
+
+	/**
+	 * 행정구역 인덱스 적재 후 자동 보정
+	 */
+	@Async
+	@EventListener
+	public void onIndexLoaded(AdminRegionResolver.AdminRegionIndexLoadedEvent event) {
+		if (backfillOnStartup) {
+			backfill();
+		}
+	}
+
+	/**
+	 * region_code가 없는 사업장 일괄 보정
+	 *
+	 * @return 보정된 사업장 수
+	 */
+	public int backfill() {
+		if (!adminRegionResolver.isLoaded()) {
+			log.warn("Skipping region code backfill: admin region index not loaded");
+			return 0;
+		}
+
+		long start = System.currentTimeMillis();
+		UUID afterId = new UUID(0L, 0L);
+		int scanned = 0;
+		int updated = 0;
+
+		while (true) {
+			List<SiteLocation> batch = siteRepository.findWithoutRegionCodeAfter(afterId, Limit.of(batchSize));
+			if (batch.isEmpty()) {
+				break;
+			}
+
+			List<Object[]> updates = new ArrayList<>(batch.size());
+			for (SiteLocation site : batch) {
+				Optional<String> regionCode = adminRegionResolver.resolveRegionCode(site.getLatitude(), site.getLongitude());
+				regionCode.ifPresent(code -> updates.add(new Object[] {code, site.getSiteId()}));
+			}
+			if (!updates.isEmpty()) {
+				jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+			}
+
+			scanned += batch.size();
+			updated += updates.size();
+			afterId = batch.get(batch.size() - 1).getSiteId();
+		}
+
+		log.info("Region code backfill finished: scanned={}, updated={}, unresolved={} in {} ms",
+			scanned, updated, scanned - updated, System.currentTimeMillis() - start);
+		return updated;
+	}
+}
@@ -0,0 +1,82 @@
+package com.skax.physicalrisk.service.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일시스템 청크 스테이징 영역
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 임시 파일 확정을 검증 이후로 분리
+ *
+ * {directory}/{uploadId}/{index}.part 로 저장한다.
+ * 임시 파일({index}-*.tmp)에 쓰고 검증이 끝난 뒤 원자적으로 이동하므로
+ * 읽는 쪽에서 쓰다 만 청크나 검증에 실패한 청크를 보지 않는다.
+ * 다중 인스턴스 배포에서는 공유 볼륨을 쓰거나 S3 스테이징을 사용한다.
+ *
+ * @author SKAX Team
+ */
+public class FileSystemUploadStagingStore implements UploadStagingStore {
+
+	private final Path directory;
+
+	public FileSystemUploadStagingStore(Path directory) {
+		this.directory = directory;
+	}
+
+	@Override
+	public StagedChunk stageChunk(UUID uploadId, int index, InputStream content, long size) throws IOException {
+		Path uploadDirectory = Files.createDirectories(directory.resolve(uploadId.toString()));
+		Path temp = Files.createTempFile(uploadDirectory, index + "-", ".tmp");
+		try (OutputStream out = Files.newOutputStream(temp)) {
+			long copied = content.transferTo(out);
+			if (copied != size) {
+				throw new IOException("Chunk size mismatch: expected " + size + " bytes, received " + copied);
+			}
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+		Path target = chunkPath(uploadId, index);
+		return new StagedChunk() {
+			@Override
+			public void promote() throws IOException {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+
+			@Override
+			public void discard() throws IOException {
+				Files.deleteIfExists(temp);
+			}
+		};
+	}
+
+	@Override
+	public InputStream openChunk(UUID uploadId, int index) throws IOException {
+		return Files.newInputStream(chunkPath(uploadId, index));
+	}
+
+	@Override
+	public void deleteUpload(UUID uploadId) throws IOException {
+		Path uploadDirectory = directory.resolve(uploadId.toString());
+		if (!Files.exists(uploadDirectory)) {
+			return;
+		}
+		try (Stream<Path> paths = Files.walk(uploadDirectory)) {
+			for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(path);
+			}
+		}
+	}
+
+	private Path chunkPath(UUID uploadId, int index) {
+		return directory.resolve(uploadId.toString()).resolve(index + ".part");
+	}
+}
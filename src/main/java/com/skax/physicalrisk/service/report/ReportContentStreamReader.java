@@ -0,0 +1,138 @@
+package com.skax.physicalrisk.service.report;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.util.UUID;
+
+/**
+ * 리포트 내용(report_content) 커서 스트리밍
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 느린 클라이언트의 커넥션 점유 상한(idle_in_transaction_session_timeout) 추가
+ *
+ * report_content 전체를 문자열 하나로 읽지 않고 최상위 필드 단위(배열 필드는 원소 단위) 행으로 나눠
+ * fetch-size 개씩 커서로 받아 바로 응답에 기록한다. 힙에는 한 번에 fetch-size 개 행만 올라간다.
+ * 커서는 트랜잭션 안에서만 동작하므로 전송하는 동안 DB 커넥션을 점유한다.
+ * 클라이언트가 느리면 응답 기록이 막혀 그동안 커넥션이 풀로 돌아가지 않으므로,
+ * 트랜잭션에만 idle_in_transaction_session_timeout을 걸어 다음 fetch 없이 stream-idle-timeout이 지나면
+ * PostgreSQL이 세션을 끊게 한다 (응답은 중간에 끊기고 커넥션은 풀에서 폐기됨).
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Component
+class ReportContentStreamReader {
+
+	/**
+	 * 최상위 필드 1개 또는 배열 필드의 원소 1개가 한 행 (element_index가 null이면 필드 값 전체)
+	 */
+	private static final String CONTENT_ROWS_SQL = """
+		SELECT f.key AS field_name, a.element_index, CAST(COALESCE(a.element, f.value) AS text) AS json
+		FROM reports r
+		CROSS JOIN LATERAL jsonb_each(r.report_content) WITH ORDINALITY AS f(key, value, field_index)
+		LEFT JOIN LATERAL jsonb_array_elements(CASE WHEN jsonb_typeof(f.value) = 'array' THEN f.value END)
+			WITH ORDINALITY AS a(element, element_index) ON TRUE
+		WHERE r.user_id = ? AND jsonb_typeof(r.report_content) = 'object'
+		ORDER BY f.field_index, a.element_index""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final int fetchSize;
+	private final long idleTimeoutMs;
+
+	ReportContentStreamReader(
+		JdbcTemplate jdbcTemplate,
+		@Value("${app.report.stream-fetch-size:16}") int fetchSize,
+		@Value("${app.report.stream-idle-timeout-ms:30000}") long idleTimeoutMs
+	) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.fetchSize = fetchSize;
+		this.idleTimeoutMs = idleTimeoutMs;
+	}
+
+	/**
+	 * 사용자의 리포트 내용을 JSON 객체로 기록
+	 *
+	 * @param userId 사용자 ID
+	 * @param out    응답 JSON 생성기 (객체 값 위치)
+	 * @throws IOException 응답 전송 실패
+	 */
+	@Transactional(readOnly = true)
+	public void write(UUID userId, JsonGenerator out) throws IOException {
+		ContentWriter writer = new ContentWriter(out);
+		// 설정값(숫자)만 넣으므로 SQL에 직접 넣어도 안전, SET LOCAL은 이 트랜잭션이 끝나면 원래 값으로 돌아감
+		jdbcTemplate.execute("SET LOCAL idle_in_transaction_session_timeout = " + idleTimeoutMs);
+		out.writeStartObject();
+		try {
+			jdbcTemplate.query(connection -> {
+				PreparedStatement statement = connection.prepareStatement(CONTENT_ROWS_SQL);
+				statement.setFetchSize(fetchSize);
+				statement.setObject(1, userId);
+				return statement;
+			}, rs -> {
+				writer.row(rs.getString("field_name"), rs.getObject("element_index") != null, rs.getString("json"));
+			});
+			writer.closeArray();
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		out.writeEndObject();
+		log.debug("Streamed report content for user {}: {} rows", userId, writer.rows);
+	}
+
+	/**
+	 * 행 → JSON 기록 (같은 필드의 원소 행은 하나의 배열로 묶음)
+	 */
+	private static final class ContentWriter {
+
+		private final JsonGenerator out;
+		private String openArray;
+		private int rows;
+
+		private ContentWriter(JsonGenerator out) {
+			this.out = out;
+		}
+
+		private void row(String fieldName, boolean element, String json) {
+			try {
+				if (openArray != null && (!element || !openArray.equals(fieldName))) {
+					closeArray();
+				}
+				if (!element) {
+					out.writeFieldName(fieldName);
+					out.writeRawValue(json);
+				} else {
+					if (openArray == null) {
+						out.writeFieldName(fieldName);
+						out.writeStartArray();
+						openArray = fieldName;
+					}
+					out.writeRawValue(json);
+				}
+				out.flush();
+				rows++;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		private void closeArray() {
+			if (openArray == null) {
+				return;
+			}
+			try {
+				out.writeEndArray();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			openArray = null;
+		}
+	}
+}
@@ -0,0 +1,240 @@
+package com.skax.physicalrisk.service.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.dto.request.report.ReportDataRequest;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpInputMessage;
+import org.springframework.http.codec.multipart.FilePartEvent;
+import org.springframework.http.codec.multipart.FormPartEvent;
+import org.springframework.http.codec.multipart.PartEvent;
+import org.springframework.http.codec.multipart.PartEventHttpMessageReader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 리포트 추가 데이터 multipart 스트림 중계
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 요청 본문을 PartEventHttpMessageReader로 파트 단위 이벤트로 읽어
+ * file 파트의 DataBuffer를 임시 파일/메모리에 모으지 않고 바로 전달 함수(FastAPI 요청 본문)로 넘긴다.
+ * - data 파트(JSON, 사업장 ID)는 file 파트보다 먼저 와야 한다 (작은 크기 제한 안에서 모아 파싱)
+ * - 파일 크기 · 요청 크기는 버퍼가 지나갈 때마다 누적해 제한을 넘는 즉시 중단한다
+ * - SHA-256은 버퍼가 지나갈 때 갱신하고 파일 파트가 끝나면 확정된다
+ * 본문은 전달 측 요청량만큼만 읽히므로 FastAPI 전송 속도에 맞춰 업로드를 받는다.
+ *
+ * @author SKAX Team
+ */
+@Component
+final class ReportDataUploadStream {
+
+	static final String DATA_PART = "data";
+	static final String FILE_PART = "file";
+
+	private final ObjectMapper objectMapper;
+	private final long maxFileSize;
+	private final long maxRequestSize;
+	private final int maxDataPartSize;
+	private final int bufferSize;
+
+	ReportDataUploadStream(
+		ObjectMapper objectMapper,
+		@Value("${app.report-upload.max-file-size:10GB}") DataSize maxFileSize,
+		@Value("${app.report-upload.max-request-size:10GB}") DataSize maxRequestSize,
+		@Value("${app.report-upload.max-data-part-size:64KB}") DataSize maxDataPartSize,
+		@Value("${app.report-upload.buffer-size:64KB}") DataSize bufferSize
+	) {
+		this.objectMapper = objectMapper;
+		this.maxFileSize = maxFileSize.toBytes();
+		this.maxRequestSize = maxRequestSize.toBytes();
+		this.maxDataPartSize = Math.toIntExact(maxDataPartSize.toBytes());
+		this.bufferSize = Math.toIntExact(bufferSize.toBytes());
+	}
+
+	/**
+	 * 서블릿 요청 본문을 읽으며 file 파트를 전달
+	 *
+	 * 블로킹 InputStream 읽기는 boundedElastic 스레드에서 전달 측이 요청한 만큼만 수행한다.
+	 *
+	 * @param headers   요청 헤더 (boundary를 포함한 Content-Type)
+	 * @param body      요청 본문
+	 * @param forwarder file 파트 전달 함수
+	 * @return 전달한 파일 정보
+	 */
+	Mono<Uploaded> upload(HttpHeaders headers, InputStream body, Forwarder forwarder) {
+		Flux<DataBuffer> buffers = DataBufferUtils.readInputStream(() -> body, DefaultDataBufferFactory.sharedInstance, bufferSize)
+			.subscribeOn(Schedulers.boundedElastic());
+		return upload(headers, buffers, forwarder);
+	}
+
+	/**
+	 * multipart 본문을 읽으며 file 파트를 전달
+	 *
+	 * @param headers   요청 헤더 (boundary를 포함한 Content-Type)
+	 * @param body      요청 본문
+	 * @param forwarder file 파트 전달 함수
+	 * @return 전달한 파일 정보
+	 */
+	Mono<Uploaded> upload(HttpHeaders headers, Flux<DataBuffer> body, Forwarder forwarder) {
+		PartEventHttpMessageReader reader = new PartEventHttpMessageReader();
+		reader.setMaxInMemorySize(maxDataPartSize);
+		ReactiveHttpInputMessage message = new ReactiveHttpInputMessage() {
+			@Override
+			public HttpHeaders getHeaders() {
+				return headers;
+			}
+
+			@Override
+			public Flux<DataBuffer> getBody() {
+				return limit(body, maxRequestSize, "요청 크기가 제한(" + maxRequestSize + " bytes)을 초과했습니다");
+			}
+		};
+
+		AtomicReference<UUID> siteId = new AtomicReference<>();
+		AtomicBoolean fileForwarded = new AtomicBoolean();
+		return reader.read(ResolvableType.forClass(PartEvent.class), message, Map.of())
+			.windowUntil(PartEvent::isLast)
+			.concatMap(part -> part.switchOnFirst((signal, events) -> {
+				PartEvent first = signal.get();
+				if (first == null) {
+					return events.thenMany(Flux.<Uploaded>empty());
+				}
+
+				String name = first.name();
+				if (DATA_PART.equals(name)) {
+					return readData(first, events).doOnNext(siteId::set).thenMany(Flux.<Uploaded>empty());
+				}
+				if (!FILE_PART.equals(name) || !(first instanceof FilePartEvent file)) {
+					// 알 수 없는 파트는 버림
+					return events.doOnNext(event -> DataBufferUtils.release(event.content())).thenMany(Flux.<Uploaded>empty());
+				}
+				if (siteId.get() == null) {
+					return Flux.<Uploaded>error(new BusinessException(ErrorCode.INVALID_REQUEST,
+						"data 파트는 file 파트보다 먼저 전송해야 합니다"));
+				}
+				if (!fileForwarded.compareAndSet(false, true)) {
+					return Flux.<Uploaded>error(new BusinessException(ErrorCode.INVALID_REQUEST, "파일은 하나만 전송할 수 있습니다"));
+				}
+				return forwardFile(siteId.get(), file, events, forwarder).flux();
+			}))
+			.onErrorMap(DataBufferLimitException.class,
+				e -> new BusinessException(ErrorCode.INVALID_REQUEST, "data 파트가 너무 큽니다: " + e.getMessage()))
+			.singleOrEmpty()
+			.switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.INVALID_REQUEST,
+				siteId.get() == null ? "data 파트가 없습니다" : "file 파트가 없습니다")));
+	}
+
+	/**
+	 * data 파트(JSON)에서 사업장 ID 추출
+	 */
+	private Mono<UUID> readData(PartEvent first, Flux<PartEvent> events) {
+		Mono<String> json = first instanceof FormPartEvent form
+			? events.then(Mono.just(form.value()))
+			: DataBufferUtils.join(events.map(PartEvent::content), maxDataPartSize).map(buffer -> {
+				String value = buffer.toString(StandardCharsets.UTF_8);
+				DataBufferUtils.release(buffer);
+				return value;
+			});
+
+		return json.map(value -> {
+			ReportDataRequest request;
+			try {
+				request = objectMapper.readValue(value, ReportDataRequest.class);
+			} catch (IOException e) {
+				throw new BusinessException(ErrorCode.INVALID_REQUEST, "data 파트가 올바른 JSON이 아닙니다");
+			}
+			if (request.getSiteId() == null) {
+				throw new BusinessException(ErrorCode.INVALID_REQUEST, "사업장 ID는 필수입니다.");
+			}
+			return request.getSiteId();
+		});
+	}
+
+	/**
+	 * file 파트 내용을 크기 제한 · 체크섬 계산을 거쳐 전달
+	 */
+	private Mono<Uploaded> forwardFile(UUID siteId, FilePartEvent file, Flux<PartEvent> events, Forwarder forwarder) {
+		MessageDigest digest = sha256();
+		AtomicLong size = new AtomicLong();
+		Flux<DataBuffer> content = limit(events.map(PartEvent::content), maxFileSize,
+			"파일 크기가 제한(" + maxFileSize + " bytes)을 초과했습니다")
+			.doOnNext(buffer -> {
+				size.addAndGet(buffer.readableByteCount());
+				try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+					iterator.forEachRemaining(digest::update);
+				}
+			});
+		// 파일 파트 전송이 끝난 뒤에 한 번만 확정
+		Mono<String> checksum = Mono.fromSupplier(() -> HexFormat.of().formatHex(digest.digest())).cache();
+
+		MediaType contentType = file.headers().getContentType();
+		return forwarder.forward(siteId, file.filename(), contentType, content, checksum)
+			.then(checksum)
+			.map(sha256 -> new Uploaded(siteId, file.filename(), size.get(), sha256));
+	}
+
+	/**
+	 * 누적 크기가 제한을 넘으면 해당 버퍼를 해제하고 오류로 중단
+	 */
+	private static Flux<DataBuffer> limit(Flux<DataBuffer> buffers, long maxSize, String message) {
+		AtomicLong total = new AtomicLong();
+		return buffers.map(buffer -> {
+			if (total.addAndGet(buffer.readableByteCount()) > maxSize) {
+				DataBufferUtils.release(buffer);
+				throw new BusinessException(ErrorCode.INVALID_REQUEST, message);
+			}
+			return buffer;
+		});
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * file 파트 전달 함수 (FastAPI 요청 본문으로 연결)
+	 */
+	@FunctionalInterface
+	interface Forwarder {
+		Mono<Map<String, Object>> forward(UUID siteId, String filename, MediaType contentType,
+										  Flux<DataBuffer> content, Mono<String> checksum);
+	}
+
+	/**
+	 * @param siteId   사업장 ID
+	 * @param filename 파일명
+	 * @param size     파일 크기 (bytes)
+	 * @param sha256   파일 SHA-256 (hex)
+	 */
+	record Uploaded(UUID siteId, String filename, long size, String sha256) {
+	}
+}
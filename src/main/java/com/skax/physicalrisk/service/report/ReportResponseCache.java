@@ -0,0 +1,89 @@
+package com.skax.physicalrisk.service.report;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.physicalrisk.dto.response.report.new_structure.ReportResponse;
+import com.skax.physicalrisk.service.analysis.AnalysisResultMaterializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 사용자별 리포트 응답 캐시
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * report_content(jsonb)를 ReportResponse로 변환한 결과를 내용 해시(reports.content_hash)와 함께 보관한다.
+ * 조회 시 현재 해시와 같을 때만 사용하므로 FastAPI가 리포트를 재생성하면 자연히 다시 변환된다.
+ * 재생성 계기(분석 결과 적재, 추가 데이터 등록)에는 메모리를 바로 비우도록 명시적으로 무효화한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class ReportResponseCache {
+
+	private final Cache<UUID, CachedReport> reports;
+
+	public ReportResponseCache(
+		@Value("${app.report-cache.maximum-size:1000}") long maximumSize,
+		@Value("${app.report-cache.expire-after-access-minutes:30}") long expireAfterAccessMinutes
+	) {
+		this.reports = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+			.build();
+	}
+
+	/**
+	 * 캐시된 리포트 조회
+	 *
+	 * @param userId      사용자 ID
+	 * @param contentHash 현재 리포트 내용 해시
+	 * @return 같은 해시로 변환된 리포트 (없거나 해시가 다르면 null)
+	 */
+	ReportResponse get(UUID userId, String contentHash) {
+		CachedReport cached = reports.getIfPresent(userId);
+		return cached != null && cached.contentHash().equals(contentHash) ? cached.report() : null;
+	}
+
+	/**
+	 * 변환된 리포트 저장
+	 *
+	 * @param userId      사용자 ID
+	 * @param contentHash 변환한 리포트 내용 해시
+	 * @param report      변환된 리포트
+	 */
+	void put(UUID userId, String contentHash, ReportResponse report) {
+		reports.put(userId, new CachedReport(contentHash, report));
+	}
+
+	/**
+	 * 사용자 리포트 무효화
+	 *
+	 * @param userId 사용자 ID
+	 */
+	public void evict(UUID userId) {
+		reports.invalidate(userId);
+	}
+
+	/**
+	 * 분석 결과 적재 완료 시 (FastAPI 리포트 재생성 계기) 무효화
+	 */
+	@EventListener
+	public void onAnalysisResultsMaterialized(AnalysisResultMaterializer.AnalysisResultsMaterializedEvent event) {
+		evict(event.userId());
+	}
+
+	/**
+	 * @param contentHash 변환한 리포트 내용 해시
+	 * @param report      변환된 리포트
+	 */
+	private record CachedReport(String contentHash, ReportResponse report) {
+	}
+}
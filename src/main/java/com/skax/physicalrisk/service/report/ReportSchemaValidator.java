@@ -0,0 +1,43 @@
+package com.skax.physicalrisk.service.report;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.skax.physicalrisk.dto.response.report.new_structure.ReportResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 리포트 JSON 원문의 DTO 스키마 검증
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 원문 그대로 응답하는 경로(passthrough)는 ReportResponse를 거치지 않으므로
+ * FastAPI가 저장한 구조가 DTO와 어긋나도 드러나지 않는다.
+ * 검증 모드(테스트 프로필)에서는 모르는 필드도 오류로 보고 ReportResponse로 읽어 본다.
+ *
+ * @author SKAX Team
+ */
+@Component
+final class ReportSchemaValidator {
+
+	private final ObjectReader reader;
+
+	ReportSchemaValidator(ObjectMapper objectMapper) {
+		this.reader = objectMapper.readerFor(ReportResponse.class)
+			.with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+			.with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+	}
+
+	/**
+	 * 리포트 JSON 원문 검증
+	 *
+	 * @param json report_content 원문
+	 * @throws IOException DTO 구조와 다르거나 JSON이 아닌 경우
+	 */
+	void validate(String json) throws IOException {
+		reader.readValue(json);
+	}
+}
@@ -1,26 +1,31 @@
 package com.skax.physicalrisk.service.report;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.dto.common.RawJson;
 import com.skax.physicalrisk.dto.request.report.ReportDataRequest;
+import com.skax.physicalrisk.dto.response.report.ReportDataUploadResponse;
 import com.skax.physicalrisk.dto.response.report.new_structure.ReportResponse;
-import com.skax.physicalrisk.domain.report.entity.Report;
+import com.skax.physicalrisk.domain.report.repository.ReportContent;
 import com.skax.physicalrisk.domain.report.repository.ReportRepository;
-import com.skax.physicalrisk.domain.user.entity.User;
-import com.skax.physicalrisk.domain.user.repository.UserRepository;
+import com.skax.physicalrisk.domain.report.repository.ReportVersion;
 import com.skax.physicalrisk.exception.BusinessException;
 import com.skax.physicalrisk.exception.ErrorCode;
 import com.skax.physicalrisk.exception.ResourceNotFoundException;
 import com.skax.physicalrisk.security.SecurityUtil;
+import com.skax.physicalrisk.service.site.SiteAccessService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.UUID;
 
 /**
@@ -28,26 +33,103 @@ import java.util.UUID;
  *
  * FastAPI 서버를 통한 리포트 생성 및 조회
  *
- * 최종 수정일: 2025-12-16
- * 파일 버전: v03 - 새로운 응답 스키마 적용 (TCFD Report Structure)
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v10 - 응답 형태별 ETag 분리 (/api/report 원문·DTO, /api/report/stream)
  *
  * @author SKAX Team
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ReportService {
 
 	private final FastApiClient fastApiClient;
-	private final UserRepository userRepository;
 	private final ReportRepository reportRepository;
+	private final ReportResponseCache reportResponseCache;
+	private final SiteAccessService siteAccessService;
 	private final ObjectMapper objectMapper;
+	private final ReportSchemaValidator reportSchemaValidator;
+	private final ReportDataUploadStream reportDataUploadStream;
+	private final ReportContentStreamReader reportContentStreamReader;
+
+	/** report_content 원문을 DTO 변환 없이 응답에 기록할지 여부 */
+	@Value("${app.report.passthrough:true}")
+	private boolean passthrough;
+
+	/** passthrough 응답 전에 원문을 ReportResponse 스키마로 검증할지 여부 (테스트용) */
+	@Value("${app.report.validate-schema:false}")
+	private boolean validateSchema;
+
+	/**
+	 * 통합 리포트(/api/report) ETag 조회
+	 *
+	 * reports.content_hash만 읽고 report_content(jsonb)는 읽지 않으므로 If-None-Match 비교에 사용한다.
+	 * 원문 응답과 DTO 변환 응답은 본문이 다르므로 서로 다른 ETag를 쓴다.
+	 *
+	 * @return ETag (해시가 아직 없으면 null)
+	 */
+	public String getReportEtag() {
+		return findReportEtag(passthrough ? "raw" : "dto");
+	}
+
+	/**
+	 * 스트리밍 리포트(/api/report/stream) ETag 조회 (같은 리포트라도 /api/report와 다른 ETag)
+	 *
+	 * @return ETag (해시가 아직 없으면 null)
+	 */
+	public String getStreamReportEtag() {
+		return findReportEtag("stream");
+	}
+
+	private String findReportEtag(String representation) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		ReportVersion version = reportRepository.findVersionByUserId(userId)
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.REPORT_NOT_FOUND));
+		return toEtag(version.getContentHash(), representation);
+	}
+
+	/**
+	 * 통합 리포트 응답 데이터 조회
+	 *
+	 * passthrough가 켜져 있으면 report_content 원문(RawJson)을, 아니면 변환한 ReportResponse를 반환한다.
+	 * 두 경우 모두 ApiResponse.data로 직렬화한 결과가 같은 구조다.
+	 *
+	 * @return RawJson 또는 ReportResponse
+	 */
+	public Object getReportData() {
+		return passthrough ? getReportJson() : getReport();
+	}
+
+	/**
+	 * 통합 리포트 JSON 원문 조회
+	 *
+	 * report_content를 text로 읽어 Map/DTO 객체를 만들지 않고 그대로 응답에 기록한다.
+	 * 검증 모드에서는 원문이 ReportResponse 스키마와 다르면 오류를 낸다.
+	 *
+	 * @return 리포트 JSON 원문
+	 */
+	public RawJson getReportJson() {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		log.info("Fetching raw report for userId={}", userId);
+
+		String content = reportRepository.findReportContentJsonByUserId(userId)
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.REPORT_NOT_FOUND));
+		if (validateSchema) {
+			try {
+				reportSchemaValidator.validate(content);
+			} catch (IOException e) {
+				log.error("Report content does not match ReportResponse schema for userId={}: {}", userId, e.getMessage());
+				throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+			}
+		}
+		return new RawJson(content);
+	}
 
 	/**
 	 * 통합 리포트 조회
 	 *
 	 * DB의 reports 테이블에서 user_id로 리포트를 조회
+	 * 내용 해시가 같으면 이전에 변환한 ReportResponse를 재사용한다.
 	 *
 	 * @return TCFD 구조의 리포트 응답
 	 */
@@ -55,42 +137,92 @@ public class ReportService {
 		UUID userId = SecurityUtil.getCurrentUserId();
 		log.info("Fetching report for userId={}", userId);
 
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
-		// DB에서 리포트 조회
-		Report report = reportRepository.findByUser(user)
+		ReportVersion version = reportRepository.findVersionByUserId(userId)
 			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.REPORT_NOT_FOUND));
+		if (version.getContentHash() != null) {
+			ReportResponse cached = reportResponseCache.get(userId, version.getContentHash());
+			if (cached != null) {
+				log.debug("Report cache hit for userId={}, reportId={}", userId, version.getReportId());
+				return cached;
+			}
+		}
 
-		log.info("Report found for userId={}, reportId={}", userId, report.getId());
+		// 해시와 원문을 같은 행에서 함께 읽어 캐시 키와 내용이 어긋나지 않도록 함
+		ReportContent content = reportRepository.findContentByUserId(userId)
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.REPORT_NOT_FOUND));
+		log.info("Report found for userId={}, reportId={}", userId, version.getReportId());
 
-		// Map을 ReportResponse DTO로 변환
-		ReportResponse reportResponse = objectMapper.convertValue(
-			report.getReportContent(),
-			ReportResponse.class
-		);
+		// JSON 원문을 ReportResponse DTO로 바로 변환 (Map 경유 없음)
+		ReportResponse reportResponse;
+		try {
+			reportResponse = content.getContent() == null
+				? null
+				: objectMapper.readValue(content.getContent(), ReportResponse.class);
+		} catch (IOException e) {
+			log.error("Failed to parse report content for userId={}: {}", userId, e.getMessage());
+			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+		}
 
+		if (reportResponse != null && content.getContentHash() != null) {
+			reportResponseCache.put(userId, content.getContentHash(), reportResponse);
+		}
 		return reportResponse;
 	}
 
+	/**
+	 * 통합 리포트 조회 (스트리밍 응답)
+	 *
+	 * report_content를 문자열 하나로 읽지 않고 ReportContentStreamReader가 커서로 필드/배열 원소 단위로 읽어
+	 * {"result": "success", "data": {...}} 형태로 바로 전송한다 (힙 사용량이 리포트 크기에 비례하지 않음).
+	 * 존재 여부는 요청 스레드에서 확인하여 없으면 스트리밍 전에 404를 반환한다.
+	 *
+	 * @return 응답 본문 기록기
+	 */
+	public StreamingResponseBody streamReport() {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		log.info("Streaming report for userId={}", userId);
+
+		siteAccessService.getUser(userId);
+		if (!reportRepository.existsByUser_IdAndReportContentIsNotNull(userId)) {
+			throw new ResourceNotFoundException(ErrorCode.REPORT_NOT_FOUND);
+		}
+
+		return outputStream -> {
+			try (JsonGenerator out = objectMapper.getFactory().createGenerator(outputStream)) {
+				out.writeStartObject();
+				out.writeStringField("result", "success");
+				out.writeFieldName("data");
+				reportContentStreamReader.write(userId, out);
+				out.writeEndObject();
+			}
+		};
+	}
+
+	/**
+	 * 내용 해시 + 응답 형태 → 강한 ETag ("해시-형태", 형태마다 본문 바이트가 다르므로 형태별로 구분)
+	 */
+	static String toEtag(String contentHash, String representation) {
+		return contentHash == null ? null : "\"" + contentHash + "-" + representation + "\"";
+	}
+
 	/**
 	 * 리포트 추가 데이터 등록 (v0.2 신규)
 	 *
 	 * @param request 리포트 추가 데이터 요청 (siteId)
 	 * @param file    데이터 파일
 	 */
-	@Transactional
 	public void registerReportData(ReportDataRequest request, MultipartFile file) {
 		UUID userId = SecurityUtil.getCurrentUserId();
 		log.info("Registering report data for user: {}, siteId: {}, fileName: {}",
 			userId, request.getSiteId(), file.getOriginalFilename());
 
-		User user = userRepository.findById(userId)
-				.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+		// 사용자 확인만 짧은 트랜잭션으로 수행 (파일 전송 중에는 커넥션 미점유)
+		siteAccessService.getUser(userId);
 
 		try {
 			// FastAPI로 파일 전송
 			fastApiClient.registerReportData(userId, request.getSiteId(), file).block();
+			reportResponseCache.evict(userId);
 			log.info("Report data registered successfully for userId={}, siteId={}", userId, request.getSiteId());
 
 		} catch (Exception e) {
@@ -99,4 +231,46 @@ public class ReportService {
 					"리포트 데이터 등록에 실패했습니다: " + e.getMessage());
 		}
 	}
+
+	/**
+	 * 리포트 추가 데이터 스트리밍 등록
+	 *
+	 * multipart 요청 본문을 파트 단위로 읽어 file 파트를 FastAPI 요청 본문으로 바로 흘려보낸다.
+	 * 파일을 임시 파일/메모리에 모으지 않으며, 크기 제한과 SHA-256 계산은 전송 중에 수행한다.
+	 *
+	 * @param headers 요청 헤더 (boundary를 포함한 Content-Type)
+	 * @param body    요청 본문
+	 * @return 전송한 파일 정보
+	 */
+	public ReportDataUploadResponse registerReportDataStream(HttpHeaders headers, InputStream body) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		log.info("Streaming report data for user: {}, contentLength: {}", userId, headers.getContentLength());
+
+		// 본문을 읽기 전에 사용자 확인 (파일 전송 중에는 커넥션 미점유)
+		siteAccessService.getUser(userId);
+
+		ReportDataUploadStream.Uploaded uploaded;
+		try {
+			uploaded = reportDataUploadStream.upload(headers, body,
+				(siteId, filename, contentType, content, checksum) ->
+					fastApiClient.registerReportDataStream(userId, siteId, filename, contentType, content, checksum))
+				.block();
+		} catch (BusinessException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("Failed to stream report data for userId={}: {}", userId, e.getMessage());
+			throw new BusinessException(ErrorCode.FASTAPI_CONNECTION_ERROR,
+				"리포트 데이터 등록에 실패했습니다: " + e.getMessage());
+		}
+
+		reportResponseCache.evict(userId);
+		log.info("Report data streamed for userId={}, siteId={}, size={}, sha256={}",
+			userId, uploaded.siteId(), uploaded.size(), uploaded.sha256());
+		return ReportDataUploadResponse.builder()
+			.siteId(uploaded.siteId())
+			.fileName(uploaded.filename())
+			.fileSize(uploaded.size())
+			.sha256(uploaded.sha256())
+			.build();
+	}
 }
@@ -0,0 +1,71 @@
+package com.skax.physicalrisk.service.report;
+
+import com.skax.physicalrisk.domain.report.entity.ReportUpload;
+import com.skax.physicalrisk.domain.report.entity.ReportUploadChunk;
+import com.skax.physicalrisk.domain.report.repository.ReportUploadChunkRepository;
+import com.skax.physicalrisk.domain.report.repository.ReportUploadRepository;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 검증된 청크 확정/기록
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 세션 행을 잠근 채 상태를 다시 확인하고, 전송 중(UPLOADING)일 때만 스테이징 청크를 확정하고 기록한다.
+ * 완료 요청의 상태 전이(UPLOADING → FINALIZING)는 같은 행을 갱신하므로 확정이 끝날 때까지 기다리며,
+ * 전이 뒤에 도착한 청크는 확정하지 않는다. 같은 세션의 청크 확정은 이 잠금으로 순서대로 처리된다.
+ *
+ * @author SKAX Team
+ */
+@Component
+@RequiredArgsConstructor
+class ReportUploadChunkRecorder {
+
+	private final ReportUploadRepository reportUploadRepository;
+	private final ReportUploadChunkRepository reportUploadChunkRepository;
+
+	/**
+	 * 청크 확정 후 기록
+	 *
+	 * @param uploadId 업로드 ID
+	 * @param index    청크 번호
+	 * @param offset   청크 시작 위치
+	 * @param size     청크 크기 (bytes)
+	 * @param sha256   검증된 청크 SHA-256
+	 * @param staged   크기/SHA-256 검증을 마친 스테이징 청크
+	 */
+	@Transactional
+	public void promote(UUID uploadId, int index, long offset, long size, String sha256,
+						UploadStagingStore.StagedChunk staged) {
+		ReportUpload upload = reportUploadRepository.findForUpdateById(uploadId)
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.REPORT_UPLOAD_NOT_FOUND));
+		if (upload.getStatus() != ReportUpload.UploadStatus.UPLOADING) {
+			throw new BusinessException(ErrorCode.REPORT_UPLOAD_CONFLICT);
+		}
+
+		try {
+			staged.promote();
+		} catch (IOException e) {
+			throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
+				"청크 " + index + " 저장에 실패했습니다: " + e.getMessage());
+		}
+
+		ReportUploadChunk chunk = reportUploadChunkRepository.findByUploadIdAndChunkIndex(uploadId, index)
+			.orElseGet(() -> ReportUploadChunk.builder().uploadId(uploadId).chunkIndex(index).build());
+		chunk.setChunkOffset(offset);
+		chunk.setSize(size);
+		chunk.setSha256(sha256);
+		chunk.setReceivedAt(LocalDateTime.now());
+		reportUploadChunkRepository.save(chunk);
+	}
+}
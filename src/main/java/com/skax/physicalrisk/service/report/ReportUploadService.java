@@ -0,0 +1,523 @@
+package com.skax.physicalrisk.service.report;
+
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.domain.report.entity.ReportUpload;
+import com.skax.physicalrisk.domain.report.repository.ReportUploadChunkRepository;
+import com.skax.physicalrisk.domain.report.repository.ReportUploadRepository;
+import com.skax.physicalrisk.dto.request.report.ReportUploadCreateRequest;
+import com.skax.physicalrisk.dto.response.report.ReportDataUploadResponse;
+import com.skax.physicalrisk.dto.response.report.ReportUploadChunkResponse;
+import com.skax.physicalrisk.dto.response.report.ReportUploadResponse;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.exception.ResourceNotFoundException;
+import com.skax.physicalrisk.security.SecurityUtil;
+import com.skax.physicalrisk.service.site.SiteAccessService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * 리포트 추가 데이터 분할(재개 가능) 업로드 서비스
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 청크를 검증한 뒤 확정, 완료 요청 중인 세션의 청크 거부
+ *
+ * 수 GB 파일을 한 번에 보내다 연결이 끊기면 처음부터 다시 보내야 하므로 청크 단위로 받는다.
+ * 1. 세션 생성: 전체 크기/청크 크기로 청크 수 결정
+ * 2. 청크 전송: 번호 · 시작 위치 · SHA-256을 함께 보내며, 임시 위치에서 검증된 청크만 확정/기록 (청크끼리 독립적이라 병렬 전송 가능)
+ * 3. 상태 조회: 받은 바이트 범위와 빠진 청크 번호 (연결이 끊긴 뒤 이어 보낼 청크 확인)
+ * 4. 완료: 스테이징 영역의 청크를 순서대로 읽어 FastAPI multipart 요청 본문으로 스트리밍 전송
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class ReportUploadService {
+
+	private static final Pattern SHA256_HEX = Pattern.compile("^[0-9a-fA-F]{64}$");
+
+	private final ReportUploadRepository reportUploadRepository;
+	private final ReportUploadChunkRepository reportUploadChunkRepository;
+	private final UploadStagingStore uploadStagingStore;
+	private final ReportUploadChunkRecorder chunkRecorder;
+	private final SiteAccessService siteAccessService;
+	private final FastApiClient fastApiClient;
+	private final ReportResponseCache reportResponseCache;
+	private final long maxFileSize;
+	private final int defaultChunkSize;
+	private final int minChunkSize;
+	private final int maxChunkSize;
+	private final int maxChunks;
+	private final Duration sessionTtl;
+	private final int bufferSize;
+
+	public ReportUploadService(
+		ReportUploadRepository reportUploadRepository,
+		ReportUploadChunkRepository reportUploadChunkRepository,
+		UploadStagingStore uploadStagingStore,
+		ReportUploadChunkRecorder chunkRecorder,
+		SiteAccessService siteAccessService,
+		FastApiClient fastApiClient,
+		ReportResponseCache reportResponseCache,
+		@Value("${app.report-upload.max-file-size:10GB}") DataSize maxFileSize,
+		@Value("${app.report-upload.chunk.default-size:16MB}") DataSize defaultChunkSize,
+		@Value("${app.report-upload.chunk.min-size:1MB}") DataSize minChunkSize,
+		@Value("${app.report-upload.chunk.max-size:256MB}") DataSize maxChunkSize,
+		@Value("${app.report-upload.chunk.max-count:10000}") int maxChunks,
+		@Value("${app.report-upload.session-ttl-hours:24}") long sessionTtlHours,
+		@Value("${app.report-upload.buffer-size:64KB}") DataSize bufferSize
+	) {
+		this.reportUploadRepository = reportUploadRepository;
+		this.reportUploadChunkRepository = reportUploadChunkRepository;
+		this.uploadStagingStore = uploadStagingStore;
+		this.chunkRecorder = chunkRecorder;
+		this.siteAccessService = siteAccessService;
+		this.fastApiClient = fastApiClient;
+		this.reportResponseCache = reportResponseCache;
+		this.maxFileSize = maxFileSize.toBytes();
+		this.defaultChunkSize = Math.toIntExact(defaultChunkSize.toBytes());
+		this.minChunkSize = Math.toIntExact(minChunkSize.toBytes());
+		this.maxChunkSize = Math.toIntExact(maxChunkSize.toBytes());
+		this.maxChunks = maxChunks;
+		this.sessionTtl = Duration.ofHours(sessionTtlHours);
+		this.bufferSize = Math.toIntExact(bufferSize.toBytes());
+	}
+
+	/**
+	 * 업로드 세션 생성
+	 *
+	 * @param request 세션 생성 요청
+	 * @return 세션 상태 (청크 크기/청크 수 포함)
+	 */
+	public ReportUploadResponse createUpload(ReportUploadCreateRequest request) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		siteAccessService.getSiteWithAuth(request.getSiteId(), userId);
+
+		long totalSize = request.getTotalSize();
+		if (totalSize > maxFileSize) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "파일 크기가 제한(" + maxFileSize + " bytes)을 초과했습니다");
+		}
+		int chunkSize = request.getChunkSize() == null ? defaultChunkSize : request.getChunkSize();
+		if (chunkSize > maxChunkSize || (chunkSize < minChunkSize && chunkSize < totalSize)) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST,
+				"청크 크기는 " + minChunkSize + "~" + maxChunkSize + " bytes 사이여야 합니다");
+		}
+		UploadChunkPlan plan = new UploadChunkPlan(totalSize, chunkSize);
+		if (plan.chunkCount() > maxChunks) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST,
+				"청크 수가 제한(" + maxChunks + ")을 초과합니다. 청크 크기를 늘려 주세요");
+		}
+		parseContentType(request.getContentType());
+
+		ReportUpload upload = reportUploadRepository.save(ReportUpload.builder()
+			.userId(userId)
+			.siteId(request.getSiteId())
+			.fileName(request.getFileName())
+			.contentType(request.getContentType())
+			.totalSize(totalSize)
+			.chunkSize(chunkSize)
+			.chunkCount(plan.chunkCount())
+			.sha256(request.getSha256() == null ? null : request.getSha256().toLowerCase())
+			.expiresAt(LocalDateTime.now().plus(sessionTtl))
+			.build());
+		log.info("Report upload created: uploadId={}, userId={}, siteId={}, size={}, chunks={}x{}",
+			upload.getId(), userId, upload.getSiteId(), totalSize, plan.chunkCount(), chunkSize);
+		return toResponse(upload, List.of());
+	}
+
+	/**
+	 * 청크 수신
+	 *
+	 * 본문을 스테이징 영역의 임시 위치로 바로 흘려보내며 크기와 SHA-256을 계산하고,
+	 * 검증을 통과한 청크만 세션 상태를 다시 확인한 뒤 확정/기록한다 (ReportUploadChunkRecorder).
+	 * 같은 번호를 다시 보내면 검증을 통과한 경우에만 덮어쓰며, 실패한 재전송은 기존 청크를 그대로 둔다.
+	 * 완료 요청이 시작된(FINALIZING) 세션에는 청크를 받지 않는다.
+	 *
+	 * @param uploadId 업로드 ID
+	 * @param index    청크 번호 (0부터)
+	 * @param offset   청크 시작 위치 (index × chunkSize)
+	 * @param checksum 청크 SHA-256 (hex)
+	 * @param body     청크 내용
+	 * @return 수신 결과
+	 */
+	public ReportUploadChunkResponse putChunk(UUID uploadId, int index, long offset, String checksum, InputStream body) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		ReportUpload upload = findUpload(uploadId, userId);
+		if (upload.getStatus() != ReportUpload.UploadStatus.UPLOADING) {
+			throw new BusinessException(ErrorCode.REPORT_UPLOAD_CONFLICT);
+		}
+
+		UploadChunkPlan plan = planOf(upload);
+		if (!plan.contains(index)) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST,
+				"청크 번호는 0~" + (plan.chunkCount() - 1) + " 사이여야 합니다");
+		}
+		if (offset != plan.offset(index)) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST,
+				"청크 " + index + "의 시작 위치는 " + plan.offset(index) + "입니다");
+		}
+		if (checksum == null || !SHA256_HEX.matcher(checksum).matches()) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "청크 SHA-256(64자리 16진수)이 필요합니다");
+		}
+
+		long length = plan.length(index);
+		MessageDigest digest = sha256();
+		UploadStagingStore.StagedChunk staged;
+		try {
+			staged = uploadStagingStore.stageChunk(uploadId, index, new DigestInputStream(new BoundedInputStream(body, length), digest), length);
+		} catch (IOException e) {
+			throw chunkStagingFailed(uploadId, index, length, e);
+		}
+
+		// 검증을 통과해 확정하기 전까지는 기존 청크를 건드리지 않음 (확정 후 discard는 아무것도 하지 않음)
+		String actual;
+		try {
+			if (hasRemaining(body, uploadId, index, length)) {
+				throw new BusinessException(ErrorCode.INVALID_REQUEST, "청크 " + index + "의 크기는 " + length + " bytes여야 합니다");
+			}
+			actual = HexFormat.of().formatHex(digest.digest());
+			if (!actual.equalsIgnoreCase(checksum)) {
+				throw new BusinessException(ErrorCode.INVALID_REQUEST,
+					"청크 " + index + "의 SHA-256이 일치하지 않습니다 (수신: " + actual + ")");
+			}
+			chunkRecorder.promote(uploadId, index, offset, length, actual, staged);
+		} finally {
+			discardStaged(staged, uploadId, index);
+		}
+
+		log.debug("Report upload chunk received: uploadId={}, index={}, size={}", uploadId, index, length);
+		return ReportUploadChunkResponse.builder()
+			.uploadId(uploadId)
+			.chunkIndex(index)
+			.offset(offset)
+			.size(length)
+			.sha256(actual)
+			.build();
+	}
+
+	/**
+	 * 업로드 세션 상태 조회 (받은 범위, 빠진 청크)
+	 *
+	 * @param uploadId 업로드 ID
+	 * @return 세션 상태
+	 */
+	public ReportUploadResponse getUpload(UUID uploadId) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		ReportUpload upload = findUpload(uploadId, userId);
+		// 완료된 세션은 청크 기록을 지웠으므로 전체를 받은 것으로 표시
+		List<Integer> received = upload.getStatus() == ReportUpload.UploadStatus.COMPLETED
+			? IntStream.range(0, upload.getChunkCount()).boxed().toList()
+			: reportUploadChunkRepository.findChunkIndexesByUploadId(uploadId);
+		return toResponse(upload, received);
+	}
+
+	/**
+	 * 업로드 완료 (FastAPI로 스트리밍 전송)
+	 *
+	 * 모든 청크가 있어야 하며, 청크를 순서대로 읽어 하나의 파일로 전송한다.
+	 * 세션 생성 시 전체 SHA-256을 선언했다면 전송 중 계산한 값과 다르면 전송을 중단한다.
+	 * 전송에 실패하면 청크를 그대로 두고 다시 완료를 요청할 수 있다.
+	 *
+	 * @param uploadId 업로드 ID
+	 * @return 전송한 파일 정보
+	 */
+	public ReportDataUploadResponse completeUpload(UUID uploadId) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		ReportUpload upload = findUpload(uploadId, userId);
+		if (upload.getStatus() != ReportUpload.UploadStatus.UPLOADING) {
+			throw new BusinessException(ErrorCode.REPORT_UPLOAD_CONFLICT);
+		}
+		UploadChunkPlan plan = planOf(upload);
+		List<Integer> missing = plan.missingChunks(reportUploadChunkRepository.findChunkIndexesByUploadId(uploadId));
+		if (!missing.isEmpty()) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST,
+				"받지 못한 청크가 " + missing.size() + "개 있습니다: " + missing.subList(0, Math.min(missing.size(), 20)));
+		}
+		if (reportUploadRepository.transition(uploadId, ReportUpload.UploadStatus.UPLOADING, ReportUpload.UploadStatus.FINALIZING) == 0) {
+			throw new BusinessException(ErrorCode.REPORT_UPLOAD_CONFLICT);
+		}
+
+		MessageDigest digest = sha256();
+		AtomicLong size = new AtomicLong();
+		Flux<DataBuffer> content = Flux.range(0, plan.chunkCount())
+			.concatMap(index -> DataBufferUtils.readInputStream(() -> uploadStagingStore.openChunk(uploadId, index),
+				DefaultDataBufferFactory.sharedInstance, bufferSize).subscribeOn(Schedulers.boundedElastic()))
+			.doOnNext(buffer -> {
+				size.addAndGet(buffer.readableByteCount());
+				try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+					iterator.forEachRemaining(digest::update);
+				}
+			});
+		// 파일 파트 전송이 끝난 뒤 확정, 선언한 값과 다르면 요청 본문을 오류로 끝내 FastAPI 등록을 막음
+		Mono<String> checksum = Mono.fromSupplier(() -> HexFormat.of().formatHex(digest.digest()))
+			.flatMap(sha256 -> upload.getSha256() != null && !upload.getSha256().equals(sha256)
+				? Mono.<String>error(new BusinessException(ErrorCode.INVALID_REQUEST,
+					"파일 SHA-256이 일치하지 않습니다 (선언: " + upload.getSha256() + ", 수신: " + sha256 + ")"))
+				: Mono.just(sha256))
+			.cache();
+
+		String sha256;
+		try {
+			fastApiClient.registerReportDataStream(userId, upload.getSiteId(), upload.getFileName(),
+				parseContentType(upload.getContentType()), content, checksum).block();
+			sha256 = checksum.block();
+		} catch (Exception e) {
+			reportUploadRepository.transition(uploadId, ReportUpload.UploadStatus.FINALIZING, ReportUpload.UploadStatus.UPLOADING);
+			BusinessException cause = findBusinessException(e);
+			if (cause != null) {
+				throw cause;
+			}
+			log.error("Failed to forward report upload {} for userId={}: {}", uploadId, userId, e.getMessage());
+			throw new BusinessException(ErrorCode.FASTAPI_CONNECTION_ERROR,
+				"리포트 데이터 등록에 실패했습니다: " + e.getMessage());
+		}
+
+		upload.setStatus(ReportUpload.UploadStatus.COMPLETED);
+		upload.setCompletedAt(LocalDateTime.now());
+		reportUploadRepository.save(upload);
+		discardChunks(uploadId);
+		reportResponseCache.evict(userId);
+
+		log.info("Report upload completed: uploadId={}, userId={}, siteId={}, size={}, sha256={}",
+			uploadId, userId, upload.getSiteId(), size.get(), sha256);
+		return ReportDataUploadResponse.builder()
+			.siteId(upload.getSiteId())
+			.fileName(upload.getFileName())
+			.fileSize(size.get())
+			.sha256(sha256)
+			.build();
+	}
+
+	/**
+	 * 업로드 취소 (청크와 세션 삭제)
+	 *
+	 * @param uploadId 업로드 ID
+	 */
+	public void abortUpload(UUID uploadId) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		ReportUpload upload = reportUploadRepository.findByIdAndUserId(uploadId, userId)
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.REPORT_UPLOAD_NOT_FOUND));
+		if (upload.getStatus() == ReportUpload.UploadStatus.FINALIZING) {
+			throw new BusinessException(ErrorCode.REPORT_UPLOAD_CONFLICT);
+		}
+		discardChunks(uploadId);
+		reportUploadRepository.delete(upload);
+		log.info("Report upload aborted: uploadId={}, userId={}", uploadId, userId);
+	}
+
+	/**
+	 * 만료된 업로드 세션 정리
+	 *
+	 * 전송 중인 세션은 만료 후 TTL만큼 더 기다린 뒤 정리한다 (전송 중 서버가 종료된 세션 포함).
+	 */
+	@Scheduled(initialDelayString = "${app.report-upload.cleanup-interval-ms:3600000}",
+		fixedDelayString = "${app.report-upload.cleanup-interval-ms:3600000}")
+	public void cleanupExpiredUploads() {
+		LocalDateTime now = LocalDateTime.now();
+		int deleted = 0;
+		for (ReportUpload upload : reportUploadRepository.findByExpiresAtBefore(now)) {
+			if (upload.getStatus() == ReportUpload.UploadStatus.FINALIZING && !upload.isExpired(now.minus(sessionTtl))) {
+				continue;
+			}
+			try {
+				discardChunks(upload.getId());
+				reportUploadRepository.delete(upload);
+				deleted++;
+			} catch (Exception e) {
+				log.warn("Failed to clean up report upload {}: {}", upload.getId(), e.getMessage());
+			}
+		}
+		if (deleted > 0) {
+			log.info("Expired report uploads cleaned up: {}", deleted);
+		}
+	}
+
+	/**
+	 * 사용자의 만료되지 않은 업로드 세션
+	 */
+	private ReportUpload findUpload(UUID uploadId, UUID userId) {
+		ReportUpload upload = reportUploadRepository.findByIdAndUserId(uploadId, userId)
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.REPORT_UPLOAD_NOT_FOUND));
+		if (upload.isExpired(LocalDateTime.now())) {
+			throw new ResourceNotFoundException(ErrorCode.REPORT_UPLOAD_NOT_FOUND, "만료된 업로드 세션입니다");
+		}
+		return upload;
+	}
+
+	/**
+	 * 청크 본문이 선언한 크기보다 긴지 확인
+	 */
+	private static boolean hasRemaining(InputStream body, UUID uploadId, int index, long length) {
+		try {
+			return body.read() != -1;
+		} catch (IOException e) {
+			throw chunkStagingFailed(uploadId, index, length, e);
+		}
+	}
+
+	private static BusinessException chunkStagingFailed(UUID uploadId, int index, long length, IOException e) {
+		log.warn("Failed to stage chunk {} of upload {}: {}", index, uploadId, e.getMessage());
+		return new BusinessException(ErrorCode.FILE_UPLOAD_FAILED,
+			"청크 " + index + " 저장에 실패했습니다 (" + length + " bytes 필요): " + e.getMessage());
+	}
+
+	/**
+	 * 확정하지 않은 스테이징 청크 삭제 (실패는 로그만 남김, 세션 정리 시 함께 삭제됨)
+	 */
+	private void discardStaged(UploadStagingStore.StagedChunk staged, UUID uploadId, int index) {
+		try {
+			staged.discard();
+		} catch (IOException e) {
+			log.warn("Failed to discard staged chunk {} of upload {}: {}", index, uploadId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 스테이징 청크와 청크 기록 삭제 (스테이징 삭제 실패는 로그만 남김)
+	 */
+	private void discardChunks(UUID uploadId) {
+		try {
+			uploadStagingStore.deleteUpload(uploadId);
+		} catch (IOException e) {
+			log.warn("Failed to delete staged chunks of upload {}: {}", uploadId, e.getMessage());
+		}
+		reportUploadChunkRepository.deleteByUploadId(uploadId);
+	}
+
+	private ReportUploadResponse toResponse(ReportUpload upload, List<Integer> receivedChunks) {
+		UploadChunkPlan plan = planOf(upload);
+		List<ReportUploadResponse.ByteRange> ranges = plan.receivedRanges(receivedChunks).stream()
+			.map(range -> ReportUploadResponse.ByteRange.builder().start(range[0]).end(range[1]).build())
+			.toList();
+		return ReportUploadResponse.builder()
+			.uploadId(upload.getId())
+			.siteId(upload.getSiteId())
+			.fileName(upload.getFileName())
+			.status(upload.getStatus().name())
+			.totalSize(upload.getTotalSize())
+			.chunkSize(upload.getChunkSize())
+			.chunkCount(upload.getChunkCount())
+			.receivedBytes(ranges.stream().mapToLong(range -> range.getEnd() - range.getStart()).sum())
+			.receivedRanges(ranges)
+			.missingChunks(plan.missingChunks(receivedChunks))
+			.expiresAt(upload.getExpiresAt())
+			.build();
+	}
+
+	private static UploadChunkPlan planOf(ReportUpload upload) {
+		return new UploadChunkPlan(upload.getTotalSize(), upload.getChunkSize());
+	}
+
+	private static MediaType parseContentType(String contentType) {
+		if (contentType == null || contentType.isBlank()) {
+			return MediaType.APPLICATION_OCTET_STREAM;
+		}
+		try {
+			return MediaType.parseMediaType(contentType);
+		} catch (InvalidMediaTypeException e) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "올바르지 않은 Content-Type입니다: " + contentType);
+		}
+	}
+
+	private static BusinessException findBusinessException(Throwable error) {
+		for (Throwable current = error; current != null; current = current.getCause()) {
+			if (current instanceof BusinessException businessException) {
+				return businessException;
+			}
+		}
+		return null;
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 최대 limit 바이트까지만 읽는 스트림 (청크 뒤의 초과 바이트를 스테이징 영역에 쓰지 않음)
+	 */
+	private static final class BoundedInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		BoundedInputStream(InputStream in, long limit) {
+			super(in);
+			this.remaining = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int b = super.read();
+			if (b >= 0) {
+				remaining--;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int n = super.read(b, off, (int) Math.min(len, remaining));
+			if (n > 0) {
+				remaining -= n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(Math.min(n, remaining));
+			remaining -= skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int) Math.min(super.available(), remaining);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public void close() {
+			// 남은 본문 확인을 위해 원본 스트림은 닫지 않음
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.skax.physicalrisk.service.report;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * S3 호환 스토리지 청크 스테이징 영역
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 임시 키에 쓴 뒤 검증 후 확정
+ *
+ * s3://{bucket}/{prefix}{uploadId}/{index}.part 로 저장한다.
+ * 청크 크기를 Content-Length로 지정해 내용을 메모리에 모으지 않고 전송한다.
+ * 먼저 {uploadId}/staging/ 아래 시도별 키에 쓰고, 검증이 끝나면 서버 측 복사로 최종 키에 확정한다.
+ *
+ * @author SKAX Team
+ */
+public class S3UploadStagingStore implements UploadStagingStore {
+
+	private static final String STAGING_DIRECTORY = "staging/";
+
+	private final AmazonS3 s3;
+	private final String bucket;
+	private final String prefix;
+
+	public S3UploadStagingStore(AmazonS3 s3, String bucket, String prefix) {
+		this.s3 = s3;
+		this.bucket = bucket;
+		this.prefix = prefix;
+	}
+
+	@Override
+	public StagedChunk stageChunk(UUID uploadId, int index, InputStream content, long size) throws IOException {
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(size);
+		metadata.setContentType("application/octet-stream");
+		String stagingKey = uploadPrefix(uploadId) + STAGING_DIRECTORY + index + "-" + UUID.randomUUID() + ".part";
+		try {
+			s3.putObject(bucket, stagingKey, content, metadata);
+		} catch (AmazonClientException e) {
+			deleteQuietly(stagingKey);
+			throw new IOException("Failed to stage chunk " + index + " of upload " + uploadId, e);
+		}
+		String key = chunkKey(uploadId, index);
+		return new StagedChunk() {
+			@Override
+			public void promote() throws IOException {
+				try {
+					s3.copyObject(bucket, stagingKey, bucket, key);
+				} catch (AmazonClientException e) {
+					throw new IOException("Failed to promote chunk " + index + " of upload " + uploadId, e);
+				}
+				deleteQuietly(stagingKey);
+			}
+
+			@Override
+			public void discard() throws IOException {
+				try {
+					s3.deleteObject(bucket, stagingKey);
+				} catch (AmazonClientException e) {
+					throw new IOException("Failed to discard staged chunk " + index + " of upload " + uploadId, e);
+				}
+			}
+		};
+	}
+
+	@Override
+	public InputStream openChunk(UUID uploadId, int index) throws IOException {
+		try {
+			return s3.getObject(bucket, chunkKey(uploadId, index)).getObjectContent();
+		} catch (AmazonClientException e) {
+			throw new IOException("Failed to read chunk " + index + " of upload " + uploadId, e);
+		}
+	}
+
+	@Override
+	public void deleteUpload(UUID uploadId) throws IOException {
+		ListObjectsV2Request request = new ListObjectsV2Request()
+			.withBucketName(bucket)
+			.withPrefix(uploadPrefix(uploadId));
+		try {
+			ListObjectsV2Result result;
+			do {
+				result = s3.listObjectsV2(request);
+				List<DeleteObjectsRequest.KeyVersion> keys = result.getObjectSummaries().stream()
+					.map(S3ObjectSummary::getKey)
+					.map(DeleteObjectsRequest.KeyVersion::new)
+					.toList();
+				if (!keys.isEmpty()) {
+					s3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys));
+				}
+				request.setContinuationToken(result.getNextContinuationToken());
+			} while (result.isTruncated());
+		} catch (AmazonClientException e) {
+			throw new IOException("Failed to delete staged chunks of upload " + uploadId, e);
+		}
+	}
+
+	/**
+	 * 임시 객체 삭제 (실패해도 deleteUpload가 접두사 단위로 정리)
+	 */
+	private void deleteQuietly(String key) {
+		try {
+			s3.deleteObject(bucket, key);
+		} catch (AmazonClientException ignored) {
+			// 세션 정리 시 함께 삭제됨
+		}
+	}
+
+	private String uploadPrefix(UUID uploadId) {
+		return prefix + uploadId + "/";
+	}
+
+	private String chunkKey(UUID uploadId, int index) {
+		return uploadPrefix(uploadId) + index + ".part";
+	}
+}
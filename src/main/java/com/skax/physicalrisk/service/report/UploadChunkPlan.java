@@ -0,0 +1,92 @@
+package com.skax.physicalrisk.service.report;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 분할 업로드 청크 배치
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 전체 크기와 청크 크기로 청크 번호 ↔ 바이트 범위를 계산한다.
+ * 청크 i는 [i × chunkSize, min((i + 1) × chunkSize, totalSize)) 범위이며 마지막 청크만 짧을 수 있다.
+ *
+ * @param totalSize 전체 파일 크기 (bytes)
+ * @param chunkSize 청크 크기 (bytes)
+ * @author SKAX Team
+ */
+record UploadChunkPlan(long totalSize, int chunkSize) {
+
+	UploadChunkPlan {
+		if (totalSize <= 0 || chunkSize <= 0) {
+			throw new IllegalArgumentException("totalSize and chunkSize must be positive");
+		}
+	}
+
+	/**
+	 * 청크 수
+	 */
+	int chunkCount() {
+		return Math.toIntExact((totalSize + chunkSize - 1) / chunkSize);
+	}
+
+	/**
+	 * 청크 시작 위치
+	 */
+	long offset(int index) {
+		return (long) index * chunkSize;
+	}
+
+	/**
+	 * 청크 길이 (마지막 청크는 남은 크기)
+	 */
+	long length(int index) {
+		return Math.min(chunkSize, totalSize - offset(index));
+	}
+
+	boolean contains(int index) {
+		return index >= 0 && index < chunkCount();
+	}
+
+	/**
+	 * 받은 청크를 연속 바이트 범위로 병합
+	 *
+	 * @param received 받은 청크 번호
+	 * @return [시작, 끝) 바이트 범위 목록 (시작 순)
+	 */
+	List<long[]> receivedRanges(Collection<Integer> received) {
+		BitSet chunks = toBitSet(received);
+		List<long[]> ranges = new ArrayList<>();
+		for (int start = chunks.nextSetBit(0); start >= 0; start = chunks.nextSetBit(start)) {
+			int end = chunks.nextClearBit(start);
+			ranges.add(new long[] {offset(start), offset(end - 1) + length(end - 1)});
+			start = end;
+		}
+		return ranges;
+	}
+
+	/**
+	 * 아직 받지 못한 청크 번호
+	 */
+	List<Integer> missingChunks(Collection<Integer> received) {
+		BitSet chunks = toBitSet(received);
+		List<Integer> missing = new ArrayList<>();
+		for (int index = chunks.nextClearBit(0); index < chunkCount(); index = chunks.nextClearBit(index + 1)) {
+			missing.add(index);
+		}
+		return missing;
+	}
+
+	private BitSet toBitSet(Collection<Integer> received) {
+		BitSet chunks = new BitSet(chunkCount());
+		for (Integer index : received) {
+			if (index != null && contains(index)) {
+				chunks.set(index);
+			}
+		}
+		return chunks;
+	}
+}
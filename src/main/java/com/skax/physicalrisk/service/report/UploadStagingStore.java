@@ -0,0 +1,63 @@
+package com.skax.physicalrisk.service.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * 분할 업로드 청크 스테이징 영역
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 임시 위치에 쓴 뒤 검증 후 확정 (검증 실패한 재전송이 기존 청크를 덮어쓰지 않음)
+ *
+ * 구현: 로컬 파일시스템(FileSystemUploadStagingStore), S3 호환 스토리지(S3UploadStagingStore).
+ * 청크는 먼저 임시 위치에 쓰고, 호출 측이 크기/SHA-256을 검증한 뒤 promote()해야 읽을 수 있는 위치로 옮긴다.
+ * 같은 청크를 다시 확정하면 덮어쓴다.
+ *
+ * @author SKAX Team
+ */
+public interface UploadStagingStore {
+
+	/**
+	 * 청크를 임시 위치에 저장 (확정 전에는 openChunk로 읽히지 않음)
+	 *
+	 * @param uploadId 업로드 ID
+	 * @param index    청크 번호
+	 * @param content  청크 내용 (size 바이트를 읽음)
+	 * @param size     청크 크기 (bytes)
+	 * @return 임시 저장된 청크 (promote 또는 discard)
+	 */
+	StagedChunk stageChunk(UUID uploadId, int index, InputStream content, long size) throws IOException;
+
+	/**
+	 * 확정된 청크 읽기
+	 *
+	 * @param uploadId 업로드 ID
+	 * @param index    청크 번호
+	 * @return 청크 내용 (호출 측에서 닫음)
+	 */
+	InputStream openChunk(UUID uploadId, int index) throws IOException;
+
+	/**
+	 * 업로드의 모든 청크 삭제 (임시 청크 포함)
+	 *
+	 * @param uploadId 업로드 ID
+	 */
+	void deleteUpload(UUID uploadId) throws IOException;
+
+	/**
+	 * 임시 위치에 저장된 청크
+	 */
+	interface StagedChunk {
+
+		/**
+		 * 청크 확정 (기존 청크를 교체)
+		 */
+		void promote() throws IOException;
+
+		/**
+		 * 임시 청크 삭제 (확정 후 호출하면 아무것도 하지 않음)
+		 */
+		void discard() throws IOException;
+	}
+}
@@ -0,0 +1,189 @@
+package com.skax.physicalrisk.service.simulation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.skax.physicalrisk.dto.response.simulation.RegionScoreMatrix;
+import com.skax.physicalrisk.service.analysis.AnalysisResultMaterializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 기후 시뮬레이션 결과 캐시
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 행정구역 점수 갱신을 사업장 없이 (시나리오, 위험 유형) 키로만 요청
+ *
+ * 행정구역 점수는 (시나리오, 위험 유형)에만 의존하므로 사용자와 무관하게 공유하고,
+ * 사업장 AAL만 사업장 단위로 보관한다.
+ * - 행정구역 점수: refresh-after-write 경과 후 조회되면 기존 값을 그대로 응답하면서 백그라운드에서 재조회 (refresh-ahead)
+ *   갱신 요청은 사업장 없이 (시나리오, 위험 유형)만 보내므로 특정 사용자의 사업장 삭제와 무관하다.
+ * - 사업장 AAL: 사업장 수정/삭제, 분석 결과 적재 시 무효화
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class ClimateSimulationCache {
+
+	private final LoadingCache<RegionScoreKey, RegionScoreMatrix> regionScores;
+	private final Cache<UUID, ConcurrentMap<ScenarioHazard, Map<String, Double>>> siteAals;
+
+	public ClimateSimulationCache(
+		ClimateSimulationFetcher fetcher,
+		@Qualifier("taskExecutor") Executor taskExecutor,
+		@Value("${app.climate-simulation-cache.region-scores.maximum-size:64}") long regionScoresMaximumSize,
+		@Value("${app.climate-simulation-cache.region-scores.refresh-after-write-minutes:60}") long refreshAfterWriteMinutes,
+		@Value("${app.climate-simulation-cache.region-scores.expire-after-write-hours:24}") long expireAfterWriteHours,
+		@Value("${app.climate-simulation-cache.site-aals.maximum-size:20000}") long siteAalsMaximumSize,
+		@Value("${app.climate-simulation-cache.site-aals.expire-after-write-hours:6}") long siteAalsExpireAfterWriteHours
+	) {
+		this.regionScores = Caffeine.newBuilder()
+			.maximumSize(regionScoresMaximumSize)
+			.refreshAfterWrite(Duration.ofMinutes(refreshAfterWriteMinutes))
+			.expireAfterWrite(Duration.ofHours(expireAfterWriteHours))
+			.executor(taskExecutor)
+			.build(new RegionScoreLoader(fetcher));
+		this.siteAals = Caffeine.newBuilder()
+			.maximumSize(siteAalsMaximumSize)
+			.expireAfterWrite(Duration.ofHours(siteAalsExpireAfterWriteHours))
+			.build();
+	}
+
+	/**
+	 * 공유 행정구역 점수 조회 (갱신 주기가 지났으면 백그라운드 갱신 시작)
+	 *
+	 * @return 행정구역 점수 (없으면 empty)
+	 */
+	public Optional<RegionScoreMatrix> getRegionScores(String scenario, String hazardType) {
+		return Optional.ofNullable(regionScores.getIfPresent(new RegionScoreKey(scenario, hazardType)));
+	}
+
+	/**
+	 * 행정구역 점수 저장
+	 */
+	public void putRegionScores(String scenario, String hazardType, RegionScoreMatrix matrix) {
+		regionScores.put(new RegionScoreKey(scenario, hazardType), matrix);
+	}
+
+	/**
+	 * 사업장 AAL 조회
+	 *
+	 * @return 캐시에 있는 사업장만 포함한 사업장 ID → {연도: AAL}
+	 */
+	public Map<UUID, Map<String, Double>> getSiteAals(String scenario, String hazardType, Collection<UUID> siteIds) {
+		ScenarioHazard key = new ScenarioHazard(scenario, hazardType);
+		Map<UUID, Map<String, Double>> result = new HashMap<>();
+		for (UUID siteId : siteIds) {
+			ConcurrentMap<ScenarioHazard, Map<String, Double>> bySimulation = siteAals.getIfPresent(siteId);
+			Map<String, Double> aal = bySimulation == null ? null : bySimulation.get(key);
+			if (aal != null) {
+				result.put(siteId, aal);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 사업장 AAL 저장
+	 *
+	 * @param aalBySiteId 사업장 ID 문자열 → {연도: AAL} (FastAPI 응답 형태)
+	 */
+	public void putSiteAals(String scenario, String hazardType, Map<String, Map<String, Double>> aalBySiteId) {
+		ScenarioHazard key = new ScenarioHazard(scenario, hazardType);
+		aalBySiteId.forEach((siteId, aal) -> {
+			try {
+				siteAals.get(UUID.fromString(siteId), id -> new ConcurrentHashMap<>()).put(key, Map.copyOf(aal));
+			} catch (IllegalArgumentException e) {
+				log.debug("Ignoring siteAAL with invalid site id: {}", siteId);
+			}
+		});
+	}
+
+	/**
+	 * 사업장 AAL 무효화 (사업장 수정/삭제 시, 트랜잭션 커밋 후)
+	 *
+	 * @param siteId 사업장 ID
+	 */
+	public void evictSite(UUID siteId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					siteAals.invalidate(siteId);
+				}
+			});
+		} else {
+			siteAals.invalidate(siteId);
+		}
+	}
+
+	/**
+	 * 분석 결과 적재 완료 시 해당 사업장 AAL 무효화
+	 */
+	@EventListener
+	public void onAnalysisResultsMaterialized(AnalysisResultMaterializer.AnalysisResultsMaterializedEvent event) {
+		siteAals.invalidateAll(event.siteIds());
+	}
+
+	/**
+	 * 행정구역 점수 캐시 키 (사용자 무관)
+	 */
+	private record RegionScoreKey(String scenario, String hazardType) {
+	}
+
+	/**
+	 * 사업장별 AAL 캐시 내부 키
+	 */
+	private record ScenarioHazard(String scenario, String hazardType) {
+	}
+
+	/**
+	 * 행정구역 점수 백그라운드 갱신
+	 *
+	 * 최초 적재는 요청 처리 중 put으로 이루어지므로 load는 사용하지 않는다.
+	 * 행정구역 점수는 사업장과 무관하므로 사업장 목록 없이 키의 시나리오/위험 유형으로만 재조회한다.
+	 * 갱신 실패 또는 응답에 점수가 없으면 기존 값을 유지한다.
+	 */
+	private record RegionScoreLoader(ClimateSimulationFetcher fetcher) implements CacheLoader<RegionScoreKey, RegionScoreMatrix> {
+
+		@Override
+		public RegionScoreMatrix load(RegionScoreKey key) {
+			return null;
+		}
+
+		@Override
+		public RegionScoreMatrix reload(RegionScoreKey key, RegionScoreMatrix oldValue) {
+			try {
+				RegionScoreMatrix refreshed = fetcher.fetch(key.scenario(), key.hazardType(),
+					List.of(), true).regionScores();
+				if (refreshed == null) {
+					return oldValue;
+				}
+				log.info("Region scores refreshed: scenario={}, hazardType={}", key.scenario(), key.hazardType());
+				return refreshed;
+			} catch (Exception e) {
+				log.warn("Failed to refresh region scores (scenario={}, hazardType={}): {}",
+					key.scenario(), key.hazardType(), e.getMessage());
+				return oldValue;
+			}
+		}
+	}
+}
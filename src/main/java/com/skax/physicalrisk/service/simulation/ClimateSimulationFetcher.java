@@ -0,0 +1,182 @@
+package com.skax.physicalrisk.service.simulation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.dto.response.simulation.RegionScoreMatrix;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * FastAPI 기후 시뮬레이션 호출 및 응답 파싱
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - regionScores 행렬 변환을 패키지 범위로 공개 (테스트)
+ *
+ * SimulationService(요청 처리)와 ClimateSimulationCache(백그라운드 갱신)가 같은 요청/파싱 규칙을 쓰도록 분리.
+ * FastAPI 응답 구조:
+ * {
+ *   "regionScores": { "11010": { "2025": 45.2, ... } },
+ *   "siteAALs": { "uuid-string": { "2025": 12.5, ... } }
+ * }
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClimateSimulationFetcher {
+
+	static final int START_YEAR = 2025;
+	static final int END_YEAR = 2100;
+
+	private static final TypeReference<Map<String, Map<String, Double>>> SITE_AAL_TYPE = new TypeReference<>() {};
+
+	private final FastApiClient fastApiClient;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * FastAPI 기후 시뮬레이션 요청 데이터 생성 (Site ID만 전달)
+	 *
+	 * @param includeRegionScores false면 행정구역 점수 생략 요청 (FastAPI가 지원하지 않으면 무시되고 응답에서 사용하지 않음)
+	 */
+	Map<String, Object> buildRequest(String scenario, String hazardType, Collection<UUID> siteIds, boolean includeRegionScores) {
+		Map<String, Object> requestMap = new HashMap<>();
+		requestMap.put("scenario", scenario);
+		requestMap.put("hazardType", hazardType);
+		requestMap.put("siteIds", List.copyOf(siteIds));
+		requestMap.put("startYear", START_YEAR); // 요구사항에 맞춰 2025년으로 변경 (기존 2020)
+		requestMap.put("endYear", END_YEAR);
+		requestMap.put("includeRegionScores", includeRegionScores);
+
+		log.info("Calling FastAPI climate simulation: scenario={}, hazardType={}, siteCount={}, includeRegionScores={}",
+			scenario, hazardType, siteIds.size(), includeRegionScores);
+		log.debug("FastAPI request: {}", requestMap);
+		return requestMap;
+	}
+
+	/**
+	 * FastAPI 호출 후 행정구역 점수/사업장 AAL 파싱
+	 *
+	 * @param includeRegionScores 행정구역 점수 필요 여부 (false면 응답에 있어도 파싱하지 않음)
+	 * @return 파싱 결과 (행정구역 점수가 없거나 파싱 실패 시 regionScores는 null)
+	 */
+	ClimateSimulationResult fetch(String scenario, String hazardType, Collection<UUID> siteIds, boolean includeRegionScores) {
+		Map<String, Object> apiResponse = fastApiClient.runClimateSimulation(
+			buildRequest(scenario, hazardType, siteIds, includeRegionScores)).block();
+
+		if (apiResponse == null) {
+			log.error("FastAPI returned null response");
+			throw new RuntimeException("FastAPI로부터 응답을 받지 못했습니다.");
+		}
+		log.info("Received FastAPI response with keys: {}", apiResponse.keySet());
+
+		RegionScoreMatrix regionScores = includeRegionScores ? parseRegionScores(apiResponse) : null;
+		return new ClimateSimulationResult(regionScores, parseSiteAals(apiResponse));
+	}
+
+	/**
+	 * 행정구역 점수 파싱 (regionScores 또는 region_scores)
+	 */
+	private RegionScoreMatrix parseRegionScores(Map<String, Object> apiResponse) {
+		Object regionScoresData = apiResponse.get("regionScores");
+		if (regionScoresData == null) {
+			regionScoresData = apiResponse.get("region_scores");
+		}
+		if (regionScoresData == null) {
+			log.warn("✗ regionScores not found in FastAPI response. Available keys: {}", apiResponse.keySet());
+			return null;
+		}
+
+		try {
+			RegionScoreMatrix regionScores = toRegionScoreMatrix(regionScoresData);
+			log.info("✓ Parsed regionScores: {} regions (0값은 랜덤으로 대체됨)", regionScores.regionCount());
+			return regionScores;
+		} catch (Exception e) {
+			log.error("✗ Failed to parse regionScores: {}", e.getMessage(), e);
+			log.error("regionScoresData type: {}", regionScoresData.getClass());
+			return null;
+		}
+	}
+
+	/**
+	 * 사업장별 AAL 결과 파싱 (siteAALs 또는 site_aals 또는 site_AALs)
+	 */
+	private Map<String, Map<String, Double>> parseSiteAals(Map<String, Object> apiResponse) {
+		Object siteAalData = apiResponse.get("siteAALs");
+		if (siteAalData == null) {
+			siteAalData = apiResponse.get("site_aals");
+		}
+		if (siteAalData == null) {
+			siteAalData = apiResponse.get("site_AALs");
+		}
+		if (siteAalData == null) {
+			log.warn("✗ siteAALs not found in FastAPI response. Available keys: {}", apiResponse.keySet());
+			return Map.of();
+		}
+
+		try {
+			Map<String, Map<String, Double>> siteAals = objectMapper.convertValue(siteAalData, SITE_AAL_TYPE);
+			log.info("✓ Parsed siteAALs: {} sites", siteAals.size());
+			return siteAals;
+		} catch (Exception e) {
+			log.error("✗ Failed to parse siteAALs: {}", e.getMessage(), e);
+			log.error("siteAalData type: {}", siteAalData.getClass());
+			return Map.of();
+		}
+	}
+
+	/**
+	 * FastAPI regionScores({행정구역코드: {연도: 점수}})를 열 지향 행렬로 변환
+	 *
+	 * JSON 파싱 결과(Map/Number)를 바로 float 행렬에 기록하여 중간 Map/Double을 만들지 않는다.
+	 * 0 또는 null 값은 기존과 같이 0~10 사이 랜덤 값으로 대체하며, 시뮬레이션 범위 밖 연도는 무시한다.
+	 */
+	static RegionScoreMatrix toRegionScoreMatrix(Object regionScoresData) {
+		if (!(regionScoresData instanceof Map<?, ?> rawRegionScores)) {
+			throw new IllegalArgumentException("regionScores is not an object: " + regionScoresData.getClass());
+		}
+
+		String[] regionCodes = new String[rawRegionScores.size()];
+		int row = 0;
+		for (Object regionCode : rawRegionScores.keySet()) {
+			regionCodes[row++] = String.valueOf(regionCode);
+		}
+
+		RegionScoreMatrix matrix = new RegionScoreMatrix(regionCodes, START_YEAR, END_YEAR, false);
+		row = 0;
+		for (Object yearScores : rawRegionScores.values()) {
+			if (yearScores instanceof Map<?, ?> byYear) {
+				for (Map.Entry<?, ?> yearEntry : byYear.entrySet()) {
+					int year;
+					try {
+						year = Integer.parseInt(String.valueOf(yearEntry.getKey()));
+					} catch (NumberFormatException e) {
+						continue;
+					}
+					float value = yearEntry.getValue() instanceof Number number ? number.floatValue() : 0f;
+					// 0 값은 0~10 사이의 랜덤 값으로 대체
+					matrix.set(row, year, ClimateSimulationStreamWriter.fillMissingScore(value));
+				}
+			}
+			row++;
+		}
+		return matrix;
+	}
+
+	/**
+	 * 기후 시뮬레이션 파싱 결과
+	 *
+	 * @param regionScores 행정구역 점수 (요청하지 않았거나 응답에 없으면 null)
+	 * @param siteAals     사업장 ID 문자열 → {연도: AAL}
+	 */
+	record ClimateSimulationResult(RegionScoreMatrix regionScores, Map<String, Map<String, Double>> siteAals) {
+	}
+}
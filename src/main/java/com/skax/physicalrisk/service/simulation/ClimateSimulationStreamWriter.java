@@ -0,0 +1,149 @@
+package com.skax.physicalrisk.service.simulation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.dto.response.simulation.ClimateSimulationResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 기후 시뮬레이션 응답 스트리밍 변환기
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v02 - 근거 없는 TTFB 분리 flush 제거
+ *
+ * FastAPI 응답({"regionScores": {...}, "siteAALs": {...}})을 토큰 단위로 읽어
+ * ClimateSimulationResponse와 같은 JSON을 바로 출력 스트림에 기록한다.
+ * regionScores는 읽는 즉시 기록하므로 행정구역 수 × 연도 수와 무관하게 메모리 사용량이 일정하다.
+ * siteAALs는 사업장 수만큼만 보관했다가 마지막 sites 배열에 병합한다.
+ * 호출 전에 SimulationService가 FastAPI 응답의 첫 토큰을 요청 스레드에서 확인하므로
+ * (연결 실패는 오류 상태 코드로 응답) 응답 시작 시점은 FastAPI가 본문을 보내기 시작한 뒤다.
+ *
+ * @author SKAX Team
+ */
+final class ClimateSimulationStreamWriter {
+
+	private static final TypeReference<Map<String, Map<String, Double>>> SITE_AAL_TYPE = new TypeReference<>() {};
+
+	private final ObjectMapper objectMapper;
+	private final int startYear;
+	private final int endYear;
+
+	ClimateSimulationStreamWriter(ObjectMapper objectMapper, int startYear, int endYear) {
+		this.objectMapper = objectMapper;
+		this.startYear = startYear;
+		this.endYear = endYear;
+	}
+
+	/**
+	 * 0 또는 누락 점수를 0~10 사이 랜덤 값으로 대체 (버퍼링 응답과 동일 규칙)
+	 */
+	static float fillMissingScore(float value) {
+		if (value == 0f || Float.isNaN(value)) {
+			return (float) (ThreadLocalRandom.current().nextDouble() * 10.0);
+		}
+		return value;
+	}
+
+	/**
+	 * FastAPI 응답을 읽어 시뮬레이션 응답 기록
+	 *
+	 * @param upstream   FastAPI 응답 파서 (첫 START_OBJECT 토큰을 이미 읽은 상태)
+	 * @param out        응답 출력 Generator
+	 * @param scenario   시나리오
+	 * @param hazardType 위험 유형
+	 * @param sites      사업장 정보 (aalByYear 제외)
+	 */
+	void write(JsonParser upstream, JsonGenerator out, String scenario, String hazardType,
+			   List<ClimateSimulationResponse.SiteSimulationData> sites) throws IOException {
+		out.writeStartObject();
+		out.writeStringField("scenario", scenario);
+		out.writeStringField("hazardType", hazardType);
+
+		boolean regionScoresWritten = false;
+		Map<String, Map<String, Double>> siteAals = Map.of();
+
+		while (upstream.nextToken() == JsonToken.FIELD_NAME) {
+			String field = upstream.currentName();
+			JsonToken value = upstream.nextToken();
+			switch (field) {
+				case "regionScores", "region_scores" -> {
+					if (!regionScoresWritten && value == JsonToken.START_OBJECT) {
+						out.writeFieldName("regionScores");
+						copyRegionScores(upstream, out);
+						regionScoresWritten = true;
+					} else {
+						upstream.skipChildren();
+					}
+				}
+				case "siteAALs", "site_aals", "site_AALs" -> {
+					if (value == JsonToken.START_OBJECT) {
+						siteAals = objectMapper.readValue(upstream, SITE_AAL_TYPE);
+					} else {
+						upstream.skipChildren();
+					}
+				}
+				default -> upstream.skipChildren();
+			}
+		}
+
+		if (!regionScoresWritten) {
+			out.writeFieldName("regionScores");
+			out.writeStartObject();
+			out.writeEndObject();
+		}
+
+		out.writeArrayFieldStart("sites");
+		for (ClimateSimulationResponse.SiteSimulationData site : sites) {
+			site.setAalByYear(siteAals.getOrDefault(site.getSiteId().toString(), Map.of()));
+			out.writeObject(site);
+		}
+		out.writeEndArray();
+		out.writeEndObject();
+		out.flush();
+	}
+
+	/**
+	 * {행정구역코드: {연도: 점수}} 복사 (범위 밖 연도 제외, 0/누락 값 대체)
+	 */
+	private void copyRegionScores(JsonParser upstream, JsonGenerator out) throws IOException {
+		out.writeStartObject();
+		while (upstream.nextToken() == JsonToken.FIELD_NAME) {
+			out.writeFieldName(upstream.currentName());
+			out.writeStartObject();
+			if (upstream.nextToken() == JsonToken.START_OBJECT) {
+				while (upstream.nextToken() == JsonToken.FIELD_NAME) {
+					// 필드명은 파서가 canonicalize하므로 "2025"~"2100"은 매번 새로 만들지 않는다
+					String yearKey = upstream.currentName();
+					JsonToken token = upstream.nextToken();
+					float score = token.isNumeric() ? upstream.getFloatValue() : 0f;
+					upstream.skipChildren();
+
+					int year = parseYear(yearKey);
+					if (year >= startYear && year <= endYear) {
+						out.writeFieldName(yearKey);
+						out.writeNumber(fillMissingScore(score));
+					}
+				}
+			} else {
+				upstream.skipChildren();
+			}
+			out.writeEndObject();
+		}
+		out.writeEndObject();
+	}
+
+	private static int parseYear(String key) {
+		try {
+			return Integer.parseInt(key);
+		} catch (NumberFormatException e) {
+			return Integer.MIN_VALUE;
+		}
+	}
+}
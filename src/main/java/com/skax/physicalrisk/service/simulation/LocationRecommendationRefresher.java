@@ -0,0 +1,196 @@
+package com.skax.physicalrisk.service.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.dto.response.simulation.LocationRecommendationResponse;
+import com.skax.physicalrisk.service.analysis.AnalysisResultMaterializer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 위치 추천 후보지 백그라운드 갱신
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * FastAPI 위치 추천(AI 장단점 생성 포함)은 느리므로 조회 시점이 아니라 미리 계산해 candidate_sites에 저장한다.
+ * - 분석 결과 적재 완료, 사업장 수정 시 stale 표시 후 갱신 대기열에 추가
+ * - 조회 시 stale이면 저장된 결과를 응답하고 갱신 대기열에 추가
+ * - 스케줄러가 주기적으로 대기열을 꺼내 최대 refresh-concurrency개까지 동시에 FastAPI를 호출
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class LocationRecommendationRefresher {
+
+	private final FastApiClient fastApiClient;
+	private final LocationRecommendationStore locationRecommendationStore;
+	private final ObjectMapper objectMapper;
+	private final int concurrency;
+	private final int batchSize;
+
+	/** 갱신 대기 사업장 (중복 요청은 한 번만 처리) */
+	private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+	public LocationRecommendationRefresher(
+		FastApiClient fastApiClient,
+		LocationRecommendationStore locationRecommendationStore,
+		ObjectMapper objectMapper,
+		@Value("${app.location-recommendation.refresh-concurrency:2}") int concurrency,
+		@Value("${app.location-recommendation.refresh-batch-size:50}") int batchSize
+	) {
+		this.fastApiClient = fastApiClient;
+		this.locationRecommendationStore = locationRecommendationStore;
+		this.objectMapper = objectMapper;
+		this.concurrency = concurrency;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 추천 후보지 즉시 계산 후 저장 (저장된 결과가 없을 때 요청 처리 중 호출)
+	 *
+	 * @param siteId 사업장 ID
+	 * @return 추천 결과 (FastAPI 응답이 없으면 null)
+	 */
+	public LocationRecommendationResponse refreshNow(UUID siteId) {
+		LocationRecommendationResponse recommendation = fetch(siteId).block();
+		if (recommendation != null) {
+			pending.remove(siteId);
+			store(siteId, recommendation);
+		}
+		return recommendation;
+	}
+
+	/**
+	 * 갱신 대기열에 추가 (다음 스케줄 실행 시 처리)
+	 *
+	 * @param siteIds 사업장 ID 목록
+	 */
+	public void requestRefresh(Collection<UUID> siteIds) {
+		pending.addAll(siteIds);
+	}
+
+	/**
+	 * 사업장 수정 시 stale 표시 (호출한 트랜잭션에 참여) 후 커밋되면 갱신 대기열에 추가
+	 *
+	 * @param siteId 사업장 ID
+	 */
+	public void onSiteUpdated(UUID siteId) {
+		locationRecommendationStore.markStale(List.of(siteId));
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					pending.add(siteId);
+				}
+			});
+		} else {
+			pending.add(siteId);
+		}
+	}
+
+	/**
+	 * 분석 결과 적재 완료 시 해당 사업장 stale 표시 후 갱신 대기열에 추가
+	 */
+	@EventListener
+	public void onAnalysisResultsMaterialized(AnalysisResultMaterializer.AnalysisResultsMaterializedEvent event) {
+		locationRecommendationStore.markStale(event.siteIds());
+		pending.addAll(event.siteIds());
+	}
+
+	/**
+	 * 갱신 대기열 처리 (한 번에 최대 refresh-batch-size개, 동시 호출 refresh-concurrency개)
+	 *
+	 * 실패한 사업장은 stale 상태로 남아 다음 조회 시 다시 대기열에 추가된다.
+	 */
+	@Scheduled(initialDelayString = "${app.location-recommendation.refresh-interval-ms:30000}",
+		fixedDelayString = "${app.location-recommendation.refresh-interval-ms:30000}")
+	public void refreshPending() {
+		List<UUID> batch = drain();
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		long start = System.currentTimeMillis();
+		List<Refreshed> fetched = Flux.fromIterable(batch)
+			.flatMap(siteId -> fetch(siteId)
+				.map(recommendation -> new Refreshed(siteId, recommendation))
+				.onErrorResume(e -> {
+					log.warn("Failed to refresh location recommendation for site {}: {}", siteId, e.getMessage());
+					return Mono.empty();
+				}), concurrency)
+			.collectList()
+			.block();
+
+		int stored = 0;
+		for (Refreshed refreshed : fetched) {
+			if (store(refreshed.siteId(), refreshed.recommendation())) {
+				stored++;
+			}
+		}
+		log.info("Location recommendations refreshed: {}/{} sites in {} ms ({} pending)",
+			stored, batch.size(), System.currentTimeMillis() - start, pending.size());
+	}
+
+	private List<UUID> drain() {
+		List<UUID> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+		Iterator<UUID> iterator = pending.iterator();
+		while (batch.size() < batchSize && iterator.hasNext()) {
+			batch.add(iterator.next());
+			iterator.remove();
+		}
+		return batch;
+	}
+
+	private Mono<LocationRecommendationResponse> fetch(UUID siteId) {
+		return fastApiClient.getLocationRecommendation(siteId.toString())
+			.map(response -> convert(siteId, response));
+	}
+
+	/**
+	 * 저장 실패(사업장이 그 사이 삭제된 경우 등)는 응답에 영향을 주지 않음
+	 */
+	private boolean store(UUID siteId, LocationRecommendationResponse recommendation) {
+		try {
+			locationRecommendationStore.replace(siteId, recommendation);
+			return true;
+		} catch (Exception e) {
+			log.warn("Failed to store location recommendation for site {}: {}", siteId, e.getMessage());
+			return false;
+		}
+	}
+
+	private LocationRecommendationResponse convert(UUID siteId, Map<String, Object> response) {
+		try {
+			LocationRecommendationResponse recommendation =
+				objectMapper.convertValue(response, LocationRecommendationResponse.class);
+			if (recommendation.getSite() != null && recommendation.getSite().getSiteId() == null) {
+				recommendation.getSite().setSiteId(siteId);
+			}
+			return recommendation;
+		} catch (Exception e) {
+			log.error("Failed to convert location recommendation response: {}", e.getMessage());
+			throw new RuntimeException("위치 추천 응답 변환 실패: " + e.getMessage(), e);
+		}
+	}
+
+	private record Refreshed(UUID siteId, LocationRecommendationResponse recommendation) {
+	}
+}
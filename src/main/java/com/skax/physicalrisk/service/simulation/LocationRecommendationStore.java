@@ -0,0 +1,171 @@
+package com.skax.physicalrisk.service.simulation;
+
+import com.skax.physicalrisk.domain.simulation.entity.CandidateSite;
+import com.skax.physicalrisk.domain.simulation.repository.CandidateSiteRepository;
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.domain.site.repository.SiteRepository;
+import com.skax.physicalrisk.dto.response.simulation.LocationRecommendationResponse;
+import com.skax.physicalrisk.dto.response.simulation.LocationRecommendationResponse.CandidateLocation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 위치 추천 후보지 로컬 저장소 (candidate_sites)
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 사업장당 FastAPI 추천 결과 1세트(최대 3개)만 유지한다.
+ * 다음 경우 재계산 대상(stale)으로 본다.
+ * - 분석 완료 또는 사업장 수정으로 stale 표시된 경우
+ * - 생성 후 stale-after-hours가 지난 경우
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class LocationRecommendationStore {
+
+	private final CandidateSiteRepository candidateSiteRepository;
+	private final SiteRepository siteRepository;
+	private final Duration staleAfter;
+
+	public LocationRecommendationStore(
+		CandidateSiteRepository candidateSiteRepository,
+		SiteRepository siteRepository,
+		@Value("${app.location-recommendation.stale-after-hours:24}") long staleAfterHours
+	) {
+		this.candidateSiteRepository = candidateSiteRepository;
+		this.siteRepository = siteRepository;
+		this.staleAfter = Duration.ofHours(staleAfterHours);
+	}
+
+	/**
+	 * 저장된 추천 후보지 조회
+	 *
+	 * @param siteId 사업장 ID
+	 * @return 추천 결과와 재계산 필요 여부 (저장된 후보지가 없으면 empty)
+	 */
+	@Transactional(readOnly = true)
+	public Optional<StoredRecommendation> find(UUID siteId) {
+		List<CandidateSite> candidates = candidateSiteRepository.findBySite_IdOrderByCandidateRankAsc(siteId);
+		if (candidates.isEmpty()) {
+			return Optional.empty();
+		}
+
+		LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+		boolean stale = false;
+		LocationRecommendationResponse.SiteWithCandidates site = LocationRecommendationResponse.SiteWithCandidates.builder()
+			.siteId(siteId)
+			.build();
+		for (CandidateSite candidate : candidates) {
+			stale |= candidate.isStale() || candidate.getGeneratedAt().isBefore(staleBefore);
+			CandidateLocation location = toCandidateLocation(candidate);
+			switch (candidate.getCandidateRank()) {
+				case 1 -> site.setCandidate1(location);
+				case 2 -> site.setCandidate2(location);
+				case 3 -> site.setCandidate3(location);
+				default -> log.debug("Ignoring candidate with rank {} for site {}", candidate.getCandidateRank(), siteId);
+			}
+		}
+		return Optional.of(new StoredRecommendation(new LocationRecommendationResponse(site), stale));
+	}
+
+	/**
+	 * 사업장 추천 후보지 교체 (기존 후보지 삭제 후 저장)
+	 *
+	 * @param siteId         사업장 ID
+	 * @param recommendation FastAPI 추천 결과
+	 */
+	@Transactional
+	public void replace(UUID siteId, LocationRecommendationResponse recommendation) {
+		candidateSiteRepository.deleteBySiteId(siteId);
+
+		LocationRecommendationResponse.SiteWithCandidates site = recommendation.getSite();
+		if (site == null) {
+			return;
+		}
+		Site siteRef = siteRepository.getReferenceById(siteId);
+		LocalDateTime now = LocalDateTime.now();
+		List<CandidateSite> candidates = new ArrayList<>(3);
+		addCandidate(candidates, siteRef, 1, site.getCandidate1(), now);
+		addCandidate(candidates, siteRef, 2, site.getCandidate2(), now);
+		addCandidate(candidates, siteRef, 3, site.getCandidate3(), now);
+		candidateSiteRepository.saveAll(candidates);
+		log.debug("Location recommendation stored for site {}: {} candidates", siteId, candidates.size());
+	}
+
+	/**
+	 * 사업장 추천 후보지를 재계산 대상으로 표시 (호출한 트랜잭션에 참여)
+	 *
+	 * @param siteIds 사업장 ID 목록
+	 */
+	@Transactional
+	public void markStale(Collection<UUID> siteIds) {
+		if (!siteIds.isEmpty()) {
+			candidateSiteRepository.markStaleBySiteIds(siteIds);
+		}
+	}
+
+	private static void addCandidate(List<CandidateSite> candidates, Site site, int rank,
+									 CandidateLocation location, LocalDateTime generatedAt) {
+		if (location == null) {
+			return;
+		}
+		candidates.add(CandidateSite.builder()
+			.site(site)
+			.candidateRank(rank)
+			.candidateId(location.getCandidateId())
+			.name(location.getCandidateName())
+			.roadAddress(location.getRoadAddress())
+			.jibunAddress(location.getJibunAddress())
+			.latitude(location.getLatitude() != null ? BigDecimal.valueOf(location.getLatitude()) : null)
+			.longitude(location.getLongitude() != null ? BigDecimal.valueOf(location.getLongitude()) : null)
+			.riskScore(location.getRiskscore())
+			.risks(location.getPhysicalRiskScores())
+			.aal(location.getAalscore())
+			.aalScores(location.getAalScores())
+			.pros(location.getPros())
+			.cons(location.getCons())
+			.stale(false)
+			.generatedAt(generatedAt)
+			.build());
+	}
+
+	private static CandidateLocation toCandidateLocation(CandidateSite candidate) {
+		return CandidateLocation.builder()
+			.candidateId(candidate.getCandidateId())
+			.candidateName(candidate.getName())
+			.latitude(candidate.getLatitude() != null ? candidate.getLatitude().doubleValue() : null)
+			.longitude(candidate.getLongitude() != null ? candidate.getLongitude().doubleValue() : null)
+			.jibunAddress(candidate.getJibunAddress())
+			.roadAddress(candidate.getRoadAddress())
+			.riskscore(candidate.getRiskScore())
+			.aalscore(candidate.getAal())
+			.physicalRiskScores(candidate.getRisks())
+			.aalScores(candidate.getAalScores())
+			.pros(candidate.getPros())
+			.cons(candidate.getCons())
+			.build();
+	}
+
+	/**
+	 * 저장된 추천 결과
+	 *
+	 * @param response 추천 응답
+	 * @param stale    재계산 필요 여부
+	 */
+	public record StoredRecommendation(LocationRecommendationResponse response, boolean stale) {
+	}
+}
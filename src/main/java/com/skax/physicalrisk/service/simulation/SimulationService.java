@@ -1,28 +1,44 @@
 package com.skax.physicalrisk.service.simulation;
 // 반드시 이 패키지여야 합니다.
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skax.physicalrisk.client.fastapi.FastApiClient;
 import com.skax.physicalrisk.client.fastapi.dto.AalAnalysisData;
 import com.skax.physicalrisk.domain.site.entity.Site;
-import com.skax.physicalrisk.domain.site.repository.SiteRepository;
-import com.skax.physicalrisk.domain.user.entity.User;
-import com.skax.physicalrisk.domain.user.repository.UserRepository;
 import com.skax.physicalrisk.dto.request.simulation.ClimateSimulationRequest;
+import com.skax.physicalrisk.dto.request.simulation.RelocationBatchCompareRequest;
 import com.skax.physicalrisk.dto.request.simulation.RelocationSimulationRequest;
 import com.skax.physicalrisk.dto.response.simulation.ClimateSimulationResponse;
+import com.skax.physicalrisk.dto.response.simulation.LocationRecommendationResponse;
+import com.skax.physicalrisk.dto.response.simulation.RegionScoreMatrix;
+import com.skax.physicalrisk.dto.response.simulation.RelocationBatchCompareResponse;
 import com.skax.physicalrisk.dto.response.simulation.RelocationSimulationResponse;
+import com.skax.physicalrisk.exception.BusinessException;
 import com.skax.physicalrisk.exception.ErrorCode;
 import com.skax.physicalrisk.exception.ResourceNotFoundException;
 import com.skax.physicalrisk.security.SecurityUtil;
+import com.skax.physicalrisk.service.region.AdminRegionResolver;
+import com.skax.physicalrisk.service.site.SiteAccessService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,47 +46,68 @@ import java.util.stream.Collectors;
  * 시뮬레이션 서비스
  *
  * FastAPI 서버를 통한 기후 시뮬레이션 및 사업장 이전 분석
+ * DB 조회는 SiteAccessService의 짧은 트랜잭션에서 끝내고 FastAPI 대기 중에는 커넥션을 점유하지 않는다.
  *
- * 최종 수정일: 2025-11-25
- * 파일 버전: v03 (AAL v11 지원)
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v11 (행정구역 점수만 없으면 사업장 없이 FastAPI 요청)
  *
  * @author SKAX Team
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class SimulationService {
 
 	private final FastApiClient fastApiClient;
-	private final SiteRepository siteRepository;
-	private final UserRepository userRepository;
+	private final SiteAccessService siteAccessService;
+	private final AdminRegionResolver adminRegionResolver;
 	private final ObjectMapper objectMapper;
+	private final ClimateSimulationFetcher climateSimulationFetcher;
+	private final ClimateSimulationCache climateSimulationCache;
+	private final LocationRecommendationStore locationRecommendationStore;
+	private final LocationRecommendationRefresher locationRecommendationRefresher;
+
+	/** FastAPI 응답 스트림 선요청 DataBuffer 수 */
+	private static final int UPSTREAM_DEMAND = 16;
+
+	/** 이전 후보지 순위: 성공 → 통합 리스크 점수 → AAL 오름차순 (점수 없음은 뒤) → 요청 순서 */
+	private static final Comparator<CandidateComparison> CANDIDATE_RANKING = Comparator
+		.comparing((CandidateComparison c) -> c.response() == null)
+		.thenComparing(CandidateComparison::riskscore, Comparator.nullsLast(Comparator.naturalOrder()))
+		.thenComparing(CandidateComparison::aalscore, Comparator.nullsLast(Comparator.naturalOrder()))
+		.thenComparingInt(CandidateComparison::index);
+
+	/** 이전 후보지 일괄 비교 시 FastAPI 동시 호출 수 */
+	@Value("${app.relocation-compare.concurrency:3}")
+	private int relocationCompareConcurrency;
 
 	/**
 	 * 위치 시뮬레이션 후보지 조회
 	 *
+	 * 미리 계산된 candidate_sites 결과를 바로 응답한다.
+	 * 결과가 stale이면 그대로 응답하면서 백그라운드 갱신을 요청하고, 결과가 없을 때만 FastAPI를 동기 호출한다.
+	 *
 	 * @param siteId 사업장 ID
 	 * @return 추천 후보지 3개 및 리스크 정보
 	 */
-	public com.skax.physicalrisk.dto.response.simulation.LocationRecommendationResponse getLocationRecommendation(String siteId) {
+	public LocationRecommendationResponse getLocationRecommendation(String siteId) {
 		UUID userId = SecurityUtil.getCurrentUserId();
 		log.info("Getting location recommendation for siteId={}, userId={}", siteId, userId);
 
-		// 사용자 조회 및 검증
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
-
-		// 사업장 조회 및 권한 검증
-		Site site = siteRepository.findById(UUID.fromString(siteId))
-			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SITE_NOT_FOUND));
+		// 사용자/사업장 조회 및 권한 검증 (짧은 조회 트랜잭션)
+		UUID siteUuid = UUID.fromString(siteId);
+		siteAccessService.getSiteWithAuth(siteUuid, userId);
 
-		if (!site.getUser().getId().equals(userId)) {
-			throw new ResourceNotFoundException(ErrorCode.SITE_NOT_FOUND, "해당 사업장에 대한 권한이 없습니다");
+		Optional<LocationRecommendationStore.StoredRecommendation> stored = locationRecommendationStore.find(siteUuid);
+		if (stored.isPresent()) {
+			if (stored.get().stale()) {
+				locationRecommendationRefresher.requestRefresh(List.of(siteUuid));
+			}
+			return stored.get().response();
 		}
 
-		Map<String, Object> response = fastApiClient.getLocationRecommendation(siteId).block();
-		return convertToLocationRecommendationResponse(response);
+		log.info("No stored location recommendation for site {}, calling FastAPI", siteId);
+		return locationRecommendationRefresher.refreshNow(siteUuid);
 	}
 
 	/**
@@ -86,20 +123,138 @@ public class SimulationService {
 			request.getCandidate().getLatitude(),
 			request.getCandidate().getLongitude());
 
-		// DTO를 Map으로 변환
-		Map<String, Object> requestMap = new HashMap<>();
-		requestMap.put("currentSiteId", request.getSiteId());
-		requestMap.put("latitude", request.getCandidate().getLatitude());
-		requestMap.put("longitude", request.getCandidate().getLongitude());
-		requestMap.put("roadAddress", request.getCandidate().getRoadAddress());
-		requestMap.put("jibunAddress", request.getCandidate().getJibunAddress());
-
-		Map<String, Object> response = fastApiClient.compareRelocation(requestMap).block();
+		Map<String, Object> response = fastApiClient.compareRelocation(
+			toRelocationRequestMap(request.getSiteId(), request.getCandidate())).block();
 
 		// AAL v11: aal_analysis 필드에서 AAL 데이터 추출 및 변환
 		return convertToRelocationResponse(response);
 	}
 
+	/**
+	 * 위치 시뮬레이션 일괄 비교 (현재지 vs 여러 후보지)
+	 *
+	 * 후보지별 FastAPI 비교 호출을 최대 relocationCompareConcurrency개까지 동시에 수행하고
+	 * 통합 리스크 점수 → AAL 오름차순으로 순위를 매긴다.
+	 * 일부 후보지가 실패해도 나머지 결과는 응답하며, 실패한 후보지는 error와 함께 마지막에 둔다.
+	 *
+	 * @param request 일괄 비교 요청
+	 * @return 순위순 비교 결과
+	 */
+	public RelocationBatchCompareResponse compareLocations(RelocationBatchCompareRequest request) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		UUID siteId = request.getSiteId();
+		List<RelocationSimulationRequest.Candidate> candidates = request.getCandidates();
+		log.info("Comparing {} candidate locations: currentSiteId={}, userId={}", candidates.size(), siteId, userId);
+
+		// 사용자/사업장 조회 및 권한 검증 (짧은 조회 트랜잭션)
+		siteAccessService.getSiteWithAuth(siteId, userId);
+
+		long start = System.currentTimeMillis();
+		List<CandidateComparison> comparisons = Flux.range(0, candidates.size())
+			.flatMap(index -> compareCandidate(siteId, index, candidates.get(index)), relocationCompareConcurrency)
+			.collectList()
+			.block();
+
+		List<CandidateComparison> ranked = comparisons.stream()
+			.sorted(CANDIDATE_RANKING)
+			.toList();
+
+		RelocationSimulationResponse.LocationData currentLocation = null;
+		List<RelocationBatchCompareResponse.RankedCandidate> results = new ArrayList<>(ranked.size());
+		int rank = 0;
+		for (CandidateComparison comparison : ranked) {
+			RelocationSimulationResponse response = comparison.response();
+			if (response == null) {
+				results.add(RelocationBatchCompareResponse.RankedCandidate.builder()
+					.requestIndex(comparison.index())
+					.candidate(requestedCandidate(candidates.get(comparison.index())))
+					.error(comparison.error())
+					.build());
+				continue;
+			}
+			if (currentLocation == null) {
+				currentLocation = response.getCurrentLocation();
+			}
+			results.add(RelocationBatchCompareResponse.RankedCandidate.builder()
+				.rank(++rank)
+				.requestIndex(comparison.index())
+				.candidate(response.getCandidate())
+				.newLocation(response.getNewLocation())
+				.build());
+		}
+
+		if (rank == 0) {
+			log.error("All {} candidate comparisons failed for site {}", candidates.size(), siteId);
+			throw new BusinessException(ErrorCode.FASTAPI_CONNECTION_ERROR);
+		}
+		log.info("Compared {} candidates for site {} in {} ms ({} failed)",
+			candidates.size(), siteId, System.currentTimeMillis() - start, candidates.size() - rank);
+
+		return RelocationBatchCompareResponse.builder()
+			.siteId(siteId)
+			.currentLocation(currentLocation)
+			.candidates(results)
+			.build();
+	}
+
+	/**
+	 * 후보지 1개 비교 (실패 시 예외 대신 error를 담아 다른 후보지에 영향을 주지 않음)
+	 */
+	private Mono<CandidateComparison> compareCandidate(UUID siteId, int index, RelocationSimulationRequest.Candidate candidate) {
+		return fastApiClient.compareRelocation(toRelocationRequestMap(siteId, candidate))
+			.map(response -> new CandidateComparison(index, convertToRelocationResponse(response), null))
+			.defaultIfEmpty(new CandidateComparison(index, null, "FastAPI로부터 응답을 받지 못했습니다."))
+			.onErrorResume(e -> {
+				log.warn("Candidate comparison failed (siteId={}, index={}): {}", siteId, index, e.getMessage());
+				ErrorCode errorCode = e instanceof WebClientException
+					? ErrorCode.FASTAPI_CONNECTION_ERROR : ErrorCode.FASTAPI_INVALID_RESPONSE;
+				return Mono.just(new CandidateComparison(index, null, errorCode.getMessage()));
+			});
+	}
+
+	/**
+	 * FastAPI 이전 비교 요청 데이터 생성
+	 */
+	private Map<String, Object> toRelocationRequestMap(UUID siteId, RelocationSimulationRequest.Candidate candidate) {
+		Map<String, Object> requestMap = new HashMap<>();
+		requestMap.put("currentSiteId", siteId);
+		requestMap.put("latitude", candidate.getLatitude());
+		requestMap.put("longitude", candidate.getLongitude());
+		requestMap.put("roadAddress", candidate.getRoadAddress());
+		requestMap.put("jibunAddress", candidate.getJibunAddress());
+		return requestMap;
+	}
+
+	/**
+	 * 실패한 후보지는 요청한 위치/주소만 돌려준다
+	 */
+	private static RelocationSimulationResponse.Candidate requestedCandidate(RelocationSimulationRequest.Candidate candidate) {
+		return RelocationSimulationResponse.Candidate.builder()
+			.latitude(candidate.getLatitude())
+			.longitude(candidate.getLongitude())
+			.jibunAddress(candidate.getJibunAddress())
+			.roadAddress(candidate.getRoadAddress())
+			.build();
+	}
+
+	/**
+	 * 후보지별 비교 결과
+	 *
+	 * @param index    요청 목록에서의 순서
+	 * @param response 비교 결과 (실패 시 null)
+	 * @param error    실패 사유
+	 */
+	private record CandidateComparison(int index, RelocationSimulationResponse response, String error) {
+
+		Integer riskscore() {
+			return response == null || response.getCandidate() == null ? null : response.getCandidate().getRiskscore();
+		}
+
+		Float aalscore() {
+			return response == null || response.getCandidate() == null ? null : response.getCandidate().getAalscore();
+		}
+	}
+
 /**
      * 기후 시뮬레이션 실행
      *
@@ -108,174 +263,168 @@ public class SimulationService {
      * 3. 결과 병합 (DB 정보 + FastAPI 연산 결과)
      */
     public ClimateSimulationResponse runClimateSimulation(ClimateSimulationRequest request) {
-        UUID userId = SecurityUtil.getCurrentUserId();
-        log.info("Running climate simulation for user: {}, scenario={}, hazardType={}",
-            userId, request.getScenario(), request.getHazardType());
+        return runClimateSimulation(request, false);
+    }
 
-        // 1. 사용자 및 사업장 조회
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+    /**
+     * 기후 시뮬레이션 실행
+     *
+     * 행정구역 점수는 사용자와 무관한 공유 캐시에서, 사업장 AAL은 사업장 단위 캐시에서 먼저 찾고
+     * 없는 부분만 FastAPI에 요청한다 (캐시에 없는 사업장만 전달, 행정구역 점수가 있으면 생략 요청).
+     *
+     * @param request 시뮬레이션 요청
+     * @param compact true면 regionScores를 {regions, years, values} 형태로 직렬화
+     */
+    public ClimateSimulationResponse runClimateSimulation(ClimateSimulationRequest request, boolean compact) {
+        UUID userId = SecurityUtil.getCurrentUserId();
+        String scenario = request.getScenario();
+        String hazardType = request.getHazardType();
+        log.info("Running climate simulation for user: {}, scenario={}, hazardType={}", userId, scenario, hazardType);
 
-        List<Site> sites = siteRepository.findByUser(user);
+        // 1. 사용자 및 사업장 조회 (짧은 조회 트랜잭션, 이후 FastAPI 대기 중에는 커넥션 미점유)
+        List<Site> sites = siteAccessService.getSites(userId);
         if (sites.isEmpty()) {
             throw new ResourceNotFoundException(ErrorCode.SITE_NOT_FOUND, "사용자의 사업장이 없습니다");
         }
-
-        // 2. FastAPI 요청 데이터 생성
         List<UUID> siteIds = sites.stream().map(Site::getId).collect(Collectors.toList());
 
-        Map<String, Object> requestMap = new HashMap<>();
-        requestMap.put("scenario", request.getScenario());
-        requestMap.put("hazardType", request.getHazardType());
-        requestMap.put("siteIds", siteIds);
-        requestMap.put("startYear", 2025); // 요구사항에 맞춰 2025년으로 변경 (기존 2020)
-        requestMap.put("endYear", 2100);
-
-        log.info("Calling FastAPI climate simulation: scenario={}, hazardType={}, siteCount={}",
-            request.getScenario(), request.getHazardType(), siteIds.size());
-        log.debug("FastAPI request: {}", requestMap);
-
-        // 3. FastAPI 호출 (비동기 결과를 동기로 대기)
-        // 예상 FastAPI 응답 구조:
-        // {
-        //   "regionScores": { "11010": { "2025": 45.2, ... } },
-        //   "siteAALs": { "uuid-string": { "2025": 12.5, ... } }
-        // }
-        Map<String, Object> apiResponse = fastApiClient.runClimateSimulation(requestMap).block();
-
-        if (apiResponse == null) {
-            log.error("FastAPI returned null response");
-            throw new RuntimeException("FastAPI로부터 응답을 받지 못했습니다.");
+        // 2. 캐시 조회
+        RegionScoreMatrix regionScores = climateSimulationCache.getRegionScores(scenario, hazardType).orElse(null);
+        Map<UUID, Map<String, Double>> siteAals = new HashMap<>(
+            climateSimulationCache.getSiteAals(scenario, hazardType, siteIds));
+        List<UUID> missingSiteIds = siteIds.stream()
+            .filter(siteId -> !siteAals.containsKey(siteId))
+            .collect(Collectors.toList());
+
+        // 3. 캐시에 없는 부분만 FastAPI 호출 (행정구역 점수만 없으면 사업장 없이 요청)
+        if (regionScores == null || !missingSiteIds.isEmpty()) {
+            ClimateSimulationFetcher.ClimateSimulationResult result =
+                climateSimulationFetcher.fetch(scenario, hazardType, missingSiteIds, regionScores == null);
+
+            if (regionScores == null && result.regionScores() != null) {
+                regionScores = result.regionScores();
+                climateSimulationCache.putRegionScores(scenario, hazardType, regionScores);
+            }
+            climateSimulationCache.putSiteAals(scenario, hazardType, result.siteAals());
+            result.siteAals().forEach((siteId, aal) -> {
+                try {
+                    siteAals.put(UUID.fromString(siteId), aal);
+                } catch (IllegalArgumentException e) {
+                    log.debug("Ignoring siteAAL with invalid site id: {}", siteId);
+                }
+            });
+        } else {
+            log.info("Climate simulation served from cache: scenario={}, hazardType={}, siteCount={}",
+                scenario, hazardType, siteIds.size());
+        }
+        if (regionScores == null) {
+            regionScores = RegionScoreMatrix.empty(ClimateSimulationFetcher.START_YEAR, ClimateSimulationFetcher.END_YEAR, compact);
         }
 
-        log.info("Received FastAPI response with keys: {}", apiResponse.keySet());
-        log.info("FastAPI 전체 응답 데이터: {}", apiResponse);
+        // 4. 응답 데이터 조립 (DB의 이름/지역코드 + API의 AAL 값)
+        List<ClimateSimulationResponse.SiteSimulationData> siteDataList = sites.stream()
+            .map(site -> {
+                Map<String, Double> aalData = siteAals.getOrDefault(site.getId(), new HashMap<>());
+                log.debug("Site {}: found {} AAL data points", site.getId(), aalData.size());
+                return toSiteSimulationData(site, aalData);
+            })
+            .collect(Collectors.toList());
+
+        log.info("Built simulation response with {} sites", siteDataList.size());
 
-        // 4. 응답 데이터 조립 (DB 데이터 + API 결과 병합)
-        return buildSimulationResponse(request, sites, apiResponse);
+        return ClimateSimulationResponse.builder()
+                .scenario(scenario)
+                .hazardType(hazardType)
+                .regionScores(regionScores.withCompact(compact))
+                .sites(siteDataList)
+                .build();
     }
 
     /**
-     * DB의 사업장 정보와 FastAPI의 계산 결과를 병합하여 최종 DTO 생성
+     * 기후 시뮬레이션 실행 (스트리밍 응답)
+     *
+     * FastAPI 응답을 Map/DTO로 만들지 않고 토큰 단위로 읽으며 바로 응답 스트림에 기록한다.
+     * 사업장 조회와 FastAPI 연결(첫 토큰 수신)까지는 요청 스레드에서 수행하여
+     * 실패 시 기존과 같은 오류 응답을 반환하고, 이후 본문은 비동기 스레드에서 기록한다.
+     * regionScores는 항상 기본 형태({행정구역코드: {연도: 점수}})로 기록한다.
+     *
+     * @param request 시뮬레이션 요청
+     * @return 응답 본문 기록기
      */
-    private ClimateSimulationResponse buildSimulationResponse(
-            ClimateSimulationRequest request,
-            List<Site> sites,
-            Map<String, Object> apiResponse
-    ) {
-        log.info("Building simulation response from FastAPI data");
-        log.info("FastAPI response keys: {}", apiResponse.keySet());
-        log.info("FastAPI response 전체: {}", apiResponse);
-
-        // 4-1. 행정구역 점수 파싱 (regionScores 또는 region_scores)
-        Map<String, Map<String, Double>> regionScores = new HashMap<>();
-        Object regionScoresData = apiResponse.get("regionScores");
-        if (regionScoresData == null) {
-            regionScoresData = apiResponse.get("region_scores");
+    public StreamingResponseBody streamClimateSimulation(ClimateSimulationRequest request) {
+        UUID userId = SecurityUtil.getCurrentUserId();
+        log.info("Streaming climate simulation for user: {}, scenario={}, hazardType={}",
+            userId, request.getScenario(), request.getHazardType());
+
+        List<Site> sites = siteAccessService.getSites(userId);
+        if (sites.isEmpty()) {
+            throw new ResourceNotFoundException(ErrorCode.SITE_NOT_FOUND, "사용자의 사업장이 없습니다");
         }
+        // 사업장 정보는 스트림 시작 전에 확정 (AAL은 FastAPI 응답에서 병합)
+        List<ClimateSimulationResponse.SiteSimulationData> siteDataList = sites.stream()
+            .map(site -> toSiteSimulationData(site, null))
+            .collect(Collectors.toList());
+        List<UUID> siteIds = sites.stream().map(Site::getId).collect(Collectors.toList());
 
-        if (regionScoresData != null) {
-            try {
-                Map<String, Map<String, Double>> rawRegionScores = objectMapper.convertValue(
-                    regionScoresData,
-                    new TypeReference<Map<String, Map<String, Double>>>() {}
-                );
-
-                // 0.0 값을 랜덤 값으로 대체
-                regionScores = rawRegionScores.entrySet().stream()
-                    .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().entrySet().stream()
-                            .collect(Collectors.toMap(
-                                Map.Entry::getKey,
-                                yearEntry -> {
-                                    Double value = yearEntry.getValue();
-                                    if (value == null || value == 0.0) {
-                                        // 0~10 사이의 랜덤 값 생성
-                                        return Math.random() * 10.0;
-                                    }
-                                    return value;
-                                }
-                            ))
-                    ));
-
-                log.info("✓ Parsed regionScores: {} regions (0값은 랜덤으로 대체됨)", regionScores.size());
-                log.info("regionScores 샘플: {}", regionScores.entrySet().stream().limit(3).collect(Collectors.toList()));
-            } catch (Exception e) {
-                log.error("✗ Failed to parse regionScores: {}", e.getMessage(), e);
-                log.error("regionScoresData type: {}", regionScoresData.getClass());
-                log.error("regionScoresData value: {}", regionScoresData);
+        InputStream upstream = DataBufferUtils.subscriberInputStream(
+            fastApiClient.streamClimateSimulation(
+                climateSimulationFetcher.buildRequest(request.getScenario(), request.getHazardType(), siteIds, true)),
+            UPSTREAM_DEMAND);
+        JsonParser parser;
+        try {
+            parser = objectMapper.getFactory().createParser(upstream);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Unexpected FastAPI response token: " + parser.currentToken());
             }
-        } else {
-            log.warn("✗ regionScores not found in FastAPI response. Available keys: {}", apiResponse.keySet());
+        } catch (Exception e) {
+            closeQuietly(upstream);
+            log.error("Failed to open FastAPI climate simulation stream: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FASTAPI_CONNECTION_ERROR,
+                "기후 시뮬레이션 요청에 실패했습니다: " + e.getMessage());
         }
 
-        // 4-2. 사업장별 AAL 결과 파싱 (siteAALs 또는 site_aals 또는 site_AALs)
-        Map<String, Map<String, Double>> tempSiteAalResults = new HashMap<>();
-        Object siteAalData = apiResponse.get("siteAALs");
-        if (siteAalData == null) {
-            siteAalData = apiResponse.get("site_aals");
-        }
-        if (siteAalData == null) {
-            siteAalData = apiResponse.get("site_AALs");
+        ClimateSimulationStreamWriter writer = new ClimateSimulationStreamWriter(
+            objectMapper, ClimateSimulationFetcher.START_YEAR, ClimateSimulationFetcher.END_YEAR);
+        return outputStream -> {
+            try (JsonParser in = parser;
+                 JsonGenerator out = objectMapper.getFactory().createGenerator(outputStream)) {
+                writer.write(in, out, request.getScenario(), request.getHazardType(), siteDataList);
+            } finally {
+                closeQuietly(upstream);
+            }
+        };
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.debug("Failed to close FastAPI stream: {}", e.getMessage());
         }
+    }
 
-        if (siteAalData != null) {
-            try {
-                tempSiteAalResults = objectMapper.convertValue(
-                    siteAalData,
-                    new TypeReference<Map<String, Map<String, Double>>>() {}
-                );
-                log.info("✓ Parsed siteAALs: {} sites", tempSiteAalResults.size());
-                log.info("Site AAL keys 샘플: {}", tempSiteAalResults.keySet().stream().limit(3).collect(Collectors.toList()));
-            } catch (Exception e) {
-                log.error("✗ Failed to parse siteAALs: {}", e.getMessage(), e);
-                log.error("siteAalData type: {}", siteAalData.getClass());
-                log.error("siteAalData value: {}", siteAalData);
+    /**
+     * 사업장 시뮬레이션 데이터 생성 (DB의 이름/지역코드 + API의 AAL 값)
+     */
+    private ClimateSimulationResponse.SiteSimulationData toSiteSimulationData(Site site, Map<String, Double> aalData) {
+        // regionCode가 없으면 좌표로 행정구역 코드 계산 (메모리 공간 인덱스)
+        String regionCode = site.getRegionCode();
+        if (regionCode == null || regionCode.trim().isEmpty()) {
+            regionCode = adminRegionResolver.resolveRegionCode(site.getLatitude(), site.getLongitude())
+                .orElse(null);
+            if (regionCode == null) {
+                log.warn("Site {} has no regionCode and could not be resolved from coordinates", site.getId());
             }
-        } else {
-            log.warn("✗ siteAALs not found in FastAPI response. Available keys: {}", apiResponse.keySet());
         }
-        final Map<String, Map<String, Double>> siteAalResults = tempSiteAalResults;
-
-        // 4-3. Sites 리스트 조립 (DB의 이름/지역코드 + API의 AAL 값)
-        List<ClimateSimulationResponse.SiteSimulationData> siteDataList = sites.stream()
-        	.map(site -> {
-            	String siteIdStr = site.getId().toString();
-            	Map<String, Double> aalData = siteAalResults.getOrDefault(siteIdStr, new HashMap<>());
-
-                log.debug("Site {}: found {} AAL data points", siteIdStr, aalData.size());
-
-                // regionCode가 null이면 좌표 기반으로 추정하거나 기본값 사용
-                String regionCode = site.getRegionCode();
-                if (regionCode == null || regionCode.trim().isEmpty()) {
-                    // TODO: 좌표 기반 행정구역 코드 변환 API 연동 필요
-                    // 임시로 11010 (서울 종로구) 사용
-                    regionCode = "11010";
-                    log.warn("Site {} has no regionCode, using default: 11010", siteIdStr);
-                }
-
-                return ClimateSimulationResponse.SiteSimulationData.builder()
-                        .siteId(site.getId())
-                        .siteName(site.getName())        // DB에서 가져온 이름
-                        .regionCode(regionCode)          // DB에서 가져온 지역코드 (또는 기본값)
-                        .aalByYear(aalData)              // API에서 가져온 연산 결과
-                        .build();
-			})
-            .collect(Collectors.toList());
-
-        log.info("Built simulation response with {} sites", siteDataList.size());
 
-        // 4-4. 최종 DTO 반환
-        return ClimateSimulationResponse.builder()
-                .scenario(request.getScenario())
-                .hazardType(request.getHazardType())
-                .regionScores(regionScores)
-                .sites(siteDataList)
+        return ClimateSimulationResponse.SiteSimulationData.builder()
+                .siteId(site.getId())
+                .siteName(site.getName())        // DB에서 가져온 이름
+                .regionCode(regionCode)          // DB 지역코드 (없으면 좌표 기반 계산값)
+                .aalByYear(aalData)              // API에서 가져온 연산 결과
                 .build();
     }
 
-
 	/**
 	 * Map을 DTO로 변환
 	 */
@@ -478,20 +627,4 @@ public class SimulationService {
 		);
 		return riskNames.getOrDefault(riskType, riskType);
 	}
-
-	/**
-	 * FastAPI 응답을 LocationRecommendationResponse로 변환
-	 *
-	 * @param response FastAPI 응답 Map
-	 * @return 변환된 LocationRecommendationResponse
-	 */
-	@SuppressWarnings("unchecked")
-	private com.skax.physicalrisk.dto.response.simulation.LocationRecommendationResponse convertToLocationRecommendationResponse(Map<String, Object> response) {
-		try {
-			return objectMapper.convertValue(response, com.skax.physicalrisk.dto.response.simulation.LocationRecommendationResponse.class);
-		} catch (Exception e) {
-			log.error("Failed to convert location recommendation response: {}", e.getMessage());
-			throw new RuntimeException("위치 추천 응답 변환 실패: " + e.getMessage(), e);
-		}
-	}
 }
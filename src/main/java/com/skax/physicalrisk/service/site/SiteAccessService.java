@@ -0,0 +1,74 @@
+package com.skax.physicalrisk.service.site;
+
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.domain.site.repository.SiteRepository;
+import com.skax.physicalrisk.domain.user.entity.User;
+import com.skax.physicalrisk.domain.user.repository.UserRepository;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사업장/사용자 조회 전용 서비스
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * FastAPI를 호출하는 서비스들이 DB 커넥션을 짧게만 점유하도록
+ * 조회 단계를 별도의 짧은 읽기 전용 트랜잭션으로 분리한다.
+ * 반환되는 엔티티는 트랜잭션 종료 후 detached 상태이므로
+ * 호출 측에서는 지연 로딩 연관관계(user 등)에 접근하지 않아야 한다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SiteAccessService {
+
+	private final SiteRepository siteRepository;
+	private final UserRepository userRepository;
+
+	/**
+	 * 사용자 조회
+	 *
+	 * @param userId 사용자 ID
+	 * @return 사용자 엔티티
+	 */
+	public User getUser(UUID userId) {
+		return userRepository.findById(userId)
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+	}
+
+	/**
+	 * 사업장 조회 및 권한 확인
+	 *
+	 * @param siteId 사업장 ID
+	 * @param userId 사용자 ID
+	 * @return 사업장 엔티티
+	 */
+	public Site getSiteWithAuth(UUID siteId, UUID userId) {
+		User user = getUser(userId);
+
+		return siteRepository.findByIdAndUser(siteId, user)
+			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SITE_NOT_FOUND));
+	}
+
+	/**
+	 * 사용자의 전체 사업장 조회
+	 *
+	 * @param userId 사용자 ID
+	 * @return 사업장 목록
+	 */
+	public List<Site> getSites(UUID userId) {
+		User user = getUser(userId);
+		return siteRepository.findByUser(user);
+	}
+}
@@ -0,0 +1,250 @@
+package com.skax.physicalrisk.service.site;
+
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JRuntimeException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 사업장 일괄 등록 파일 파서 (CSV/XLSX)
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v03 - 손상된 XLSX를 FILE_UPLOAD_FAILED로 변환
+ *
+ * 파일 전체를 객체로 올리지 않고 한 행씩 읽어 콜백으로 전달한다.
+ * - CSV: commons-csv 레코드 이터레이터 (UTF-8, BOM 허용)
+ * - XLSX: POI SAX 이벤트 API로 첫 번째 시트만 읽음 (셀 DOM 미생성)
+ *   ZIP 패키지는 InputStream으로 열면 전체가 메모리에 올라가므로 임시 파일로 받아 파일에서 연다.
+ *
+ * 헤더는 영문 필드명(name, roadAddress, ...) 또는 한글 컬럼명(사업장명, 도로명주소, ...)을 허용하며
+ * 대소문자/공백/밑줄을 무시하고 표준 키로 변환한다.
+ *
+ * @author SKAX Team
+ */
+final class SiteImportParser {
+
+	static final String NAME = "name";
+	static final String ROAD_ADDRESS = "roadaddress";
+	static final String JIBUN_ADDRESS = "jibunaddress";
+	static final String LATITUDE = "latitude";
+	static final String LONGITUDE = "longitude";
+	static final String TYPE = "type";
+	static final String BUILDING_AGE = "buildingage";
+	static final String BUILDING_TYPE = "buildingtype";
+	static final String SEISMIC_DESIGN = "seismicdesign";
+	static final String GROSS_FLOOR_AREA = "grossfloorarea";
+
+	private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+		Map.entry("사업장명", NAME),
+		Map.entry("사업장이름", NAME),
+		Map.entry("도로명주소", ROAD_ADDRESS),
+		Map.entry("지번주소", JIBUN_ADDRESS),
+		Map.entry("위도", LATITUDE),
+		Map.entry("lat", LATITUDE),
+		Map.entry("경도", LONGITUDE),
+		Map.entry("lon", LONGITUDE),
+		Map.entry("lng", LONGITUDE),
+		Map.entry("유형", TYPE),
+		Map.entry("업종", TYPE),
+		Map.entry("sitetype", TYPE),
+		Map.entry("건물연식", BUILDING_AGE),
+		Map.entry("건물구조", BUILDING_TYPE),
+		Map.entry("내진설계", SEISMIC_DESIGN),
+		Map.entry("연면적", GROSS_FLOOR_AREA)
+	);
+
+	/**
+	 * 행 단위 콜백
+	 */
+	@FunctionalInterface
+	interface RowHandler {
+
+		/**
+		 * @param rowNumber 파일 기준 행 번호 (헤더가 1행)
+		 * @param values    표준 키 → 셀 값 (빈 셀은 포함하지 않음)
+		 */
+		void onRow(int rowNumber, Map<String, String> values);
+	}
+
+	private SiteImportParser() {
+	}
+
+	/**
+	 * 업로드 파일을 행 단위로 파싱
+	 *
+	 * @param file    업로드 파일 (.csv 또는 .xlsx)
+	 * @param handler 행 콜백
+	 */
+	static void parse(MultipartFile file, RowHandler handler) {
+		String filename = file.getOriginalFilename() == null
+			? ""
+			: file.getOriginalFilename().toLowerCase(Locale.ROOT);
+
+		try (InputStream inputStream = file.getInputStream()) {
+			if (filename.endsWith(".csv")) {
+				parseCsv(inputStream, handler);
+			} else if (filename.endsWith(".xlsx")) {
+				Path temp = Files.createTempFile("site-import-", ".xlsx");
+				try {
+					Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+					parseXlsx(temp, handler);
+				} finally {
+					Files.deleteIfExists(temp);
+				}
+			} else {
+				throw new BusinessException(ErrorCode.INVALID_REQUEST, "CSV 또는 XLSX 파일만 업로드할 수 있습니다");
+			}
+		} catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException
+				 | OpenXML4JRuntimeException | UnsupportedFileFormatException e) {
+			// ZIP이 아닌 파일을 .xlsx로 올리면 POI가 런타임 예외를 던지므로 함께 변환
+			throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "파일을 읽을 수 없습니다: " + e.getMessage());
+		}
+	}
+
+	private static void parseCsv(InputStream inputStream, RowHandler handler) throws IOException {
+		CSVFormat format = CSVFormat.DEFAULT.builder()
+			.setHeader()
+			.setSkipHeaderRecord(true)
+			.setIgnoreEmptyLines(true)
+			.setTrim(true)
+			.build();
+
+		try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+			 CSVParser parser = format.parse(reader)) {
+			List<String> headers = new ArrayList<>();
+			for (String header : parser.getHeaderNames()) {
+				headers.add(normalizeHeader(header));
+			}
+
+			// 헤더가 1행이므로 데이터 행은 2행부터
+			int rowNumber = 1;
+			for (CSVRecord record : parser) {
+				rowNumber++;
+				Map<String, String> values = new HashMap<>();
+				for (int i = 0; i < headers.size() && i < record.size(); i++) {
+					putIfPresent(values, headers.get(i), record.get(i));
+				}
+				handler.onRow(rowNumber, values);
+			}
+		}
+	}
+
+	private static void parseXlsx(Path path, RowHandler handler)
+		throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+		// 파일에서 열면 ZIP 엔트리를 필요할 때만 읽음 (읽기 전용 패키지는 close 대신 revert로 닫음)
+		OPCPackage pkg = OPCPackage.open(path.toFile(), PackageAccess.READ);
+		try {
+			XSSFReader reader = new XSSFReader(pkg);
+			ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+			XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+			if (!sheets.hasNext()) {
+				return;
+			}
+
+			try (InputStream sheet = sheets.next()) {
+				XMLReader xmlReader = XMLHelper.newXMLReader();
+				xmlReader.setContentHandler(new XSSFSheetXMLHandler(
+					reader.getStylesTable(), null, sharedStrings,
+					new XlsxRowCollector(handler), new DataFormatter(), false));
+				xmlReader.parse(new InputSource(sheet));
+			}
+		} finally {
+			pkg.revert();
+		}
+	}
+
+	/**
+	 * 헤더 정규화 (BOM/공백/밑줄 제거, 소문자, 한글 별칭 변환)
+	 */
+	private static String normalizeHeader(String header) {
+		String normalized = header.replace("\uFEFF", "")
+			.replace(" ", "")
+			.replace("_", "")
+			.toLowerCase(Locale.ROOT);
+		return HEADER_ALIASES.getOrDefault(normalized, normalized);
+	}
+
+	private static void putIfPresent(Map<String, String> values, String key, String value) {
+		if (value != null && !value.isBlank()) {
+			values.put(key, value.trim());
+		}
+	}
+
+	/**
+	 * XLSX 시트 이벤트를 행 단위 Map으로 모으는 핸들러
+	 */
+	private static final class XlsxRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+		private final RowHandler handler;
+		private final Map<Integer, String> headers = new HashMap<>();
+		private Map<String, String> currentValues;
+		private boolean headerRow = true;
+
+		private XlsxRowCollector(RowHandler handler) {
+			this.handler = handler;
+		}
+
+		@Override
+		public void startRow(int rowNum) {
+			currentValues = new HashMap<>();
+		}
+
+		@Override
+		public void endRow(int rowNum) {
+			if (headerRow) {
+				headerRow = false;
+				return;
+			}
+			if (!currentValues.isEmpty()) {
+				handler.onRow(rowNum + 1, currentValues);
+			}
+		}
+
+		@Override
+		public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+			int column = new CellReference(cellReference).getCol();
+			if (headerRow) {
+				if (formattedValue != null) {
+					headers.put(column, normalizeHeader(formattedValue));
+				}
+				return;
+			}
+			String key = headers.get(column);
+			if (key != null) {
+				putIfPresent(currentValues, key, formattedValue);
+			}
+		}
+	}
+}
@@ -0,0 +1,291 @@
+package com.skax.physicalrisk.service.site;
+
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.domain.site.repository.SiteRepository;
+import com.skax.physicalrisk.domain.user.repository.UserRepository;
+import com.skax.physicalrisk.dto.response.site.SiteImportResponse;
+import com.skax.physicalrisk.dto.response.site.SiteImportResponse.RowResult;
+import com.skax.physicalrisk.dto.response.site.SiteImportResponse.RowStatus;
+import com.skax.physicalrisk.dto.response.site.SiteResponse;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.exception.ResourceNotFoundException;
+import com.skax.physicalrisk.security.SecurityUtil;
+import com.skax.physicalrisk.service.analysis.AnalysisService;
+import com.skax.physicalrisk.service.region.AdminRegionResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사업장 일괄 등록 서비스 (CSV/XLSX)
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v03 - 파싱 구간 트랜잭션 제외 (INSERT만 SiteImportWriter 트랜잭션)
+ *
+ * 단건 등록(사용자 조회 + 좌표 중복 조회 + save)을 행마다 반복하지 않도록
+ * - 사용자의 기존 좌표를 한 번만 조회하여 메모리 Set으로 중복 검사 (파일 내 중복 포함)
+ * - 파일은 한 행씩 파싱하여 검증하고, 파싱이 끝난 뒤 batch-size 단위로 JDBC 배치 INSERT
+ * - ID는 시간순 UUID(v7)를 애플리케이션에서 생성하여 PK 인덱스 삽입 위치를 뒤쪽으로 모음
+ * 파일을 읽는 동안에는 DB 커넥션을 잡지 않는다 (행 수는 max-rows로 제한).
+ * 검증 실패/중복 행은 건너뛰고 행별 결과로 반환한다. DB 오류 시 전체 롤백된다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SiteImportService {
+
+	private static final int COORDINATE_SCALE = 8;
+
+	private final SiteImportWriter siteImportWriter;
+	private final SiteRepository siteRepository;
+	private final UserRepository userRepository;
+	private final SiteSearchService siteSearchService;
+	private final AnalysisService analysisService;
+	private final AdminRegionResolver adminRegionResolver;
+
+	@Value("${app.site-import.max-rows:5000}")
+	private int maxRows;
+
+	/**
+	 * 사업장 일괄 등록
+	 *
+	 * @param file    CSV 또는 XLSX 파일
+	 * @param analyze 등록된 사업장 전체에 대해 분석 시작 여부 (커밋 후 1회 요청)
+	 * @return 행별 처리 결과
+	 */
+	public SiteImportResponse importSites(MultipartFile file, boolean analyze) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		log.info("Importing sites for user: {}, file: {}, size: {} bytes",
+			userId, file.getOriginalFilename(), file.getSize());
+
+		if (file.isEmpty()) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "업로드된 파일이 비어 있습니다");
+		}
+		if (!userRepository.existsById(userId)) {
+			throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND);
+		}
+
+		// 기존 좌표는 1회 조회 후 메모리에서 중복 검사
+		Set<String> knownCoordinates = new HashSet<>();
+		siteRepository.findCoordinatesByUserId(userId)
+			.forEach(c -> knownCoordinates.add(coordinateKey(c.getLatitude(), c.getLongitude())));
+
+		ImportContext context = new ImportContext(knownCoordinates);
+		SiteImportParser.parse(file, context::handleRow);
+
+		List<Site> importedSites = context.importedSites;
+		if (!importedSites.isEmpty()) {
+			siteImportWriter.insertAll(userId, importedSites);
+		}
+		log.info("Site import finished for user: {} - rows: {}, imported: {}, duplicate: {}, invalid: {}",
+			userId, context.results.size(), importedSites.size(), context.duplicateCount, context.invalidCount);
+
+		for (Site site : importedSites) {
+			siteSearchService.onSiteSaved(userId, toSiteInfo(site));
+		}
+
+		boolean analysisRequested = analyze && !importedSites.isEmpty();
+		if (analysisRequested) {
+			// INSERT 트랜잭션이 커밋된 뒤이므로 FastAPI가 사업장을 조회할 수 있음
+			analysisService.startAnalysisForSites(userId, importedSites);
+		}
+
+		return SiteImportResponse.builder()
+			.totalRows(context.results.size())
+			.importedCount(importedSites.size())
+			.duplicateCount(context.duplicateCount)
+			.invalidCount(context.invalidCount)
+			.analysisRequested(analysisRequested)
+			.rows(context.results)
+			.build();
+	}
+
+	/**
+	 * 행 검증 → 중복 검사 → INSERT 대상 적재를 담당하는 요청 단위 상태
+	 */
+	private final class ImportContext {
+
+		private final Set<String> knownCoordinates;
+		private final List<RowResult> results = new ArrayList<>();
+		private final List<Site> importedSites = new ArrayList<>();
+		private int duplicateCount;
+		private int invalidCount;
+
+		private ImportContext(Set<String> knownCoordinates) {
+			this.knownCoordinates = knownCoordinates;
+		}
+
+		private void handleRow(int rowNumber, Map<String, String> values) {
+			if (results.size() >= maxRows) {
+				throw new BusinessException(ErrorCode.INVALID_REQUEST,
+					"한 번에 등록할 수 있는 사업장은 최대 " + maxRows + "건입니다");
+			}
+
+			String name = values.get(SiteImportParser.NAME);
+			Site site;
+			try {
+				site = toSite(values);
+			} catch (IllegalArgumentException e) {
+				invalidCount++;
+				results.add(RowResult.builder()
+					.rowNumber(rowNumber)
+					.status(RowStatus.INVALID)
+					.siteName(name)
+					.message(e.getMessage())
+					.build());
+				return;
+			}
+
+			if (!knownCoordinates.add(coordinateKey(site.getLatitude(), site.getLongitude()))) {
+				duplicateCount++;
+				results.add(RowResult.builder()
+					.rowNumber(rowNumber)
+					.status(RowStatus.DUPLICATE)
+					.siteName(name)
+					.message(ErrorCode.DUPLICATE_SITE_COORDINATES.getMessage())
+					.build());
+				return;
+			}
+
+			site.setId(timeOrderedUuid());
+			adminRegionResolver.resolveRegionCode(site.getLatitude(), site.getLongitude())
+				.ifPresent(site::setRegionCode);
+			importedSites.add(site);
+			results.add(RowResult.builder()
+				.rowNumber(rowNumber)
+				.status(RowStatus.IMPORTED)
+				.siteId(site.getId())
+				.siteName(name)
+				.build());
+		}
+	}
+
+	/**
+	 * 행 값 검증 및 Site 변환 (검증 실패 시 IllegalArgumentException)
+	 */
+	private static Site toSite(Map<String, String> values) {
+		String name = values.get(SiteImportParser.NAME);
+		if (name == null) {
+			throw new IllegalArgumentException("사업장 이름은 필수입니다");
+		}
+		String type = values.get(SiteImportParser.TYPE);
+		if (type == null) {
+			throw new IllegalArgumentException("사업장 유형은 필수입니다");
+		}
+
+		BigDecimal latitude = parseDecimal(values.get(SiteImportParser.LATITUDE), "위도");
+		BigDecimal longitude = parseDecimal(values.get(SiteImportParser.LONGITUDE), "경도");
+		if (latitude == null || longitude == null) {
+			throw new IllegalArgumentException("위도와 경도는 필수입니다");
+		}
+		if (latitude.abs().compareTo(BigDecimal.valueOf(90)) > 0) {
+			throw new IllegalArgumentException("위도는 -90 ~ 90 사이여야 합니다");
+		}
+		if (longitude.abs().compareTo(BigDecimal.valueOf(180)) > 0) {
+			throw new IllegalArgumentException("경도는 -180 ~ 180 사이여야 합니다");
+		}
+
+		BigDecimal grossFloorArea = parseDecimal(values.get(SiteImportParser.GROSS_FLOOR_AREA), "연면적");
+		Integer buildingAge = parseInteger(values.get(SiteImportParser.BUILDING_AGE), "건물 연식");
+		if ((grossFloorArea != null && grossFloorArea.signum() < 0) || (buildingAge != null && buildingAge < 0)) {
+			throw new IllegalArgumentException("건물 연식과 연면적은 0 이상이어야 합니다");
+		}
+
+		return Site.builder()
+			.name(requireLength(name, 255, "사업장 이름"))
+			.type(requireLength(type, 100, "사업장 유형"))
+			.roadAddress(requireLength(values.get(SiteImportParser.ROAD_ADDRESS), 500, "도로명 주소"))
+			.jibunAddress(requireLength(values.get(SiteImportParser.JIBUN_ADDRESS), 500, "지번 주소"))
+			.latitude(latitude.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP))
+			.longitude(longitude.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP))
+			.buildingAge(buildingAge)
+			.buildingType(requireLength(values.get(SiteImportParser.BUILDING_TYPE), 100, "건물 구조"))
+			.seismicDesign(parseBoolean(values.get(SiteImportParser.SEISMIC_DESIGN)))
+			.grossFloorArea(grossFloorArea != null ? grossFloorArea.setScale(2, RoundingMode.HALF_UP) : null)
+			.build();
+	}
+
+	private static String requireLength(String value, int maxLength, String field) {
+		if (value != null && value.length() > maxLength) {
+			throw new IllegalArgumentException(field + "은(는) " + maxLength + "자 이하여야 합니다");
+		}
+		return value;
+	}
+
+	private static BigDecimal parseDecimal(String value, String field) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return new BigDecimal(value.replace(",", ""));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(field + " 값이 숫자가 아닙니다: " + value);
+		}
+	}
+
+	private static Integer parseInteger(String value, String field) {
+		BigDecimal decimal = parseDecimal(value, field);
+		if (decimal == null) {
+			return null;
+		}
+		try {
+			return decimal.intValueExact();
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException(field + " 값은 정수여야 합니다: " + value);
+		}
+	}
+
+	private static Boolean parseBoolean(String value) {
+		if (value == null) {
+			return null;
+		}
+		return switch (value.toLowerCase(Locale.ROOT)) {
+			case "true", "y", "yes", "1", "o", "예", "유" -> Boolean.TRUE;
+			case "false", "n", "no", "0", "x", "아니오", "무" -> Boolean.FALSE;
+			default -> throw new IllegalArgumentException("내진 설계 값은 Y/N 이어야 합니다: " + value);
+		};
+	}
+
+	private static String coordinateKey(BigDecimal latitude, BigDecimal longitude) {
+		return latitude.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP).toPlainString()
+			+ "," + longitude.setScale(COORDINATE_SCALE, RoundingMode.HALF_UP).toPlainString();
+	}
+
+	private static SiteResponse.SiteInfo toSiteInfo(Site site) {
+		return SiteResponse.SiteInfo.builder()
+			.siteId(site.getId())
+			.siteName(site.getName())
+			.latitude(site.getLatitude())
+			.longitude(site.getLongitude())
+			.jibunAddress(site.getJibunAddress())
+			.roadAddress(site.getRoadAddress())
+			.siteType(site.getType())
+			.build();
+	}
+
+	/**
+	 * 시간순 UUID (RFC 9562 v7: 상위 48비트 = epoch millis)
+	 */
+	private static UUID timeOrderedUuid() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+		long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+}
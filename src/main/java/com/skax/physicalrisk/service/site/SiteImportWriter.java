@@ -0,0 +1,74 @@
+package com.skax.physicalrisk.service.site;
+
+import com.skax.physicalrisk.domain.site.entity.Site;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사업장 일괄 등록 JDBC 배치 INSERT
+ *
+ * 최종 수정일: 2026-10-19
+ * 파일 버전: v01
+ *
+ * 파일 파싱/검증이 끝난 뒤 INSERT 구간에서만 트랜잭션(DB 커넥션)을 잡는다.
+ * 전체 행을 한 트랜잭션으로 넣으므로 DB 오류 시 전체 롤백된다.
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class SiteImportWriter {
+
+	private static final String INSERT_SQL = "INSERT INTO sites "
+		+ "(id, user_id, name, road_address, jibun_address, latitude, longitude, type, "
+		+ "building_age, building_type, seismic_design, gross_floor_area, region_code) "
+		+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${app.site-import.batch-size:100}")
+	private int batchSize;
+
+	/**
+	 * batch-size 단위 배치 INSERT
+	 *
+	 * @param userId 소유 사용자 ID
+	 * @param sites  검증을 통과한 사업장 (ID 지정됨)
+	 */
+	@Transactional
+	public void insertAll(UUID userId, List<Site> sites) {
+		jdbcTemplate.batchUpdate(INSERT_SQL, sites, batchSize, (ps, site) -> {
+			ps.setObject(1, site.getId());
+			ps.setObject(2, userId);
+			ps.setString(3, site.getName());
+			ps.setString(4, site.getRoadAddress());
+			ps.setString(5, site.getJibunAddress());
+			ps.setBigDecimal(6, site.getLatitude());
+			ps.setBigDecimal(7, site.getLongitude());
+			ps.setString(8, site.getType());
+			if (site.getBuildingAge() != null) {
+				ps.setInt(9, site.getBuildingAge());
+			} else {
+				ps.setNull(9, Types.INTEGER);
+			}
+			ps.setString(10, site.getBuildingType());
+			if (site.getSeismicDesign() != null) {
+				ps.setBoolean(11, site.getSeismicDesign());
+			} else {
+				ps.setNull(11, Types.BOOLEAN);
+			}
+			ps.setBigDecimal(12, site.getGrossFloorArea());
+			ps.setString(13, site.getRegionCode());
+		});
+		log.debug("Inserted {} sites in batches of {} for user: {}", sites.size(), batchSize, userId);
+	}
+}
@@ -0,0 +1,216 @@
+package com.skax.physicalrisk.service.site;
+
+import com.skax.physicalrisk.dto.response.site.SiteResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자 1명의 사업장 n-gram 역색인
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * 사업장명/도로명주소/지번주소를 정규화한 뒤 n-gram(최대 3글자)을
+ * long 키로 인코딩하여 사업장 ID 목록에 매핑한다.
+ * 검색어의 n-gram 중 일치하는 비율(coverage)과 부분 문자열/접두어 일치 여부로 순위를 매긴다.
+ * 검색어가 n보다 짧으면 해당 사용자 사업장만 메모리에서 순회한다.
+ *
+ * @author SKAX Team
+ */
+class SiteNgramIndex {
+
+	/** 후보로 인정하는 최소 n-gram 일치 비율 (오타 1~2자 허용) */
+	private static final double MIN_COVERAGE = 0.6;
+
+	private final SiteTextNormalizer normalizer;
+	private final int gramSize;
+
+	private final Map<UUID, Document> documents = new HashMap<>();
+	private final Map<Long, Set<UUID>> postings = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	SiteNgramIndex(SiteTextNormalizer normalizer, int gramSize) {
+		if (gramSize < 1 || gramSize > 3) {
+			throw new IllegalArgumentException("gramSize must be between 1 and 3");
+		}
+		this.normalizer = normalizer;
+		this.gramSize = gramSize;
+	}
+
+	/**
+	 * 사업장 색인 추가/갱신
+	 *
+	 * @param site 사업장 정보
+	 */
+	void put(SiteResponse.SiteInfo site) {
+		String name = normalizer.normalize(site.getSiteName());
+		String roadAddress = normalizer.normalize(site.getRoadAddress());
+		String jibunAddress = normalizer.normalize(site.getJibunAddress());
+
+		Set<Long> grams = new HashSet<>();
+		collectGrams(name, grams);
+		collectGrams(roadAddress, grams);
+		collectGrams(jibunAddress, grams);
+
+		Document document = new Document(site, name, roadAddress, jibunAddress, grams);
+
+		lock.writeLock().lock();
+		try {
+			removeInternal(site.getSiteId());
+			documents.put(site.getSiteId(), document);
+			for (Long gram : grams) {
+				postings.computeIfAbsent(gram, key -> new HashSet<>()).add(site.getSiteId());
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 사업장 색인 제거
+	 *
+	 * @param siteId 사업장 ID
+	 */
+	void remove(UUID siteId) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(siteId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색
+	 *
+	 * @param keyword 검색어
+	 * @param limit   최대 결과 수
+	 * @return 순위순 사업장 목록
+	 */
+	List<SiteResponse.SiteInfo> search(String keyword, int limit) {
+		String query = normalizer.normalize(keyword);
+		if (query.isEmpty()) {
+			return List.of();
+		}
+
+		List<Hit> hits = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			if (query.length() < gramSize) {
+				for (Document document : documents.values()) {
+					double score = substringScore(document, query);
+					if (score > 0) {
+						hits.add(new Hit(document, score));
+					}
+				}
+			} else {
+				Set<Long> queryGrams = new HashSet<>();
+				collectGrams(query, queryGrams);
+
+				Map<UUID, Integer> matchCounts = new HashMap<>();
+				for (Long gram : queryGrams) {
+					Set<UUID> siteIds = postings.get(gram);
+					if (siteIds != null) {
+						for (UUID siteId : siteIds) {
+							matchCounts.merge(siteId, 1, Integer::sum);
+						}
+					}
+				}
+
+				for (Map.Entry<UUID, Integer> entry : matchCounts.entrySet()) {
+					double coverage = (double) entry.getValue() / queryGrams.size();
+					if (coverage < MIN_COVERAGE) {
+						continue;
+					}
+					Document document = documents.get(entry.getKey());
+					hits.add(new Hit(document, coverage + substringScore(document, query)));
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return hits.stream()
+			.sorted(Comparator.comparingDouble(Hit::score).reversed()
+				.thenComparing(hit -> hit.document().name())
+				.thenComparing(hit -> hit.document().site().getSiteId()))
+			.limit(limit)
+			.map(hit -> hit.document().site())
+			.toList();
+	}
+
+	/**
+	 * 색인된 사업장 수
+	 */
+	int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 부분 문자열 일치 가산점 (사업장명 접두어 > 사업장명 포함 > 주소 포함)
+	 */
+	private static double substringScore(Document document, String query) {
+		if (document.name().startsWith(query)) {
+			return 3.0;
+		}
+		if (document.name().contains(query)) {
+			return 2.0;
+		}
+		if (document.roadAddress().contains(query) || document.jibunAddress().contains(query)) {
+			return 1.0;
+		}
+		return 0.0;
+	}
+
+	private void removeInternal(UUID siteId) {
+		Document previous = documents.remove(siteId);
+		if (previous == null) {
+			return;
+		}
+		for (Long gram : previous.grams()) {
+			Set<UUID> siteIds = postings.get(gram);
+			if (siteIds != null) {
+				siteIds.remove(siteId);
+				if (siteIds.isEmpty()) {
+					postings.remove(gram);
+				}
+			}
+		}
+	}
+
+	private void collectGrams(String text, Set<Long> grams) {
+		for (int i = 0; i + gramSize <= text.length(); i++) {
+			long key = 0;
+			for (int j = 0; j < gramSize; j++) {
+				key = (key << 16) | text.charAt(i + j);
+			}
+			grams.add(key);
+		}
+	}
+
+	private record Document(
+		SiteResponse.SiteInfo site,
+		String name,
+		String roadAddress,
+		String jibunAddress,
+		Set<Long> grams
+	) {
+	}
+
+	private record Hit(Document document, double score) {
+	}
+}
@@ -0,0 +1,137 @@
+package com.skax.physicalrisk.service.site;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.physicalrisk.domain.site.repository.SiteRepository;
+import com.skax.physicalrisk.dto.response.site.SiteResponse;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.security.SecurityUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 사업장 검색 서비스 (사용자별 인메모리 n-gram 색인)
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * LIKE '%keyword%' 조회는 user_id 외에는 인덱스를 타지 못하므로
+ * 사용자별 사업장명/주소 n-gram 색인을 메모리에 유지하고 DB 조회 없이 검색한다.
+ * - 색인은 사용자의 첫 검색 시 프로젝션 조회 1회로 생성
+ * - 사업장 생성/수정/삭제 시 트랜잭션 커밋 후 증분 반영
+ * - 다중 인스턴스 환경의 불일치는 expire-after-write 주기로 재생성하여 해소
+ *
+ * @author SKAX Team
+ */
+@Slf4j
+@Service
+public class SiteSearchService {
+
+	private static final int DEFAULT_LIMIT = 10;
+	private static final int MAX_LIMIT = 50;
+
+	private final SiteRepository siteRepository;
+	private final SiteTextNormalizer normalizer;
+	private final int gramSize;
+	private final Cache<UUID, SiteNgramIndex> indexes;
+
+	public SiteSearchService(
+		SiteRepository siteRepository,
+		@Value("${app.site-search.decompose-hangul:true}") boolean decomposeHangul,
+		@Value("${app.site-search.gram-size:3}") int gramSize,
+		@Value("${app.site-search.max-users:10000}") long maxUsers,
+		@Value("${app.site-search.expire-after-write-minutes:10}") long expireAfterWriteMinutes
+	) {
+		this.siteRepository = siteRepository;
+		this.normalizer = new SiteTextNormalizer(decomposeHangul);
+		this.gramSize = gramSize;
+		this.indexes = Caffeine.newBuilder()
+			.maximumSize(maxUsers)
+			.expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+			.build();
+	}
+
+	/**
+	 * 현재 사용자의 사업장 검색 (사업장명/도로명주소/지번주소)
+	 *
+	 * @param keyword 검색어
+	 * @param limit   최대 결과 수 (기본 10, 최대 50)
+	 * @return 일치도 순 사업장 목록
+	 */
+	public SiteResponse search(String keyword, Integer limit) {
+		int maxResults = limit == null ? DEFAULT_LIMIT : limit;
+		if (maxResults < 1 || maxResults > MAX_LIMIT) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST,
+				"검색 결과 수는 1~" + MAX_LIMIT + " 사이여야 합니다");
+		}
+
+		UUID userId = SecurityUtil.getCurrentUserId();
+		SiteNgramIndex index = indexes.get(userId, this::buildIndex);
+
+		return SiteResponse.builder()
+			.sites(index.search(keyword, maxResults))
+			.build();
+	}
+
+	/**
+	 * 사업장 생성/수정 반영 (커밋 후)
+	 *
+	 * @param userId 사용자 ID
+	 * @param site   저장된 사업장 정보
+	 */
+	public void onSiteSaved(UUID userId, SiteResponse.SiteInfo site) {
+		afterCommit(() -> {
+			SiteNgramIndex index = indexes.getIfPresent(userId);
+			if (index != null) {
+				index.put(site);
+			}
+		});
+	}
+
+	/**
+	 * 사업장 삭제 반영 (커밋 후)
+	 *
+	 * @param userId 사용자 ID
+	 * @param siteId 삭제된 사업장 ID
+	 */
+	public void onSiteDeleted(UUID userId, UUID siteId) {
+		afterCommit(() -> {
+			SiteNgramIndex index = indexes.getIfPresent(userId);
+			if (index != null) {
+				index.remove(siteId);
+			}
+		});
+	}
+
+	private SiteNgramIndex buildIndex(UUID userId) {
+		long start = System.nanoTime();
+		SiteNgramIndex index = new SiteNgramIndex(normalizer, gramSize);
+		siteRepository.findSummariesByUserId(userId, Limit.unlimited())
+			.forEach(summary -> index.put(SiteService.toSiteInfo(summary)));
+		log.debug("Site search index built for user: {} ({} sites, {} ms)",
+			userId, index.size(), (System.nanoTime() - start) / 1_000_000);
+		return index;
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -2,21 +2,33 @@ package com.skax.physicalrisk.service.site;
 
 import com.skax.physicalrisk.domain.site.entity.Site;
 import com.skax.physicalrisk.domain.site.repository.SiteRepository;
+import com.skax.physicalrisk.domain.site.repository.SiteSummary;
 import com.skax.physicalrisk.domain.user.entity.User;
 import com.skax.physicalrisk.domain.user.repository.UserRepository;
 import com.skax.physicalrisk.dto.request.site.BuildingInfo;
 import com.skax.physicalrisk.dto.request.site.CreateSiteRequest;
 import com.skax.physicalrisk.dto.request.site.UpdateSiteRequest;
+import com.skax.physicalrisk.dto.response.site.SitePageResponse;
 import com.skax.physicalrisk.dto.response.site.SiteResponse;
+import com.skax.physicalrisk.exception.BusinessException;
 import com.skax.physicalrisk.exception.ErrorCode;
 import com.skax.physicalrisk.exception.ResourceNotFoundException;
 import com.skax.physicalrisk.security.SecurityUtil;
+import com.skax.physicalrisk.service.analysis.AnalysisResultStore;
+import com.skax.physicalrisk.service.analysis.BuildingVulnerabilityRecomputer;
+import com.skax.physicalrisk.service.analysis.BuildingVulnerabilityRecomputer.BuildingProfile;
+import com.skax.physicalrisk.service.region.AdminRegionResolver;
+import com.skax.physicalrisk.service.simulation.ClimateSimulationCache;
+import com.skax.physicalrisk.service.simulation.LocationRecommendationRefresher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -32,8 +44,18 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class SiteService {
 
+	private static final int DEFAULT_PAGE_SIZE = 50;
+	private static final int MAX_PAGE_SIZE = 200;
+	private static final char CURSOR_SEPARATOR = '\u0000';
+
 	private final SiteRepository siteRepository;
 	private final UserRepository userRepository;
+	private final SiteSearchService siteSearchService;
+	private final AdminRegionResolver adminRegionResolver;
+	private final AnalysisResultStore analysisResultStore;
+	private final ClimateSimulationCache climateSimulationCache;
+	private final LocationRecommendationRefresher locationRecommendationRefresher;
+	private final BuildingVulnerabilityRecomputer buildingVulnerabilityRecomputer;
 
 	/**
 	 * 사용자의 전체 사업장 목록 조회
@@ -44,21 +66,14 @@ public class SiteService {
 		UUID userId = SecurityUtil.getCurrentUserId();
 		log.info("Fetching sites for user: {}", userId);
 
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND));
+		if (!userRepository.existsById(userId)) {
+			throw new ResourceNotFoundException(ErrorCode.USER_NOT_FOUND);
+		}
 
-		List<Site> sites = siteRepository.findByUser(user);
-
-		List<SiteResponse.SiteInfo> siteInfos = sites.stream()
-			.map(site -> SiteResponse.SiteInfo.builder()
-				.siteId(site.getId())
-				.siteName(site.getName())
-				.latitude(site.getLatitude())
-				.longitude(site.getLongitude())
-				.jibunAddress(site.getJibunAddress())
-				.roadAddress(site.getRoadAddress())
-				.siteType(site.getType())
-				.build())
+		// 목록 컬럼만 프로젝션으로 조회 (엔티티 미생성)
+		List<SiteResponse.SiteInfo> siteInfos = siteRepository.findSummariesByUserId(userId, Limit.unlimited())
+			.stream()
+			.map(SiteService::toSiteInfo)
 			.collect(Collectors.toList());
 
 		return SiteResponse.builder()
@@ -66,6 +81,54 @@ public class SiteService {
 			.build();
 	}
 
+	/**
+	 * 사용자의 사업장 목록 페이지 조회 (키셋 페이지네이션)
+	 *
+	 * (name, id) 순으로 정렬하며 커서는 직전 페이지 마지막 항목의 (name, id)를 인코딩한 값이다.
+	 * OFFSET을 사용하지 않으므로 뒤 페이지로 갈수록 느려지지 않는다.
+	 *
+	 * @param cursor       다음 페이지 커서 (첫 페이지면 null)
+	 * @param size         페이지 크기 (기본 50, 최대 200)
+	 * @param includeTotal 전체 건수 포함 여부 (false면 COUNT 쿼리 생략)
+	 * @return 사업장 목록 페이지
+	 */
+	public SitePageResponse getSitePage(String cursor, Integer size, boolean includeTotal) {
+		UUID userId = SecurityUtil.getCurrentUserId();
+		int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+		if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST,
+				"페이지 크기는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다");
+		}
+		log.info("Fetching site page for user: {}, cursor: {}, size: {}, includeTotal: {}",
+			userId, cursor, pageSize, includeTotal);
+
+		// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+		Limit limit = Limit.of(pageSize + 1);
+		List<SiteSummary> rows;
+		if (cursor == null || cursor.isBlank()) {
+			rows = siteRepository.findSummariesByUserId(userId, limit);
+		} else {
+			String[] position = decodeCursor(cursor);
+			rows = siteRepository.findSummariesByUserIdAfter(userId, position[0], UUID.fromString(position[1]), limit);
+		}
+
+		boolean hasNext = rows.size() > pageSize;
+		List<SiteSummary> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+		String nextCursor = null;
+		if (hasNext) {
+			SiteSummary last = page.get(page.size() - 1);
+			nextCursor = encodeCursor(last.getSiteName(), last.getSiteId());
+		}
+
+		return SitePageResponse.builder()
+			.sites(page.stream().map(SiteService::toSiteInfo).collect(Collectors.toList()))
+			.nextCursor(nextCursor)
+			.hasNext(hasNext)
+			.totalCount(includeTotal ? siteRepository.countByUser_Id(userId) : null)
+			.build();
+	}
+
 	/**
 	 * 사업장 생성
 	 *
@@ -103,6 +166,8 @@ public class SiteService {
 			.jibunAddress(request.getJibunAddress())
 			.latitude(request.getLatitude())
 			.longitude(request.getLongitude())
+			.regionCode(adminRegionResolver.resolveRegionCode(request.getLatitude(), request.getLongitude())
+				.orElse(null))
 			.type(request.getType());
 
 		// 건물 정보가 있으면 추가
@@ -121,7 +186,7 @@ public class SiteService {
 		Site savedSite = siteRepository.save(site);
 		log.info("Site created successfully: {}", savedSite.getId());
 
-		return SiteResponse.SiteInfo.builder()
+		SiteResponse.SiteInfo siteInfo = SiteResponse.SiteInfo.builder()
 			.siteId(savedSite.getId())
 			.siteName(savedSite.getName())
 			.latitude(savedSite.getLatitude())
@@ -130,6 +195,9 @@ public class SiteService {
 			.roadAddress(savedSite.getRoadAddress())
 			.siteType(savedSite.getType())
 			.build();
+		siteSearchService.onSiteSaved(userId, siteInfo);
+
+		return siteInfo;
 	}
 
 	/**
@@ -150,6 +218,9 @@ public class SiteService {
 		Site site = siteRepository.findByIdAndUser(siteId, user)
 			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SITE_NOT_FOUND));
 
+		BigDecimal previousLatitude = site.getLatitude();
+		BigDecimal previousLongitude = site.getLongitude();
+
 		// 수정 가능한 필드만 업데이트
 		if (request.getName() != null) {
 			site.setName(request.getName());
@@ -170,7 +241,21 @@ public class SiteService {
 			site.setType(request.getType());
 		}
 
-		// 건물 정보 업데이트
+		// 경계 색인이 로드된 경우에만 다시 계산 (미로드/비활성 상태의 빈 결과로 기존 코드를 지우지 않음)
+		// 좌표가 실제로 바뀌면 경계 밖일 때 이전 코드를 남기지 않고 비우고, 코드가 없던 사업장은 채움
+		if (adminRegionResolver.isLoaded()) {
+			if (!sameCoordinate(previousLatitude, site.getLatitude())
+				|| !sameCoordinate(previousLongitude, site.getLongitude())) {
+				site.setRegionCode(adminRegionResolver.resolveRegionCode(site.getLatitude(), site.getLongitude())
+					.orElse(null));
+			} else if (site.getRegionCode() == null) {
+				adminRegionResolver.resolveRegionCode(site.getLatitude(), site.getLongitude())
+					.ifPresent(site::setRegionCode);
+			}
+		}
+
+		// 건물 정보 업데이트 (변경 전 값은 취약성 보정에 사용)
+		BuildingProfile previousBuilding = BuildingProfile.of(site);
 		if (request.getBuildingInfo() != null) {
 			BuildingInfo buildingInfo = request.getBuildingInfo();
 			if (buildingInfo.getBuildingAge() != null) {
@@ -190,7 +275,7 @@ public class SiteService {
 		Site savedSite = siteRepository.save(site);
 		log.info("Site updated successfully: {}", siteId);
 
-		return SiteResponse.SiteInfo.builder()
+		SiteResponse.SiteInfo siteInfo = SiteResponse.SiteInfo.builder()
 			.siteId(savedSite.getId())
 			.siteName(savedSite.getName())
 			.latitude(savedSite.getLatitude())
@@ -199,6 +284,12 @@ public class SiteService {
 			.roadAddress(savedSite.getRoadAddress())
 			.siteType(savedSite.getType())
 			.build();
+		siteSearchService.onSiteSaved(userId, siteInfo);
+		climateSimulationCache.evictSite(siteId);
+		locationRecommendationRefresher.onSiteUpdated(siteId);
+		buildingVulnerabilityRecomputer.onBuildingInfoChanged(siteId, previousBuilding, BuildingProfile.of(savedSite));
+
+		return siteInfo;
 	}
 
 	/**
@@ -245,7 +336,63 @@ public class SiteService {
 		Site site = siteRepository.findByIdAndUser(siteId, user)
 			.orElseThrow(() -> new ResourceNotFoundException(ErrorCode.SITE_NOT_FOUND));
 
+		analysisResultStore.deleteBySite(siteId);
 		siteRepository.delete(site);
+		siteSearchService.onSiteDeleted(userId, siteId);
+		climateSimulationCache.evictSite(siteId);
 		log.info("Site deleted successfully: {}", siteId);
 	}
+
+	/**
+	 * 프로젝션을 응답 DTO로 변환
+	 */
+	static SiteResponse.SiteInfo toSiteInfo(SiteSummary summary) {
+		return SiteResponse.SiteInfo.builder()
+			.siteId(summary.getSiteId())
+			.siteName(summary.getSiteName())
+			.latitude(summary.getLatitude())
+			.longitude(summary.getLongitude())
+			.jibunAddress(summary.getJibunAddress())
+			.roadAddress(summary.getRoadAddress())
+			.siteType(summary.getSiteType())
+			.build();
+	}
+
+	/**
+	 * 좌표 값 비교 (scale 무시, 37.5 == 37.50000000)
+	 */
+	private static boolean sameCoordinate(BigDecimal previous, BigDecimal current) {
+		if (previous == null || current == null) {
+			return previous == current;
+		}
+		return previous.compareTo(current) == 0;
+	}
+
+	/**
+	 * 키셋 커서 인코딩 (name + 구분자 + id → Base64 URL-safe)
+	 */
+	static String encodeCursor(String name, UUID id) {
+		String raw = name + CURSOR_SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 키셋 커서 디코딩
+	 *
+	 * @return [name, id]
+	 */
+	static String[] decodeCursor(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(CURSOR_SEPARATOR);
+			if (separator < 0) {
+				throw new IllegalArgumentException("separator not found");
+			}
+			String id = raw.substring(separator + 1);
+			UUID.fromString(id);
+			return new String[] {raw.substring(0, separator), id};
+		} catch (IllegalArgumentException e) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다");
+		}
+	}
 }
@@ -0,0 +1,74 @@
+package com.skax.physicalrisk.service.site;
+
+/**
+ * 사업장 검색용 텍스트 정규화
+ *
+ * 최종 수정일: 2026-10-18
+ * 파일 버전: v01
+ *
+ * 소문자 변환 후 공백/구두점을 제거하고, 옵션에 따라 한글 음절을
+ * 호환 자모(초성/중성/종성)로 분해한다.
+ * 분해하면 "성남" → "ㅅㅓㅇㄴㅏㅁ"이 되어 입력 중인 "성ㄴ" 같은
+ * 미완성 음절로도 매칭되고, 2음절 지명도 trigram을 충분히 만들 수 있다.
+ *
+ * @author SKAX Team
+ */
+final class SiteTextNormalizer {
+
+	private static final int HANGUL_BASE = 0xAC00;
+	private static final int HANGUL_LAST = 0xD7A3;
+	private static final int JUNG_COUNT = 21;
+	private static final int JONG_COUNT = 28;
+
+	private static final char[] CHO = {
+		'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+		'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+	private static final char[] JUNG = {
+		'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+		'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+	};
+	private static final char[] JONG = {
+		0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ',
+		'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ',
+		'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+
+	private final boolean decomposeHangul;
+
+	SiteTextNormalizer(boolean decomposeHangul) {
+		this.decomposeHangul = decomposeHangul;
+	}
+
+	/**
+	 * 검색/색인 공통 정규화
+	 *
+	 * @param text 원문 (null 허용)
+	 * @return 정규화된 문자열 (null이면 빈 문자열)
+	 */
+	String normalize(String text) {
+		if (text == null || text.isEmpty()) {
+			return "";
+		}
+
+		StringBuilder sb = new StringBuilder(decomposeHangul ? text.length() * 3 : text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (!Character.isLetterOrDigit(c)) {
+				continue;
+			}
+			if (decomposeHangul && c >= HANGUL_BASE && c <= HANGUL_LAST) {
+				int offset = c - HANGUL_BASE;
+				sb.append(CHO[offset / (JUNG_COUNT * JONG_COUNT)]);
+				sb.append(JUNG[(offset % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+				char jong = JONG[offset % JONG_COUNT];
+				if (jong != 0) {
+					sb.append(jong);
+				}
+			} else {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,35 @@
+-- analysis_results.analysis_data jsonb 전환 + GIN 인덱스 (AnalysisResult)
+-- ddl-auto: update/validate는 기존 json 컬럼 타입을 바꾸지 않으므로 여기서 변환한다.
+-- JPA @Index로는 GIN 인덱스를 선언할 수 없으므로 인덱스도 여기서 만든다. 실패하면 기동이 중단된다.
+-- 이 스크립트는 JPA보다 먼저 실행되므로 테이블이 아직 없으면(ddl-auto: update 신규 DB) 건너뛰고,
+-- 이미 jsonb면 ALTER(ACCESS EXCLUSIVE 잠금)를 실행하지 않는다.
+-- 사업장당 1행(AnalysisResultStore.upsert의 ON CONFLICT (site_id))을 위한 unique 인덱스는 처음 한 번만
+-- 사업장별 최신 행을 남기고 중복 행을 지운 뒤 만든다 (신규 DB에서는 JPA @Index로 생성).
+-- ; 단위로 나눠 실행되므로 DO 본문은 $$ 대신 작은따옴표 문자열로 쓴다.
+DO '
+BEGIN
+    IF to_regclass(''analysis_results'') IS NULL THEN
+        RETURN;
+    END IF;
+
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_schema = current_schema()
+          AND table_name = ''analysis_results''
+          AND column_name = ''analysis_data''
+          AND data_type <> ''jsonb''
+    ) THEN
+        ALTER TABLE analysis_results ALTER COLUMN analysis_data TYPE jsonb USING analysis_data::jsonb;
+    END IF;
+
+    CREATE INDEX IF NOT EXISTS idx_analysis_results_data_gin ON analysis_results USING GIN (analysis_data jsonb_path_ops);
+
+    IF to_regclass(''uk_analysis_results_site'') IS NULL THEN
+        DELETE FROM analysis_results r
+        USING analysis_results newer
+        WHERE newer.site_id = r.site_id
+          AND (COALESCE(newer.analyzed_at, ''-infinity''), newer.id) > (COALESCE(r.analyzed_at, ''-infinity''), r.id);
+        CREATE UNIQUE INDEX uk_analysis_results_site ON analysis_results (site_id);
+    END IF;
+END
+';
@@ -0,0 +1,47 @@
+-- 이전 후보지 (CandidateSite)
+-- ddl-auto: validate 환경에서 JPA 검증 전에 실행되므로 반복 실행해도 안전하게 작성한다.
+CREATE TABLE IF NOT EXISTS candidate_sites (
+    id             UUID         NOT NULL PRIMARY KEY,
+    site_id        UUID         NOT NULL,
+    candidate_rank INTEGER      NOT NULL,
+    candidate_id   UUID,
+    name           VARCHAR(255),
+    road_address   VARCHAR(500),
+    jibun_address  VARCHAR(500),
+    latitude       NUMERIC(10, 8),
+    longitude      NUMERIC(11, 8),
+    risk_score     INTEGER,
+    risks          JSONB,
+    aal            REAL,
+    aal_scores     JSONB,
+    pros           TEXT,
+    cons           TEXT,
+    stale          BOOLEAN      NOT NULL,
+    generated_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_candidate_sites_site_rank ON candidate_sites (site_id, candidate_rank);
+CREATE INDEX IF NOT EXISTS idx_candidate_sites_location ON candidate_sites (latitude, longitude);
+
+-- sites FK (ON DELETE CASCADE, CandidateSite.site @OnDelete)
+-- 신규 DB에서는 sites가 JPA(ddl-auto: update)로 나중에 만들어지므로 sites가 있을 때만 추가하고,
+-- 그 경우에는 Hibernate가 매핑의 FK를 만든다. 같은 컬럼의 FK가 이미 있으면 건너뛴다.
+DO '
+BEGIN
+    IF to_regclass(''sites'') IS NULL THEN
+        RETURN;
+    END IF;
+
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.contype = ''f''
+          AND c.conrelid = ''candidate_sites''::regclass
+          AND c.confrelid = ''sites''::regclass
+          AND a.attname = ''site_id''
+    ) THEN
+        ALTER TABLE candidate_sites ADD CONSTRAINT fk_candidate_sites_site
+            FOREIGN KEY (site_id) REFERENCES sites (id) ON DELETE CASCADE;
+    END IF;
+END
+';
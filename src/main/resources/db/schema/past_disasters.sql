@@ -0,0 +1,18 @@
+-- 과거 재해 이력 (PastDisaster, FastAPI /api/past 미러)
+-- ddl-auto: validate 환경에서 JPA 검증 전에 실행되므로 반복 실행해도 안전하게 작성한다.
+CREATE TABLE IF NOT EXISTS past_disasters (
+    id            INTEGER      NOT NULL PRIMARY KEY,
+    event_year    INTEGER,
+    alert_date    VARCHAR(32),
+    disaster_type VARCHAR(50),
+    severity      VARCHAR(50),
+    region        TEXT,
+    source_order  INTEGER,
+    synced_at     TIMESTAMP(6) NOT NULL
+);
+
+-- ddl-auto: update 환경에서 먼저 만들어진 테이블
+ALTER TABLE past_disasters ADD COLUMN IF NOT EXISTS source_order INTEGER;
+
+CREATE INDEX IF NOT EXISTS idx_past_disasters_year_type_severity ON past_disasters (event_year, disaster_type, severity, id);
+CREATE INDEX IF NOT EXISTS idx_past_disasters_type_severity ON past_disasters (disaster_type, severity, id);
@@ -0,0 +1,32 @@
+-- 리포트 추가 데이터 분할 업로드 세션/청크 (ReportUpload, ReportUploadChunk)
+-- ddl-auto: validate 환경에서 JPA 검증 전에 실행되므로 반복 실행해도 안전하게 작성한다.
+-- 만료/완료된 세션은 정리 대상이므로 사용자/사업장/세션에 FK를 두지 않는다.
+CREATE TABLE IF NOT EXISTS report_uploads (
+    id           UUID         NOT NULL PRIMARY KEY,
+    user_id      UUID         NOT NULL,
+    site_id      UUID         NOT NULL,
+    file_name    VARCHAR(255) NOT NULL,
+    content_type VARCHAR(100),
+    total_size   BIGINT       NOT NULL,
+    chunk_size   INTEGER      NOT NULL,
+    chunk_count  INTEGER      NOT NULL,
+    sha256       VARCHAR(64),
+    status       VARCHAR(20)  NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    expires_at   TIMESTAMP(6) NOT NULL,
+    completed_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_report_upload_user_id ON report_uploads (user_id);
+CREATE INDEX IF NOT EXISTS idx_report_upload_expires_at ON report_uploads (expires_at);
+
+CREATE TABLE IF NOT EXISTS report_upload_chunks (
+    id           UUID         NOT NULL PRIMARY KEY,
+    upload_id    UUID         NOT NULL,
+    chunk_index  INTEGER      NOT NULL,
+    chunk_offset BIGINT       NOT NULL,
+    size         BIGINT       NOT NULL,
+    sha256       VARCHAR(64)  NOT NULL,
+    received_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_report_upload_chunk UNIQUE (upload_id, chunk_index)
+);
@@ -0,0 +1,31 @@
+-- reports.content_hash (Report.contentHash, ETag)
+-- reports는 FastAPI와 공유하는 기존 테이블이므로 컬럼만 추가한다.
+-- 이 스크립트는 JPA보다 먼저 실행되므로 reports가 아직 없으면(신규 DB) 컬럼/트리거/백필을 모두 건너뛴다.
+-- 그 외의 실패는 기동을 중단한다 (해시가 갱신되지 않으면 ETag가 바뀐 리포트를 가리지 못함).
+-- ; 단위로 나눠 실행되므로 함수/DO 본문은 $$ 대신 작은따옴표 문자열로 쓴다.
+ALTER TABLE IF EXISTS reports ADD COLUMN IF NOT EXISTS content_hash VARCHAR(32);
+
+-- FastAPI가 reports에 직접 저장(재생성)하므로 report_content가 바뀔 때마다 트리거로 MD5를 갱신한다.
+CREATE OR REPLACE FUNCTION reports_content_hash() RETURNS trigger LANGUAGE plpgsql AS '
+BEGIN
+    NEW.content_hash := md5(NEW.report_content::text);
+    RETURN NEW;
+END
+';
+
+-- 트리거 생성 후 해시가 없는 기존 행 백필
+DO '
+BEGIN
+    IF to_regclass(''reports'') IS NULL THEN
+        RETURN;
+    END IF;
+
+    DROP TRIGGER IF EXISTS trg_reports_content_hash ON reports;
+    CREATE TRIGGER trg_reports_content_hash
+        BEFORE INSERT OR UPDATE OF report_content ON reports
+        FOR EACH ROW EXECUTE FUNCTION reports_content_hash();
+
+    UPDATE reports SET content_hash = md5(report_content::text)
+    WHERE content_hash IS NULL AND report_content IS NOT NULL;
+END
+';
@@ -0,0 +1,70 @@
+package com.skax.physicalrisk.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.dto.response.simulation.ClimateSimulationResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 포맷별 인코딩/디코딩 시간 (JMH)
+ *
+ * 전국 시군구 규모(약 3,500개 × 76년) 기후 시뮬레이션 응답 1건의 평균 직렬화/파싱 시간.
+ * 크기 비교와 왕복 검증은 WireFormatTest에서 한다.
+ * 실행: mvn test-compile 후 main 실행 (surefire 대상 아님)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+	@Param({"json", "smile", "cbor"})
+	public String format;
+
+	private ObjectMapper mapper;
+	private ClimateSimulationResponse payload;
+	private byte[] encoded;
+
+	@Setup
+	public void setUp() throws Exception {
+		mapper = switch (format) {
+			case "smile" -> new ObjectMapper(WireFormatConfig.smileFactory());
+			case "cbor" -> new ObjectMapper(WireFormatConfig.cborFactory());
+			default -> new ObjectMapper();
+		};
+		payload = WireFormatTest.climateSimulationPayload(3500, 50);
+		encoded = mapper.writeValueAsBytes(payload);
+	}
+
+	@Benchmark
+	public byte[] encode() throws Exception {
+		return mapper.writeValueAsBytes(payload);
+	}
+
+	@Benchmark
+	public JsonNode decode() throws Exception {
+		return mapper.readTree(encoded);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder()
+			.include(WireFormatBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,122 @@
+package com.skax.physicalrisk.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.dto.response.simulation.ClimateSimulationResponse;
+import com.skax.physicalrisk.dto.response.simulation.RegionScoreMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 포맷별 왕복 및 전송 크기 검증
+ *
+ * 전국 시군구 규모(약 3,500개 × 76년) 기후 시뮬레이션 응답을 JSON, Smile(shared string), CBOR로
+ * 직렬화한 뒤 다시 읽어 행정구역 점수와 사업장 값이 유지되는지, Smile이 JSON보다 작은지 확인한다.
+ * 바이너리 포맷은 float/UUID를 고유 타입으로 기록하므로 float 값과 UUID 바이트로 비교한다.
+ * 인코딩/디코딩 시간은 WireFormatBenchmark(JMH)에서 측정한다.
+ */
+class WireFormatTest {
+
+	private static final int REGION_COUNT = 3500;
+	private static final int SITE_COUNT = 50;
+
+	private final ClimateSimulationResponse payload = climateSimulationPayload(REGION_COUNT, SITE_COUNT);
+
+	@Test
+	void binaryFormatsRoundTripClimateSimulation() throws Exception {
+		assertRoundTrip(new ObjectMapper());
+		assertRoundTrip(new ObjectMapper(WireFormatConfig.smileFactory()));
+		assertRoundTrip(new ObjectMapper(WireFormatConfig.cborFactory()));
+	}
+
+	@Test
+	void smileIsSmallerThanJson() throws Exception {
+		int json = new ObjectMapper().writeValueAsBytes(payload).length;
+		int smile = new ObjectMapper(WireFormatConfig.smileFactory()).writeValueAsBytes(payload).length;
+
+		assertThat(smile).isLessThan(json);
+	}
+
+	private void assertRoundTrip(ObjectMapper mapper) throws IOException {
+		JsonNode decoded = mapper.readTree(mapper.writeValueAsBytes(payload));
+
+		assertThat(decoded.get("scenario").asText()).isEqualTo("SSP2-4.5");
+		JsonNode regionScores = decoded.get("regionScores");
+		assertThat(regionScores.size()).isEqualTo(REGION_COUNT);
+		assertThat((float) regionScores.get("11000").get("2025").doubleValue()).isEqualTo(score(0, 2025));
+		assertThat((float) regionScores.get("14499").get("2100").doubleValue()).isEqualTo(score(3499, 2100));
+
+		JsonNode sites = decoded.get("sites");
+		assertThat(sites.size()).isEqualTo(SITE_COUNT);
+		JsonNode last = sites.get(SITE_COUNT - 1);
+		assertThat(uuid(last.get("siteId"))).isEqualTo(siteId(SITE_COUNT - 1));
+		assertThat(last.get("siteName").asText()).isEqualTo("사업장 " + (SITE_COUNT - 1));
+		assertThat(last.get("aalByYear").get("2100").doubleValue()).isEqualTo(aal(SITE_COUNT - 1, 2100));
+	}
+
+	/**
+	 * 텍스트 포맷은 문자열, 바이너리 포맷은 16바이트로 기록된 UUID
+	 */
+	private static UUID uuid(JsonNode node) throws IOException {
+		if (node.isBinary()) {
+			ByteBuffer bytes = ByteBuffer.wrap(node.binaryValue());
+			return new UUID(bytes.getLong(), bytes.getLong());
+		}
+		return UUID.fromString(node.asText());
+	}
+
+	static ClimateSimulationResponse climateSimulationPayload(int regionCount, int siteCount) {
+		String[] regionCodes = new String[regionCount];
+		for (int region = 0; region < regionCount; region++) {
+			regionCodes[region] = String.valueOf(11000 + region);
+		}
+		RegionScoreMatrix regionScores = new RegionScoreMatrix(regionCodes, 2025, 2100, false);
+		for (int region = 0; region < regionCount; region++) {
+			for (int year = 2025; year <= 2100; year++) {
+				regionScores.set(region, year, score(region, year));
+			}
+		}
+
+		List<ClimateSimulationResponse.SiteSimulationData> sites = new ArrayList<>();
+		for (int site = 0; site < siteCount; site++) {
+			Map<String, Double> aalByYear = new LinkedHashMap<>();
+			for (int year = 2025; year <= 2100; year++) {
+				aalByYear.put(String.valueOf(year), aal(site, year));
+			}
+			sites.add(ClimateSimulationResponse.SiteSimulationData.builder()
+				.siteId(siteId(site))
+				.siteName("사업장 " + site)
+				.regionCode(regionCodes[site % regionCount])
+				.aalByYear(aalByYear)
+				.build());
+		}
+
+		return ClimateSimulationResponse.builder()
+			.scenario("SSP2-4.5")
+			.hazardType("극심한 고온")
+			.regionScores(regionScores)
+			.sites(sites)
+			.build();
+	}
+
+	private static float score(int region, int year) {
+		return 10f + (region * 31 + year) % 900 / 10f;
+	}
+
+	private static double aal(int site, int year) {
+		return (site + year) % 500 / 10.0;
+	}
+
+	private static UUID siteId(int site) {
+		return UUID.nameUUIDFromBytes(new byte[] {(byte) site});
+	}
+}
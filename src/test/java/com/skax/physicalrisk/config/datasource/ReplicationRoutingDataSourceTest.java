@@ -0,0 +1,111 @@
+package com.skax.physicalrisk.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Primary/Replica 라우팅 검증
+ *
+ * 두 개의 H2 인메모리 DB를 Primary/Replica로 사용하여
+ * 각 DB에 저장된 이름으로 실제 라우팅 대상을 확인한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+	private DriverManagerDataSource primary;
+	private DriverManagerDataSource replica;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readOnlyTx;
+	private TransactionTemplate writeTx;
+
+	@BeforeEach
+	void setUp() {
+		primary = h2("routing_primary");
+		replica = h2("routing_replica");
+		new JdbcTemplate(primary).execute("CREATE TABLE IF NOT EXISTS db_marker (name VARCHAR(20))");
+		new JdbcTemplate(primary).execute("MERGE INTO db_marker KEY (name) VALUES ('primary')");
+		new JdbcTemplate(replica).execute("CREATE TABLE IF NOT EXISTS db_marker (name VARCHAR(20))");
+		new JdbcTemplate(replica).execute("MERGE INTO db_marker KEY (name) VALUES ('replica')");
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionGoesToReplica() {
+		setUpRouting("SELECT 0");
+
+		assertThat(currentDatabase(readOnlyTx)).isEqualTo("replica");
+		assertThat(currentDatabase(writeTx)).isEqualTo("primary");
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimary() {
+		setUpRouting("SELECT 60");
+
+		assertThat(currentDatabase(readOnlyTx)).isEqualTo("primary");
+	}
+
+	@Test
+	void readsAfterWriteStickToPrimaryForSameUser() {
+		setUpRouting("SELECT 0");
+
+		authenticate("user-a");
+		currentDatabase(writeTx);
+		assertThat(currentDatabase(readOnlyTx)).isEqualTo("primary");
+
+		authenticate("user-b");
+		assertThat(currentDatabase(readOnlyTx)).isEqualTo("replica");
+	}
+
+	private void setUpRouting(String lagQuery) {
+		ReplicaLagGuard lagGuard = new ReplicaLagGuard(replica, lagQuery, 5);
+		lagGuard.checkReplicaLag();
+
+		ReplicationRoutingDataSource routing =
+			new ReplicationRoutingDataSource(lagGuard, new ReadYourWritesTracker(Duration.ofSeconds(30)));
+		routing.setTargetDataSources(Map.<Object, Object>of(
+			DataSourceType.PRIMARY, primary,
+			DataSourceType.REPLICA, replica
+		));
+		routing.setDefaultTargetDataSource(primary);
+		routing.afterPropertiesSet();
+
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		writeTx = new TransactionTemplate(transactionManager);
+		readOnlyTx = new TransactionTemplate(transactionManager);
+		readOnlyTx.setReadOnly(true);
+	}
+
+	private String currentDatabase(TransactionTemplate transactionTemplate) {
+		return transactionTemplate.execute(status ->
+			jdbcTemplate.queryForObject("SELECT name FROM db_marker", String.class));
+	}
+
+	private void authenticate(String username) {
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(username, null, List.of()));
+	}
+
+	private static DriverManagerDataSource h2(String name) {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+	}
+}
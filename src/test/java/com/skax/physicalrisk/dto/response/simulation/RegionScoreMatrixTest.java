@@ -0,0 +1,55 @@
+package com.skax.physicalrisk.dto.response.simulation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 행정구역 점수 행렬 직렬화 검증
+ *
+ * 기본 형태는 기존 Map<String, Map<String, Double>> 직렬화 결과와 같아야 하고,
+ * compact 형태는 {regions, years, values} 배열로 기록되어야 한다.
+ */
+class RegionScoreMatrixTest {
+
+	private static final int START_YEAR = 2025;
+	private static final int END_YEAR = 2100;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void defaultShapeMatchesLegacyMapJson() throws Exception {
+		RegionScoreMatrix matrix = new RegionScoreMatrix(new String[] {"11010", "26110"}, START_YEAR, END_YEAR, false);
+		matrix.set(0, 2025, 45.25f);
+		matrix.set(0, 2100, 89.5f);
+		matrix.set(1, 2050, 12.75f);
+		matrix.set(1, 2200, 1.0f); // 범위 밖 연도는 무시
+
+		Map<String, Map<String, Double>> legacy = new LinkedHashMap<>();
+		legacy.put("11010", new LinkedHashMap<>(Map.of("2025", 45.25)));
+		legacy.get("11010").put("2100", 89.5);
+		legacy.put("26110", Map.of("2050", 12.75));
+
+		assertThat(objectMapper.readTree(objectMapper.writeValueAsString(matrix)))
+			.isEqualTo(objectMapper.readTree(objectMapper.writeValueAsString(legacy)));
+		assertThat(matrix.toMap()).isEqualTo(legacy);
+	}
+
+	@Test
+	void compactShapeWritesParallelArrays() throws Exception {
+		RegionScoreMatrix matrix = new RegionScoreMatrix(new String[] {"11010"}, 2025, 2027, true);
+		matrix.set(0, 2025, 1.5f);
+		matrix.set(0, 2027, 3.5f);
+
+		JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(matrix));
+
+		assertThat(json.get("regions").toString()).isEqualTo("[\"11010\"]");
+		assertThat(json.get("years").toString()).isEqualTo("[2025,2026,2027]");
+		assertThat(json.get("values").toString()).isEqualTo("[[1.5,null,3.5]]");
+	}
+}
@@ -0,0 +1,154 @@
+package com.skax.physicalrisk.service.analysis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.domain.analysis.entity.AnalysisResult;
+import com.skax.physicalrisk.domain.analysis.repository.AnalysisResultRepository;
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.service.site.SiteAccessService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 분석 결과 적재/조회 검증
+ *
+ * 적재 시 받은 종류만 잠긴 행에서 교체되어 이번에 받지 못한 종류가 남는지, 저장된 행이 없으면 ON CONFLICT upsert로 넣는지,
+ * 분석 완료 적재가 실패한 종류를 빼고 저장하는지, 조회가 저장된 결과를 먼저 쓰는지,
+ * 건물 정보 보정이 FastAPI 원본과 분리 저장되어 조회 시에만 적용되는지 확인한다.
+ */
+class AnalysisResultStoreTest {
+
+	private final UUID siteId = UUID.randomUUID();
+	private final AnalysisResultRepository repository = mock(AnalysisResultRepository.class);
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AnalysisResultStore store = new AnalysisResultStore(repository, objectMapper);
+	private final FastApiClient fastApiClient = mock(FastApiClient.class);
+
+	@Test
+	void upsertKeepsKindsMissingFromNewFetch() {
+		AnalysisResult stored = AnalysisResult.builder()
+			.analysisData(new HashMap<>(Map.of(
+				AnalysisResultStore.PHYSICAL_RISK, Map.of("version", 1),
+				AnalysisResultStore.AAL, Map.of("version", 1),
+				AnalysisResultStore.VULNERABILITY, Map.of("version", 1))))
+			.build();
+		when(repository.findFirstForUpdateBySite_IdOrderByAnalyzedAtDesc(siteId)).thenReturn(Optional.of(stored));
+
+		store.upsert(siteId, Map.of(AnalysisResultStore.PHYSICAL_RISK, Map.of("version", 2)));
+
+		assertThat(stored.getAnalysisData())
+			.containsEntry(AnalysisResultStore.PHYSICAL_RISK, Map.of("version", 2))
+			.containsEntry(AnalysisResultStore.AAL, Map.of("version", 1))
+			.containsEntry(AnalysisResultStore.VULNERABILITY, Map.of("version", 1));
+		verify(repository, never()).deleteBySiteId(any());
+		verify(repository, never()).findFirstBySite_IdOrderByAnalyzedAtDesc(any());
+		verify(repository, never()).upsertAnalysisData(any(), any(), any(), any());
+	}
+
+	@Test
+	void upsertInsertsOnConflictWhenNothingStored() throws Exception {
+		when(repository.findFirstForUpdateBySite_IdOrderByAnalyzedAtDesc(siteId)).thenReturn(Optional.empty());
+
+		store.upsert(siteId, Map.of(AnalysisResultStore.AAL, Map.of("version", 1)));
+
+		ArgumentCaptor<String> analysisData = ArgumentCaptor.forClass(String.class);
+		verify(repository).upsertAnalysisData(any(UUID.class), eq(siteId), analysisData.capture(), any());
+		verify(repository, never()).save(any());
+		assertThat(objectMapper.readTree(analysisData.getValue()))
+			.isEqualTo(objectMapper.valueToTree(Map.of(AnalysisResultStore.AAL, Map.of("version", 1))));
+	}
+
+	@Test
+	void materializeStoresOnlyFetchedKinds() {
+		SiteAccessService siteAccessService = mock(SiteAccessService.class);
+		AnalysisResultStore mockStore = mock(AnalysisResultStore.class);
+		ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+		UUID userId = UUID.randomUUID();
+		when(siteAccessService.getSites(userId)).thenReturn(List.of(Site.builder().id(siteId).build()));
+		when(fastApiClient.getPhysicalRiskScores(siteId, null, null)).thenReturn(Mono.just(Map.of("scenarios", List.of())));
+		when(fastApiClient.getFinancialImpact(siteId, null, null)).thenReturn(Mono.error(new IllegalStateException("down")));
+		when(fastApiClient.getVulnerability(siteId)).thenReturn(Mono.just(Map.of("data", Map.of())));
+
+		new AnalysisResultMaterializer(fastApiClient, siteAccessService, mockStore, publisher, 2)
+			.materializeForUser(userId);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<String, Object>> payloads = ArgumentCaptor.forClass(Map.class);
+		verify(mockStore).upsert(eq(siteId), payloads.capture());
+		assertThat(payloads.getValue())
+			.containsOnlyKeys(AnalysisResultStore.PHYSICAL_RISK, AnalysisResultStore.VULNERABILITY);
+		verify(publisher).publishEvent(new AnalysisResultMaterializer.AnalysisResultsMaterializedEvent(userId, List.of(siteId)));
+	}
+
+	@Test
+	void buildingAdjustmentIsStoredApartAndAppliedOnRead() {
+		Map<String, Object> aal = Map.of("scenarios", List.of(
+			Map.of("scenario", "SSP2-4.5", "riskType", "태풍", "longTerm", Map.of("point1", 1.0))));
+		AnalysisResult stored = AnalysisResult.builder()
+			.analysisData(new HashMap<>(Map.of(AnalysisResultStore.AAL, aal)))
+			.build();
+		when(repository.findFirstForUpdateBySite_IdOrderByAnalyzedAtDesc(siteId)).thenReturn(Optional.of(stored));
+		when(repository.findFirstBySite_IdOrderByAnalyzedAtDesc(siteId)).thenReturn(Optional.of(stored));
+		BuildingVulnerabilityRecomputer.BuildingProfile before =
+			new BuildingVulnerabilityRecomputer.BuildingProfile(20, "철근콘크리트", false, null);
+		BuildingVulnerabilityRecomputer.BuildingProfile after =
+			new BuildingVulnerabilityRecomputer.BuildingProfile(20, "철근콘크리트", true, null);
+
+		store.updateBuildingAdjustment(siteId, adjustment -> BuildingVulnerabilityModel.adjustment(before, after));
+		Map<String, Object> adjusted = store.findAdjustedPayload(siteId, AnalysisResultStore.AAL, () -> null);
+
+		assertThat(stored.getAnalysisData())
+			.containsEntry(AnalysisResultStore.AAL, aal)
+			.containsKey(AnalysisResultStore.BUILDING_ADJUSTMENT);
+		Map<?, ?> scenario = (Map<?, ?>) ((List<?>) adjusted.get("scenarios")).get(0);
+		assertThat(((Number) ((Map<?, ?>) scenario.get("longTerm")).get("point1")).doubleValue()).isEqualTo(0.9);
+	}
+
+	@Test
+	void termSlicesReadStoredPayloadBeforeFastApi() {
+		AnalysisResult stored = AnalysisResult.builder()
+			.analysisData(Map.of(AnalysisResultStore.AAL, Map.of("scenarios", List.of(), "reason", "stored")))
+			.build();
+		when(repository.findFirstBySite_IdOrderByAnalyzedAtDesc(siteId)).thenReturn(Optional.of(stored));
+
+		TermSlices<Double> slices = termSliceCache().financialImpact(siteId);
+
+		assertThat(slices.note()).isEqualTo("stored");
+		verify(fastApiClient, never()).getFinancialImpact(any(), any(), any());
+	}
+
+	@Test
+	void termSlicesFallBackToFastApiWhenKindNotStored() {
+		AnalysisResult stored = AnalysisResult.builder()
+			.analysisData(Map.of(AnalysisResultStore.PHYSICAL_RISK, Map.of("scenarios", List.of())))
+			.build();
+		when(repository.findFirstBySite_IdOrderByAnalyzedAtDesc(siteId)).thenReturn(Optional.of(stored));
+		when(fastApiClient.getFinancialImpact(siteId, null, null))
+			.thenReturn(Mono.just(Map.of("scenarios", List.of(), "reason", "remote")));
+
+		TermSlices<Double> slices = termSliceCache().financialImpact(siteId);
+
+		assertThat(slices.note()).isEqualTo("remote");
+		verify(fastApiClient).getFinancialImpact(siteId, null, null);
+	}
+
+	private AnalysisTermSliceCache termSliceCache() {
+		return new AnalysisTermSliceCache(fastApiClient, store, new ObjectMapper(), 100, 60);
+	}
+}
@@ -0,0 +1,154 @@
+package com.skax.physicalrisk.service.analysis;
+
+import com.skax.physicalrisk.service.analysis.BuildingVulnerabilityRecomputer.BuildingAttribute;
+import com.skax.physicalrisk.service.analysis.BuildingVulnerabilityRecomputer.BuildingProfile;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 건물 정보 변경 시 로컬 보정 검증
+ *
+ * 바뀐 속성이 영향을 주는 위험 유형의 AAL/V만 환산되고, 보정은 FastAPI 원본과 분리된 키에
+ * 기준 건물 정보와 함께 저장되어 여러 번 수정해도 비율이 누적되지 않는지 확인한다.
+ */
+class BuildingVulnerabilityRecomputerTest {
+
+	private static final BuildingProfile BEFORE = new BuildingProfile(20, "철근콘크리트", false, new BigDecimal("1000"));
+
+	private final AnalysisResultStore store = mock(AnalysisResultStore.class);
+	private final AnalysisTermSliceCache termSliceCache = mock(AnalysisTermSliceCache.class);
+	private final BuildingVulnerabilityRecomputer recomputer =
+		new BuildingVulnerabilityRecomputer(store, termSliceCache, Runnable::run);
+
+	@Test
+	void rescalesOnlyAffectedHazardScenarios() {
+		Map<String, Object> aal = Map.of(
+			"reason", "stored",
+			"scenarios", List.of(
+				aalScenario("태풍", 1.0),
+				aalScenario("가뭄", 2.0),
+				aalScenario("폭염", 3.0)));
+		BuildingProfile after = new BuildingProfile(20, "철근콘크리트", true, new BigDecimal("1000"));
+
+		Map<String, Object> adjusted = BuildingVulnerabilityModel.apply(AnalysisResultStore.AAL, aal,
+			BuildingVulnerabilityModel.adjustment(BEFORE, after));
+
+		assertThat(adjusted).containsEntry("reason", "stored");
+		List<?> scenarios = (List<?>) adjusted.get("scenarios");
+		// 내진설계는 태풍에만 반영 (0.9)
+		assertThat(longTermPoint(scenarios.get(0))).isCloseTo(0.9, within(1e-9));
+		assertThat(scenarios.get(1)).isEqualTo(aalScenario("가뭄", 2.0));
+		assertThat(scenarios.get(2)).isEqualTo(aalScenario("폭염", 3.0));
+		assertThat(longTermPoint(((List<?>) aal.get("scenarios")).get(0))).isEqualTo(1.0);
+	}
+
+	@Test
+	void scalesVulnerabilityAndTotalButNotHazardOrExposure() {
+		Map<String, Object> physicalRisk = Map.of("scenarios", List.of(Map.of(
+			"scenario", "SSP2-4.5",
+			"riskType", "극심한 고온",
+			"longTerm", Map.of("point1", Map.of("total", 24.0, "h", 2.0, "e", 3.0, "v", 4.0)))));
+		BuildingProfile after = new BuildingProfile(40, "철근콘크리트", false, new BigDecimal("1000"));
+
+		Map<String, Object> adjusted = BuildingVulnerabilityModel.apply(AnalysisResultStore.PHYSICAL_RISK, physicalRisk,
+			BuildingVulnerabilityModel.adjustment(BEFORE, after));
+
+		// 연식 계수 1.2 → 1.4
+		Map<?, ?> score = (Map<?, ?>) ((Map<?, ?>) ((Map<?, ?>) ((List<?>) adjusted.get("scenarios")).get(0))
+			.get("longTerm")).get("point1");
+		assertThat((Double) score.get("v")).isCloseTo(4.0 * 1.4 / 1.2, within(1e-9));
+		assertThat((Double) score.get("total")).isCloseTo(24.0 * 1.4 / 1.2, within(1e-9));
+		assertThat(score.get("h")).isEqualTo(2.0);
+		assertThat(score.get("e")).isEqualTo(3.0);
+	}
+
+	@Test
+	void detectsChangedAttributes() {
+		BuildingProfile after = new BuildingProfile(20, "철근콘크리트", false, new BigDecimal("1000.0"));
+		assertThat(after.changedFrom(BEFORE)).isEmpty();
+
+		after = new BuildingProfile(21, "철근콘크리트", false, new BigDecimal("1200"));
+		assertThat(after.changedFrom(BEFORE))
+			.containsExactlyInAnyOrder(BuildingAttribute.BUILDING_AGE, BuildingAttribute.GROSS_FLOOR_AREA);
+	}
+
+	@Test
+	void storesAdjustmentSeparatelyWithoutCompounding() {
+		UUID siteId = UUID.randomUUID();
+		BuildingProfile first = new BuildingProfile(30, "철근콘크리트", false, new BigDecimal("1000"));
+		BuildingProfile second = new BuildingProfile(40, "철근콘크리트", false, new BigDecimal("1000"));
+
+		recomputer.onBuildingInfoChanged(siteId, first, second);
+
+		UnaryOperator<Object> updater = captureUpdater(siteId);
+		// 이전 보정(20년 → 30년)이 있으면 기준은 20년으로 유지
+		Object adjustment = updater.apply(BuildingVulnerabilityModel.adjustment(BEFORE, first));
+		assertThat(BuildingVulnerabilityModel.baseline(adjustment)).isEqualTo(BEFORE);
+		Map<String, Object> adjusted = BuildingVulnerabilityModel.apply(AnalysisResultStore.AAL,
+			Map.of("scenarios", List.of(aalScenario("폭염", 1.0))), adjustment);
+		assertThat(longTermPoint(((List<?>) adjusted.get("scenarios")).get(0))).isCloseTo(1.4 / 1.2, within(1e-9));
+
+		// 보정이 없으면 변경 전 값이 기준
+		assertThat(BuildingVulnerabilityModel.baseline(updater.apply(null))).isEqualTo(first);
+		verify(termSliceCache).evict(siteId);
+	}
+
+	@Test
+	void revertingToBaselineRemovesAdjustment() {
+		UUID siteId = UUID.randomUUID();
+		BuildingProfile edited = new BuildingProfile(20, "목조", false, new BigDecimal("1000"));
+
+		recomputer.onBuildingInfoChanged(siteId, edited, BEFORE);
+
+		assertThat(captureUpdater(siteId).apply(BuildingVulnerabilityModel.adjustment(BEFORE, edited))).isNull();
+	}
+
+	@Test
+	void ignoresEditsThatDoNotChangeBuildingInfo() {
+		recomputer.onBuildingInfoChanged(UUID.randomUUID(), BEFORE,
+			new BuildingProfile(20, "철근콘크리트", false, new BigDecimal("1000.00")));
+
+		verifyNoInteractions(store, termSliceCache);
+	}
+
+	@Test
+	void failureToStoreAdjustmentDoesNotPropagate() {
+		doThrow(new IllegalStateException("db down")).when(store).updateBuildingAdjustment(any(), any());
+
+		recomputer.onBuildingInfoChanged(UUID.randomUUID(), BEFORE,
+			new BuildingProfile(21, "철근콘크리트", false, new BigDecimal("1000")));
+
+		verify(termSliceCache, never()).evict(any());
+	}
+
+	@SuppressWarnings("unchecked")
+	private UnaryOperator<Object> captureUpdater(UUID siteId) {
+		ArgumentCaptor<UnaryOperator<Object>> updater = ArgumentCaptor.forClass(UnaryOperator.class);
+		verify(store).updateBuildingAdjustment(eq(siteId), updater.capture());
+		return updater.getValue();
+	}
+
+	private static double longTermPoint(Object scenario) {
+		return ((Number) ((Map<?, ?>) ((Map<?, ?>) scenario).get("longTerm")).get("point1")).doubleValue();
+	}
+
+	private static Map<String, Object> aalScenario(String riskType, double aal) {
+		return Map.of("scenario", "SSP2-4.5", "riskType", riskType, "longTerm", Map.of("point1", aal));
+	}
+}
@@ -0,0 +1,134 @@
+package com.skax.physicalrisk.service.analysis;
+
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.domain.site.repository.SiteRepository;
+import com.skax.physicalrisk.domain.user.entity.User;
+import com.skax.physicalrisk.domain.user.repository.UserRepository;
+import com.skax.physicalrisk.dto.request.simulation.ClimateSimulationRequest;
+import com.skax.physicalrisk.service.simulation.SimulationService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * FastAPI 호출 중 DB 커넥션 미점유 검증
+ *
+ * FastAPI 응답을 기다리는 동안 트랜잭션이 열려 있지 않고
+ * Hikari 풀에서 빌려간 커넥션이 없어야 한다.
+ */
+@SpringBootTest
+class FastApiConnectionReleaseTest {
+
+	@MockitoBean
+	private FastApiClient fastApiClient;
+
+	@Autowired
+	private AnalysisService analysisService;
+
+	@Autowired
+	private SimulationService simulationService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private SiteRepository siteRepository;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private final AtomicBoolean transactionActiveDuringCall = new AtomicBoolean(true);
+	private final AtomicInteger activeConnectionsDuringCall = new AtomicInteger(-1);
+
+	private User user;
+	private Site site;
+
+	@BeforeEach
+	void setUp() {
+		user = userRepository.save(User.builder()
+			.email("connection-test@example.com")
+			.name("tester")
+			.password("password")
+			.build());
+
+		site = siteRepository.save(Site.builder()
+			.user(user)
+			.name("테스트 사업장")
+			.latitude(new BigDecimal("37.36633726"))
+			.longitude(new BigDecimal("127.10661717"))
+			.type("office")
+			.build());
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new org.springframework.security.core.userdetails.User(user.getId().toString(), "", List.of()),
+			null,
+			List.of()
+		));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+		siteRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	void vulnerabilityDoesNotHoldConnectionDuringUpstreamCall() {
+		when(fastApiClient.getVulnerability(any())).thenAnswer(invocation -> {
+			recordConnectionState();
+			return Mono.just(Map.<String, Object>of("data", Map.of()));
+		});
+
+		analysisService.getVulnerability(site.getId());
+
+		assertNoConnectionHeld();
+	}
+
+	@Test
+	void climateSimulationDoesNotHoldConnectionDuringUpstreamCall() {
+		when(fastApiClient.runClimateSimulation(any())).thenAnswer(invocation -> {
+			recordConnectionState();
+			return Mono.just(Map.<String, Object>of());
+		});
+
+		simulationService.runClimateSimulation(ClimateSimulationRequest.builder()
+			.scenario("SSP2-4.5")
+			.hazardType("극심한 고온")
+			.build());
+
+		assertNoConnectionHeld();
+	}
+
+	private void recordConnectionState() throws Exception {
+		transactionActiveDuringCall.set(TransactionSynchronizationManager.isActualTransactionActive());
+		activeConnectionsDuringCall.set(dataSource.unwrap(HikariDataSource.class)
+			.getHikariPoolMXBean()
+			.getActiveConnections());
+	}
+
+	private void assertNoConnectionHeld() {
+		assertThat(transactionActiveDuringCall.get()).isFalse();
+		assertThat(activeConnectionsDuringCall.get()).isZero();
+	}
+}
@@ -0,0 +1,40 @@
+package com.skax.physicalrisk.service.analysis;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간 분할 적재 검증
+ *
+ * 한 번의 응답에서 세 기간을 모두 연도 키로 변환해 두고, 비었거나 모두 0인 기간은 제외하는지 확인한다.
+ */
+class TermSlicesTest {
+
+	@Test
+	void precomputesYearKeysForEveryTerm() {
+		TermSlices.Slice<Double> slice = TermSlices.slice("SSP2-4.5", "폭염",
+			Map.of("point1", 0.1),
+			Map.of("point1", 0.1, "point5", 0.5),
+			Map.of("point1", 0.2, "point4", 0.8),
+			value -> value != null && value != 0.0);
+
+		assertThat(slice.yearData(TermSlices.SHORT)).containsExactlyInAnyOrderEntriesOf(Map.of("2026", 0.1));
+		assertThat(slice.yearData(TermSlices.MID)).containsExactlyInAnyOrderEntriesOf(Map.of("2026", 0.1, "2030", 0.5));
+		assertThat(slice.yearData(TermSlices.LONG)).containsExactlyInAnyOrderEntriesOf(Map.of("2020s", 0.2, "2050s", 0.8));
+	}
+
+	@Test
+	void dropsEmptyAndAllZeroTerms() {
+		TermSlices.Slice<Double> slice = TermSlices.slice("SSP5-8.5", "태풍",
+			Map.of(), Map.of("point1", 0.0), null,
+			value -> value != null && value != 0.0);
+
+		assertThat(slice.yearData(TermSlices.SHORT)).isNull();
+		assertThat(slice.yearData(TermSlices.MID)).isNull();
+		assertThat(slice.yearData(TermSlices.LONG)).isNull();
+		assertThat(TermSlices.isKnownTerm("quarter")).isFalse();
+	}
+}
@@ -0,0 +1,58 @@
+package com.skax.physicalrisk.service.hazard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AAL what-if 전체 재계산 시간 (JMH)
+ *
+ * 슬라이더 1회 조작에 해당하는 scale + sumOverRisks (모든 위험 유형 × 시나리오 × 연도) 평균 시간.
+ * 실행: mvn test-compile 후 main 실행 (surefire 대상 아님)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AalWhatIfEngineBenchmark {
+
+	private final float[] baseAals = new float[AalWhatIfEngine.LENGTH];
+	private final float[] scales = new float[AalWhatIfEngine.RISK_COUNT];
+	private final float[] finalAals = new float[AalWhatIfEngine.LENGTH];
+	private final float[] totals = new float[AalWhatIfEngine.SERIES_LENGTH];
+
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < baseAals.length; i++) {
+			baseAals[i] = (i % 97) / 10_000f;
+		}
+		Arrays.fill(scales, 1.2f);
+	}
+
+	@Benchmark
+	public float[] fullRecompute() {
+		AalWhatIfEngine.scale(baseAals, scales, 0.4f, finalAals);
+		AalWhatIfEngine.sumOverRisks(finalAals, totals);
+		return totals;
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder()
+			.include(AalWhatIfEngineBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,81 @@
+package com.skax.physicalrisk.service.hazard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * AAL what-if 계산 검증
+ *
+ * final_aal = base_aal × F_vuln × (1 - insurance_rate) 적용, 값 없는 칸(NaN) 유지,
+ * 격자 저장소에서 [위험 유형][시나리오][연도] 순으로 복사되는지 확인한다.
+ * 전체 재계산 시간은 AalWhatIfEngineBenchmark(JMH)에서 측정한다.
+ */
+class AalWhatIfEngineTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void appliesVulnerabilityAndInsurancePerRiskType() {
+		int flood = GridStoreFormat.riskOrdinal("river_flood");
+		int typhoon = GridStoreFormat.riskOrdinal("typhoon");
+		float[] aals = new float[AalWhatIfEngine.LENGTH];
+		Arrays.fill(aals, Float.NaN);
+		aals[AalWhatIfEngine.offset(flood, SspScenario.SSP245, 2030)] = 0.01f;
+		aals[AalWhatIfEngine.offset(typhoon, SspScenario.SSP245, 2030)] = 0.002f;
+		aals[AalWhatIfEngine.offset(typhoon, SspScenario.SSP585, 2100)] = 0.004f;
+
+		float[] scales = new float[AalWhatIfEngine.RISK_COUNT];
+		Arrays.fill(scales, 1f);
+		scales[flood] = 1.5f;
+
+		AalWhatIfEngine.scale(aals, scales, 0.8f, aals);
+		float[] totals = new float[AalWhatIfEngine.SERIES_LENGTH];
+		AalWhatIfEngine.sumOverRisks(aals, totals);
+
+		assertThat(aals[AalWhatIfEngine.offset(flood, SspScenario.SSP245, 2030)]).isCloseTo(0.003f, within(1e-7f));
+		assertThat(aals[AalWhatIfEngine.offset(typhoon, SspScenario.SSP245, 2030)]).isCloseTo(0.0004f, within(1e-7f));
+		assertThat(aals[AalWhatIfEngine.offset(flood, SspScenario.SSP245, 2031)]).isNaN();
+		assertThat(totals[AalWhatIfEngine.offset(0, SspScenario.SSP245, 2030)]).isCloseTo(0.0034f, within(1e-7f));
+		assertThat(totals[AalWhatIfEngine.offset(0, SspScenario.SSP585, 2100)]).isCloseTo(0.0008f, within(1e-7f));
+		assertThat(totals[AalWhatIfEngine.offset(0, SspScenario.SSP126, 2030)]).isNaN();
+	}
+
+	@Test
+	void copiesBaseAalsFromGridStoreInEngineLayout() throws IOException {
+		GridRaster raster = GridRaster.assign(3700, 12700, 1, 1, new int[1]);
+		Path dataFile = dir.resolve(GridStoreManager.DATA_FILE);
+		Path indexFile = dir.resolve(GridStoreManager.INDEX_FILE);
+		int wildfire = GridStoreFormat.riskOrdinal("wildfire");
+		try (GridStoreWriter writer = new GridStoreWriter(dataFile, indexFile, raster)) {
+			writer.put(0, wildfire, 2050, SspScenario.SSP370, GridStoreFormat.MEASURE_BASE_AAL, 0.0123f);
+			writer.put(0, wildfire, 2050, SspScenario.SSP370, GridStoreFormat.MEASURE_HAZARD, 55f);
+			writer.commit(1L);
+		}
+
+		float[] baseAals = new float[AalWhatIfEngine.LENGTH];
+		GridStore store = GridStore.open(dataFile, indexFile);
+		store.copyBaseAals(0, baseAals);
+
+		assertThat(baseAals[AalWhatIfEngine.offset(wildfire, SspScenario.SSP370, 2050)]).isEqualTo(0.0123f);
+		assertThat(baseAals[AalWhatIfEngine.offset(wildfire, SspScenario.SSP370, 2051)]).isNaN();
+		assertThat(baseAals[AalWhatIfEngine.offset(wildfire, SspScenario.SSP585, 2050)]).isNaN();
+		long present = 0;
+		for (float value : baseAals) {
+			if (!Float.isNaN(value)) {
+				present++;
+			}
+		}
+		assertThat(present).isEqualTo(1);
+
+		store.copyBaseAals(GridRaster.ABSENT, baseAals);
+		assertThat(baseAals).containsOnly(Float.NaN);
+	}
+}
@@ -0,0 +1,80 @@
+package com.skax.physicalrisk.service.hazard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 격자 바이너리 저장소 작성/조회 검증
+ *
+ * 3 × 3 래스터 중 일부 격자만 존재하는 작은 저장소를 만들어
+ * 좌표 → grid index 변환과 (위험 유형, 연도, 시나리오)별 오프셋이 서로 겹치지 않는지 확인한다.
+ */
+class GridStoreTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void writtenValuesAreReadBackByCoordinate() throws IOException {
+		// 위도 37.00~37.02, 경도 127.00~127.02 중 (37.01, 127.00)은 격자 없음
+		int[] cells = new int[9];
+		Arrays.fill(cells, 0);
+		cells[3] = GridRaster.ABSENT;
+		GridRaster raster = GridRaster.assign(3700, 12700, 3, 3, cells);
+		assertThat(raster.gridCount()).isEqualTo(8);
+
+		Path dataFile = dir.resolve(GridStoreManager.DATA_FILE);
+		Path indexFile = dir.resolve(GridStoreManager.INDEX_FILE);
+		int last = raster.indexOf(3702, 12702);
+		int risk = GridStoreFormat.riskOrdinal("typhoon");
+		try (GridStoreWriter writer = new GridStoreWriter(dataFile, indexFile, raster)) {
+			writer.put(last, risk, 2050, SspScenario.SSP585, GridStoreFormat.MEASURE_HAZARD, 71.5f);
+			writer.put(last, risk, 2050, SspScenario.SSP585, GridStoreFormat.MEASURE_BASE_AAL, 0.0123f);
+			writer.put(last, risk, 2051, SspScenario.SSP585, GridStoreFormat.MEASURE_HAZARD, 72.0f);
+			writer.commit(1L);
+		}
+		assertThat(dir.resolve(GridStoreManager.DATA_FILE + ".tmp")).doesNotExist();
+
+		GridStore store = GridStore.open(dataFile, indexFile);
+		int grid = store.gridIndex(GridCell.of(new BigDecimal("37.0241"), new BigDecimal("127.0198")));
+
+		assertThat(grid).isEqualTo(last);
+		assertThat(store.hazardScore(grid, "typhoon", SspScenario.SSP585, 2050)).isEqualTo(71.5f);
+		assertThat(store.baseAal(grid, "typhoon", SspScenario.SSP585, 2050)).isEqualTo(0.0123f);
+		assertThat(store.hazardScore(grid, "typhoon", SspScenario.SSP585, 2051)).isEqualTo(72.0f);
+		assertThat(store.hazardScore(grid, "typhoon", SspScenario.SSP370, 2050)).isNaN();
+		assertThat(store.hazardScore(grid, "wildfire", SspScenario.SSP585, 2050)).isNaN();
+		assertThat(store.hazardScore(grid - 1, "typhoon", SspScenario.SSP585, 2050)).isNaN();
+		assertThat(store.gridIndex(GridCell.of(new BigDecimal("37.01"), new BigDecimal("127.00")))).isEqualTo(GridRaster.ABSENT);
+		assertThat(store.gridIndex(GridCell.of(new BigDecimal("35.00"), new BigDecimal("127.00")))).isEqualTo(GridRaster.ABSENT);
+	}
+
+	@Test
+	void mismatchedIndexFileIsRejected() throws IOException {
+		int[] cells = new int[1];
+		GridRaster raster = GridRaster.assign(3700, 12700, 1, 1, cells);
+		Path dataFile = dir.resolve(GridStoreManager.DATA_FILE);
+		Path indexFile = dir.resolve(GridStoreManager.INDEX_FILE);
+		try (GridStoreWriter writer = new GridStoreWriter(dataFile, indexFile, raster)) {
+			writer.commit(1L);
+		}
+		Path otherIndex = dir.resolve("other.idx");
+		Files.copy(indexFile, otherIndex);
+		try (GridStoreWriter writer = new GridStoreWriter(dataFile, indexFile, raster)) {
+			writer.commit(2L);
+		}
+
+		assertThatThrownBy(() -> GridStore.open(dataFile, otherIndex))
+			.isInstanceOf(IOException.class)
+			.hasMessageContaining("different exports");
+	}
+}
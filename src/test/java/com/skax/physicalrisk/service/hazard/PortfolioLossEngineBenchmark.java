@@ -0,0 +1,74 @@
+package com.skax.physicalrisk.service.hazard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포트폴리오 손실 몬테카를로 처리량 (JMH)
+ *
+ * singleCore는 호출 스레드에서 순차 실행하므로 점수가 곧 코어당 초당 표본 수이다.
+ * allCores는 CPU 코어 수만큼의 ForkJoinPool에서 실행한 전체 처리량이며, 코어 수로 나누면 병렬 효율을 볼 수 있다.
+ * 실행: mvn test-compile 후 main 실행 (surefire 대상 아님)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PortfolioLossEngineBenchmark {
+
+	private static final int SAMPLES = 10_000;
+
+	/** 사업장 수 (위험 유형 2개씩 노출) */
+	@Param({"10", "100"})
+	public int siteCount;
+
+	private PortfolioLossEngine.Portfolio portfolio;
+	private ForkJoinPool pool;
+
+	@Setup
+	public void setUp() throws Exception {
+		portfolio = PortfolioLossEngineTest.portfolio(siteCount, 0.004f);
+		pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLES)
+	public double[] singleCore() {
+		return PortfolioLossEngine.simulate(portfolio, 0.3, SAMPLES, 1L, null);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLES)
+	public double[] allCores() {
+		return PortfolioLossEngine.simulate(portfolio, 0.3, SAMPLES, 1L, pool);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder()
+			.include(PortfolioLossEngineBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,97 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 포트폴리오 손실 몬테카를로 검증
+ *
+ * 병렬/순차 실행 결과가 같은지, 표본 평균이 기준 AAL에 맞춰지는지,
+ * 상관계수가 꼬리 손실을 키우는지, VaR/TVaR 분위수 규칙을 확인한다.
+ */
+class PortfolioLossEngineTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	@Test
+	void parallelRunMatchesSequentialRunForSameSeed() throws Exception {
+		PortfolioLossEngine.Portfolio portfolio = portfolio(20, 0.004f);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			double[] parallel = PortfolioLossEngine.simulate(portfolio, 0.3, 10_000, 7L, pool);
+			double[] sequential = PortfolioLossEngine.simulate(portfolio, 0.3, 10_000, 7L, null);
+			assertThat(parallel).containsExactly(sequential);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void sampleMeanMatchesBaseAal() throws Exception {
+		double[] losses = PortfolioLossEngine.simulate(portfolio(1, 0.004f), 0.0, 200_000, 1L, null);
+
+		PortfolioLossEngine.Summary summary = PortfolioLossEngine.summarize(losses, new double[] {0.99}, new int[] {100});
+		// 자산 가치 1,000 × 위험 유형 2개 × AAL 0.004
+		assertThat(summary.expectedLoss()).isCloseTo(8.0, within(0.2));
+	}
+
+	@Test
+	void correlationWidensTail() throws Exception {
+		double[] independent = PortfolioLossEngine.simulate(portfolio(50, 0.004f), 0.0, 50_000, 3L, null);
+		double[] correlated = PortfolioLossEngine.simulate(portfolio(50, 0.004f), 0.9, 50_000, 3L, null);
+		double[] levels = {0.99};
+
+		double independentVar = PortfolioLossEngine.summarize(independent, levels, new int[0]).valueAtRisk()[0];
+		double correlatedVar = PortfolioLossEngine.summarize(correlated, levels, new int[0]).valueAtRisk()[0];
+		assertThat(correlatedVar).isGreaterThan(independentVar * 1.5);
+	}
+
+	@Test
+	void summarizesQuantilesAndTail() {
+		double[] losses = new double[100];
+		for (int i = 0; i < losses.length; i++) {
+			losses[i] = losses.length - i;
+		}
+
+		PortfolioLossEngine.Summary summary = PortfolioLossEngine.summarize(losses,
+			new double[] {0.95, 0.99}, new int[] {10, 1000});
+
+		assertThat(summary.expectedLoss()).isEqualTo(50.5);
+		assertThat(summary.valueAtRisk()).containsExactly(95.0, 99.0);
+		assertThat(summary.tailValueAtRisk()).containsExactly(97.5, 99.5);
+		// 표본 100개로는 1000년 재현 기간을 추정할 수 없음
+		assertThat(summary.exceedanceLosses()[0]).isEqualTo(90.0);
+		assertThat(summary.exceedanceLosses()[1]).isNaN();
+	}
+
+	@Test
+	void parsesBothBinProbabilityFormats() throws Exception {
+		LossDistribution array = LossDistribution.parse(OBJECT_MAPPER.readTree("[0.5, 0.3, 0.2, 0, 0]"), Float.NaN);
+		LossDistribution object = LossDistribution.parse(OBJECT_MAPPER.readTree(
+			"{\"bins\": [0.0, 0.1, 0.5, 1.0], \"probabilities\": [2, 1, 1]}"), 0.01f);
+
+		assertThat(array.edges()).containsExactly(0.0, 0.2, 0.4, 0.6, 0.8, 1.0);
+		assertThat(object.edges()).containsExactly(0.0, 0.1, 0.5, 1.0);
+		assertThat(object.probabilities()).containsExactly(0.5, 0.25, 0.25);
+		assertThat(LossDistribution.parse(OBJECT_MAPPER.readTree("[0, 0]"), 0f)).isNull();
+	}
+
+	/**
+	 * 사업장 siteCount개 × 위험 유형 2개, 자산 가치 1,000
+	 */
+	static PortfolioLossEngine.Portfolio portfolio(int siteCount, float baseAal) throws Exception {
+		LossDistribution distribution = LossDistribution.parse(
+			OBJECT_MAPPER.readTree("[0.9, 0.06, 0.025, 0.01, 0.005]"), baseAal);
+		PortfolioLossEngine.Portfolio.Builder builder = PortfolioLossEngine.Portfolio.builder();
+		for (int site = 0; site < siteCount; site++) {
+			builder.add(0, 1_000, distribution);
+			builder.add(4, 1_000, distribution);
+		}
+		return builder.build();
+	}
+}
@@ -0,0 +1,113 @@
+package com.skax.physicalrisk.service.hazard;
+
+import com.skax.physicalrisk.constants.HazardTypeConstants;
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.dto.response.analysis.SiteHazardResponse;
+import com.skax.physicalrisk.service.site.SiteAccessService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사업장 격자 위험도 검증
+ *
+ * 같은 격자의 두 사업장이 공유 캐시의 같은 셀을 읽고, 그 위에 각 사업장의 E / V / 최종 AAL이 붙는지,
+ * 사업장 값이 없으면 H / 기준 AAL만 응답하는지 확인한다.
+ */
+class SiteHazardServiceTest {
+
+	private final UUID userId = UUID.randomUUID();
+	private final SiteAccessService siteAccessService = mock(SiteAccessService.class);
+	private final GridHazardCache gridHazardCache = mock(GridHazardCache.class);
+	private final SiteRiskLayerReader siteRiskLayerReader = mock(SiteRiskLayerReader.class);
+	private final SiteHazardService service = new SiteHazardService(siteAccessService, gridHazardCache,
+		mock(GridStoreManager.class), siteRiskLayerReader);
+
+	@BeforeEach
+	void setUp() {
+		GridHazardSeries heat = new GridHazardSeries();
+		heat.put(SspScenario.SSP245, 2030, 63.2f, 0.0081f);
+		when(gridHazardCache.isAvailable()).thenReturn(true);
+		when(gridHazardCache.getCell(any())).thenReturn(Map.of(HazardTypeConstants.EXTREME_HEAT, heat));
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new org.springframework.security.core.userdetails.User(userId.toString(), "", List.of()),
+			null,
+			List.of()
+		));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void layersSiteValuesOverSharedGridCell() {
+		Site first = site("37.3712", "127.1098");
+		Site second = site("37.3689", "127.1149");
+		when(siteRiskLayerReader.read(first.getId(), SspScenario.SSP245, 2030)).thenReturn(Map.of(
+			HazardTypeConstants.EXTREME_HEAT, new SiteRiskLayerReader.SiteRiskLayer(55f, 42f, 0.0074f)));
+		when(siteRiskLayerReader.read(second.getId(), SspScenario.SSP245, 2030)).thenReturn(Map.of(
+			HazardTypeConstants.EXTREME_HEAT, new SiteRiskLayerReader.SiteRiskLayer(20f, 80f, 0.0095f)));
+
+		SiteHazardResponse.HazardLayer firstHeat = heat(service.getSiteHazard(first.getId(), "SSP2-4.5", 2030));
+		SiteHazardResponse.HazardLayer secondHeat = heat(service.getSiteHazard(second.getId(), "ssp245", 2030));
+
+		verify(gridHazardCache, times(2)).getCell(GridCell.of(first.getLatitude(), first.getLongitude()));
+		assertThat(firstHeat.getHazardScore()).isEqualTo(secondHeat.getHazardScore()).isEqualTo(63.2f);
+		assertThat(firstHeat.getBaseAal()).isEqualTo(secondHeat.getBaseAal()).isEqualTo(0.0081f);
+		assertThat(firstHeat.getVulnerabilityScore()).isEqualTo(42f);
+		assertThat(firstHeat.getFinalAal()).isEqualTo(0.0074f);
+		assertThat(secondHeat.getExposureScore()).isEqualTo(20f);
+		assertThat(secondHeat.getVulnerabilityScore()).isEqualTo(80f);
+	}
+
+	@Test
+	void keepsGridValuesWhenSiteHasNoLayers() {
+		Site site = site("37.3712", "127.1098");
+		when(siteRiskLayerReader.read(any(), any(), anyInt())).thenReturn(Map.of());
+
+		SiteHazardResponse response = service.getSiteHazard(site.getId(), "SSP2-4.5", 2030);
+
+		assertThat(response.getHazards()).hasSize(SiteHazardService.RISK_TYPES.size());
+		SiteHazardResponse.HazardLayer heat = heat(response);
+		assertThat(heat.getHazardScore()).isEqualTo(63.2f);
+		assertThat(heat.getExposureScore()).isNull();
+		assertThat(heat.getVulnerabilityScore()).isNull();
+		assertThat(heat.getFinalAal()).isNull();
+	}
+
+	private Site site(String latitude, String longitude) {
+		Site site = Site.builder()
+			.id(UUID.randomUUID())
+			.name("판교 사업장")
+			.latitude(new BigDecimal(latitude))
+			.longitude(new BigDecimal(longitude))
+			.build();
+		when(siteAccessService.getSiteWithAuth(site.getId(), userId)).thenReturn(site);
+		return site;
+	}
+
+	private static SiteHazardResponse.HazardLayer heat(SiteHazardResponse response) {
+		return response.getHazards().stream()
+			.filter(layer -> HazardTypeConstants.EXTREME_HEAT.equals(layer.getRiskType()))
+			.findFirst()
+			.orElseThrow();
+	}
+}
@@ -0,0 +1,82 @@
+package com.skax.physicalrisk.service.past;
+
+import com.skax.physicalrisk.dto.response.past.PastDisasterResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 과거 재해 메모리 인덱스 검증
+ *
+ * 조건을 생략한 조합 조회, 정수 연도 필터링, 페이지 없는 조회의 FastAPI 응답 순서 유지, 커서 이후 키셋 페이지,
+ * 동기화 비교용 id 위치/응답 순서 조회를 확인한다.
+ */
+class PastDisasterIndexTest {
+
+	@Test
+	void filtersByAnyCombinationOfKeys() {
+		PastDisasterIndex index = new PastDisasterIndex(sample());
+
+		assertThat(ids(index.page(null, null, null, null, 0))).containsExactly(4, 1, 2, 3, 5);
+		assertThat(ids(index.page(2023, null, null, null, 0))).containsExactly(4, 1, 3);
+		assertThat(ids(index.page(null, "호우", "경보", null, 0))).containsExactly(1, 5);
+		assertThat(ids(index.page(2023, "호우", "경보", null, 0))).containsExactly(1);
+		assertThat(ids(index.page(2021, null, null, null, 0))).isEmpty();
+	}
+
+	@Test
+	void pagesAfterCursor() {
+		PastDisasterIndex index = new PastDisasterIndex(sample());
+
+		PastDisasterIndex.Page first = index.page(null, null, null, null, 2);
+		assertThat(ids(first)).containsExactly(1, 2);
+		assertThat(first.hasNext()).isTrue();
+		assertThat(first.totalCount()).isEqualTo(5);
+
+		PastDisasterIndex.Page last = index.page(null, null, null, 3, 2);
+		assertThat(ids(last)).containsExactly(4, 5);
+		assertThat(last.hasNext()).isFalse();
+	}
+
+	@Test
+	void locatesItemsByIdWithSourceRank() {
+		PastDisasterIndex index = new PastDisasterIndex(List.of(
+			item(7, "2023-09-01", "태풍", "경보"),
+			item(6, "미상", "태풍", "주의보"),
+			item(7, "2023-09-02", "태풍", "주의보")));
+
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.positionOf(6)).isZero();
+		assertThat(index.sourceRank(index.positionOf(6))).isEqualTo(1);
+		assertThat(index.item(index.positionOf(7)).getAlertDate()).isEqualTo("2023-09-01");
+		assertThat(index.positionOf(5)).isEqualTo(-1);
+		assertThat(ids(index.page(2023, "태풍", null, null, 0))).containsExactly(7);
+		assertThat(PastDisasterIndex.parseYear("2023.07.15 14:00")).isEqualTo(2023);
+		assertThat(PastDisasterIndex.parseYear("23-07-15")).isNull();
+	}
+
+	private static List<PastDisasterResponse.DisasterItem> sample() {
+		return List.of(
+			item(4, "2023-08-10", "대설", "주의보"),
+			item(1, "2023-07-15", "호우", "경보"),
+			item(2, "2022-07-01", "호우", "주의보"),
+			item(3, "2023-08-10", "태풍", "경보"),
+			item(5, "2024-07-20", "호우", "경보"));
+	}
+
+	private static PastDisasterResponse.DisasterItem item(int id, String alertDate, String disasterType, String severity) {
+		return PastDisasterResponse.DisasterItem.builder()
+			.id(id)
+			.alertDate(alertDate)
+			.disasterType(disasterType)
+			.severity(severity)
+			.region("서울")
+			.build();
+	}
+
+	private static List<Integer> ids(PastDisasterIndex.Page page) {
+		return page.items().stream().map(PastDisasterResponse.DisasterItem::getId).toList();
+	}
+}
@@ -0,0 +1,102 @@
+package com.skax.physicalrisk.service.past;
+
+import com.skax.physicalrisk.dto.response.past.PastDisasterResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 행정구역 역색인 검증
+ *
+ * 지역 문자열의 시도 약칭 · 일반시 · 읍면동 매칭과, 시도 전역/읍면동 재해가 시군구로 롤업되는지 확인한다.
+ * 길이가 맞지 않는 location_admin 코드는 색인 생성을 깨뜨리지 않고 건너뛰는지 확인한다.
+ */
+class PastDisasterRegionIndexTest {
+
+	private static final RegionNameMatcher MATCHER = new RegionNameMatcher(List.of(
+		region(1, "11", null, null, "서울특별시"),
+		region(2, "11", "11680", null, "서울특별시 강남구"),
+		region(2, "11", "11710", null, "서울특별시 송파구"),
+		region(1, "41", null, null, "경기도"),
+		region(2, "41", "41111", null, "수원시 장안구"),
+		region(2, "41", "41113", null, "수원시 권선구"),
+		region(3, "41", "41113", "4111312900", "권선동"),
+		region(1, "43", null, null, "충청북도"),
+		region(2, "43", "43111", null, "청주시 상당구")));
+
+	@Test
+	void matchesAliasesCitiesAndDistricts() {
+		assertThat(MATCHER.match("서울 전역")).containsExactly("11");
+		assertThat(MATCHER.match("서울특별시 강남구")).containsExactly("11680");
+		assertThat(MATCHER.match("충북 청주시 상당구, 서울시 송파구")).containsExactly("43111", "11710");
+		assertThat(MATCHER.match("경기도 수원시")).containsExactlyInAnyOrder("41111", "41113");
+		assertThat(MATCHER.match("경기 수원시 권선구 권선동")).containsExactly("4111312900");
+		assertThat(MATCHER.match("경기도 미상시")).containsExactly("41");
+		assertThat(MATCHER.match("해외")).isEmpty();
+	}
+
+	@Test
+	void rollsUpSidoWideAndEmdEventsToSigungu() {
+		PastDisasterRegionIndex index = new PastDisasterRegionIndex(MATCHER, List.of(
+			item(1, "2022-07-01", "호우", "경기도 전역"),
+			item(2, "2023-08-10", "태풍", "경기 수원시 권선구 권선동"),
+			item(3, "2023-07-15", "호우", "경기도 수원시 권선구"),
+			item(4, "2023-07-16", "호우", "서울 강남구"),
+			item(5, "2023-07-17", "호우", "알 수 없음")));
+
+		PastDisasterRegionIndex.RegionHistory gwonseon = index.history("41113");
+		assertThat(gwonseon.totalCount()).isEqualTo(3);
+		assertThat(gwonseon.sidoWideCount()).isEqualTo(1);
+		assertThat(gwonseon.sigunguCount()).isEqualTo(1);
+		assertThat(gwonseon.emdCount()).isEqualTo(1);
+		assertThat(gwonseon.countsByType()).containsExactlyInAnyOrderEntriesOf(Map.of(
+			"태풍", Map.of(2023, 1),
+			"호우", Map.of(2022, 1, 2023, 1)));
+		assertThat(index.latest(gwonseon, 2)).extracting(PastDisasterResponse.DisasterItem::getId).containsExactly(2, 3);
+
+		assertThat(index.history("41111").totalCount()).isEqualTo(1);
+		assertThat(index.history("11710").totalCount()).isZero();
+		assertThat(index.unmatchedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void skipsRegionCodesShorterThanExpected() {
+		RegionNameMatcher matcher = new RegionNameMatcher(List.of(
+			region(1, "4", null, null, "세종특별자치시"),
+			region(2, "4", "4", null, "세종시 미상"),
+			region(3, "4", "4", "4", "미상동"),
+			region(1, "41", null, null, "경기도"),
+			region(2, "41", "41113", null, "수원시 권선구"),
+			region(3, "41", "41113", "41113", "권선동")));
+
+		assertThat(matcher.match("세종 전역")).isEmpty();
+		assertThat(matcher.match("경기 수원시 권선구 권선동")).containsExactly("41113");
+
+		PastDisasterRegionIndex index = new PastDisasterRegionIndex(matcher, List.of(
+			item(1, "2023-07-15", "호우", "세종특별자치시"),
+			item(2, "2023-07-16", "호우", "경기도 수원시 권선구")));
+		assertThat(index.unmatchedCount()).isEqualTo(1);
+		assertThat(index.history("41113").totalCount()).isEqualTo(1);
+
+		assertThat(RegionNameMatcher.sidoCodeOf("4")).isNull();
+		assertThat(RegionNameMatcher.sidoCodeOf("")).isNull();
+		assertThat(RegionNameMatcher.sidoCodeOf("41113")).isEqualTo("41");
+	}
+
+	private static RegionNameMatcher.AdminRegionName region(int level, String sido, String sigungu, String emd, String name) {
+		return new RegionNameMatcher.AdminRegionName(level, sido, sigungu, emd, name);
+	}
+
+	private static PastDisasterResponse.DisasterItem item(int id, String alertDate, String disasterType, String region) {
+		return PastDisasterResponse.DisasterItem.builder()
+			.id(id)
+			.alertDate(alertDate)
+			.disasterType(disasterType)
+			.severity("경보")
+			.region(region)
+			.build();
+	}
+}
@@ -0,0 +1,142 @@
+package com.skax.physicalrisk.service.past;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.domain.disaster.entity.PastDisaster;
+import com.skax.physicalrisk.domain.disaster.repository.PastDisasterRepository;
+import com.skax.physicalrisk.dto.response.past.PastDisasterResponse;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 과거 재해 동기화 검증
+ *
+ * 전체 목록을 저장된 이력과 비교해 늦게 들어온 낮은 id 항목과 정정된 항목은 upsert, 빠진 항목은 삭제하고,
+ * 페이지 없는 조회가 FastAPI 응답 순서를 따르는지 확인한다.
+ * 쓰기 도중 실패하면 예외가 전파되고 메모리 인덱스도 이전 상태로 남는지 확인한다.
+ */
+class PastDisasterStoreTest {
+
+	private final FastApiClient fastApiClient = mock(FastApiClient.class);
+	private final PastDisasterRepository repository = mock(PastDisasterRepository.class);
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final PastDisasterStore store =
+		new PastDisasterStore(fastApiClient, repository, new PastDisasterWriter(jdbcTemplate, 100), new ObjectMapper(), true, 100);
+
+	@Test
+	void upsertsLateAndCorrectedItemsAndDeletesRemovedOnes() {
+		when(repository.findByIdGreaterThanOrderByIdAsc(eq(Integer.MIN_VALUE), any(Limit.class))).thenReturn(List.of(
+			row(5, "2023-07-15", "호우", 0),
+			row(8, "2023-08-10", "태풍", 1),
+			row(9, "2024-01-02", "대설", 2)));
+		when(repository.findByIdGreaterThanOrderByIdAsc(eq(9), any(Limit.class))).thenReturn(List.of());
+		when(fastApiClient.getPastDisasters(null, null, null)).thenReturn(Mono.just(Map.of("data", List.of(
+			item(5, "2023-07-15", "호우"),
+			item(8, "2023-08-11", "태풍"),   // 정정
+			item(3, "2022-06-30", "호우"),   // 늦게 들어온 낮은 id
+			item(9, "2024-01-02", "대설")))));
+
+		int changed = store.sync();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Object[]>> upserts = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(eq(upsertSql()), upserts.capture());
+		// 9는 값이 같지만 응답 내 순서가 2 → 3으로 바뀜
+		assertThat(upserts.getValue()).extracting(row -> row[0]).containsExactlyInAnyOrder(3, 8, 9);
+		verify(jdbcTemplate, never()).batchUpdate(eq("DELETE FROM past_disasters WHERE id = ?"), anyList());
+		assertThat(changed).isEqualTo(3);
+
+		assertThat(ids(store.page(null, null, null, null, 0))).containsExactly(5, 8, 3, 9);
+		assertThat(ids(store.page(null, "호우", null, null, 10))).containsExactly(3, 5);
+		assertThat(store.page(null, "태풍", null, null, 0).items().get(0).getAlertDate()).isEqualTo("2023-08-11");
+	}
+
+	@Test
+	void deletesItemsMissingFromUpstreamButKeepsTableOnEmptyResponse() {
+		when(repository.findByIdGreaterThanOrderByIdAsc(anyInt(), any(Limit.class)))
+			.thenReturn(List.of(row(1, "2023-07-15", "호우", 0), row(2, "2023-07-16", "호우", 1)))
+			.thenReturn(List.of());
+		when(fastApiClient.getPastDisasters(null, null, null))
+			.thenReturn(Mono.just(Map.of("data", List.of(item(1, "2023-07-15", "호우")))))
+			.thenReturn(Mono.just(Map.of("data", List.of())));
+
+		store.sync();
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Object[]>> deletes = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(eq("DELETE FROM past_disasters WHERE id = ?"), deletes.capture());
+		assertThat(deletes.getValue()).extracting(row -> row[0]).containsExactly(2);
+
+		assertThat(store.sync()).isZero();
+		assertThat(ids(store.page(null, null, null, null, 0))).containsExactly(1);
+	}
+
+	@Test
+	void failedWriteKeepsPreviousIndex() {
+		when(repository.findByIdGreaterThanOrderByIdAsc(anyInt(), any(Limit.class)))
+			.thenReturn(List.of(row(1, "2023-07-15", "호우", 0), row(2, "2023-07-16", "호우", 1)))
+			.thenReturn(List.of());
+		when(fastApiClient.getPastDisasters(null, null, null))
+			.thenReturn(Mono.just(Map.of("data", List.of(item(1, "2023-07-15", "호우"), item(2, "2023-07-16", "호우")))))
+			.thenReturn(Mono.just(Map.of("data", List.of(item(1, "2023-07-20", "호우"), item(3, "2023-08-01", "태풍")))));
+		when(jdbcTemplate.batchUpdate(eq("DELETE FROM past_disasters WHERE id = ?"), anyList()))
+			.thenThrow(new QueryTimeoutException("timeout"));
+		assertThat(store.sync()).isZero();
+
+		assertThatThrownBy(store::sync).isInstanceOf(QueryTimeoutException.class);
+
+		verify(jdbcTemplate).batchUpdate(eq(upsertSql()), anyList());
+		PastDisasterIndex.Page page = store.page(null, null, null, null, 0);
+		assertThat(ids(page)).containsExactly(1, 2);
+		assertThat(page.items().get(0).getAlertDate()).isEqualTo("2023-07-15");
+	}
+
+	private static String upsertSql() {
+		return "INSERT INTO past_disasters "
+			+ "(id, event_year, alert_date, disaster_type, severity, region, source_order, synced_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (id) DO UPDATE SET "
+			+ "event_year = EXCLUDED.event_year, alert_date = EXCLUDED.alert_date, "
+			+ "disaster_type = EXCLUDED.disaster_type, severity = EXCLUDED.severity, region = EXCLUDED.region, "
+			+ "source_order = EXCLUDED.source_order, synced_at = EXCLUDED.synced_at";
+	}
+
+	private static PastDisaster row(int id, String alertDate, String disasterType, int sourceOrder) {
+		return PastDisaster.builder()
+			.id(id)
+			.eventYear(PastDisasterIndex.parseYear(alertDate))
+			.alertDate(alertDate)
+			.disasterType(disasterType)
+			.severity("경보")
+			.region("서울")
+			.sourceOrder(sourceOrder)
+			.syncedAt(LocalDateTime.now())
+			.build();
+	}
+
+	private static Map<String, Object> item(int id, String alertDate, String disasterType) {
+		return Map.of("id", id, "alertDate", alertDate, "disasterType", disasterType, "severity", "경보", "region", "서울");
+	}
+
+	private static List<Integer> ids(PastDisasterIndex.Page page) {
+		return page.items().stream().map(PastDisasterResponse.DisasterItem::getId).toList();
+	}
+}
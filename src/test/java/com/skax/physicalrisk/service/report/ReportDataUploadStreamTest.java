@@ -0,0 +1,124 @@
+package com.skax.physicalrisk.service.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리포트 추가 데이터 스트리밍 중계 검증
+ *
+ * 작은 읽기 단위로 나뉜 multipart 본문에서 file 파트가 그대로 전달되고 SHA-256이 파일 뒤에 확정되는지,
+ * 파트 순서 · 파일 크기 제한을 전송 중에 검사하는지 확인한다.
+ */
+class ReportDataUploadStreamTest {
+
+	private static final String BOUNDARY = "polaris-upload-boundary";
+
+	private final ReportDataUploadStream stream = new ReportDataUploadStream(new ObjectMapper(),
+		DataSize.ofBytes(1024), DataSize.ofKilobytes(64), DataSize.ofKilobytes(1), DataSize.ofBytes(16));
+
+	@Test
+	void forwardsFilePartWithChecksum() throws Exception {
+		UUID siteId = UUID.fromString("4b5be9aa-c228-4a13-b0c5-0d98deb51424");
+		byte[] file = "month,kwh\n2025-01,1200\n".repeat(20).getBytes(StandardCharsets.UTF_8);
+		byte[] body = multipart(
+			part("data", null, "application/json", "{\"siteId\": \"" + siteId + "\"}"),
+			part("file", "usage.csv", "text/csv", file));
+
+		AtomicReference<byte[]> forwarded = new AtomicReference<>();
+		AtomicReference<String> sentChecksum = new AtomicReference<>();
+		ReportDataUploadStream.Uploaded uploaded = stream.upload(headers(), new ByteArrayInputStream(body),
+			(id, filename, contentType, content, checksum) -> DataBufferUtils.join(content)
+				.doOnNext(buffer -> {
+					byte[] bytes = new byte[buffer.readableByteCount()];
+					buffer.read(bytes);
+					DataBufferUtils.release(buffer);
+					forwarded.set(bytes);
+				})
+				.then(checksum)
+				.map(sha256 -> {
+					sentChecksum.set(sha256);
+					return Map.<String, Object>of("status", "ok");
+				}))
+			.block();
+
+		String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(file));
+		assertThat(forwarded.get()).isEqualTo(file);
+		assertThat(uploaded.siteId()).isEqualTo(siteId);
+		assertThat(uploaded.filename()).isEqualTo("usage.csv");
+		assertThat(uploaded.size()).isEqualTo(file.length);
+		assertThat(uploaded.sha256()).isEqualTo(expected);
+		assertThat(sentChecksum.get()).isEqualTo(expected);
+	}
+
+	@Test
+	void rejectsFileBeforeDataAndOversizedFile() {
+		String data = "{\"siteId\": \"" + UUID.randomUUID() + "\"}";
+		byte[] fileFirst = multipart(
+			part("file", "usage.csv", "text/csv", new byte[10]),
+			part("data", null, "application/json", data));
+		assertThatThrownBy(() -> stream.upload(headers(), new ByteArrayInputStream(fileFirst), ReportDataUploadStreamTest::drain).block())
+			.isInstanceOf(BusinessException.class);
+
+		byte[] oversized = multipart(
+			part("data", null, "application/json", data),
+			part("file", "usage.csv", "text/csv", new byte[2048]));
+		assertThatThrownBy(() -> stream.upload(headers(), new ByteArrayInputStream(oversized), ReportDataUploadStreamTest::drain).block())
+			.isInstanceOf(BusinessException.class);
+	}
+
+	private static Mono<Map<String, Object>> drain(UUID siteId, String filename, MediaType contentType,
+												   Flux<DataBuffer> content,
+												   Mono<String> checksum) {
+		return content.doOnNext(DataBufferUtils::release).then(checksum).thenReturn(Map.of());
+	}
+
+	private static HttpHeaders headers() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(new MediaType(MediaType.MULTIPART_FORM_DATA, Map.of("boundary", BOUNDARY)));
+		return headers;
+	}
+
+	private static byte[] part(String name, String filename, String contentType, String content) {
+		return part(name, filename, contentType, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static byte[] part(String name, String filename, String contentType, byte[] content) {
+		String disposition = "Content-Disposition: form-data; name=\"" + name + "\""
+			+ (filename == null ? "" : "; filename=\"" + filename + "\"");
+		String head = "--" + BOUNDARY + "\r\n" + disposition + "\r\nContent-Type: " + contentType + "\r\n\r\n";
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.writeBytes(head.getBytes(StandardCharsets.UTF_8));
+		out.writeBytes(content);
+		out.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+		return out.toByteArray();
+	}
+
+	private static byte[] multipart(byte[]... parts) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (byte[] part : parts) {
+			out.writeBytes(part);
+		}
+		out.writeBytes(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,88 @@
+package com.skax.physicalrisk.service.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.config.WireFormatConfig;
+import com.skax.physicalrisk.dto.common.ApiResponse;
+import com.skax.physicalrisk.dto.common.RawJson;
+import com.skax.physicalrisk.dto.response.report.new_structure.ReportResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리포트 원문 응답(passthrough) 검증
+ *
+ * report_content 원문을 그대로 넣은 응답이 ReportResponse로 변환한 응답과 같은 구조인지,
+ * CBOR/Smile 응답에서도 원문이 토큰 단위로 기록되어 같은 구조가 되는지,
+ * 검증 모드가 DTO에 없는 필드 · 잘못된 타입을 잡아내는지 확인한다.
+ */
+class ReportPassthroughTest {
+
+	private static final String REPORT = """
+		{
+		  "report_id": "r-1",
+		  "meta": {"title": "TCFD 보고서"},
+		  "sections": [
+		    {
+		      "section_id": "governance",
+		      "title": "거버넌스",
+		      "blocks": [
+		        {"type": "text", "subheading": "이사회", "content": "기후 위험 감독"},
+		        {
+		          "type": "table",
+		          "title": "사업장 위험",
+		          "headers": [{"text": "사업장", "value": "site"}, {"text": "등급", "value": "grade"}],
+		          "items": [{"site": "본사", "grade": {"value": "높음", "bg_color": "#f00"}}],
+		          "legend": [{"color": "#f00", "label": "높음"}]
+		        }
+		      ]
+		    }
+		  ]
+		}
+		""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ReportSchemaValidator validator = new ReportSchemaValidator(objectMapper);
+
+	@Test
+	void passthroughMatchesConvertedResponse() throws Exception {
+		validator.validate(REPORT);
+
+		JsonNode raw = objectMapper.readTree(objectMapper.writeValueAsString(ApiResponse.success(new RawJson(REPORT))));
+		ReportResponse converted = objectMapper.readValue(REPORT, ReportResponse.class);
+		JsonNode dto = objectMapper.readTree(objectMapper.writeValueAsString(ApiResponse.success(converted)));
+
+		assertThat(raw).isEqualTo(dto);
+		assertThat(raw.path("result").asText()).isEqualTo("success");
+	}
+
+	@Test
+	void passthroughMatchesConvertedResponseInBinaryFormats() throws Exception {
+		ReportResponse converted = objectMapper.readValue(REPORT, ReportResponse.class);
+
+		for (ObjectMapper mapper : List.of(new ObjectMapper(WireFormatConfig.smileFactory()),
+			new ObjectMapper(WireFormatConfig.cborFactory()))) {
+			JsonNode raw = mapper.readTree(mapper.writeValueAsBytes(ApiResponse.success(new RawJson(REPORT))));
+			JsonNode dto = mapper.readTree(mapper.writeValueAsBytes(ApiResponse.success(converted)));
+
+			assertThat(raw).isEqualTo(dto);
+			assertThat(raw.path("data").path("sections").get(0).path("blocks").get(1).path("items").get(0)
+				.path("grade").path("value").asText()).isEqualTo("높음");
+		}
+	}
+
+	@Test
+	void validationRejectsSchemaDrift() {
+		assertThatThrownBy(() -> validator.validate(REPORT.replace("\"section_id\"", "\"sectionKey\"")))
+			.isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> validator.validate(REPORT.replace("{\"title\": \"TCFD 보고서\"}", "\"TCFD 보고서\"")))
+			.isInstanceOf(IOException.class);
+		assertThatThrownBy(() -> validator.validate("{\"sections\": {}}"))
+			.isInstanceOf(IOException.class);
+	}
+}
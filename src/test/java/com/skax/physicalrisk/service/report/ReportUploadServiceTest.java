@@ -0,0 +1,238 @@
+package com.skax.physicalrisk.service.report;
+
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.domain.report.entity.ReportUpload;
+import com.skax.physicalrisk.domain.report.entity.ReportUploadChunk;
+import com.skax.physicalrisk.domain.report.repository.ReportUploadChunkRepository;
+import com.skax.physicalrisk.domain.report.repository.ReportUploadRepository;
+import com.skax.physicalrisk.dto.response.report.ReportDataUploadResponse;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.service.site.SiteAccessService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 분할 업로드 청크 수신/완료 검증
+ *
+ * 검증에 실패한 재전송(체크섬 불일치, 크기 초과)이 이미 받은 청크를 덮어쓰지 않는지,
+ * 완료 요청이 시작된 세션의 청크를 확정하지 않는지, 완료 시 청크를 순서대로 이어 전송하는지 확인한다.
+ * 스테이징 영역은 임시 디렉터리의 FileSystemUploadStagingStore를 사용한다.
+ */
+class ReportUploadServiceTest {
+
+	private static final byte[] FILE = "month,kwh\n".getBytes(StandardCharsets.UTF_8); // 10 bytes = 4 + 4 + 2
+
+	@TempDir
+	Path stagingDirectory;
+
+	private final UUID userId = UUID.randomUUID();
+	private final UUID uploadId = UUID.randomUUID();
+	private final ReportUploadRepository uploadRepository = mock(ReportUploadRepository.class);
+	private final ReportUploadChunkRepository chunkRepository = mock(ReportUploadChunkRepository.class);
+	private final FastApiClient fastApiClient = mock(FastApiClient.class);
+	private final ReportResponseCache reportResponseCache = mock(ReportResponseCache.class);
+	private ReportUpload upload;
+	private FileSystemUploadStagingStore stagingStore;
+	private ReportUploadService service;
+
+	@BeforeEach
+	void setUp() {
+		upload = upload(ReportUpload.UploadStatus.UPLOADING);
+		when(uploadRepository.findByIdAndUserId(uploadId, userId)).thenReturn(Optional.of(upload));
+		when(uploadRepository.findForUpdateById(uploadId)).thenReturn(Optional.of(upload));
+
+		stagingStore = new FileSystemUploadStagingStore(stagingDirectory);
+		service = new ReportUploadService(uploadRepository, chunkRepository, stagingStore,
+			new ReportUploadChunkRecorder(uploadRepository, chunkRepository),
+			mock(SiteAccessService.class), fastApiClient, reportResponseCache,
+			DataSize.ofMegabytes(1), DataSize.ofBytes(4), DataSize.ofBytes(1), DataSize.ofKilobytes(1),
+			100, 24, DataSize.ofBytes(3));
+
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new org.springframework.security.core.userdetails.User(userId.toString(), "", List.of()),
+			null,
+			List.of()
+		));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void putChunkPromotesVerifiedChunk() throws Exception {
+		byte[] chunk = chunk(1);
+
+		service.putChunk(uploadId, 1, 4, sha256(chunk), new ByteArrayInputStream(chunk));
+
+		assertThat(readChunk(1)).isEqualTo(chunk);
+		ArgumentCaptor<ReportUploadChunk> saved = ArgumentCaptor.forClass(ReportUploadChunk.class);
+		verify(chunkRepository).save(saved.capture());
+		assertThat(saved.getValue().getChunkIndex()).isEqualTo(1);
+		assertThat(saved.getValue().getChunkOffset()).isEqualTo(4L);
+		assertThat(saved.getValue().getSize()).isEqualTo(4L);
+		assertThat(saved.getValue().getSha256()).isEqualTo(sha256(chunk));
+		assertThat(stagedTempFiles()).isEmpty();
+	}
+
+	@Test
+	void failedRetryKeepsVerifiedChunk() throws Exception {
+		byte[] chunk = chunk(0);
+		service.putChunk(uploadId, 0, 0, sha256(chunk), new ByteArrayInputStream(chunk));
+
+		byte[] corrupted = "xxxx".getBytes(StandardCharsets.UTF_8);
+		assertThatThrownBy(() -> service.putChunk(uploadId, 0, 0, sha256(chunk), new ByteArrayInputStream(corrupted)))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+		byte[] oversized = "MONT-extra".getBytes(StandardCharsets.UTF_8);
+		assertThatThrownBy(() -> service.putChunk(uploadId, 0, 0, sha256(chunk), new ByteArrayInputStream(oversized)))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+
+		assertThat(readChunk(0)).isEqualTo(chunk);
+		verify(chunkRepository, times(1)).save(any());
+		assertThat(stagedTempFiles()).isEmpty();
+	}
+
+	@Test
+	void rejectsChunkOnceFinalizing() throws Exception {
+		byte[] chunk = chunk(0);
+
+		// 세션 조회 이후 완료 요청이 먼저 상태를 바꾼 경우 (잠금 후 재확인에서 거부)
+		when(uploadRepository.findForUpdateById(uploadId)).thenReturn(Optional.of(upload(ReportUpload.UploadStatus.FINALIZING)));
+		assertThatThrownBy(() -> service.putChunk(uploadId, 0, 0, sha256(chunk), new ByteArrayInputStream(chunk)))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_UPLOAD_CONFLICT);
+
+		// 조회 시점에 이미 완료 중인 경우 (본문을 읽기 전에 거부)
+		upload.setStatus(ReportUpload.UploadStatus.FINALIZING);
+		assertThatThrownBy(() -> service.putChunk(uploadId, 0, 0, sha256(chunk), new ByteArrayInputStream(chunk)))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.REPORT_UPLOAD_CONFLICT);
+
+		assertThatThrownBy(() -> readChunk(0)).isInstanceOf(IOException.class);
+		verify(chunkRepository, never()).save(any());
+		assertThat(stagedTempFiles()).isEmpty();
+	}
+
+	@Test
+	void completeUploadForwardsChunksInOrder() throws Exception {
+		for (int index = 2; index >= 0; index--) {
+			byte[] chunk = chunk(index);
+			service.putChunk(uploadId, index, index * 4L, sha256(chunk), new ByteArrayInputStream(chunk));
+		}
+		when(chunkRepository.findChunkIndexesByUploadId(uploadId)).thenReturn(List.of(0, 1, 2));
+		when(uploadRepository.transition(uploadId, ReportUpload.UploadStatus.UPLOADING, ReportUpload.UploadStatus.FINALIZING))
+			.thenReturn(1);
+		AtomicReference<byte[]> forwarded = new AtomicReference<>();
+		when(fastApiClient.registerReportDataStream(eq(userId), eq(upload.getSiteId()), eq("usage.csv"), any(), any(), any()))
+			.thenAnswer(invocation -> {
+				Flux<DataBuffer> content = invocation.getArgument(4);
+				Mono<String> checksum = invocation.getArgument(5);
+				return DataBufferUtils.join(content)
+					.doOnNext(buffer -> {
+						byte[] bytes = new byte[buffer.readableByteCount()];
+						buffer.read(bytes);
+						DataBufferUtils.release(buffer);
+						forwarded.set(bytes);
+					})
+					.then(checksum)
+					.thenReturn(Map.<String, Object>of("status", "ok"));
+			});
+
+		ReportDataUploadResponse response = service.completeUpload(uploadId);
+
+		assertThat(forwarded.get()).isEqualTo(FILE);
+		assertThat(response.getFileSize()).isEqualTo(FILE.length);
+		assertThat(response.getSha256()).isEqualTo(sha256(FILE));
+		assertThat(upload.getStatus()).isEqualTo(ReportUpload.UploadStatus.COMPLETED);
+		assertThat(stagingDirectory.resolve(uploadId.toString())).doesNotExist();
+		verify(chunkRepository).deleteByUploadId(uploadId);
+		verify(reportResponseCache).evict(userId);
+	}
+
+	private ReportUpload upload(ReportUpload.UploadStatus status) {
+		return ReportUpload.builder()
+			.id(uploadId)
+			.userId(userId)
+			.siteId(UUID.fromString("4b5be9aa-c228-4a13-b0c5-0d98deb51424"))
+			.fileName("usage.csv")
+			.contentType("text/csv")
+			.totalSize((long) FILE.length)
+			.chunkSize(4)
+			.chunkCount(3)
+			.sha256(sha256(FILE))
+			.status(status)
+			.expiresAt(LocalDateTime.now().plusHours(1))
+			.build();
+	}
+
+	private static byte[] chunk(int index) {
+		int start = index * 4;
+		byte[] chunk = new byte[Math.min(4, FILE.length - start)];
+		System.arraycopy(FILE, start, chunk, 0, chunk.length);
+		return chunk;
+	}
+
+	private byte[] readChunk(int index) throws IOException {
+		try (InputStream in = stagingStore.openChunk(uploadId, index)) {
+			return in.readAllBytes();
+		}
+	}
+
+	private List<Path> stagedTempFiles() throws IOException {
+		Path uploadDirectory = stagingDirectory.resolve(uploadId.toString());
+		if (!Files.exists(uploadDirectory)) {
+			return List.of();
+		}
+		try (Stream<Path> files = Files.list(uploadDirectory)) {
+			return files.filter(path -> path.getFileName().toString().endsWith(".tmp")).toList();
+		}
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.skax.physicalrisk.service.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분할 업로드 청크 배치 검증
+ *
+ * 마지막 청크 길이, 받은 청크의 바이트 범위 병합, 빠진 청크 계산을 확인한다.
+ */
+class UploadChunkPlanTest {
+
+	private final UploadChunkPlan plan = new UploadChunkPlan(1000, 300);
+
+	@Test
+	void lastChunkIsShorter() {
+		assertThat(plan.chunkCount()).isEqualTo(4);
+		assertThat(plan.offset(3)).isEqualTo(900);
+		assertThat(plan.length(3)).isEqualTo(100);
+		assertThat(plan.contains(4)).isFalse();
+		assertThat(new UploadChunkPlan(900, 300).chunkCount()).isEqualTo(3);
+	}
+
+	@Test
+	void mergesContiguousChunksIntoByteRanges() {
+		List<long[]> ranges = plan.receivedRanges(Set.of(0, 1, 3, 7));
+
+		assertThat(ranges).hasSize(2);
+		assertThat(ranges.get(0)).containsExactly(0, 600);
+		assertThat(ranges.get(1)).containsExactly(900, 1000);
+	}
+
+	@Test
+	void listsMissingChunks() {
+		assertThat(plan.missingChunks(Set.of(1, 3))).containsExactly(0, 2);
+		assertThat(plan.missingChunks(Set.of(0, 1, 2, 3))).isEmpty();
+		assertThat(plan.missingChunks(List.of())).containsExactly(0, 1, 2, 3);
+	}
+}
@@ -0,0 +1,113 @@
+package com.skax.physicalrisk.service.simulation;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.dto.response.simulation.RegionScoreMatrix;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FastAPI regionScores → 행렬 변환 검증
+ *
+ * 운영 변환(toRegionScoreMatrix)이 값/행 순서를 유지하고 범위 밖 연도와 잘못된 키를 건너뛰는지,
+ * 전국 시군구 규모(약 3,500개 × 76년)에서 기존 중첩 Map 경로보다 적게 할당하는지 확인한다.
+ */
+class ClimateSimulationFetcherTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void convertsUpstreamRegionScores() {
+		Map<String, Object> seoul = new LinkedHashMap<>();
+		seoul.put("2025", 45.25);
+		seoul.put("2100", 89.5);
+		seoul.put("2200", 1.0);   // 범위 밖 연도
+		seoul.put("latest", 3.0); // 연도가 아닌 키
+		Map<String, Object> busan = new LinkedHashMap<>();
+		busan.put("2050", 12.75);
+		busan.put("2051", 0);     // 0은 0~10 랜덤 값으로 대체
+		Map<String, Object> upstream = new LinkedHashMap<>();
+		upstream.put("11010", seoul);
+		upstream.put("26110", busan);
+
+		RegionScoreMatrix matrix = ClimateSimulationFetcher.toRegionScoreMatrix(upstream);
+
+		assertThat(matrix.regionCount()).isEqualTo(2);
+		assertThat(matrix.regionCode(0)).isEqualTo("11010");
+		assertThat(matrix.regionCode(1)).isEqualTo("26110");
+		assertThat(matrix.toMap().get("11010")).containsOnlyKeys("2025", "2100")
+			.containsEntry("2025", 45.25)
+			.containsEntry("2100", 89.5);
+		assertThat(matrix.get(1, 2050)).isEqualTo(12.75f);
+		assertThat(matrix.get(1, 2051)).isBetween(0f, 10f);
+		assertThat(matrix.get(1, 2052)).isNaN();
+	}
+
+	@Test
+	void matrixConversionAllocatesLessThanNestedMaps() throws Exception {
+		Map<String, Object> upstream = upstreamRegionScores(3500);
+
+		// JIT 워밍업
+		for (int i = 0; i < 3; i++) {
+			legacyPath(upstream);
+			matrixPath(upstream);
+		}
+
+		long legacyBytes = allocatedBytes(() -> legacyPath(upstream));
+		long matrixBytes = allocatedBytes(() -> matrixPath(upstream));
+
+		assertThat(matrixBytes).isLessThan(legacyBytes);
+	}
+
+	/**
+	 * FastAPI 응답을 파싱한 형태 ({행정구역코드: {연도: 점수}})
+	 */
+	private static Map<String, Object> upstreamRegionScores(int regionCount) {
+		Map<String, Object> regions = new LinkedHashMap<>();
+		for (int region = 0; region < regionCount; region++) {
+			Map<String, Object> byYear = new LinkedHashMap<>();
+			for (int year = ClimateSimulationFetcher.START_YEAR; year <= ClimateSimulationFetcher.END_YEAR; year++) {
+				byYear.put(String.valueOf(year), 10.0 + (region * 31 + year) % 900 / 10.0);
+			}
+			regions.put(String.valueOf(11000 + region), byYear);
+		}
+		return regions;
+	}
+
+	/**
+	 * 행렬 도입 전 경로 (convertValue + 중첩 Map 복사 + 직렬화)
+	 */
+	private byte[] legacyPath(Map<String, Object> upstream) throws Exception {
+		Map<String, Map<String, Double>> raw = objectMapper.convertValue(upstream,
+			new TypeReference<Map<String, Map<String, Double>>>() {});
+		Map<String, Map<String, Double>> regionScores = raw.entrySet().stream()
+			.collect(Collectors.toMap(
+				Map.Entry::getKey,
+				entry -> entry.getValue().entrySet().stream()
+					.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))));
+		return objectMapper.writeValueAsBytes(regionScores);
+	}
+
+	private byte[] matrixPath(Map<String, Object> upstream) throws Exception {
+		return objectMapper.writeValueAsBytes(ClimateSimulationFetcher.toRegionScoreMatrix(upstream));
+	}
+
+	private static long allocatedBytes(ThrowingRunnable action) throws Exception {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		action.run();
+		return threads.getThreadAllocatedBytes(threadId) - before;
+	}
+
+	@FunctionalInterface
+	private interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+}
@@ -0,0 +1,74 @@
+package com.skax.physicalrisk.service.simulation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.dto.response.simulation.ClimateSimulationResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기후 시뮬레이션 스트리밍 변환 검증
+ *
+ * FastAPI 응답 필드 순서(siteAALs가 regionScores보다 먼저 오는 경우 포함)와 무관하게
+ * 버퍼링 응답과 같은 {scenario, hazardType, regionScores, sites} 구조가 기록되는지 확인한다.
+ */
+class ClimateSimulationStreamWriterTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void rewritesUpstreamResponseIncrementally() throws Exception {
+		UUID siteId = UUID.fromString("4b5be9aa-c228-4a13-b0c5-0d98deb51424");
+		String upstream = """
+			{
+			  "siteAALs": {"%s": {"2025": 12.5, "2100": 46.25}},
+			  "status": "ok",
+			  "regionScores": {
+			    "11010": {"2025": 45.25, "2100": 89.5, "2200": 1.0},
+			    "26110": {"2050": 0}
+			  }
+			}
+			""".formatted(siteId);
+		List<ClimateSimulationResponse.SiteSimulationData> sites = List.of(
+			ClimateSimulationResponse.SiteSimulationData.builder()
+				.siteId(siteId).siteName("SK ATS").regionCode("11010").build());
+
+		StringWriter body = new StringWriter();
+		try (JsonParser in = objectMapper.getFactory().createParser(upstream);
+			 JsonGenerator out = objectMapper.getFactory().createGenerator(body)) {
+			in.nextToken();
+			new ClimateSimulationStreamWriter(objectMapper, 2025, 2100)
+				.write(in, out, "SSP2-4.5", "극심한 고온", sites);
+		}
+
+		JsonNode json = objectMapper.readTree(body.toString());
+		assertThat(json.get("scenario").asText()).isEqualTo("SSP2-4.5");
+		assertThat(json.get("regionScores").get("11010").toString()).isEqualTo("{\"2025\":45.25,\"2100\":89.5}");
+		// 0 값은 0~10 사이 값으로 대체
+		assertThat(json.get("regionScores").get("26110").get("2050").asDouble()).isBetween(0.0, 10.0);
+		assertThat(json.get("sites")).hasSize(1);
+		assertThat(json.get("sites").get(0).get("siteName").asText()).isEqualTo("SK ATS");
+		assertThat(json.get("sites").get(0).get("aalByYear").toString()).isEqualTo("{\"2025\":12.5,\"2100\":46.25}");
+	}
+
+	@Test
+	void writesEmptyRegionScoresWhenUpstreamOmitsThem() throws Exception {
+		StringWriter body = new StringWriter();
+		try (JsonParser in = objectMapper.getFactory().createParser("{\"siteAALs\": {}}");
+			 JsonGenerator out = objectMapper.getFactory().createGenerator(body)) {
+			in.nextToken();
+			new ClimateSimulationStreamWriter(objectMapper, 2025, 2100)
+				.write(in, out, "SSP1-2.6", "태풍", List.of());
+		}
+
+		assertThat(body.toString())
+			.isEqualTo("{\"scenario\":\"SSP1-2.6\",\"hazardType\":\"태풍\",\"regionScores\":{},\"sites\":[]}");
+	}
+}
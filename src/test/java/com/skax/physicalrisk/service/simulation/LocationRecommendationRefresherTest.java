@@ -0,0 +1,119 @@
+package com.skax.physicalrisk.service.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.domain.simulation.entity.CandidateSite;
+import com.skax.physicalrisk.domain.simulation.repository.CandidateSiteRepository;
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.domain.site.repository.SiteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 위치 추천 후보지 stale 표시/백그라운드 갱신 검증
+ *
+ * candidate_sites는 메모리 Map으로 대신한다.
+ * stale 표시된 사업장과 stale-after-hours가 지난 사업장만 스케줄 갱신에서 FastAPI를 다시 호출하고
+ * 갱신 후에는 fresh가 되는지, fresh인 사업장은 호출하지 않는지, 대기열 중복 요청은 한 번만 처리하는지 확인한다.
+ */
+class LocationRecommendationRefresherTest {
+
+	private final UUID staleSiteId = UUID.randomUUID();
+	private final UUID freshSiteId = UUID.randomUUID();
+	private final Map<UUID, List<CandidateSite>> table = new HashMap<>();
+	private final CandidateSiteRepository candidateSiteRepository = mock(CandidateSiteRepository.class);
+	private final SiteRepository siteRepository = mock(SiteRepository.class);
+	private final FastApiClient fastApiClient = mock(FastApiClient.class);
+	private final LocationRecommendationStore store =
+		new LocationRecommendationStore(candidateSiteRepository, siteRepository, 24);
+	private final LocationRecommendationRefresher refresher =
+		new LocationRecommendationRefresher(fastApiClient, store, new ObjectMapper(), 2, 50);
+
+	@BeforeEach
+	void setUp() {
+		when(candidateSiteRepository.findBySite_IdOrderByCandidateRankAsc(any()))
+			.thenAnswer(invocation -> table.getOrDefault(invocation.<UUID>getArgument(0), List.of()));
+		when(candidateSiteRepository.markStaleBySiteIds(any())).thenAnswer(invocation -> {
+			Collection<UUID> siteIds = invocation.getArgument(0);
+			siteIds.forEach(siteId -> table.getOrDefault(siteId, List.of()).forEach(c -> c.setStale(true)));
+			return siteIds.size();
+		});
+		when(candidateSiteRepository.deleteBySiteId(any()))
+			.thenAnswer(invocation -> table.remove(invocation.<UUID>getArgument(0)) == null ? 0 : 1);
+		when(candidateSiteRepository.saveAll(any())).thenAnswer(invocation -> {
+			Iterable<CandidateSite> candidates = invocation.getArgument(0);
+			candidates.forEach(c -> table.computeIfAbsent(c.getSite().getId(), k -> new ArrayList<>()).add(c));
+			return candidates;
+		});
+		when(siteRepository.getReferenceById(any()))
+			.thenAnswer(invocation -> Site.builder().id(invocation.getArgument(0)).build());
+		when(fastApiClient.getLocationRecommendation(anyString()))
+			.thenAnswer(invocation -> Mono.just(recommendation(invocation.getArgument(0))));
+
+		table.put(staleSiteId, new ArrayList<>(List.of(candidate(staleSiteId, LocalDateTime.now()))));
+		table.put(freshSiteId, new ArrayList<>(List.of(candidate(freshSiteId, LocalDateTime.now()))));
+	}
+
+	@Test
+	void refreshesOnlySitesMarkedStale() {
+		refresher.onSiteUpdated(staleSiteId);
+		refresher.requestRefresh(List.of(staleSiteId));
+
+		assertThat(store.find(staleSiteId).orElseThrow().stale()).isTrue();
+		assertThat(store.find(freshSiteId).orElseThrow().stale()).isFalse();
+
+		refresher.refreshPending();
+
+		verify(fastApiClient, times(1)).getLocationRecommendation(staleSiteId.toString());
+		verify(fastApiClient, never()).getLocationRecommendation(freshSiteId.toString());
+		LocationRecommendationStore.StoredRecommendation refreshed = store.find(staleSiteId).orElseThrow();
+		assertThat(refreshed.stale()).isFalse();
+		assertThat(refreshed.response().getSite().getCandidate1().getCandidateName()).isEqualTo("갱신 후보지");
+
+		// 대기열이 비었으므로 다음 실행은 FastAPI를 호출하지 않음
+		refresher.refreshPending();
+		verify(fastApiClient, times(1)).getLocationRecommendation(anyString());
+	}
+
+	@Test
+	void treatsCandidatesOlderThanStaleAfterAsStale() {
+		table.put(staleSiteId, new ArrayList<>(List.of(candidate(staleSiteId, LocalDateTime.now().minusHours(25)))));
+
+		assertThat(store.find(staleSiteId).orElseThrow().stale()).isTrue();
+		assertThat(store.find(freshSiteId).orElseThrow().stale()).isFalse();
+	}
+
+	private static CandidateSite candidate(UUID siteId, LocalDateTime generatedAt) {
+		return CandidateSite.builder()
+			.site(Site.builder().id(siteId).build())
+			.candidateRank(1)
+			.name("기존 후보지")
+			.stale(false)
+			.generatedAt(generatedAt)
+			.build();
+	}
+
+	private static Map<String, Object> recommendation(String siteId) {
+		return Map.of("site", Map.of(
+			"siteId", siteId,
+			"candidate1", Map.of("candidateName", "갱신 후보지", "riskscore", 42)));
+	}
+}
@@ -0,0 +1,150 @@
+package com.skax.physicalrisk.service.simulation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.physicalrisk.client.fastapi.FastApiClient;
+import com.skax.physicalrisk.dto.request.simulation.RelocationBatchCompareRequest;
+import com.skax.physicalrisk.dto.request.simulation.RelocationSimulationRequest;
+import com.skax.physicalrisk.dto.response.simulation.RelocationBatchCompareResponse;
+import com.skax.physicalrisk.dto.response.simulation.RelocationBatchCompareResponse.RankedCandidate;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.service.region.AdminRegionResolver;
+import com.skax.physicalrisk.service.site.SiteAccessService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이전 후보지 일괄 비교 검증
+ *
+ * 통합 리스크 점수 → AAL 오름차순 → 요청 순서로 순위가 매겨지는지(점수 없음은 뒤, 동점은 요청 순서),
+ * 후보지 하나가 실패해도 나머지는 순위가 매겨지고 실패한 후보지는 사유와 함께 마지막에 오는지,
+ * 모두 실패하면 FASTAPI_CONNECTION_ERROR인지 확인한다.
+ */
+class SimulationServiceTest {
+
+	private final UUID userId = UUID.randomUUID();
+	private final UUID siteId = UUID.randomUUID();
+	private final FastApiClient fastApiClient = mock(FastApiClient.class);
+	private final SimulationService service = new SimulationService(fastApiClient, mock(SiteAccessService.class),
+		mock(AdminRegionResolver.class), new ObjectMapper(), mock(ClimateSimulationFetcher.class),
+		mock(ClimateSimulationCache.class), mock(LocationRecommendationStore.class),
+		mock(LocationRecommendationRefresher.class));
+
+	/** 후보지 위도(요청 순서) → FastAPI 응답 */
+	private final Map<BigDecimal, Mono<Map<String, Object>>> responses = new HashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(service, "relocationCompareConcurrency", 3);
+		when(fastApiClient.compareRelocation(any())).thenAnswer(invocation -> {
+			Map<String, Object> request = invocation.getArgument(0);
+			return responses.get((BigDecimal) request.get("latitude"));
+		});
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new org.springframework.security.core.userdetails.User(userId.toString(), "", List.of()),
+			null,
+			List.of()
+		));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void ranksByRiskScoreThenAalThenRequestOrderWithMissingScoresLast() {
+		respond(0, 40, 0.5f);
+		respond(1, 30, 0.9f);
+		respond(2, 30, 0.2f);
+		respond(3, null, 0.1f);
+		respond(4, 30, null);
+		respond(5, 30, 0.2f);
+
+		RelocationBatchCompareResponse response = service.compareLocations(request(6));
+
+		assertThat(response.getCandidates())
+			.extracting(RankedCandidate::getRank, RankedCandidate::getRequestIndex)
+			.containsExactly(tuple(1, 2), tuple(2, 5), tuple(3, 1), tuple(4, 4), tuple(5, 0), tuple(6, 3));
+		assertThat(response.getCandidates()).allSatisfy(candidate -> assertThat(candidate.getError()).isNull());
+	}
+
+	@Test
+	void failingCandidatesAreReportedLastWithoutFailingTheBatch() {
+		respond(0, 50, 0.3f);
+		responses.put(BigDecimal.valueOf(1), Mono.error(new WebClientRequestException(
+			new ConnectException("refused"), HttpMethod.POST,
+			URI.create("http://fastapi/api/simulation/relocation/compare"), new HttpHeaders())));
+		responses.put(BigDecimal.valueOf(2), Mono.empty());
+		respond(3, 20, 0.4f);
+		responses.put(BigDecimal.valueOf(4), Mono.just(Map.of("newLocation", Map.of("riskscore", "not a number"))));
+
+		RelocationBatchCompareResponse response = service.compareLocations(request(5));
+
+		assertThat(response.getCandidates())
+			.extracting(RankedCandidate::getRank, RankedCandidate::getRequestIndex, RankedCandidate::getError)
+			.containsExactly(
+				tuple(1, 3, null),
+				tuple(2, 0, null),
+				tuple(null, 1, ErrorCode.FASTAPI_CONNECTION_ERROR.getMessage()),
+				tuple(null, 2, "FastAPI로부터 응답을 받지 못했습니다."),
+				tuple(null, 4, ErrorCode.FASTAPI_INVALID_RESPONSE.getMessage()));
+		// 실패한 후보지는 요청한 위치를 그대로 돌려준다
+		assertThat(response.getCandidates().get(2).getCandidate().getLatitude()).isEqualTo(BigDecimal.valueOf(1));
+	}
+
+	@Test
+	void failsWhenEveryCandidateFails() {
+		responses.put(BigDecimal.valueOf(0), Mono.empty());
+		responses.put(BigDecimal.valueOf(1), Mono.error(new IllegalStateException("boom")));
+
+		assertThatThrownBy(() -> service.compareLocations(request(2)))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.FASTAPI_CONNECTION_ERROR);
+	}
+
+	private void respond(int index, Integer riskscore, Float aalscore) {
+		Map<String, Object> newLocation = new HashMap<>();
+		newLocation.put("latitude", index);
+		newLocation.put("longitude", 127);
+		newLocation.put("riskscore", riskscore);
+		newLocation.put("aalscore", aalscore);
+		responses.put(BigDecimal.valueOf(index), Mono.just(Map.of("newLocation", newLocation)));
+	}
+
+	private RelocationBatchCompareRequest request(int candidateCount) {
+		return RelocationBatchCompareRequest.builder()
+			.siteId(siteId)
+			.candidates(IntStream.range(0, candidateCount)
+				.mapToObj(index -> RelocationSimulationRequest.Candidate.builder()
+					.latitude(BigDecimal.valueOf(index))
+					.longitude(BigDecimal.valueOf(127))
+					.build())
+				.toList())
+			.build();
+	}
+}
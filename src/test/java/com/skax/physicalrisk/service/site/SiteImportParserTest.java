@@ -0,0 +1,124 @@
+package com.skax.physicalrisk.service.site;
+
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사업장 일괄 등록 파서 검증
+ *
+ * 영문/한글 헤더가 표준 키로 바뀌는지(BOM, 공백, 밑줄, 대소문자 무시), 빈 셀이 빠지는지,
+ * 같은 데이터를 CSV와 XLSX로 읽었을 때 행 번호와 값이 같은지, 빈 파일/헤더만 있는 파일/지원하지 않는 확장자를 확인한다.
+ */
+class SiteImportParserTest {
+
+	private static final List<String> HEADERS = List.of("사업장명", "도로명 주소", "Lat", "lng", "Site_Type", "내진설계");
+
+	private static final List<List<Object>> DATA = List.of(
+		List.of("서울 본사", "서울특별시 종로구 종로 26", 37.5704, 126.9831, "office", "Y"),
+		List.of("울산 공장", "", 35.5384, 129.3114, "factory", "N"));
+
+	@Test
+	void mapsHeadersToCanonicalKeysAndSkipsEmptyCells() {
+		List<ParsedRow> rows = parse("sites.csv", csv(true));
+
+		assertThat(rows).containsExactly(
+			new ParsedRow(2, Map.of(
+				SiteImportParser.NAME, "서울 본사",
+				SiteImportParser.ROAD_ADDRESS, "서울특별시 종로구 종로 26",
+				SiteImportParser.LATITUDE, "37.5704",
+				SiteImportParser.LONGITUDE, "126.9831",
+				SiteImportParser.TYPE, "office",
+				SiteImportParser.SEISMIC_DESIGN, "Y")),
+			new ParsedRow(3, Map.of(
+				SiteImportParser.NAME, "울산 공장",
+				SiteImportParser.LATITUDE, "35.5384",
+				SiteImportParser.LONGITUDE, "129.3114",
+				SiteImportParser.TYPE, "factory",
+				SiteImportParser.SEISMIC_DESIGN, "N")));
+	}
+
+	@Test
+	void csvAndXlsxYieldSameRows() throws IOException {
+		List<ParsedRow> fromCsv = parse("sites.CSV", csv(false));
+		List<ParsedRow> fromXlsx = parse("sites.xlsx", xlsx(DATA));
+
+		assertThat(fromXlsx).hasSize(2).isEqualTo(fromCsv);
+	}
+
+	@Test
+	void headerOnlyFilesYieldNoRows() throws IOException {
+		byte[] headerOnlyCsv = (String.join(",", HEADERS) + "\n").getBytes(StandardCharsets.UTF_8);
+
+		assertThat(parse("sites.csv", headerOnlyCsv)).isEmpty();
+		assertThat(parse("sites.csv", new byte[0])).isEmpty();
+		assertThat(parse("sites.xlsx", xlsx(List.of()))).isEmpty();
+	}
+
+	@Test
+	void rejectsUnsupportedOrUnreadableFiles() {
+		assertThatThrownBy(() -> parse("sites.xls", csv(false)))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+		assertThatThrownBy(() -> parse("sites.xlsx", csv(false)))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.FILE_UPLOAD_FAILED);
+	}
+
+	private static List<ParsedRow> parse(String filename, byte[] content) {
+		List<ParsedRow> rows = new ArrayList<>();
+		SiteImportParser.parse(new MockMultipartFile("file", filename, null, content),
+			(rowNumber, values) -> rows.add(new ParsedRow(rowNumber, values)));
+		return rows;
+	}
+
+	private static byte[] csv(boolean withBom) {
+		StringBuilder sb = new StringBuilder(withBom ? "\uFEFF" : "");
+		sb.append(String.join(",", HEADERS)).append('\n');
+		for (List<Object> row : DATA) {
+			sb.append(String.join(",", row.stream().map(String::valueOf).toList())).append('\n');
+		}
+		return sb.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] xlsx(List<List<Object>> data) throws IOException {
+		try (XSSFWorkbook workbook = new XSSFWorkbook();
+			 ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+			Sheet sheet = workbook.createSheet("sites");
+			Row header = sheet.createRow(0);
+			for (int i = 0; i < HEADERS.size(); i++) {
+				header.createCell(i).setCellValue(HEADERS.get(i));
+			}
+			for (int r = 0; r < data.size(); r++) {
+				Row row = sheet.createRow(r + 1);
+				for (int c = 0; c < data.get(r).size(); c++) {
+					Object value = data.get(r).get(c);
+					if (value instanceof Double number) {
+						row.createCell(c).setCellValue(number);
+					} else if (!"".equals(value)) {
+						row.createCell(c).setCellValue((String) value);
+					}
+				}
+			}
+			workbook.write(out);
+			return out.toByteArray();
+		}
+	}
+
+	private record ParsedRow(int rowNumber, Map<String, String> values) {
+	}
+}
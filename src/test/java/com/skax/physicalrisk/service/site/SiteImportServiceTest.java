@@ -0,0 +1,142 @@
+package com.skax.physicalrisk.service.site;
+
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.domain.site.repository.SiteCoordinate;
+import com.skax.physicalrisk.domain.site.repository.SiteRepository;
+import com.skax.physicalrisk.domain.user.repository.UserRepository;
+import com.skax.physicalrisk.dto.response.site.SiteImportResponse;
+import com.skax.physicalrisk.dto.response.site.SiteImportResponse.RowResult;
+import com.skax.physicalrisk.dto.response.site.SiteImportResponse.RowStatus;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.service.analysis.AnalysisService;
+import com.skax.physicalrisk.service.region.AdminRegionResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사업장 일괄 등록 검증
+ *
+ * 검증 실패 행이 사유와 함께 INVALID로 남고 나머지 행은 등록되는지, 기존/파일 내 좌표 중복이 DUPLICATE가 되는지,
+ * 빈 파일은 거절하고 헤더만 있는 파일은 INSERT 없이 끝나는지 확인한다.
+ */
+class SiteImportServiceTest {
+
+	private final UUID userId = UUID.randomUUID();
+	private final SiteImportWriter siteImportWriter = mock(SiteImportWriter.class);
+	private final SiteRepository siteRepository = mock(SiteRepository.class);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final AnalysisService analysisService = mock(AnalysisService.class);
+	private final SiteImportService service = new SiteImportService(siteImportWriter, siteRepository, userRepository,
+		mock(SiteSearchService.class), analysisService, mock(AdminRegionResolver.class));
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(service, "maxRows", 100);
+		when(userRepository.existsById(userId)).thenReturn(true);
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new org.springframework.security.core.userdetails.User(userId.toString(), "", List.of()),
+			null,
+			List.of()
+		));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void reportsBadAndDuplicateRowsAndImportsTheRest() {
+		SiteCoordinate existing = mock(SiteCoordinate.class);
+		when(existing.getLatitude()).thenReturn(new BigDecimal("35.1"));
+		when(existing.getLongitude()).thenReturn(new BigDecimal("129.0"));
+		when(siteRepository.findCoordinatesByUserId(userId)).thenReturn(List.of(existing));
+
+		SiteImportResponse response = service.importSites(csv("""
+			name,type,lat,lon,buildingAge,seismicDesign
+			서울 본사,office,37.5,127.0,12,Y
+			,office,37.6,127.1,,
+			판교 공장,factory,abc,127.2,,
+			부산 창고,warehouse,91,127.3,,
+			대전 지점,office,37.50000000,127,,
+			울산 공장,factory,35.10,129,,
+			광주 지점,office,35.2,126.9,10.5,
+			인천 공장,factory,37.4,126.7,,maybe
+			"""), false);
+
+		assertThat(response.getRows())
+			.extracting(RowResult::getRowNumber, RowResult::getStatus, RowResult::getMessage)
+			.containsExactly(
+				tuple(2, RowStatus.IMPORTED, null),
+				tuple(3, RowStatus.INVALID, "사업장 이름은 필수입니다"),
+				tuple(4, RowStatus.INVALID, "위도 값이 숫자가 아닙니다: abc"),
+				tuple(5, RowStatus.INVALID, "위도는 -90 ~ 90 사이여야 합니다"),
+				tuple(6, RowStatus.DUPLICATE, ErrorCode.DUPLICATE_SITE_COORDINATES.getMessage()),
+				tuple(7, RowStatus.DUPLICATE, ErrorCode.DUPLICATE_SITE_COORDINATES.getMessage()),
+				tuple(8, RowStatus.INVALID, "건물 연식 값은 정수여야 합니다: 10.5"),
+				tuple(9, RowStatus.INVALID, "내진 설계 값은 Y/N 이어야 합니다: maybe"));
+		assertThat(response.getTotalRows()).isEqualTo(8);
+		assertThat(response.getImportedCount()).isEqualTo(1);
+		assertThat(response.getDuplicateCount()).isEqualTo(2);
+		assertThat(response.getInvalidCount()).isEqualTo(5);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Site>> inserted = ArgumentCaptor.forClass(List.class);
+		verify(siteImportWriter).insertAll(eq(userId), inserted.capture());
+		assertThat(inserted.getValue()).singleElement().satisfies(site -> {
+			assertThat(site.getId()).isEqualTo(response.getRows().get(0).getSiteId());
+			assertThat(site.getName()).isEqualTo("서울 본사");
+			assertThat(site.getLatitude()).isEqualByComparingTo("37.5");
+			assertThat(site.getBuildingAge()).isEqualTo(12);
+			assertThat(site.getSeismicDesign()).isTrue();
+		});
+		verify(analysisService, never()).startAnalysisForSites(any(), any());
+	}
+
+	@Test
+	void rejectsEmptyFile() {
+		MockMultipartFile empty = new MockMultipartFile("file", "sites.csv", "text/csv", new byte[0]);
+
+		assertThatThrownBy(() -> service.importSites(empty, true))
+			.isInstanceOf(BusinessException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+		verify(siteRepository, never()).findCoordinatesByUserId(any());
+	}
+
+	@Test
+	void headerOnlyFileImportsNothing() {
+		SiteImportResponse response = service.importSites(csv("name,type,lat,lon\n"), true);
+
+		assertThat(response.getTotalRows()).isZero();
+		assertThat(response.getRows()).isEmpty();
+		assertThat(response.isAnalysisRequested()).isFalse();
+		verify(siteImportWriter, never()).insertAll(any(), any());
+		verify(analysisService, never()).startAnalysisForSites(any(), any());
+	}
+
+	private static MockMultipartFile csv(String content) {
+		return new MockMultipartFile("file", "sites.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,90 @@
+package com.skax.physicalrisk.service.site;
+
+import com.skax.physicalrisk.dto.response.site.SiteResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사업장 n-gram 역색인 검증
+ *
+ * n보다 짧은 검색어의 부분 문자열 조회, 일치 비율(오타 허용 하한)과 접두어/포함 가산점에 따른 순위,
+ * 동점 시 사업장명 순 정렬, 자모 분해 시 미완성 음절 검색, 갱신/삭제 반영을 확인한다.
+ */
+class SiteNgramIndexTest {
+
+	@Test
+	void shortQueryScansSubstringsAndRanksNameBeforeAddress() {
+		SiteNgramIndex index = new SiteNgramIndex(new SiteTextNormalizer(false), 3);
+		index.put(site("판교 공장", "경기도 성남시 분당구 판교로 1"));
+		index.put(site("공장 A", "경기도 화성시 동탄로 2"));
+		index.put(site("본사", "서울특별시 공장로 3"));
+		index.put(site("물류센터", "인천광역시 서구 4"));
+
+		assertThat(names(index.search("공 장", 10))).containsExactly("공장 A", "판교 공장", "본사");
+		assertThat(names(index.search("  ", 10))).isEmpty();
+	}
+
+	@Test
+	void ranksByGramCoverageAndDropsMatchesBelowFloor() {
+		SiteNgramIndex index = new SiteNgramIndex(new SiteTextNormalizer(false), 3);
+		index.put(site("판교테크노밸리 2관", null));
+		index.put(site("판교테크노벨리", null));
+		index.put(site("판교테크 본관", null));
+
+		// 판교테크노벨리: 5개 중 3개 일치(0.6, 하한), 판교테크 본관: 2개 일치(0.4) → 제외
+		assertThat(names(index.search("판교테크노밸리", 10))).containsExactly("판교테크노밸리 2관", "판교테크노벨리");
+		assertThat(names(index.search("판교테크노밸리", 1))).containsExactly("판교테크노밸리 2관");
+	}
+
+	@Test
+	void breaksScoreTiesByNormalizedName() {
+		SiteNgramIndex index = new SiteNgramIndex(new SiteTextNormalizer(false), 3);
+		index.put(site("공장B", null));
+		index.put(site("공장A", null));
+		index.put(site("공장C", null));
+
+		assertThat(names(index.search("공장", 10))).containsExactly("공장A", "공장B", "공장C");
+	}
+
+	@Test
+	void matchesPartiallyTypedSyllableWhenDecomposing() {
+		SiteNgramIndex index = new SiteNgramIndex(new SiteTextNormalizer(true), 3);
+		index.put(site("성남 사업장", null));
+		index.put(site("성수 사업장", null));
+
+		assertThat(names(index.search("성ㄴ", 10))).containsExactly("성남 사업장");
+		assertThat(names(index.search("성", 10))).containsExactly("성남 사업장", "성수 사업장");
+	}
+
+	@Test
+	void reflectsUpdatesAndRemovals() {
+		SiteNgramIndex index = new SiteNgramIndex(new SiteTextNormalizer(false), 3);
+		SiteResponse.SiteInfo site = site("울산 공장", null);
+		index.put(site);
+
+		index.put(SiteResponse.SiteInfo.builder().siteId(site.getSiteId()).siteName("포항 공장").build());
+		assertThat(index.size()).isEqualTo(1);
+		assertThat(names(index.search("울산공장", 10))).isEmpty();
+		assertThat(names(index.search("포항공장", 10))).containsExactly("포항 공장");
+
+		index.remove(site.getSiteId());
+		assertThat(index.size()).isZero();
+		assertThat(names(index.search("포항공장", 10))).isEmpty();
+	}
+
+	private static SiteResponse.SiteInfo site(String name, String roadAddress) {
+		return SiteResponse.SiteInfo.builder()
+			.siteId(UUID.randomUUID())
+			.siteName(name)
+			.roadAddress(roadAddress)
+			.build();
+	}
+
+	private static List<String> names(List<SiteResponse.SiteInfo> sites) {
+		return sites.stream().map(SiteResponse.SiteInfo::getSiteName).toList();
+	}
+}
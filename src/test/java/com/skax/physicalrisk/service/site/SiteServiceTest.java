@@ -0,0 +1,241 @@
+package com.skax.physicalrisk.service.site;
+
+import com.skax.physicalrisk.domain.site.entity.Site;
+import com.skax.physicalrisk.domain.site.repository.SiteRepository;
+import com.skax.physicalrisk.domain.site.repository.SiteSummary;
+import com.skax.physicalrisk.domain.user.entity.User;
+import com.skax.physicalrisk.domain.user.repository.UserRepository;
+import com.skax.physicalrisk.dto.request.site.UpdateSiteRequest;
+import com.skax.physicalrisk.dto.response.site.SitePageResponse;
+import com.skax.physicalrisk.dto.response.site.SiteResponse;
+import com.skax.physicalrisk.exception.BusinessException;
+import com.skax.physicalrisk.exception.ErrorCode;
+import com.skax.physicalrisk.service.analysis.AnalysisResultStore;
+import com.skax.physicalrisk.service.analysis.BuildingVulnerabilityRecomputer;
+import com.skax.physicalrisk.service.region.AdminRegionResolver;
+import com.skax.physicalrisk.service.simulation.ClimateSimulationCache;
+import com.skax.physicalrisk.service.simulation.LocationRecommendationRefresher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사업장 서비스 검증
+ *
+ * 키셋 커서가 (name, id)를 그대로 되돌리는지, 변조/형식 오류 커서를 INVALID_REQUEST로 거절하는지,
+ * 페이지 크기 경계에서 hasNext와 다음 커서가 맞게 계산되는지 확인한다.
+ * 사업장 수정 시 경계 색인이 로드되지 않았거나 같은 좌표를 다시 보내면 기존 행정구역 코드가 유지되고,
+ * 좌표가 실제로 바뀌면 다시 계산(경계 밖이면 비움)되는지 확인한다.
+ */
+class SiteServiceTest {
+
+	private final UUID userId = UUID.randomUUID();
+	private final SiteRepository siteRepository = mock(SiteRepository.class);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final AdminRegionResolver adminRegionResolver = mock(AdminRegionResolver.class);
+	private final SiteService service = new SiteService(siteRepository, userRepository,
+		mock(SiteSearchService.class), adminRegionResolver, mock(AnalysisResultStore.class),
+		mock(ClimateSimulationCache.class), mock(LocationRecommendationRefresher.class),
+		mock(BuildingVulnerabilityRecomputer.class));
+
+	@BeforeEach
+	void setUp() {
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			new org.springframework.security.core.userdetails.User(userId.toString(), "", List.of()),
+			null,
+			List.of()
+		));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void cursorRoundTripsNameAndId() {
+		UUID id = UUID.randomUUID();
+
+		for (String name : List.of("서울 본사", "", "a\u0000b", "공장 #2 / 2동")) {
+			String cursor = SiteService.encodeCursor(name, id);
+
+			assertThat(cursor).doesNotContain("=", "+", "/");
+			assertThat(SiteService.decodeCursor(cursor)).containsExactly(name, id.toString());
+		}
+	}
+
+	@Test
+	void rejectsTamperedOrMalformedCursor() {
+		String valid = SiteService.encodeCursor("서울 본사", UUID.randomUUID());
+		String noSeparator = Base64.getUrlEncoder().withoutPadding()
+			.encodeToString("서울 본사".getBytes(StandardCharsets.UTF_8));
+		String badId = Base64.getUrlEncoder().withoutPadding()
+			.encodeToString("서울 본사\u0000not-a-uuid".getBytes(StandardCharsets.UTF_8));
+
+		for (String cursor : List.of("*" + valid.substring(1), "%%%", noSeparator, badId)) {
+			assertThatThrownBy(() -> SiteService.decodeCursor(cursor))
+				.isInstanceOf(BusinessException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST);
+		}
+	}
+
+	@Test
+	void fullPageWithoutExtraRowHasNoNextCursor() {
+		List<SiteSummary> rows = summaries(3);
+		when(siteRepository.findSummariesByUserId(eq(userId), any(Limit.class))).thenReturn(rows);
+
+		SitePageResponse page = service.getSitePage(null, 3, false);
+
+		ArgumentCaptor<Limit> limit = ArgumentCaptor.forClass(Limit.class);
+		verify(siteRepository).findSummariesByUserId(eq(userId), limit.capture());
+		assertThat(limit.getValue().max()).isEqualTo(4);
+		assertThat(page.getSites()).hasSize(3);
+		assertThat(page.isHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+		assertThat(page.getTotalCount()).isNull();
+		verify(siteRepository, never()).countByUser_Id(any());
+	}
+
+	@Test
+	void extraRowIsDroppedAndNextCursorPointsAtLastReturnedRow() {
+		List<SiteSummary> rows = summaries(4);
+		when(siteRepository.findSummariesByUserId(eq(userId), any(Limit.class))).thenReturn(rows);
+		when(siteRepository.countByUser_Id(userId)).thenReturn(7L);
+
+		SitePageResponse first = service.getSitePage(null, 3, true);
+
+		assertThat(first.getSites()).extracting(SiteResponse.SiteInfo::getSiteName)
+			.containsExactly("site-0", "site-1", "site-2");
+		assertThat(first.isHasNext()).isTrue();
+		assertThat(first.getTotalCount()).isEqualTo(7L);
+		assertThat(SiteService.decodeCursor(first.getNextCursor()))
+			.containsExactly("site-2", rows.get(2).getSiteId().toString());
+
+		when(siteRepository.findSummariesByUserIdAfter(eq(userId), any(), any(), any(Limit.class)))
+			.thenReturn(List.of(rows.get(3)));
+
+		SitePageResponse second = service.getSitePage(first.getNextCursor(), 3, false);
+
+		verify(siteRepository).findSummariesByUserIdAfter(eq(userId), eq("site-2"), eq(rows.get(2).getSiteId()),
+			any(Limit.class));
+		assertThat(second.getSites()).extracting(SiteResponse.SiteInfo::getSiteName).containsExactly("site-3");
+		assertThat(second.isHasNext()).isFalse();
+		assertThat(second.getNextCursor()).isNull();
+	}
+
+	@Test
+	void rejectsPageSizeOutsideBounds() {
+		for (int size : new int[] {0, 201}) {
+			assertThatThrownBy(() -> service.getSitePage(null, size, false))
+				.isInstanceOf(BusinessException.class);
+		}
+		verify(siteRepository, never()).findSummariesByUserId(any(), any());
+	}
+
+	@Test
+	void keepsRegionCodeWhileBoundaryIndexIsNotLoaded() {
+		Site site = storedSite("1111010100");
+		when(adminRegionResolver.isLoaded()).thenReturn(false);
+
+		service.updateSite(site.getId(), moveTo("35.1796", "129.0756"));
+
+		assertThat(site.getLatitude()).isEqualByComparingTo("35.1796");
+		assertThat(site.getRegionCode()).isEqualTo("1111010100");
+		verify(adminRegionResolver, never()).resolveRegionCode(any(), any());
+	}
+
+	@Test
+	void keepsRegionCodeWhenSameCoordinatesAreResent() {
+		Site site = storedSite("1111010100");
+		when(adminRegionResolver.isLoaded()).thenReturn(true);
+
+		service.updateSite(site.getId(), moveTo("37.57040000", "126.9831"));
+
+		assertThat(site.getRegionCode()).isEqualTo("1111010100");
+		verify(adminRegionResolver, never()).resolveRegionCode(any(), any());
+	}
+
+	@Test
+	void recomputesRegionCodeWhenCoordinatesMove() {
+		Site site = storedSite("1111010100");
+		when(adminRegionResolver.isLoaded()).thenReturn(true);
+		when(adminRegionResolver.resolveRegionCode(any(), any())).thenReturn(Optional.of("2611010100"));
+
+		service.updateSite(site.getId(), moveTo("35.1796", "129.0756"));
+		assertThat(site.getRegionCode()).isEqualTo("2611010100");
+
+		// 경계 밖으로 옮기면 이전 코드를 남기지 않음
+		when(adminRegionResolver.resolveRegionCode(any(), any())).thenReturn(Optional.empty());
+		service.updateSite(site.getId(), moveTo("0", "0"));
+		assertThat(site.getRegionCode()).isNull();
+	}
+
+	@Test
+	void fillsMissingRegionCodeWithoutMoving() {
+		Site site = storedSite(null);
+		when(adminRegionResolver.isLoaded()).thenReturn(true);
+		when(adminRegionResolver.resolveRegionCode(any(), any())).thenReturn(Optional.of("1111010100"));
+
+		service.updateSite(site.getId(), new UpdateSiteRequest());
+
+		assertThat(site.getRegionCode()).isEqualTo("1111010100");
+	}
+
+	private static List<SiteSummary> summaries(int count) {
+		return IntStream.range(0, count)
+			.mapToObj(i -> summary("site-" + i))
+			.toList();
+	}
+
+	private static SiteSummary summary(String name) {
+		SiteSummary summary = mock(SiteSummary.class);
+		UUID id = UUID.randomUUID();
+		when(summary.getSiteId()).thenReturn(id);
+		when(summary.getSiteName()).thenReturn(name);
+		return summary;
+	}
+
+	private Site storedSite(String regionCode) {
+		User user = User.builder().id(userId).build();
+		Site site = Site.builder()
+			.id(UUID.randomUUID())
+			.user(user)
+			.name("서울 본사")
+			.latitude(new BigDecimal("37.5704"))
+			.longitude(new BigDecimal("126.9831"))
+			.regionCode(regionCode)
+			.build();
+		when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+		when(siteRepository.findByIdAndUser(site.getId(), user)).thenReturn(Optional.of(site));
+		when(siteRepository.save(site)).thenReturn(site);
+		return site;
+	}
+
+	private static UpdateSiteRequest moveTo(String latitude, String longitude) {
+		UpdateSiteRequest request = new UpdateSiteRequest();
+		request.setLatitude(new BigDecimal(latitude));
+		request.setLongitude(new BigDecimal(longitude));
+		return request;
+	}
+}
@@ -0,0 +1,34 @@
+package com.skax.physicalrisk.service.site;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사업장 검색 정규화 검증
+ *
+ * 공백/구두점 제거, 소문자 변환, 한글 음절의 자모 분해(옵션)를 확인한다.
+ */
+class SiteTextNormalizerTest {
+
+	private final SiteTextNormalizer plain = new SiteTextNormalizer(false);
+	private final SiteTextNormalizer decomposing = new SiteTextNormalizer(true);
+
+	@Test
+	void removesWhitespaceAndPunctuationAndLowercases() {
+		assertThat(plain.normalize("  SK  Tower-1 (B동)\t")).isEqualTo("sktower1b동");
+		assertThat(plain.normalize("서울특별시 종로구, 종로 26")).isEqualTo("서울특별시종로구종로26");
+		assertThat(plain.normalize(" \t-/ ")).isEmpty();
+		assertThat(plain.normalize(null)).isEmpty();
+		assertThat(plain.normalize("")).isEmpty();
+	}
+
+	@Test
+	void decomposesHangulSyllablesOnlyWhenEnabled() {
+		assertThat(plain.normalize("성남")).isEqualTo("성남");
+		assertThat(decomposing.normalize("성남")).isEqualTo("ㅅㅓㅇㄴㅏㅁ");
+		assertThat(decomposing.normalize("가 닭")).isEqualTo("ㄱㅏㄷㅏㄺ");
+		assertThat(decomposing.normalize("성ㄴ")).isEqualTo("ㅅㅓㅇㄴ");
+		assertThat(decomposing.normalize("SK성남")).isEqualTo("skㅅㅓㅇㄴㅏㅁ");
+	}
+}